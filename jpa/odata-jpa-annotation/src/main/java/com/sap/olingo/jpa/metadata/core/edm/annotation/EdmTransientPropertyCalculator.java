@@ -5,6 +5,7 @@ package com.sap.olingo.jpa.metadata.core.edm.annotation;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -34,6 +35,8 @@ import jakarta.persistence.Tuple;
  * <li>All header: com.sap.olingo.jpa.metadata.api.JPAHttpHeaderMap</li>
  * <li>Access to own request parameter: com.sap.olingo.jpa.metadata.api.JPARequestParameterMap</li>
  * </ul>
+ * Calculators that can determine the values of many rows at once, e.g. with one call to another system, can in
+ * addition implement {@link #calculateProperties(List)} or {@link #calculateCollectionProperties(List)}.
  * @author Oliver Grande<br>
  * Created: 14.03.2020
  *
@@ -56,4 +59,28 @@ public interface EdmTransientPropertyCalculator<I> {
   default @Nonnull List<I> calculateCollectionProperty(@Nonnull final Tuple row) {
     return Collections.emptyList();
   }
+
+  /**
+   * Batch variant of {@link #calculateProperty(Tuple)}. It is called once for a block of rows, e.g. the rows of a page
+   * or the result of an $expand, before the first of the rows gets converted. For rows that are not part of the
+   * returned map {@link #calculateProperty(Tuple)} is called.
+   * @param rows Rows read from the database
+   * @return Calculated values per row. Map keys have to be the provided row instances
+   * @since 2.3.3
+   */
+  default @Nonnull Map<Tuple, I> calculateProperties(@Nonnull final List<Tuple> rows) {
+    return Collections.emptyMap();
+  }
+
+  /**
+   * Batch variant of {@link #calculateCollectionProperty(Tuple)}. It is called once for a block of rows, e.g. the rows
+   * of a page or the result of an $expand, before the first of the rows gets converted. For rows that are not part of
+   * the returned map {@link #calculateCollectionProperty(Tuple)} is called.
+   * @param rows Rows read from the database
+   * @return Calculated values per row. Map keys have to be the provided row instances
+   * @since 2.3.3
+   */
+  default @Nonnull Map<Tuple, List<I>> calculateCollectionProperties(@Nonnull final List<Tuple> rows) {
+    return Collections.emptyMap();
+  }
 }
@@ -8,6 +8,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import java.util.List;
+
 import jakarta.persistence.Tuple;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -40,5 +42,15 @@ class EdmTransientPropertyCalculatorTest {
     assertTrue(cut.calculateCollectionProperty(tuple).isEmpty());
   }
 
+  @Test
+  void testDefaultCalculatePropertiesReturnsEmptyMap() {
+    assertTrue(cut.calculateProperties(List.of(tuple)).isEmpty());
+  }
+
+  @Test
+  void testDefaultCalculateCollectionPropertiesReturnsEmptyMap() {
+    assertTrue(cut.calculateCollectionProperties(List.of(tuple)).isEmpty());
+  }
+
   static class calculatorImpl implements EdmTransientPropertyCalculator<String> {}
 }
@@ -30,6 +30,8 @@ import org.apache.olingo.commons.api.edm.provider.CsdlTerm;
 import org.apache.olingo.commons.api.edm.provider.CsdlTypeDefinition;
 import org.apache.olingo.commons.api.edmx.EdmxReference;
 import org.apache.olingo.commons.api.ex.ODataException;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ServiceMetadata;
 
 import com.sap.olingo.jpa.metadata.core.edm.extension.vocabularies.AnnotationProvider;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEdmNameBuilder;
@@ -42,6 +44,7 @@ public class JPAEdmProvider extends CsdlAbstractEdmProvider {
 
   private final JPAEdmNameBuilder nameBuilder;
   private final JPAServiceDocument serviceDocument;
+  private volatile ServiceMetadata serviceMetadata;
 
   // http://docs.oasis-open.org/odata/odata/v4.0/errata02/os/complete/part3-csdl/odata-v4.0-errata02-os-part3-csdl-complete.html#_Toc406397930
   public JPAEdmProvider(@Nonnull final String namespace, @Nonnull final EntityManagerFactory emf,
@@ -315,6 +318,28 @@ public class JPAEdmProvider extends CsdlAbstractEdmProvider {
     return serviceDocument;
   }
 
+  /**
+   * Returns the service metadata of this provider. The service metadata, and with it the Olingo Edm and its caches, is
+   * created once and shared by all requests. Per-request information, like the locales, must not be stored there.
+   *
+   * @param odata Used to create the service metadata on first access
+   * @return Service metadata shared by all requests
+   * @since 2.3.3
+   */
+  public @Nonnull ServiceMetadata getServiceMetadata(@Nonnull final OData odata) {
+    var metadata = serviceMetadata;
+    if (metadata == null) {
+      synchronized (this) {
+        metadata = serviceMetadata;
+        if (metadata == null) {
+          metadata = odata.createServiceMetadata(this, getReferences());
+          serviceMetadata = metadata;
+        }
+      }
+    }
+    return metadata;
+  }
+
   public void setRequestLocales(final Enumeration<Locale> locales) {
     ODataJPAException.setLocales(locales);
   }
@@ -0,0 +1,147 @@
+package com.sap.olingo.jpa.metadata.api;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.sap.olingo.jpa.metadata.core.edm.annotation.EdmEnumeration;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.extension.ODataAction;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.extension.ODataFunction;
+
+/**
+ * Annotation processor that writes an index of the types otherwise found by scanning the packages given at the
+ * {@link JPAEdmProvider}: enumerations annotated with {@link EdmEnumeration} as well as implementations of
+ * {@link ODataFunction} and {@link ODataAction}. Packages given at the {@link JPAEdmProvider}, for which an index
+ * exists, are not scanned when the service document is created. A package is only covered by an index, if the index
+ * lists exactly this package. All other packages are scanned. This includes sub packages of a covered package, which
+ * contain classes, but are not listed by the index, e.g. because they were compiled without the processor.<br>
+ * The processor is not registered as a service. It has to be added explicitly to the compiler, e.g. via
+ * <code>annotationProcessors</code> of the maven-compiler-plugin, for each module containing such types.
+ * <p>
+ * The index is stored at {@value #INDEX_RESOURCE}. Each line contains a kind and a name:
+ * <ul>
+ * <li><code>package</code>: a package containing compiled types. It is used to decide whether the index covers the
+ * packages to be scanned.</li>
+ * <li><code>enumeration</code>, <code>function</code>, <code>action</code>: the binary name of a type.</li>
+ * </ul>
+ * In case of an incremental compilation the entries of an existing index are kept.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+@SupportedAnnotationTypes("*")
+public class JPAModelIndexProcessor extends AbstractProcessor {
+  public static final String INDEX_RESOURCE = "META-INF/olingo-jpa/model.index";
+  public static final String PACKAGE = "package";
+  public static final String ENUMERATION = "enumeration";
+  public static final String FUNCTION = "function";
+  public static final String ACTION = "action";
+
+  private final Set<String> entries = new TreeSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      writeIndex();
+    } else {
+      final TypeMirror function = erasure(ODataFunction.class);
+      final TypeMirror action = erasure(ODataAction.class);
+      for (final Element element : roundEnv.getRootElements()) {
+        if (element instanceof final TypeElement type) {
+          entries.add(entry(PACKAGE, processingEnv.getElementUtils().getPackageOf(type).getQualifiedName()
+              .toString()));
+          collect(type, function, action);
+        }
+      }
+    }
+    return false;
+  }
+
+  private void collect(final TypeElement type, final TypeMirror function, final TypeMirror action) {
+    final String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+    if (type.getKind() == ElementKind.ENUM && type.getAnnotation(EdmEnumeration.class) != null)
+      entries.add(entry(ENUMERATION, name));
+    if (isSubType(type, function))
+      entries.add(entry(FUNCTION, name));
+    if (isSubType(type, action))
+      entries.add(entry(ACTION, name));
+    for (final Element enclosed : type.getEnclosedElements()) {
+      if (enclosed instanceof final TypeElement nested)
+        collect(nested, function, action);
+    }
+  }
+
+  private boolean isSubType(final TypeElement type, final TypeMirror superType) {
+    if (superType == null)
+      return false;
+    final TypeMirror typeMirror = processingEnv.getTypeUtils().erasure(type.asType());
+    return !processingEnv.getTypeUtils().isSameType(typeMirror, superType)
+        && processingEnv.getTypeUtils().isAssignable(typeMirror, superType);
+  }
+
+  private TypeMirror erasure(final Class<?> clazz) {
+    final TypeElement type = processingEnv.getElementUtils().getTypeElement(clazz.getCanonicalName());
+    return type != null ? processingEnv.getTypeUtils().erasure(type.asType()) : null;
+  }
+
+  private void writeIndex() {
+    if (entries.isEmpty())
+      return;
+    readExistingIndex();
+    try {
+      final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+          INDEX_RESOURCE);
+      try (Writer writer = file.openWriter()) {
+        for (final String entry : entries) {
+          writer.write(entry);
+          writer.write('\n');
+        }
+      }
+    } catch (final IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write " + INDEX_RESOURCE + ": "
+          + e.getMessage());
+    }
+  }
+
+  private void readExistingIndex() {
+    try {
+      final FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "",
+          INDEX_RESOURCE);
+      try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.openInputStream(),
+          StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          if (!line.isBlank())
+            entries.add(line.trim());
+        }
+      }
+    } catch (final IOException | IllegalArgumentException e) {
+      // No index from a previous compilation
+    }
+  }
+
+  private static String entry(final String kind, final String name) {
+    return kind + " " + name;
+  }
+}
@@ -29,6 +29,14 @@ public interface JPAServiceDocument extends CustomETagSupport {
 
   List<CsdlSchema> getAllSchemas() throws ODataJPAModelException;
 
+  /**
+   * Completes the lazy build of the model and creates lookup indexes. Afterwards the model is treated as read only.
+   * By default nothing happens.
+   * @throws ODataJPAModelException
+   * @since 2.3.3
+   */
+  default void freeze() throws ODataJPAModelException {}
+
   /**
    * Returns the internal representation of an entity type by Olingo entity type
    * @param edmType Olingo entity type
@@ -0,0 +1,261 @@
+package com.sap.olingo.jpa.metadata.core.edm.mapper.impl;
+
+import static com.sap.olingo.jpa.metadata.api.JPAModelIndexProcessor.ACTION;
+import static com.sap.olingo.jpa.metadata.api.JPAModelIndexProcessor.ENUMERATION;
+import static com.sap.olingo.jpa.metadata.api.JPAModelIndexProcessor.FUNCTION;
+import static com.sap.olingo.jpa.metadata.api.JPAModelIndexProcessor.INDEX_RESOURCE;
+import static com.sap.olingo.jpa.metadata.api.JPAModelIndexProcessor.PACKAGE;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.reflections8.Reflections;
+
+import com.sap.olingo.jpa.metadata.api.JPAModelIndexProcessor;
+
+/**
+ * Provides the types found by a {@link Reflections} scan from the index created by {@link JPAModelIndexProcessor}.
+ * Only the queries used to build the intermediate model are supported.
+ * <p>
+ * A requested package is taken from the index only if an index was created for exactly this package. Other requested
+ * packages, e.g. a root package of indexed packages, are scanned and the result of the scan is added to the one of the
+ * index. The same applies to sub packages of a covered package that contain classes, but have no entry of their own
+ * in the index, e.g. because they were compiled without {@link JPAModelIndexProcessor}. If the sub packages can't be
+ * determined, the covered package is scanned as well.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+class IntermediateModelIndex extends Reflections {
+  private static final Log LOGGER = LogFactory.getLog(IntermediateModelIndex.class);
+
+  private final List<Class<?>> enumerations;
+  private final List<Class<?>> operations;
+  private final Optional<Reflections> scanned;
+
+  /**
+   * Reads all indexes visible to the class loader. Returns an empty optional, if no index exists or none of the
+   * packages is covered by an index. In that case the packages have to be scanned.
+   * @param loader
+   * @param scanner Scans the packages not covered by an index
+   * @param packageName
+   * @return
+   */
+  static Optional<Reflections> load(final ClassLoader loader, final Function<String[], Reflections> scanner,
+      final String... packageName) {
+    try {
+      final List<String> lines = new ArrayList<>();
+      final Enumeration<URL> indexes = loader.getResources(INDEX_RESOURCE);
+      while (indexes.hasMoreElements())
+        read(indexes.nextElement(), lines);
+      if (lines.isEmpty())
+        return Optional.empty();
+      return create(lines, loader, scanner, packageName);
+    } catch (final IOException e) {
+      LOGGER.debug("Index could not be read, packages get scanned: " + e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  static Optional<Reflections> create(final List<String> lines, final ClassLoader loader,
+      final Function<String[], Reflections> scanner, final String... packageName) {
+    final Set<String> packages = new HashSet<>();
+    final Set<String> enumerationNames = new LinkedHashSet<>();
+    final Set<String> operationNames = new LinkedHashSet<>();
+    for (final String line : lines) {
+      final String[] entry = line.trim().split("\\s+", 2);
+      if (entry.length == 2) {
+        switch (entry[0]) {
+          case PACKAGE -> packages.add(entry[1]);
+          case ENUMERATION -> enumerationNames.add(entry[1]);
+          case FUNCTION, ACTION -> operationNames.add(entry[1]);
+          default -> LOGGER.debug("Unknown index entry: " + line);
+        }
+      }
+    }
+    final List<String> covered = new ArrayList<>(packageName.length);
+    final List<String> notCovered = new ArrayList<>(packageName.length);
+    for (final String requested : packageName) {
+      if (packages.contains(requested)) {
+        final Optional<Set<String>> subPackages = findSubPackages(loader, requested);
+        if (subPackages.isPresent()) {
+          covered.add(requested);
+          addSubPackagesNotCovered(subPackages.get(), packages, notCovered);
+        } else {
+          LOGGER.debug("Sub packages of " + requested + " could not be determined, package gets scanned");
+          notCovered.add(requested);
+        }
+      } else {
+        LOGGER.debug("No index found for package " + requested + ", package gets scanned");
+        notCovered.add(requested);
+      }
+    }
+    if (covered.isEmpty())
+      return Optional.empty();
+    final String[] coveredPackages = covered.toArray(new String[covered.size()]);
+    return Optional.of(new IntermediateModelIndex(loadClasses(enumerationNames, loader, coveredPackages),
+        loadClasses(operationNames, loader, coveredPackages),
+        notCovered.isEmpty()
+            ? Optional.empty()
+            : Optional.of(scanner.apply(notCovered.toArray(new String[notCovered.size()])))));
+  }
+
+  private IntermediateModelIndex(final List<Class<?>> enumerations, final List<Class<?>> operations,
+      final Optional<Reflections> scanned) {
+    super();
+    this.enumerations = enumerations;
+    this.operations = operations;
+    this.scanned = scanned;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> Set<Class<? extends T>> getSubTypesOf(final Class<T> type) {
+    final Set<Class<? extends T>> result = new LinkedHashSet<>();
+    for (final Class<?> operation : operations) {
+      if (type != operation && type.isAssignableFrom(operation))
+        result.add((Class<? extends T>) operation);
+    }
+    scanned.ifPresent(reflections -> result.addAll(reflections.getSubTypesOf(type)));
+    return result;
+  }
+
+  @Override
+  public Set<Class<?>> getTypesAnnotatedWith(final Class<? extends Annotation> annotation) {
+    final Set<Class<?>> result = new LinkedHashSet<>();
+    for (final Class<?> enumeration : enumerations) {
+      if (enumeration.isAnnotationPresent(annotation))
+        result.add(enumeration);
+    }
+    scanned.ifPresent(reflections -> result.addAll(reflections.getTypesAnnotatedWith(annotation)));
+    return result;
+  }
+
+  private static void read(final URL index, final List<String> lines) throws IOException {
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(),
+        StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (!line.isBlank())
+          lines.add(line);
+      }
+    }
+  }
+
+  private static void addSubPackagesNotCovered(final Set<String> subPackages, final Set<String> packages,
+      final List<String> notCovered) {
+    // Sub packages are sorted, so a scanned package precedes its own sub packages, which get scanned with it
+    String scanned = null;
+    for (final String subPackage : subPackages) {
+      if (!packages.contains(subPackage) && (scanned == null || !isInPackage(subPackage, scanned))) {
+        LOGGER.debug("No index found for sub package " + subPackage + ", package gets scanned");
+        notCovered.add(subPackage);
+        scanned = subPackage;
+      }
+    }
+  }
+
+  /**
+   * Determines the sub packages of a package that contain classes by listing the directories and archives of the
+   * class path. No class gets loaded. Returns an empty optional if a location of the package can't be listed.
+   */
+  static Optional<Set<String>> findSubPackages(final ClassLoader loader, final String packageName) {
+    final String path = packageName.replace('.', '/');
+    final Set<String> subPackages = new TreeSet<>();
+    try {
+      final Enumeration<URL> locations = loader.getResources(path);
+      while (locations.hasMoreElements()) {
+        final URL location = locations.nextElement();
+        switch (location.getProtocol()) {
+          case "file" -> findSubPackages(Paths.get(location.toURI()), packageName, subPackages);
+          case "jar" -> findSubPackages((JarURLConnection) location.openConnection(), path, subPackages);
+          default -> {
+            return Optional.empty();
+          }
+        }
+      }
+      return Optional.of(subPackages);
+    } catch (final IOException | URISyntaxException | RuntimeException e) {
+      LOGGER.debug("Sub packages of " + packageName + " could not be listed: " + e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private static void findSubPackages(final Path directory, final String packageName, final Set<String> subPackages)
+      throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.filter(file -> file.getFileName().toString().endsWith(".class"))
+          .map(file -> directory.relativize(file).getParent())
+          .filter(Objects::nonNull)
+          .forEach(relative -> subPackages.add(packageName + "." + relative.toString().replace(
+              relative.getFileSystem().getSeparator(), ".")));
+    }
+  }
+
+  private static void findSubPackages(final JarURLConnection connection, final String path,
+      final Set<String> subPackages) throws IOException {
+    connection.setUseCaches(false);
+    try (JarFile jar = connection.getJarFile()) {
+      final Enumeration<JarEntry> entries = jar.entries();
+      while (entries.hasMoreElements()) {
+        final String name = entries.nextElement().getName();
+        final int lastSlash = name.lastIndexOf('/');
+        if (name.endsWith(".class") && lastSlash > path.length() && name.startsWith(path + "/"))
+          subPackages.add(name.substring(0, lastSlash).replace('/', '.'));
+      }
+    }
+  }
+
+  private static List<Class<?>> loadClasses(final Set<String> names, final ClassLoader loader,
+      final String... packageName) {
+    final List<Class<?>> classes = new ArrayList<>(names.size());
+    for (final String name : names) {
+      if (isInAnyPackage(name, packageName)) {
+        try {
+          classes.add(Class.forName(name, false, loader));
+        } catch (final ClassNotFoundException | LinkageError e) {
+          // Entries of an old, merged index may point to deleted classes
+          LOGGER.debug("Class of index not found: " + name);
+        }
+      }
+    }
+    return Collections.unmodifiableList(classes);
+  }
+
+  private static boolean isInAnyPackage(final String name, final String... packageName) {
+    for (final String requested : packageName) {
+      if (isInPackage(name, requested))
+        return true;
+    }
+    return false;
+  }
+
+  private static boolean isInPackage(final String name, final String packageName) {
+    return name.equals(packageName) || name.startsWith(packageName + ".");
+  }
+}
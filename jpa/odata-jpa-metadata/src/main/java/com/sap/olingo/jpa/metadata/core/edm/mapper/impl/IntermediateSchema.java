@@ -1,12 +1,15 @@
 package com.sap.olingo.jpa.metadata.core.edm.mapper.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
@@ -50,6 +53,13 @@ final class IntermediateSchema extends IntermediateModelElement {
   private IntermediateEntityContainer container;
   private final Reflections reflections;
   private CsdlSchema edmSchema;
+  // Indexes by external name, which are created by freeze()
+  private volatile Map<String, JPAEntityType> entityTypeByExternalName;
+  private volatile Map<String, JPAStructuredType> complexTypeByExternalName;
+  private volatile Map<String, IntermediateEnumerationType> enumTypeByExternalName;
+  private volatile Map<FullQualifiedName, IntermediateEnumerationType> enumTypeByFqn;
+  private volatile Map<String, JPAFunction> functionByExternalName;
+  private volatile Map<List<String>, Optional<JPAEntityType>> entityTypeByTable;
 
   IntermediateSchema(final JPAEdmNameBuilder nameBuilder, final Metamodel jpaMetamodel, final Reflections reflections,
       final IntermediateAnnotationInformation annotationInfo) throws ODataJPAModelException {
@@ -71,6 +81,8 @@ final class IntermediateSchema extends IntermediateModelElement {
   }
 
   public JPAEnumerationAttribute getEnumerationType(final EdmEnumType type) {
+    if (enumTypeByFqn != null)
+      return enumTypeByFqn.get(type.getFullQualifiedName());
     for (final Entry<String, IntermediateEnumerationType> enumeration : this.enumTypeListInternalKey.entrySet()) {
       if (enumeration.getValue().getExternalFQN().equals(type.getFullQualifiedName()))
         return enumeration.getValue();
@@ -79,6 +91,8 @@ final class IntermediateSchema extends IntermediateModelElement {
   }
 
   public IntermediateEnumerationType getEnumerationType(final String externalName) {
+    if (enumTypeByExternalName != null)
+      return enumTypeByExternalName.get(externalName);
     for (final Entry<String, IntermediateEnumerationType> enumeration : this.enumTypeListInternalKey.entrySet()) {
       if (enumeration.getValue().getExternalName().equals(externalName))
         return enumeration.getValue();
@@ -128,6 +142,8 @@ final class IntermediateSchema extends IntermediateModelElement {
   }
 
   JPAStructuredType getComplexType(final String externalName) {
+    if (complexTypeByExternalName != null)
+      return complexTypeByExternalName.get(externalName);
     for (final Map.Entry<String, IntermediateComplexType<?>> complexType : complexTypeListInternalKey.entrySet()) {
       if (complexType.getValue().getExternalName().equals(externalName))
         return complexType.getValue();
@@ -150,7 +166,8 @@ final class IntermediateSchema extends IntermediateModelElement {
   }
 
   JPAEntityType getEntityType(final String externalName) {
-
+    if (entityTypeByExternalName != null)
+      return entityTypeByExternalName.get(externalName);
     for (final Entry<String, IntermediateEntityType<?>> et : entityTypeListInternalKey.entrySet()) {
       if (et.getValue().getExternalName().equals(externalName))
         return et.getValue();
@@ -159,6 +176,14 @@ final class IntermediateSchema extends IntermediateModelElement {
   }
 
   JPAEntityType getEntityType(final String dbCatalog, final String dbSchema, final String dbTableName) {
+    if (entityTypeByTable != null)
+      return entityTypeByTable.computeIfAbsent(Arrays.asList(dbCatalog, dbSchema, dbTableName),
+          key -> Optional.ofNullable(searchEntityType(dbCatalog, dbSchema, dbTableName)))
+          .orElse(null);
+    return searchEntityType(dbCatalog, dbSchema, dbTableName);
+  }
+
+  private JPAEntityType searchEntityType(final String dbCatalog, final String dbSchema, final String dbTableName) {
     for (final Entry<String, IntermediateEntityType<?>> et : entityTypeListInternalKey.entrySet()) {
       if (et.getValue().dbEquals(dbCatalog, dbSchema, dbTableName))
         return et.getValue();
@@ -175,6 +200,8 @@ final class IntermediateSchema extends IntermediateModelElement {
   }
 
   JPAFunction getFunction(final String externalName) {
+    if (functionByExternalName != null)
+      return functionByExternalName.get(externalName);
     for (final Entry<String, IntermediateFunction> func : functionListInternalKey.entrySet()) {
       if (func.getValue().getExternalName().equals(externalName)
           && !func.getValue().ignore())
@@ -221,6 +248,48 @@ final class IntermediateSchema extends IntermediateModelElement {
     return (IntermediateStructuredType<T>) type;
   }
 
+  /**
+   * Completes the build of all types of the schema and creates the indexes used to look up types and functions by
+   * their external name. Afterwards the external names must not change anymore.
+   * @throws ODataJPAModelException
+   */
+  synchronized void freeze() throws ODataJPAModelException {
+    if (entityTypeByExternalName != null)
+      return;
+    getEdmItem();
+    for (final IntermediateEnumerationType enumType : enumTypeListInternalKey.values())
+      enumType.getEdmItem();
+    for (final IntermediateComplexType<?> complexType : complexTypeListInternalKey.values())
+      complexType.freeze();
+    for (final IntermediateEntityType<?> entityType : entityTypeListInternalKey.values())
+      entityType.freeze();
+
+    final Map<String, IntermediateEnumerationType> enumByName = new HashMap<>();
+    final Map<FullQualifiedName, IntermediateEnumerationType> enumByFqn = new HashMap<>();
+    for (final IntermediateEnumerationType enumType : enumTypeListInternalKey.values()) {
+      enumByName.putIfAbsent(enumType.getExternalName(), enumType);
+      enumByFqn.putIfAbsent(enumType.getExternalFQN(), enumType);
+    }
+    final Map<String, JPAStructuredType> complexByName = new HashMap<>();
+    for (final IntermediateComplexType<?> complexType : complexTypeListInternalKey.values())
+      complexByName.putIfAbsent(complexType.getExternalName(), complexType);
+    final Map<String, JPAFunction> functionByName = new HashMap<>();
+    for (final IntermediateFunction function : functionListInternalKey.values()) {
+      if (!function.ignore())
+        functionByName.putIfAbsent(function.getExternalName(), function);
+    }
+    final Map<String, JPAEntityType> entityByName = new HashMap<>();
+    for (final IntermediateEntityType<?> entityType : entityTypeListInternalKey.values())
+      entityByName.putIfAbsent(entityType.getExternalName(), entityType);
+
+    enumTypeByExternalName = enumByName;
+    enumTypeByFqn = enumByFqn;
+    complexTypeByExternalName = complexByName;
+    functionByExternalName = functionByName;
+    entityTypeByTable = new ConcurrentHashMap<>();
+    entityTypeByExternalName = entityByName;
+  }
+
   void setContainer(final IntermediateEntityContainer container) {
     this.container = container;
   }
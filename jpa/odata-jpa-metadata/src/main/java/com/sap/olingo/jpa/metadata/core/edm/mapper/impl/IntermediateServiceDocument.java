@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.CheckForNull;
 
@@ -65,6 +66,9 @@ class IntermediateServiceDocument implements JPAServiceDocument {
   private final Reflections reflections;
   private Map<String, JPAProtectionInfo> claims;
   private final IntermediateAnnotationInformation annotationInfo;
+  // Created by freeze()
+  private volatile Map<Class<?>, Optional<JPAEntityType>> entityByClass;
+  private volatile Map<Class<?>, Optional<JPAStructuredType>> complexTypeByClass;
 
   IntermediateServiceDocument(final String namespace, final Metamodel jpaMetamodel,
       final JPAEdmMetadataPostProcessor postProcessor, final String[] packageName,
@@ -145,6 +149,22 @@ class IntermediateServiceDocument implements JPAServiceDocument {
     return extractEdmSchemas();
   }
 
+  /**
+   * Completes the build of the model and creates indexes, so that lookups done while processing a request are hash
+   * based and do not need to synchronize on the lazy build of the model.
+   */
+  @Override
+  public synchronized void freeze() throws ODataJPAModelException {
+    if (entityByClass != null)
+      return;
+    getEdmSchemas();
+    getEdmEntityContainer();
+    for (final IntermediateSchema schema : schemaListInternalKey.values())
+      schema.freeze();
+    complexTypeByClass = new ConcurrentHashMap<>();
+    entityByClass = new ConcurrentHashMap<>();
+  }
+
   /*
    * (non-Javadoc)
    *
@@ -168,6 +188,13 @@ class IntermediateServiceDocument implements JPAServiceDocument {
    */
   @Override
   public JPAEntityType getEntity(final Class<?> entityClass) throws ODataJPAModelException {
+    final Map<Class<?>, Optional<JPAEntityType>> index = entityByClass;
+    if (index != null)
+      return index.computeIfAbsent(entityClass, key -> Optional.ofNullable(searchEntity(key))).orElse(null);
+    return searchEntity(entityClass);
+  }
+
+  private JPAEntityType searchEntity(final Class<?> entityClass) {
     for (final Entry<String, IntermediateSchema> schema : schemaListInternalKey.entrySet()) {
       final JPAEntityType et = (JPAEntityType) schema.getValue().getEntityType(entityClass);
       if (et != null)
@@ -199,6 +226,13 @@ class IntermediateServiceDocument implements JPAServiceDocument {
    */
   @Override
   public JPAStructuredType getComplexType(final Class<?> typeClass) {
+    final Map<Class<?>, Optional<JPAStructuredType>> index = complexTypeByClass;
+    if (index != null)
+      return index.computeIfAbsent(typeClass, key -> Optional.ofNullable(searchComplexType(key))).orElse(null);
+    return searchComplexType(typeClass);
+  }
+
+  private JPAStructuredType searchComplexType(final Class<?> typeClass) {
     for (final IntermediateSchema schema : schemaListInternalKey.values()) {
       final IntermediateStructuredType<?> result = schema.getComplexType(typeClass);
       if (result != null)
@@ -370,16 +404,29 @@ class IntermediateServiceDocument implements JPAServiceDocument {
 
   private Reflections createReflections(final String... packageName) {
     if (packageName != null && packageName.length > 0) {
-      final ConfigurationBuilder configBuilder = new ConfigurationBuilder();
-      configBuilder.setScanners(new SubTypesScanner(false), new TypeAnnotationsScanner());
-      configBuilder.forPackages(packageName);
-      configBuilder.filterInputsBy(new FilterBuilder().includePackage(packageName));
-      return new Reflections(configBuilder);
+      final Optional<Reflections> index = IntermediateModelIndex.load(determineClassLoader(),
+          IntermediateServiceDocument::scanPackages, packageName);
+      if (index.isPresent())
+        return index.get();
+      return scanPackages(packageName);
     } else {
       return null;
     }
   }
 
+  private static Reflections scanPackages(final String... packageName) {
+    final ConfigurationBuilder configBuilder = new ConfigurationBuilder();
+    configBuilder.setScanners(new SubTypesScanner(false), new TypeAnnotationsScanner());
+    configBuilder.forPackages(packageName);
+    configBuilder.filterInputsBy(new FilterBuilder().includePackage(packageName));
+    return new Reflections(configBuilder);
+  }
+
+  private ClassLoader determineClassLoader() {
+    final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    return contextClassLoader != null ? contextClassLoader : IntermediateServiceDocument.class.getClassLoader();
+  }
+
   private List<CsdlSchema> extractEdmSchemas() throws ODataJPAModelException {
     final List<CsdlSchema> schemas = new ArrayList<>();
     try {
@@ -95,6 +95,11 @@ abstract class IntermediateStructuredType<T> extends IntermediateModelElement im
   protected CsdlStructuralType edmStructuralType;
   private Optional<List<IntermediateSimpleProperty>> streamProperty;
   private int buildState = 0;
+  // Set by freeze(). Afterwards lookups neither need the lazy build nor a lock.
+  private volatile boolean frozen = false;
+  private List<JPAAttribute> frozenAttributes;
+  private Map<String, JPAAttribute> attributeByExternalName;
+  private IntermediateStructuredType<? super T> frozenBaseType;
 
   IntermediateStructuredType(final JPAEdmNameBuilder nameBuilder, final ManagedType<T> jpaManagedType,
       final IntermediateSchema schema) {
@@ -161,6 +166,8 @@ abstract class IntermediateStructuredType<T> extends IntermediateModelElement im
 
   @Override
   public Optional<JPAAttribute> getAttribute(final UriResourceProperty uriResourceItem) throws ODataJPAModelException {
+    if (frozen)
+      return Optional.ofNullable(attributeByExternalName.get(uriResourceItem.getProperty().getName()));
     if (edmStructuralType == null)
       lazyBuildEdmItem();
     final String externalName = uriResourceItem.getProperty().getName();
@@ -176,6 +183,8 @@ abstract class IntermediateStructuredType<T> extends IntermediateModelElement im
 
   @Override
   public List<JPAAttribute> getAttributes() throws ODataJPAModelException {
+    if (frozen)
+      return frozenAttributes;
     if (edmStructuralType == null)
       lazyBuildEdmItem();
     final List<JPAAttribute> result = new ArrayList<>();
@@ -391,6 +400,8 @@ abstract class IntermediateStructuredType<T> extends IntermediateModelElement im
    */
   @Override
   public IntermediateStructuredType<? super T> getBaseType() { // NOSONAR
+    if (frozen)
+      return frozenBaseType;
     final Class<?> baseType = jpaManagedType.getJavaType().getSuperclass();
     if (baseType != null) {
       @SuppressWarnings("unchecked")
@@ -645,7 +656,10 @@ abstract class IntermediateStructuredType<T> extends IntermediateModelElement im
     }
   }
 
-  private String determineDBFieldName(final IntermediateModelElement property, final JPAPath jpaPath) {
+  private String determineDBFieldName(final IntermediateProperty property, final JPAPath jpaPath) {
+    if (property.isTransient())
+      // Transient attributes are not part of the JPA metamodel
+      return jpaPath.getDBFieldName();
     final Attribute<?, ?> jpaAttribute = jpaManagedType.getAttribute(property.getInternalName());
     if (jpaAttribute.getJavaMember() instanceof AnnotatedElement) {
       final AnnotatedElement a = (AnnotatedElement) jpaAttribute.getJavaMember();
@@ -802,7 +816,40 @@ abstract class IntermediateStructuredType<T> extends IntermediateModelElement im
     return null;
   }
 
-  private synchronized void lazyBuildCompleteAssociationPathMap() throws ODataJPAModelException {
+  /**
+   * Completes the lazy build of the type and creates an index of the attributes by their external name.
+   * @throws ODataJPAModelException
+   */
+  synchronized void freeze() throws ODataJPAModelException {
+    if (frozen)
+      return;
+    final IntermediateStructuredType<? super T> baseType = getBaseType();
+    if (baseType != null)
+      baseType.freeze();
+    lazyBuildCompleteAssociationPathMap();
+    lazyBuildCompleteProtectionList();
+    final Map<String, JPAAttribute> byExternalName = new HashMap<>();
+    if (baseType != null)
+      byExternalName.putAll(baseType.attributeByExternalName);
+    for (final IntermediateProperty property : declaredPropertiesMap.values())
+      byExternalName.put(property.getExternalName(), property);
+    frozenAttributes = List.copyOf(getAttributes());
+    attributeByExternalName = byExternalName;
+    frozenBaseType = baseType;
+    frozen = true;
+  }
+
+  private void lazyBuildCompleteAssociationPathMap() throws ODataJPAModelException {
+    if (!frozen)
+      buildCompleteAssociationPathMap();
+  }
+
+  private void lazyBuildCompletePathMap() throws ODataJPAModelException {
+    if (!frozen)
+      buildCompletePathMap();
+  }
+
+  private synchronized void buildCompleteAssociationPathMap() throws ODataJPAModelException {
     JPAAssociationPathImpl associationPath;
     lazyBuildCompletePathMap();
     // TODO check if ignore has to be handled
@@ -828,7 +875,7 @@ abstract class IntermediateStructuredType<T> extends IntermediateModelElement im
     }
   }
 
-  private synchronized void lazyBuildCompletePathMap() throws ODataJPAModelException {
+  private synchronized void buildCompletePathMap() throws ODataJPAModelException {
     ArrayList<JPAElement> pathList;
     if (edmStructuralType == null)
       lazyBuildEdmItem();
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -34,6 +35,7 @@ import org.apache.olingo.commons.api.edm.provider.CsdlSingleton;
 import org.apache.olingo.commons.api.edm.provider.CsdlTerm;
 import org.apache.olingo.commons.api.edm.provider.CsdlTypeDefinition;
 import org.apache.olingo.commons.api.ex.ODataException;
+import org.apache.olingo.server.api.OData;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -340,6 +342,22 @@ class JPAEdmProviderTest {
         () -> edmProvider.getEntityType(new FullQualifiedName(ERROR_PUNIT, "MissingCardinalityAnnotation")));
   }
 
+  @Test
+  void checkGetServiceMetadataReturnsSameInstance() {
+    final OData odata = OData.newInstance();
+    final var act = cut.getServiceMetadata(odata);
+    assertNotNull(act);
+    assertSame(act, cut.getServiceMetadata(odata));
+    assertSame(act.getEdm(), cut.getServiceMetadata(OData.newInstance()).getEdm());
+  }
+
+  @Test
+  void checkGetServiceMetadataProvidesEdmOfProvider() {
+    final var act = cut.getServiceMetadata(OData.newInstance());
+    assertNotNull(act.getEdm().getEntityContainer());
+    assertEquals(cut.getReferences().size(), act.getReferences().size());
+  }
+
   private FullQualifiedName buildContainerFQN() {
     final String name = cut.getServiceDocument().getNameBuilder().buildContainerName();
     final FullQualifiedName fqn = new FullQualifiedName(PUNIT_NAME, name);
@@ -0,0 +1,93 @@
+package com.sap.olingo.jpa.metadata.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JPAModelIndexProcessorTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void checkIndexContainsEnumerationsAndOperations() throws IOException {
+    final List<String> act = compile(
+        """
+            package test.model;
+            @com.sap.olingo.jpa.metadata.core.edm.annotation.EdmEnumeration
+            enum Color { RED }
+            """,
+        """
+            package test.model;
+            enum Size { S }
+            """,
+        """
+            package test.model;
+            class Functions implements com.sap.olingo.jpa.metadata.core.edm.mapper.extension.ODataFunction {
+              public static class Actions implements
+                  com.sap.olingo.jpa.metadata.core.edm.mapper.extension.ODataAction {}
+            }
+            """);
+
+    assertTrue(act.contains("package test.model"));
+    assertTrue(act.contains("enumeration test.model.Color"));
+    assertTrue(act.contains("function test.model.Functions"));
+    assertTrue(act.contains("action test.model.Functions$Actions"));
+    assertFalse(act.contains("enumeration test.model.Size"));
+    assertEquals(4, act.size());
+  }
+
+  @Test
+  void checkIndexKeepsEntriesOfPreviousCompilation() throws IOException {
+    compile(
+        """
+            package test.model;
+            @com.sap.olingo.jpa.metadata.core.edm.annotation.EdmEnumeration
+            enum Color { RED }
+            """);
+    final List<String> act = compile(
+        """
+            package test.other;
+            @com.sap.olingo.jpa.metadata.core.edm.annotation.EdmEnumeration
+            enum Size { S }
+            """);
+
+    assertTrue(act.contains("enumeration test.model.Color"));
+    assertTrue(act.contains("enumeration test.other.Size"));
+  }
+
+  private List<String> compile(final String... sources) throws IOException {
+    final Path sourceDir = Files.createDirectories(directory.resolve("src"));
+    final Path outputDir = Files.createDirectories(directory.resolve("out"));
+    final List<Path> files = new ArrayList<>();
+    for (final String source : sources) {
+      // Top level types are package private, so the file names do not matter
+      final Path file = sourceDir.resolve("Source" + files.size() + "_" + System.nanoTime() + ".java");
+      Files.writeString(file, source);
+      files.add(file);
+    }
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+      final CompilationTask task = compiler.getTask(null, fileManager, null,
+          List.of("-proc:only", "-classpath", System.getProperty("java.class.path"), "-d", outputDir.toString()),
+          null, fileManager.getJavaFileObjectsFromPaths(files));
+      task.setProcessors(List.of(new JPAModelIndexProcessor()));
+      assertTrue(task.call());
+    }
+    return Files.readAllLines(outputDir.resolve(JPAModelIndexProcessor.INDEX_RESOURCE));
+  }
+}
@@ -0,0 +1,198 @@
+package com.sap.olingo.jpa.metadata.core.edm.mapper.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.reflections8.Reflections;
+
+import com.sap.olingo.jpa.metadata.core.edm.annotation.EdmEnumeration;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.extension.ODataAction;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.extension.ODataFunction;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.testobjects.DayOfWeek;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.testobjects.ExampleJavaActions;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.testobjects.ExampleJavaFunctions;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.testobjects.FileAccess;
+
+class IntermediateModelIndexTest {
+  private static final String PACKAGE = "com.sap.olingo.jpa.metadata.core.edm.mapper.testobjects";
+  private List<String> lines;
+  private ClassLoader loader;
+  private Function<String[], Reflections> scanner;
+
+  @SuppressWarnings("unchecked")
+  @BeforeEach
+  void setup() {
+    scanner = mock(Function.class);
+    loader = getClass().getClassLoader();
+    lines = List.of(
+        "package " + PACKAGE,
+        "enumeration " + DayOfWeek.class.getName(),
+        "function " + ExampleJavaFunctions.class.getName(),
+        "action " + ExampleJavaActions.class.getName(),
+        "action " + PACKAGE + ".NotExisting",
+        "unknown " + PACKAGE + ".Test");
+  }
+
+  @Test
+  void checkCreateReturnsEmptyIfNoPackageCovered() {
+    assertFalse(IntermediateModelIndex.create(lines, loader, scanner, "com.sap.olingo.jpa.other").isPresent());
+    verify(scanner, never()).apply(any());
+  }
+
+  @Test
+  void checkCreateReturnsEmptyForParentPackage() {
+    assertFalse(IntermediateModelIndex.create(lines, loader, scanner, "com.sap.olingo.jpa.metadata").isPresent());
+  }
+
+  @Test
+  void checkCreateDoesNotScanCoveredPackage() {
+    assertTrue(IntermediateModelIndex.create(lines, loader, scanner, PACKAGE).isPresent());
+    verify(scanner, never()).apply(any());
+  }
+
+  @Test
+  void checkCreateScansPackageNotCovered() {
+    final Reflections scanned = mock(Reflections.class);
+    when(scanner.apply(new String[] { "com.sap.olingo.jpa.other" })).thenReturn(scanned);
+    when(scanned.getSubTypesOf(ODataFunction.class)).thenReturn(Set.of(ExampleJavaOneFunction.class));
+    when(scanned.getTypesAnnotatedWith(EdmEnumeration.class)).thenReturn(Set.of(FileAccess.class));
+
+    final Reflections cut = IntermediateModelIndex.create(lines, loader, scanner, PACKAGE, "com.sap.olingo.jpa.other")
+        .orElseThrow();
+
+    assertEquals(Set.of(ExampleJavaFunctions.class, ExampleJavaOneFunction.class),
+        cut.getSubTypesOf(ODataFunction.class));
+    assertEquals(Set.of(DayOfWeek.class, FileAccess.class), cut.getTypesAnnotatedWith(EdmEnumeration.class));
+  }
+
+  @Test
+  void checkGetSubTypesOfReturnsFunctions() {
+    final Reflections cut = IntermediateModelIndex.create(lines, loader, scanner, PACKAGE).orElseThrow();
+    assertEquals(Set.of(ExampleJavaFunctions.class), cut.getSubTypesOf(ODataFunction.class));
+  }
+
+  @Test
+  void checkGetSubTypesOfReturnsActionsSkippingUnknownClasses() {
+    final Reflections cut = IntermediateModelIndex.create(lines, loader, scanner, PACKAGE).orElseThrow();
+    assertEquals(Set.of(ExampleJavaActions.class), cut.getSubTypesOf(ODataAction.class));
+  }
+
+  @Test
+  void checkGetTypesAnnotatedWithReturnsEnumerations() {
+    final Reflections cut = IntermediateModelIndex.create(lines, loader, scanner, PACKAGE).orElseThrow();
+    assertEquals(Set.of(DayOfWeek.class), cut.getTypesAnnotatedWith(EdmEnumeration.class));
+  }
+
+  @Test
+  void checkTypesOutsideRequestedPackageIgnored() {
+    final Optional<Reflections> cut = IntermediateModelIndex.create(List.of(
+        "package " + PACKAGE,
+        "package com.sap.olingo.jpa.other",
+        "enumeration " + DayOfWeek.class.getName()), loader, scanner, "com.sap.olingo.jpa.other");
+    assertTrue(cut.orElseThrow().getTypesAnnotatedWith(EdmEnumeration.class).isEmpty());
+  }
+
+  @Test
+  void checkLoadReturnsEmptyWithoutIndex() {
+    assertFalse(IntermediateModelIndex.load(loader, scanner, PACKAGE).isPresent());
+  }
+
+  @Test
+  void checkCreateScansSubPackageNotCovered() {
+    final String parent = "com.sap.olingo.jpa.metadata.core.edm.mapper";
+    final ArgumentCaptor<String[]> scanned = ArgumentCaptor.forClass(String[].class);
+    when(scanner.apply(scanned.capture())).thenReturn(mock(Reflections.class));
+
+    assertTrue(IntermediateModelIndex.create(List.of("package " + parent), loader, scanner, parent).isPresent());
+
+    final List<String> act = Arrays.asList(scanned.getValue());
+    assertTrue(act.contains(PACKAGE));
+    assertTrue(act.contains(parent + ".impl"));
+    assertFalse(act.contains(parent));
+    assertTrue(act.stream().noneMatch(name -> act.stream().anyMatch(other -> name.startsWith(other + "."))));
+  }
+
+  @Test
+  void checkCreateDoesNotScanIndexedSubPackage() {
+    final String parent = "com.sap.olingo.jpa.metadata.core.edm.mapper";
+    final ArgumentCaptor<String[]> scanned = ArgumentCaptor.forClass(String[].class);
+    when(scanner.apply(scanned.capture())).thenReturn(mock(Reflections.class));
+
+    final Reflections cut = IntermediateModelIndex.create(List.of("package " + parent, "package " + PACKAGE,
+        "enumeration " + DayOfWeek.class.getName()), loader, scanner, parent).orElseThrow();
+
+    assertFalse(Arrays.asList(scanned.getValue()).contains(PACKAGE));
+    assertTrue(cut.getTypesAnnotatedWith(EdmEnumeration.class).contains(DayOfWeek.class));
+  }
+
+  @Test
+  void checkCreateReturnsEmptyIfSubPackagesUnknown() throws IOException {
+    final ClassLoader remoteLoader = mock(ClassLoader.class);
+    when(remoteLoader.getResources(any())).thenReturn(Collections.enumeration(List.of(new URL(
+        "http://localhost/classes/"))));
+
+    assertFalse(IntermediateModelIndex.create(lines, remoteLoader, scanner, PACKAGE).isPresent());
+    verify(scanner, never()).apply(any());
+  }
+
+  @Test
+  void checkFindSubPackagesOfDirectory(@TempDir final Path root) throws IOException {
+    for (final String name : List.of("com/example/A.class", "com/example/sub/B.class",
+        "com/example/sub/deep/C.class", "com/example/empty/readme.txt", "com/other/D.class")) {
+      final Path file = root.resolve(name);
+      Files.createDirectories(file.getParent());
+      Files.createFile(file);
+    }
+    try (URLClassLoader directoryLoader = new URLClassLoader(new URL[] { root.toUri().toURL() }, null)) {
+      assertEquals(Set.of("com.example.sub", "com.example.sub.deep"),
+          IntermediateModelIndex.findSubPackages(directoryLoader, "com.example").orElseThrow());
+    }
+  }
+
+  @Test
+  void checkFindSubPackagesOfJar(@TempDir final Path root) throws IOException {
+    final Path jar = root.resolve("model.jar");
+    try (OutputStream out = Files.newOutputStream(jar);
+        JarOutputStream jarOut = new JarOutputStream(out)) {
+      for (final String name : List.of("com/example/", "com/example/A.class", "com/example/sub/B.class",
+          "com/example/sub/deep/C.class", "com/example/empty/readme.txt", "com/other/D.class")) {
+        jarOut.putNextEntry(new JarEntry(name));
+        jarOut.closeEntry();
+      }
+    }
+    try (URLClassLoader jarLoader = new URLClassLoader(new URL[] { jar.toUri().toURL() }, null)) {
+      assertEquals(Set.of("com.example.sub", "com.example.sub.deep"),
+          IntermediateModelIndex.findSubPackages(jarLoader, "com.example").orElseThrow());
+    }
+  }
+
+  @Test
+  void checkFindSubPackagesReturnsEmptySetForUnknownPackage() {
+    assertTrue(IntermediateModelIndex.findSubPackages(loader, "com.sap.olingo.jpa.other").orElseThrow().isEmpty());
+  }
+}
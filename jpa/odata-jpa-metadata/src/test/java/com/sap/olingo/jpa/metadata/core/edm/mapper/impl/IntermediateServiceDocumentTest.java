@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.mock;
@@ -19,10 +20,12 @@ import org.apache.olingo.commons.api.edm.EdmBindingTarget;
 import org.apache.olingo.commons.api.edm.EdmComplexType;
 import org.apache.olingo.commons.api.edm.EdmEntityType;
 import org.apache.olingo.commons.api.edm.EdmFunction;
+import org.apache.olingo.commons.api.edm.EdmProperty;
 import org.apache.olingo.commons.api.edm.EdmType;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
 import org.apache.olingo.commons.api.edm.provider.CsdlEntityContainer;
 import org.apache.olingo.commons.api.edm.provider.CsdlSchema;
+import org.apache.olingo.server.api.uri.UriResourceProperty;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -36,6 +39,7 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAServiceDocument;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
 import com.sap.olingo.jpa.processor.core.testmodel.AdministrativeDivisionDescriptionKey;
 import com.sap.olingo.jpa.processor.core.testmodel.AdministrativeDivisionKey;
+import com.sap.olingo.jpa.processor.core.testmodel.Organization;
 
 class IntermediateServiceDocumentTest extends TestMappingRoot {
 
@@ -406,6 +410,57 @@ class IntermediateServiceDocumentTest extends TestMappingRoot {
       assertTrue(cut.getTopLevelEntity(esName).isPresent());
   }
 
+  @Test
+  void checkFrozenReturnsSameEntityTypes() throws ODataJPAModelException {
+    final JPAEntityType byClass = cut.getEntity(Organization.class);
+    final JPAEntityType byName = cut.getEntity(new FullQualifiedName("com.sap.olingo.jpa.Organization"));
+    cut.freeze();
+    assertSame(byClass, cut.getEntity(Organization.class));
+    assertSame(byName, cut.getEntity(new FullQualifiedName("com.sap.olingo.jpa.Organization")));
+    assertSame(byClass, cut.getEntity("Organizations"));
+    assertNull(cut.getEntity(AdministrativeDivisionKey.class));
+    assertNull(cut.getEntity(new FullQualifiedName("com.sap.olingo.jpa.Dummy")));
+  }
+
+  @Test
+  void checkFrozenReturnsSameComplexTypes() throws ODataJPAModelException {
+    final var byClass = cut.getComplexType(AdministrativeDivisionDescriptionKey.class);
+    cut.freeze();
+    assertSame(byClass, cut.getComplexType(AdministrativeDivisionDescriptionKey.class));
+    assertNull(cut.getComplexType(AdministrativeDivisionKey.class));
+  }
+
+  @Test
+  void checkFrozenReturnsEnumType() throws ODataJPAModelException {
+    cut.freeze();
+    assertNotNull(cut.getEnumType("com.sap.olingo.jpa.AccessRights"));
+    assertNull(cut.getEnumType("com.sap.olingo.jpa.Dummy"));
+  }
+
+  @Test
+  void checkFrozenReturnsAttributeByExternalName() throws ODataJPAModelException {
+    final JPAEntityType et = cut.getEntity(Organization.class);
+    final List<?> attributes = et.getAttributes();
+    cut.freeze();
+    final UriResourceProperty uriProperty = mock(UriResourceProperty.class);
+    final EdmProperty edmProperty = mock(EdmProperty.class);
+    when(uriProperty.getProperty()).thenReturn(edmProperty);
+    when(edmProperty.getName()).thenReturn("Name1");
+    assertEquals("name1", et.getAttribute(uriProperty).orElseThrow().getInternalName());
+    when(edmProperty.getName()).thenReturn("Type");
+    assertEquals("type", et.getAttribute(uriProperty).orElseThrow().getInternalName());
+    when(edmProperty.getName()).thenReturn("Dummy");
+    assertTrue(et.getAttribute(uriProperty).isEmpty());
+    assertEquals(attributes, et.getAttributes());
+  }
+
+  @Test
+  void checkFreezeCanBeCalledTwice() throws ODataJPAModelException {
+    cut.freeze();
+    cut.freeze();
+    assertNotNull(cut.getEntity(Organization.class));
+  }
+
   private IntermediateServiceDocument createCutWithCustomNameBuilder() throws ODataJPAModelException {
     return new IntermediateServiceDocument(new CustomJPANameBuilder(), emf.getMetamodel(), null,
         new String[] { "com.sap.olingo.jpa.processor.core.testmodel",
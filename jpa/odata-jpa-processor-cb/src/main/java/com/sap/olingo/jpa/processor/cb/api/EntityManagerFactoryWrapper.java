@@ -14,45 +14,62 @@ import jakarta.persistence.metamodel.Metamodel;
 
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAServiceDocument;
 import com.sap.olingo.jpa.processor.cb.ProcessorSqlPatternProvider;
+import com.sap.olingo.jpa.processor.cb.SqlConnectionProvider;
 import com.sap.olingo.jpa.processor.cb.impl.EntityManagerWrapper;
 
 public final class EntityManagerFactoryWrapper implements EntityManagerFactory {
   private final EntityManagerFactory emf;
   private final JPAServiceDocument sd;
   private final ProcessorSqlPatternProvider pattern;
+  private final SqlConnectionProvider connectionProvider;
 
   public EntityManagerFactoryWrapper(final EntityManagerFactory emf, final JPAServiceDocument sd,
       final ProcessorSqlPatternProvider pattern) {
+    this(emf, sd, pattern, null);
+  }
+
+  /**
+   * @param emf
+   * @param sd
+   * @param pattern
+   * @param connectionProvider Provides the JDBC connection to execute queries directly. <code>null</code> if the
+   * queries shall be executed by the JPA provider.
+   * @since 2.3.3
+   */
+  public EntityManagerFactoryWrapper(final EntityManagerFactory emf, final JPAServiceDocument sd,
+      final ProcessorSqlPatternProvider pattern, final SqlConnectionProvider connectionProvider) {
     super();
     this.emf = emf;
     this.sd = sd;
     this.pattern = pattern;
+    this.connectionProvider = connectionProvider;
   }
 
   @Override
   public EntityManager createEntityManager() {
-    return new EntityManagerWrapper(emf.createEntityManager(), sd, pattern);
+    return new EntityManagerWrapper(emf.createEntityManager(), sd, pattern, connectionProvider);
   }
 
   @Override
   public EntityManager createEntityManager(@SuppressWarnings("rawtypes") final Map map) {
-    return new EntityManagerWrapper(emf.createEntityManager(map), sd, pattern);
+    return new EntityManagerWrapper(emf.createEntityManager(map), sd, pattern, connectionProvider);
   }
 
   @Override
   public EntityManager createEntityManager(final SynchronizationType synchronizationType) {
-    return new EntityManagerWrapper(emf.createEntityManager(synchronizationType), sd, pattern);
+    return new EntityManagerWrapper(emf.createEntityManager(synchronizationType), sd, pattern, connectionProvider);
   }
 
   @Override
   public EntityManager createEntityManager(final SynchronizationType synchronizationType,
       @SuppressWarnings("rawtypes") final Map map) {
-    return new EntityManagerWrapper(emf.createEntityManager(synchronizationType, map), sd, pattern);
+    return new EntityManagerWrapper(emf.createEntityManager(synchronizationType, map), sd, pattern,
+        connectionProvider);
   }
 
   @Override
   public CriteriaBuilder getCriteriaBuilder() {
-    try (EntityManager em = new EntityManagerWrapper(emf.createEntityManager(), sd, pattern)) {
+    try (EntityManager em = new EntityManagerWrapper(emf.createEntityManager(), sd, pattern, connectionProvider)) {
       return em.getCriteriaBuilder();
     }
   }
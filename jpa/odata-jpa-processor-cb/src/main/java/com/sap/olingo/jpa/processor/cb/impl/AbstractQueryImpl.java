@@ -35,6 +35,10 @@ abstract class AbstractQueryImpl implements Query {
     this.flushMode = Optional.empty();
   }
 
+  ParameterBuffer getParameterBuffer() {
+    return parameterBuffer;
+  }
+
   @CheckForNull
   @Override
   public LockModeType getLockMode() {
@@ -138,7 +138,7 @@ class CriteriaBuilderImpl implements ProcessorCriteriaBuilder { // NOSONAR
    */
   @Override
   public <N extends Number> Expression<Double> avg(@Nonnull final Expression<N> x) {
-    throw new NotImplementedException();
+    return new ExpressionImpl.AggregationExpression<>(SqlAggregation.AVG, x, Double.class);
   }
 
   /**
@@ -512,7 +512,7 @@ class CriteriaBuilderImpl implements ProcessorCriteriaBuilder { // NOSONAR
    */
   @Override
   public <X extends Comparable<? super X>> Expression<X> greatest(@Nonnull final Expression<X> x) {
-    throw new NotImplementedException();
+    return new ExpressionImpl.AggregationExpression<>(SqlAggregation.MAX, x, x.getJavaType());
   }
 
   /**
@@ -734,7 +734,7 @@ class CriteriaBuilderImpl implements ProcessorCriteriaBuilder { // NOSONAR
    */
   @Override
   public <X extends Comparable<? super X>> Expression<X> least(@Nonnull final Expression<X> expression) {
-    throw new NotImplementedException();
+    return new ExpressionImpl.AggregationExpression<>(SqlAggregation.MIN, expression, expression.getJavaType());
   }
 
   /**
@@ -985,7 +985,7 @@ class CriteriaBuilderImpl implements ProcessorCriteriaBuilder { // NOSONAR
    */
   @Override
   public <N extends Number> Expression<N> max(@Nonnull final Expression<N> x) {
-    throw new NotImplementedException();
+    return new ExpressionImpl.AggregationExpression<>(SqlAggregation.MAX, x, x.getJavaType());
   }
 
   /**
@@ -996,7 +996,7 @@ class CriteriaBuilderImpl implements ProcessorCriteriaBuilder { // NOSONAR
    */
   @Override
   public <N extends Number> Expression<N> min(@Nonnull final Expression<N> x) {
-    throw new NotImplementedException();
+    return new ExpressionImpl.AggregationExpression<>(SqlAggregation.MIN, x, x.getJavaType());
   }
 
   /**
@@ -1442,7 +1442,7 @@ class CriteriaBuilderImpl implements ProcessorCriteriaBuilder { // NOSONAR
    */
   @Override
   public <N extends Number> Expression<N> sum(@Nonnull final Expression<N> x) {
-    throw new NotImplementedException();
+    return new ExpressionImpl.AggregationExpression<>(SqlAggregation.SUM, x);
   }
 
   /**
@@ -1706,6 +1706,14 @@ class CriteriaBuilderImpl implements ProcessorCriteriaBuilder { // NOSONAR
     return new ExpressionImpl.WindowFunctionExpression<>(SqlWindowFunctions.ROW_NUMBER);
   }
 
+  /**
+   * Creates an expression for a count window function: COUNT(*) OVER().
+   */
+  @Override
+  public WindowFunction<Long> rowCount() {
+    return new ExpressionImpl.WindowFunctionExpression<>(SqlWindowFunctions.COUNT);
+  }
+
   public JPAServiceDocument getServiceDocument() {
     return sd;
   }
@@ -1,5 +1,6 @@
 package com.sap.olingo.jpa.processor.cb.impl;
 
+import java.sql.Connection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -27,6 +28,7 @@ import org.apache.commons.logging.LogFactory;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAServiceDocument;
 import com.sap.olingo.jpa.processor.cb.ProcessorCriteriaBuilder;
 import com.sap.olingo.jpa.processor.cb.ProcessorSqlPatternProvider;
+import com.sap.olingo.jpa.processor.cb.SqlConnectionProvider;
 import com.sap.olingo.jpa.processor.cb.exceptions.NotImplementedException;
 
 public class EntityManagerWrapper implements EntityManager { // NOSONAR
@@ -35,16 +37,38 @@ public class EntityManagerWrapper implements EntityManager { // NOSONAR
   private final EntityManager em;
   private final JPAServiceDocument sd;
   private final ProcessorSqlPatternProvider sqlPattern;
+  private final SqlConnectionProvider connectionProvider;
 
   public EntityManagerWrapper(final EntityManager em, final JPAServiceDocument sd,
       final ProcessorSqlPatternProvider sqlPattern) {
+    this(em, sd, sqlPattern, null);
+  }
+
+  /**
+   * @param em
+   * @param sd
+   * @param sqlPattern
+   * @param connectionProvider Provides the JDBC connection to execute queries directly. <code>null</code> if the
+   * queries shall be executed by the JPA provider.
+   * @since 2.3.3
+   */
+  public EntityManagerWrapper(final EntityManager em, final JPAServiceDocument sd,
+      final ProcessorSqlPatternProvider sqlPattern, final SqlConnectionProvider connectionProvider) {
     super();
     this.em = em;
     this.sd = sd;
     this.sqlPattern = sqlPattern != null ? sqlPattern : new SqlDefaultPattern();
+    this.connectionProvider = connectionProvider;
     this.cb = Optional.empty();
   }
 
+  /**
+   * JDBC connection of the wrapped entity manager, if queries shall be executed directly.
+   */
+  Optional<Connection> getConnection() {
+    return connectionProvider != null ? connectionProvider.getConnection(em) : Optional.empty();
+  }
+
   /**
    * Make an instance managed and persistent.
    * @param entity entity instance
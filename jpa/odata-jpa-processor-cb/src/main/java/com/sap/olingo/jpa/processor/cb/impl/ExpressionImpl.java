@@ -146,14 +146,31 @@ abstract class ExpressionImpl<T> implements Expression<T>, SqlConvertible {
     parameterValues.add(value.asSQL(new StringBuilder()));
   }
 
-  static class AggregationExpression<N extends Number> extends ExpressionImpl<N> {
+  static class AggregationExpression<T> extends ExpressionImpl<T> {
 
     private final SqlAggregation function;
     private final SqlConvertible expression;
+    private final Class<? extends T> resultType;
 
     AggregationExpression(@Nonnull final SqlAggregation function, @Nonnull final Expression<?> expression) {
+      this(function, expression, null);
+    }
+
+    /**
+     * @param resultType Type the database result shall be converted into. If null, the result is returned as provided
+     * by the database.
+     * @since 2.3.3
+     */
+    AggregationExpression(@Nonnull final SqlAggregation function, @Nonnull final Expression<?> expression,
+        @Nullable final Class<? extends T> resultType) {
       this.function = Objects.requireNonNull(function);
       this.expression = Objects.requireNonNull((SqlConvertible) expression);
+      this.resultType = resultType;
+    }
+
+    @Override
+    public Class<? extends T> getJavaType() {
+      return resultType;
     }
 
     @Override
@@ -591,6 +608,7 @@ abstract class ExpressionImpl<T> implements Expression<T>, SqlConvertible {
     public StringBuilder asSQL(final StringBuilder statement) {
       statement.append(function)
           .append(OPENING_BRACKET)
+          .append(function.getArgument())
           .append(CLOSING_BRACKET)
           .append(" OVER")
           .append(OPENING_BRACKET);
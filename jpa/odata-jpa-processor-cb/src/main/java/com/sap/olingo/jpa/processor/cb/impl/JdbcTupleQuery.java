@@ -0,0 +1,169 @@
+package com.sap.olingo.jpa.processor.cb.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Tuple;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAttribute;
+import com.sap.olingo.jpa.processor.cb.impl.ExpressionImpl.ParameterExpression;
+
+/**
+ * Executes a query created by the criteria builder directly via JDBC. The rows are read column by column into tuples,
+ * without the intermediate result created by the JPA provider for native queries. The values are converted by the
+ * tuple, like the values of a native query.
+ * <p>
+ * The statement uses numbered parameters, <code>?1</code>, which are not supported by JDBC. They are replaced by
+ * <code>?</code> once per statement. Parameters within string literals and quoted identifiers are not touched.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+final class JdbcTupleQuery {
+  private final String sql;
+  private final List<Integer> parameterPositions;
+
+  JdbcTupleQuery(final String statement) {
+    final StringBuilder jdbcStatement = new StringBuilder(statement.length());
+    final List<Integer> positions = new ArrayList<>();
+    char quote = 0;
+    int i = 0;
+    while (i < statement.length()) {
+      final char c = statement.charAt(i);
+      if (quote != 0) {
+        if (c == quote)
+          quote = 0;
+      } else if (c == '\'' || c == '"') {
+        quote = c;
+      } else if (c == '?' && i + 1 < statement.length() && Character.isDigit(statement.charAt(i + 1))) {
+        int end = i + 1;
+        while (end < statement.length() && Character.isDigit(statement.charAt(end)))
+          end++;
+        positions.add(Integer.valueOf(statement.substring(i + 1, end)));
+        jdbcStatement.append('?');
+        i = end;
+        continue;
+      }
+      jdbcStatement.append(c);
+      i++;
+    }
+    this.sql = jdbcStatement.toString();
+    this.parameterPositions = Collections.unmodifiableList(positions);
+  }
+
+  String getSql() {
+    return sql;
+  }
+
+  List<Integer> getParameterPositions() {
+    return parameterPositions;
+  }
+
+  /**
+   * @param fetchSize Number of rows requested by the query. 0 if not restricted.
+   */
+  List<Tuple> execute(final Connection connection, final ParameterBuffer parameterBuffer, final int fetchSize,
+      final List<Entry<String, JPAAttribute>> selection, final Map<String, Integer> selectionIndex) {
+
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      bindParameter(statement, parameterBuffer.getParameters());
+      if (fetchSize > 0)
+        statement.setFetchSize(fetchSize);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        final int columnCount = resultSet.getMetaData().getColumnCount();
+        final List<Tuple> result = new ArrayList<>(fetchSize > 0 ? fetchSize : 10);
+        while (resultSet.next())
+          result.add(readRow(resultSet, columnCount, selection, selectionIndex));
+        return result;
+      }
+    } catch (final SQLException e) {
+      throw new PersistenceException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Executes the query and reads the rows via the cursor of the result set, while the stream is consumed. The
+   * statement is closed when the stream gets closed, so the caller has to close the stream.
+   * @param fetchSize Number of rows requested by the query. 0 if not restricted.
+   */
+  Stream<Tuple> stream(final Connection connection, final ParameterBuffer parameterBuffer, final int fetchSize,
+      final List<Entry<String, JPAAttribute>> selection, final Map<String, Integer> selectionIndex) {
+
+    PreparedStatement statement = null;
+    try {
+      statement = connection.prepareStatement(sql);
+      bindParameter(statement, parameterBuffer.getParameters());
+      if (fetchSize > 0)
+        statement.setFetchSize(fetchSize);
+      final ResultSet resultSet = statement.executeQuery();
+      final int columnCount = resultSet.getMetaData().getColumnCount();
+      final PreparedStatement openStatement = statement;
+      return StreamSupport.stream(new Spliterators.AbstractSpliterator<Tuple>(Long.MAX_VALUE,
+          Spliterator.ORDERED | Spliterator.NONNULL) {
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Tuple> action) {
+          try {
+            if (!resultSet.next())
+              return false;
+            action.accept(readRow(resultSet, columnCount, selection, selectionIndex));
+            return true;
+          } catch (final SQLException e) {
+            throw new PersistenceException(e.getMessage(), e);
+          }
+        }
+      }, false).onClose(() -> close(openStatement));
+    } catch (final SQLException e) {
+      close(statement);
+      throw new PersistenceException(e.getMessage(), e);
+    }
+  }
+
+  private static Tuple readRow(final ResultSet resultSet, final int columnCount,
+      final List<Entry<String, JPAAttribute>> selection, final Map<String, Integer> selectionIndex)
+      throws SQLException {
+
+    final Object[] row = new Object[columnCount];
+    for (int column = 0; column < columnCount; column++)
+      row[column] = resultSet.getObject(column + 1);
+    return new TupleImpl(row, selection, selectionIndex);
+  }
+
+  private static void close(final PreparedStatement statement) {
+    if (statement != null) {
+      try {
+        statement.close();
+      } catch (final SQLException e) {
+        throw new PersistenceException(e.getMessage(), e);
+      }
+    }
+  }
+
+  private void bindParameter(final PreparedStatement statement,
+      final Map<Integer, ParameterExpression<Object, Object>> parameters) throws SQLException {
+
+    final Map<Integer, Object> valueByPosition = new HashMap<>(parameters.size());
+    for (final ParameterExpression<Object, Object> parameter : parameters.values())
+      valueByPosition.put(parameter.getPosition(), parameter.getValue());
+    for (int i = 0; i < parameterPositions.size(); i++) {
+      final Integer position = parameterPositions.get(i);
+      if (!valueByPosition.containsKey(position))
+        throw new PersistenceException("No value for parameter ?" + position);
+      statement.setObject(i + 1, valueByPosition.get(position));
+    }
+  }
+}
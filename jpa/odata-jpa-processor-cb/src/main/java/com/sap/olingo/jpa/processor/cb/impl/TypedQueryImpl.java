@@ -1,5 +1,6 @@
 package com.sap.olingo.jpa.processor.cb.impl;
 
+import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
@@ -7,7 +8,9 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.FlushModeType;
@@ -85,13 +88,19 @@ class TypedQueryImpl<T> extends AbstractQueryImpl implements TypedQuery<T> {
   @SuppressWarnings("unchecked")
   @Override
   public List<T> getResultList() {
+    if (parent.getResultType().isAssignableFrom(Tuple.class)) {
+      final Optional<Connection> connection = em instanceof final EntityManagerWrapper wrapper
+          ? wrapper.getConnection() : Optional.empty();
+      if (connection.isPresent())
+        return (List<T>) executeJdbcQuery(connection.get());
+    }
     final List<?> result = createNativeQuery().getResultList();
     if (parent.getResultType().isAssignableFrom(Tuple.class)) {
       if (result.isEmpty())
         return Collections.emptyList();
-      final List<Entry<String, JPAPath>> selectionPath = buildSelection();
-      final Map<String, Integer> index = buildSelectionIndex(selectionPath);
-      final List<Entry<String, JPAAttribute>> selectionAttributes = toAttributeList(selectionPath);
+      final TupleLayout layout = getTupleLayout();
+      final Map<String, Integer> index = layout.index();
+      final List<Entry<String, JPAAttribute>> selectionAttributes = layout.attributes();
       if (result.get(0).getClass().isArray()) {
         return (List<T>) ((List<Object[]>) result).stream()
             .map(item -> new TupleImpl(item, selectionAttributes, index))
@@ -104,6 +113,28 @@ class TypedQueryImpl<T> extends AbstractQueryImpl implements TypedQuery<T> {
     return (List<T>) result;
   }
 
+  /**
+   * Execute a SELECT query and return the query results as a typed stream.
+   * <p>
+   * A tuple query, which is executed directly via JDBC, as a connection is provided by the
+   * {@link com.sap.olingo.jpa.processor.cb.SqlConnectionProvider}, reads the rows via the cursor of the result set
+   * while the stream is consumed. The stream has to be closed to release the statement. Otherwise the native query
+   * result is read completely by the JPA provider and the stream is backed by the result list, so memory is not
+   * bounded in that case.
+   * @return a stream of the results
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public Stream<T> getResultStream() {
+    if (parent.getResultType().isAssignableFrom(Tuple.class)) {
+      final Optional<Connection> connection = em instanceof final EntityManagerWrapper wrapper
+          ? wrapper.getConnection() : Optional.empty();
+      if (connection.isPresent())
+        return (Stream<T>) streamJdbcQuery(connection.get());
+    }
+    return getResultList().stream();
+  }
+
   /**
    * Execute a SELECT query that returns a single untyped result.
    * @return the result
@@ -225,8 +256,9 @@ class TypedQueryImpl<T> extends AbstractQueryImpl implements TypedQuery<T> {
     throw new PersistenceException("Unable to unwrap " + clazz.getName());
   }
 
-  private List<Entry<String, JPAPath>> buildSelection() {
-    return selection.getResolvedSelection();
+  private TupleLayout getTupleLayout() {
+    final List<Entry<String, JPAPath>> selectionPath = selection.getResolvedSelection();
+    return new TupleLayout(buildSelectionIndex(selectionPath), toAttributeList(selectionPath));
   }
 
   private Map<String, Integer> buildSelectionIndex(final List<Entry<String, JPAPath>> selectionPath) {
@@ -243,11 +275,47 @@ class TypedQueryImpl<T> extends AbstractQueryImpl implements TypedQuery<T> {
     return result;
   }
 
+  private String getStatement() {
+    return parent.asSQL(new StringBuilder()).toString();
+  }
+
+  /**
+   * Executes the query directly on the connection of the entity manager. Pending changes are flushed first, as the JPA
+   * provider would do for a native query.
+   */
+  private List<Tuple> executeJdbcQuery(final Connection connection) {
+    final TupleLayout layout = getTupleLayout();
+    return prepareJdbcQuery().execute(connection, getParameterBuffer(), getFetchSize(), layout.attributes(),
+        layout.index());
+  }
+
+  private Stream<Tuple> streamJdbcQuery(final Connection connection) {
+    final TupleLayout layout = getTupleLayout();
+    return prepareJdbcQuery().stream(connection, getParameterBuffer(), getFetchSize(), layout.attributes(),
+        layout.index());
+  }
+
+  private JdbcTupleQuery prepareJdbcQuery() {
+    final FlushModeType flushMode = getFlushMode() != null ? getFlushMode() : em.getFlushMode();
+    if (flushMode == FlushModeType.AUTO && em.isJoinedToTransaction())
+      em.flush();
+    return new JdbcTupleQuery(getStatement());
+  }
+
+  private int getFetchSize() {
+    final int maxResults = parent.getMaxResults();
+    return maxResults == Integer.MAX_VALUE ? 0 : maxResults;
+  }
+
   private Query createNativeQuery() {
-    final StringBuilder sql = new StringBuilder();
-    final Query query = em.createNativeQuery(parent.asSQL(sql).toString());
+    final Query query = em.createNativeQuery(getStatement());
     query.setHint("eclipselink.cursor.scrollable", false); // https://wiki.eclipse.org/EclipseLink/Examples/JPA/Pagination#How_to_use_EclipseLink_Pagination
     copyParameter(query);
     return query;
   }
+
+  /**
+   * Position of the selected columns within a result row and the attributes used to convert them.
+   */
+  private record TupleLayout(Map<String, Integer> index, List<Entry<String, JPAAttribute>> attributes) {}
 }
@@ -57,14 +57,8 @@ class CriteriaBuilderImplTest extends BuilderBaseTest {
     return Stream.of(
         arguments(c.getMethod("isTrue", Expression.class)),
         arguments(c.getMethod("isFalse", Expression.class)),
-        arguments(c.getMethod("sum", Expression.class)),
         arguments(c.getMethod("sumAsDouble", Expression.class)),
         arguments(c.getMethod("sumAsLong", Expression.class)),
-        arguments(c.getMethod("avg", Expression.class)),
-        arguments(c.getMethod("max", Expression.class)),
-        arguments(c.getMethod("min", Expression.class)),
-        arguments(c.getMethod("greatest", Expression.class)),
-        arguments(c.getMethod("least", Expression.class)),
         arguments(c.getMethod("neg", Expression.class)),
         arguments(c.getMethod("abs", Expression.class)),
         arguments(c.getMethod("trim", Trimspec.class, Expression.class)),
@@ -765,6 +759,41 @@ class CriteriaBuilderImplTest extends BuilderBaseTest {
     assertEquals(exp, ((SqlConvertible) act).asSQL(statement).toString());
   }
 
+  @Test
+  void testCreateSumExpression() {
+    final String exp = "SUM(E0.\"Area\")";
+    final Root<?> administrativeDivision = query.from(AdministrativeDivision.class);
+    final Expression<Integer> act = cut.sum(administrativeDivision.get("area"));
+    assertEquals(exp, ((SqlConvertible) act).asSQL(statement).toString());
+  }
+
+  @Test
+  void testCreateAvgExpression() {
+    final String exp = "AVG(E0.\"Area\")";
+    final Root<?> administrativeDivision = query.from(AdministrativeDivision.class);
+    final Expression<Double> act = cut.avg(administrativeDivision.<Integer> get("area"));
+    assertEquals(exp, ((SqlConvertible) act).asSQL(statement).toString());
+    assertEquals(Double.class, act.getJavaType());
+  }
+
+  @Test
+  void testCreateMaxMinExpression() {
+    final Root<?> administrativeDivision = query.from(AdministrativeDivision.class);
+    final Expression<Integer> max = cut.max(administrativeDivision.get("area"));
+    assertEquals("MAX(E0.\"Area\")", ((SqlConvertible) max).asSQL(statement).toString());
+    final Expression<Integer> min = cut.min(administrativeDivision.get("area"));
+    assertEquals("MIN(E0.\"Area\")", ((SqlConvertible) min).asSQL(new StringBuilder()).toString());
+  }
+
+  @Test
+  void testCreateGreatestLeastExpression() {
+    final Root<?> administrativeDivision = query.from(AdministrativeDivision.class);
+    final Expression<String> greatest = cut.greatest(administrativeDivision.<String> get("codeID"));
+    assertEquals("MAX(E0.\"CodeID\")", ((SqlConvertible) greatest).asSQL(statement).toString());
+    final Expression<String> least = cut.least(administrativeDivision.<String> get("codeID"));
+    assertEquals("MIN(E0.\"CodeID\")", ((SqlConvertible) least).asSQL(new StringBuilder()).toString());
+  }
+
   @Test
   void testCreateFunctionExpression() {
     final String exp = "\"OLINGO\".\"PopulationDensity\"(E0.\"Area\", E0.\"Population\")";
@@ -872,6 +901,22 @@ class CriteriaBuilderImplTest extends BuilderBaseTest {
     assertEquals(exp, ((SqlConvertible) act).asSQL(statement).toString());
   }
 
+  @Test
+  void testCreateRowCount() {
+    final String exp = "COUNT(*) OVER()";
+    final Selection<Long> act = cut.rowCount();
+    assertEquals(exp, ((SqlConvertible) act).asSQL(statement).toString());
+  }
+
+  @Test
+  void testCreateRowCountWithPartitionBy() {
+    final String exp = "COUNT(*) OVER( PARTITION BY E0.\"CodeID\")";
+    final Root<?> administrativeDivision = query.from(AdministrativeDivision.class);
+    @SuppressWarnings("unchecked")
+    final Selection<Long> act = cut.rowCount().partitionBy(administrativeDivision.get("codeID"));
+    assertEquals(exp, ((SqlConvertible) act).asSQL(statement).toString());
+  }
+
   @Test
   void testCreateConcatExpression() {
     final String stringA = "A";
@@ -0,0 +1,108 @@
+package com.sap.olingo.jpa.processor.cb.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.Root;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.processor.cb.ProcessorCriteriaBuilder;
+import com.sap.olingo.jpa.processor.cb.ProcessorCriteriaQuery;
+import com.sap.olingo.jpa.processor.core.testmodel.AdministrativeDivision;
+import com.sap.olingo.jpa.processor.core.testmodel.Organization;
+
+/**
+ * Executes the same criteria builder queries via the JPA provider and directly via JDBC against the test database and
+ * compares the resulting tuples.
+ */
+class JdbcTupleQueryDBTest extends BuilderBaseTest {
+  private Connection connection;
+  private EntityManager jpaEm;
+  private EntityManager jdbcEm;
+
+  @BeforeEach
+  void setup() throws SQLException {
+    connection = spy(ds.getConnection());
+    jpaEm = new EntityManagerWrapper(emf.createEntityManager(), sd, null);
+    jdbcEm = new EntityManagerWrapper(emf.createEntityManager(), sd, null, em -> Optional.of(connection));
+  }
+
+  @AfterEach
+  void teardown() throws SQLException {
+    jpaEm.close();
+    jdbcEm.close();
+    connection.close();
+  }
+
+  @Test
+  void testJdbcResultSameAsJpaResultWithParameterAndPaging() throws SQLException {
+    final List<Tuple> expected = createDivisionQuery(jpaEm, 2, 10).getResultList();
+    final List<Tuple> act = createDivisionQuery(jdbcEm, 2, 10).getResultList();
+
+    assertEquals(10, expected.size());
+    assertTuplesEqual(expected, act);
+  }
+
+  @Test
+  void testJdbcStreamSameAsJpaResult() throws SQLException {
+    final List<Tuple> expected = createDivisionQuery(jpaEm, 0, Integer.MAX_VALUE).getResultList();
+    try (Stream<Tuple> act = createDivisionQuery(jdbcEm, 0, Integer.MAX_VALUE).getResultStream()) {
+      assertFalse(expected.isEmpty());
+      assertTuplesEqual(expected, act.toList());
+    }
+  }
+
+  @Test
+  void testJdbcResultSameAsJpaResultWithConvertedValues() throws SQLException {
+    final List<Tuple> expected = createOrganizationQuery(jpaEm).getResultList();
+    final List<Tuple> act = createOrganizationQuery(jdbcEm).getResultList();
+
+    assertFalse(expected.isEmpty());
+    assertTuplesEqual(expected, act);
+  }
+
+  private TypedQuery<Tuple> createDivisionQuery(final EntityManager em, final int first, final int max) {
+    final ProcessorCriteriaBuilder cb = (ProcessorCriteriaBuilder) em.getCriteriaBuilder();
+    final ProcessorCriteriaQuery<Tuple> cq = cb.createTupleQuery();
+    final Root<AdministrativeDivision> root = cq.from(AdministrativeDivision.class);
+    cq.multiselect(root.get("codePublisher"), root.get("codeID"), root.get("divisionCode"), root.get("parentCodeID"),
+        root.get("area"), root.get("population"));
+    cq.where(cb.equal(root.get("codeID"), "NUTS3"));
+    cq.orderBy(cb.asc(root.get("codePublisher")), cb.asc(root.get("divisionCode")));
+    return em.createQuery(cq).setFirstResult(first).setMaxResults(max);
+  }
+
+  private TypedQuery<Tuple> createOrganizationQuery(final EntityManager em) {
+    final ProcessorCriteriaBuilder cb = (ProcessorCriteriaBuilder) em.getCriteriaBuilder();
+    final ProcessorCriteriaQuery<Tuple> cq = cb.createTupleQuery();
+    final Root<Organization> root = cq.from(Organization.class);
+    cq.multiselect(root.get("iD"), root.get("creationDateTime"), root.get("customString1"), root.get("customNum1"),
+        root.get("country"));
+    cq.orderBy(cb.asc(root.get("iD")));
+    return em.createQuery(cq);
+  }
+
+  private void assertTuplesEqual(final List<Tuple> expected, final List<Tuple> act) throws SQLException {
+    assertEquals(expected.size(), act.size());
+    for (int i = 0; i < expected.size(); i++)
+      assertEquals(Arrays.asList(expected.get(i).toArray()), Arrays.asList(act.get(i).toArray()), "Row " + i);
+    verify(connection, times(1)).prepareStatement(anyString());
+  }
+}
@@ -0,0 +1,148 @@
+package com.sap.olingo.jpa.processor.cb.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Stream;
+
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Tuple;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAttribute;
+import com.sap.olingo.jpa.processor.cb.ProcessorSelection;
+
+class JdbcTupleQueryTest {
+  private Connection connection;
+  private PreparedStatement statement;
+  private ResultSet resultSet;
+  private ParameterBuffer parameterBuffer;
+
+  @BeforeEach
+  void setup() throws SQLException {
+    connection = mock(Connection.class);
+    statement = mock(PreparedStatement.class);
+    resultSet = mock(ResultSet.class);
+    final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+    when(statement.executeQuery()).thenReturn(resultSet);
+    when(resultSet.getMetaData()).thenReturn(metaData);
+    when(metaData.getColumnCount()).thenReturn(2);
+    parameterBuffer = new ParameterBuffer();
+  }
+
+  @Test
+  void checkNumberedParametersReplaced() {
+    final JdbcTupleQuery cut = new JdbcTupleQuery("SELECT E0.\"ID\" FROM T E0 WHERE (E0.\"A\" = ?2)"
+        + " AND (E0.\"B\" = ?10) OR (E0.\"A\" = ?2)");
+
+    assertEquals("SELECT E0.\"ID\" FROM T E0 WHERE (E0.\"A\" = ?) AND (E0.\"B\" = ?) OR (E0.\"A\" = ?)", cut.getSql());
+    assertEquals(List.of(2, 10, 2), cut.getParameterPositions());
+  }
+
+  @Test
+  void checkQuotedTextNotReplaced() {
+    final JdbcTupleQuery cut = new JdbcTupleQuery("SELECT '?1' AS \"?2\" FROM T WHERE A = ?3");
+
+    assertEquals("SELECT '?1' AS \"?2\" FROM T WHERE A = ?", cut.getSql());
+    assertEquals(List.of(3), cut.getParameterPositions());
+  }
+
+  @Test
+  void checkParametersBoundInOrderOfOccurrence() throws SQLException {
+    final ExpressionImpl.ParameterExpression<Object, Object> first = parameterBuffer.addValue("First");
+    final ExpressionImpl.ParameterExpression<Object, Object> second = parameterBuffer.addValue(42);
+    final JdbcTupleQuery cut = new JdbcTupleQuery("SELECT A, B FROM T WHERE B = ?" + second.getPosition()
+        + " AND A = ?" + first.getPosition() + " AND C = ?" + second.getPosition());
+    when(connection.prepareStatement(cut.getSql())).thenReturn(statement);
+
+    cut.execute(connection, parameterBuffer, 0, List.of(), Map.of());
+    verify(statement).setObject(1, 42);
+    verify(statement).setObject(2, "First");
+    verify(statement).setObject(3, 42);
+    verify(statement, never()).setFetchSize(0);
+  }
+
+  @Test
+  void checkRowsReadIntoTuples() throws SQLException {
+    final JdbcTupleQuery cut = new JdbcTupleQuery("SELECT A, B FROM T");
+    final JPAAttribute attributeA = mock(JPAAttribute.class);
+    final JPAAttribute attributeB = mock(JPAAttribute.class);
+    when(attributeA.getDbType()).thenAnswer(invocation -> String.class);
+    when(attributeB.getDbType()).thenAnswer(invocation -> Integer.class);
+    final List<Entry<String, JPAAttribute>> selection = List.of(
+        new ProcessorSelection.SelectionAttribute("a", attributeA),
+        new ProcessorSelection.SelectionAttribute("b", attributeB));
+    when(connection.prepareStatement(cut.getSql())).thenReturn(statement);
+    when(resultSet.next()).thenReturn(true, true, false);
+    when(resultSet.getObject(1)).thenReturn("First", "Second");
+    when(resultSet.getObject(2)).thenReturn(1, 2);
+
+    final List<Tuple> act = cut.execute(connection, parameterBuffer, 100, selection, Map.of("a", 0, "b", 1));
+    verify(statement).setFetchSize(100);
+    assertEquals(2, act.size());
+    assertEquals("First", act.get(0).get("a"));
+    assertEquals(2, act.get(1).get("b"));
+  }
+
+  @Test
+  void checkStreamReadsRowsWhileConsumed() throws SQLException {
+    final JdbcTupleQuery cut = new JdbcTupleQuery("SELECT A, B FROM T");
+    final JPAAttribute attributeA = mock(JPAAttribute.class);
+    when(attributeA.getDbType()).thenAnswer(invocation -> String.class);
+    final List<Entry<String, JPAAttribute>> selection = List.of(
+        new ProcessorSelection.SelectionAttribute("a", attributeA));
+    when(connection.prepareStatement(cut.getSql())).thenReturn(statement);
+    when(resultSet.next()).thenReturn(true, true, false);
+    when(resultSet.getObject(1)).thenReturn("First", "Second");
+
+    try (Stream<Tuple> act = cut.stream(connection, parameterBuffer, 0, selection, Map.of("a", 0))) {
+      verify(resultSet, never()).next();
+      final Iterator<Tuple> iterator = act.iterator();
+      assertEquals("First", iterator.next().get("a"));
+      verify(resultSet, times(1)).next();
+      assertEquals("Second", iterator.next().get("a"));
+      assertFalse(iterator.hasNext());
+      verify(statement, never()).close();
+    }
+    verify(statement).close();
+  }
+
+  @Test
+  void checkStreamClosesStatementOnSqlException() throws SQLException {
+    final JdbcTupleQuery cut = new JdbcTupleQuery("SELECT A, B FROM T");
+    when(connection.prepareStatement(cut.getSql())).thenReturn(statement);
+    when(statement.executeQuery()).thenThrow(SQLException.class);
+
+    final List<Entry<String, JPAAttribute>> selection = List.of();
+    final Map<String, Integer> index = Map.of();
+    assertThrows(PersistenceException.class, () -> cut.stream(connection, parameterBuffer, 0, selection, index));
+    verify(statement).close();
+  }
+
+  @Test
+  void checkSqlExceptionConverted() throws SQLException {
+    final JdbcTupleQuery cut = new JdbcTupleQuery("SELECT A, B FROM T");
+    when(connection.prepareStatement(cut.getSql())).thenThrow(SQLException.class);
+
+    final List<Entry<String, JPAAttribute>> selection = List.of();
+    final Map<String, Integer> index = Map.of();
+    assertThrows(PersistenceException.class, () -> cut.execute(connection, parameterBuffer, 0, selection, index));
+  }
+}
@@ -22,6 +22,14 @@ public interface ProcessorCriteriaBuilder extends CriteriaBuilder {
 
   public WindowFunction<Long> rowNumber();
 
+  /**
+   * Create a window function that counts the rows: COUNT(*) OVER(). Without partition the function returns
+   * the number of rows of the result before $top and $skip are applied.
+   * @return count window function
+   * @since 2.3.3
+   */
+  public WindowFunction<Long> rowCount();
+
   /**
    * Create predicate to test whether given expression
    * is contained in a list of values.
@@ -0,0 +1,43 @@
+package com.sap.olingo.jpa.processor.cb;
+
+import java.sql.Connection;
+import java.util.Optional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+
+/**
+ * Provides the JDBC connection an entity manager uses. If a connection is provided, queries created by the processor
+ * criteria builder are executed directly via JDBC instead of being handed over to the JPA provider as native query.
+ * The connection is not closed after the query execution.
+ * <p>
+ * The connection must be the one used by the entity manager, so that the query sees the changes of the current
+ * transaction.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+@FunctionalInterface
+public interface SqlConnectionProvider {
+
+  /**
+   * @param em Entity manager the query was created with
+   * @return The connection of the entity manager or an empty optional, if the query shall be executed by the JPA
+   * provider
+   */
+  Optional<Connection> getConnection(EntityManager em);
+
+  /**
+   * Requests the connection via {@link EntityManager#unwrap(Class)}. This is supported e.g. by EclipseLink within a
+   * transaction. In case the JPA provider does not support it, the queries are executed by the JPA provider.
+   */
+  static SqlConnectionProvider fromEntityManager() {
+    return em -> {
+      try {
+        return Optional.ofNullable(em.unwrap(Connection.class));
+      } catch (final PersistenceException | IllegalArgumentException e) {
+        return Optional.empty();
+      }
+    };
+  }
+}
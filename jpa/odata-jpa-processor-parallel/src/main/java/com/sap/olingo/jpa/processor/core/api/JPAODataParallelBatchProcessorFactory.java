@@ -1,16 +1,62 @@
 package com.sap.olingo.jpa.processor.core.api;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+
 import javax.annotation.Nonnull;
 
 import com.sap.olingo.jpa.processor.core.processor.JPAODataParallelBatchProcessor;
 
+/**
+ * Creates batch processors that execute GET requests of a batch in parallel.
+ * <p>
+ * Batch parts execute blocking database calls. To prevent that large batch requests occupy all threads of the executor
+ * or all database connections, the number of parts executed in parallel can be restricted per batch request and for
+ * all batch requests processed via this factory. In case the limit per batch is reached, further parts wait until a
+ * part of the same batch is finished. In case the global limit is reached, parts get executed sequentially by the
+ * thread handling the batch request.
+ * <p>
+ * Starting with Java 21, virtual threads can be used by providing
+ * <code>Executors.newVirtualThreadPerTaskExecutor()</code>. In this case the limits should reflect the size of the
+ * connection pool.
+ */
 public class JPAODataParallelBatchProcessorFactory implements
     JPAODataBatchProcessorFactory<JPAODataParallelBatchProcessor> {
 
+  public static final int NO_LIMIT = Integer.MAX_VALUE;
+
+  private final Executor executor;
+  private final int maxParallelPerBatch;
+  private final Semaphore globalLimit;
+
+  /**
+   * Parts are executed by the common fork join pool without limitation.
+   */
+  public JPAODataParallelBatchProcessorFactory() {
+    this(ForkJoinPool.commonPool(), NO_LIMIT, NO_LIMIT);
+  }
+
+  /**
+   * @param executor Executor used to execute the batch parts
+   * @param maxParallelPerBatch Maximum number of parts of one batch request executed in parallel
+   * @param maxParallelGlobal Maximum number of parts of all batch requests executed in parallel
+   * @since 2.3.3
+   */
+  public JPAODataParallelBatchProcessorFactory(@Nonnull final Executor executor, final int maxParallelPerBatch,
+      final int maxParallelGlobal) {
+    if (maxParallelPerBatch < 1 || maxParallelGlobal < 1)
+      throw new IllegalArgumentException("Parallelism must be at least one");
+    this.executor = executor;
+    this.maxParallelPerBatch = maxParallelPerBatch;
+    this.globalLimit = maxParallelGlobal == NO_LIMIT ? null : new Semaphore(maxParallelGlobal);
+  }
+
   @Override
   public JPAODataParallelBatchProcessor getBatchProcessor(@Nonnull final JPAODataSessionContextAccess serviceContext,
       @Nonnull final JPAODataRequestContextAccess requestContext) {
-    return new JPAODataParallelBatchProcessor(serviceContext, requestContext);
+    return new JPAODataParallelBatchProcessor(serviceContext, requestContext, executor, maxParallelPerBatch,
+        globalLimit);
   }
 
 }
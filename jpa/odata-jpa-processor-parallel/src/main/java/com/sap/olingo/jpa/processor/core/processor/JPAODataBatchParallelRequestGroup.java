@@ -1,7 +1,12 @@
 package com.sap.olingo.jpa.processor.core.processor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
 
 import org.apache.olingo.commons.api.ex.ODataException;
 import org.apache.olingo.server.api.ODataApplicationException;
@@ -12,10 +17,12 @@ import org.apache.olingo.server.api.deserializer.batch.BatchRequestPart;
 import org.apache.olingo.server.api.deserializer.batch.ODataResponsePart;
 import org.apache.olingo.server.core.batchhandler.BatchFacadeImpl;
 
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetrics.Phase;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestProcessor;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPABatchRuntimeException;
 
 class JPAODataBatchParallelRequestGroup implements JPAODataBatchRequestGroup {
+  static final String METRICS_KEY = "$batch";
   private final List<BatchRequestPart> requestParts;
   private final JPAODataParallelBatchProcessor processor;
 
@@ -28,6 +35,17 @@ class JPAODataBatchParallelRequestGroup implements JPAODataBatchRequestGroup {
 
   @Override
   public List<ODataResponsePart> execute() {
+    final List<ODataResponsePart> responseParts = new ArrayList<>(requestParts.size());
+    execute(responseParts::add);
+    return responseParts;
+  }
+
+  /**
+   * All parts are started before the first response part is handed over. The response parts are handed over in the
+   * order of the request parts, so a response part is available as soon as it and all its predecessors are finished.
+   */
+  @Override
+  public void execute(final Consumer<ODataResponsePart> consumer) {
     try {
 
       processor.getRequestContext().getDebugger().debug(this, "Number of groups elements : %d", requestParts.size());
@@ -36,11 +54,8 @@ class JPAODataBatchParallelRequestGroup implements JPAODataBatchRequestGroup {
           .map(part -> startBatchPart(buildFacade(), part))
           .toList();
 
-      return CompletableFuture.allOf(requests.toArray(new CompletableFuture[requests.size()]))
-          .thenApply(dummy -> requests.stream()
-              .map(CompletableFuture::join)
-              .toList()).join();
-    } catch (final RuntimeException e) {
+      requests.forEach(request -> consumer.accept(request.join()));
+    } catch (final CompletionException e) {
       // startBatchPart throws an runtime exception that wraps the original exception. This runtime exception gets is
       // wrapped into an CompletionException. The original exception has to be re-wrapped, so the caller can handle it.
       throw new ODataJPABatchRuntimeException((ODataException) e.getCause().getCause());
@@ -53,14 +68,78 @@ class JPAODataBatchParallelRequestGroup implements JPAODataBatchRequestGroup {
     return new BatchFacadeImpl(odataHandler, processor, true);
   }
 
+  /**
+   * Starts the execution of a batch part. In case the maximum number of parts of this batch is in process, it is
+   * waited until one of them has finished. In case the global maximum is reached or the executor does not accept
+   * further tasks, the part is executed by the current thread. The time until the execution of the part starts is
+   * recorded as phase {@link Phase#QUEUE}.
+   */
   private CompletableFuture<ODataResponsePart> startBatchPart(final BatchFacade facade,
       final BatchRequestPart requestPart) {
-    return CompletableFuture.supplyAsync(() -> {
-      try {
-        return facade.handleBatchRequest(requestPart);
-      } catch (ODataApplicationException | ODataLibraryException e) {
-        throw new ODataJPABatchRuntimeException(e);
+
+    final long queued = System.nanoTime();
+    if (!acquireBatchPermit())
+      return executeBatchPart(facade, requestPart, queued);
+    if (!processor.getGlobalLimit().map(Semaphore::tryAcquire).orElse(true)) {
+      processor.getBatchLimit().ifPresent(Semaphore::release);
+      processor.getRequestContext().getDebugger().debug(this, "Global limit reached, execute part sequential");
+      return executeBatchPart(facade, requestPart, queued);
+    }
+    try {
+      // The permits are released before the part completes, so they are free as soon as its result is available
+      return CompletableFuture.supplyAsync(() -> {
+        try {
+          return handleBatchPart(facade, requestPart, queued);
+        } finally {
+          releasePermits();
+        }
+      }, processor.getExecutor());
+    } catch (final RejectedExecutionException e) {
+      releasePermits();
+      processor.getRequestContext().getDebugger().debug(this, "Executor rejected part, execute part sequential");
+      return executeBatchPart(facade, requestPart, queued);
+    }
+  }
+
+  private boolean acquireBatchPermit() {
+    final var batchLimit = processor.getBatchLimit();
+    if (batchLimit.isPresent()) {
+      try (var measurement = processor.getRequestContext().getDebugger().newMeasurement(this, "waitForBatchPermit")) {
+        batchLimit.get().acquire();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
       }
-    });
+    }
+    return true;
+  }
+
+  private void releasePermits() {
+    processor.getGlobalLimit().ifPresent(Semaphore::release);
+    processor.getBatchLimit().ifPresent(Semaphore::release);
+  }
+
+  private CompletableFuture<ODataResponsePart> executeBatchPart(final BatchFacade facade,
+      final BatchRequestPart requestPart, final long queued) {
+    final CompletableFuture<ODataResponsePart> result = new CompletableFuture<>();
+    try {
+      result.complete(handleBatchPart(facade, requestPart, queued));
+    } catch (final ODataJPABatchRuntimeException e) {
+      // Same exception structure as for parts executed asynchronous
+      result.completeExceptionally(new CompletionException(e));
+    }
+    return result;
+  }
+
+  private ODataResponsePart handleBatchPart(final BatchFacade facade, final BatchRequestPart requestPart,
+      final long queued) {
+    final var metrics = processor.getRequestContext().getMetrics();
+    if (metrics != null && metrics.isEnabled())
+      metrics.record(Phase.QUEUE, METRICS_KEY, System.nanoTime() - queued);
+    try {
+      return facade.handleBatchRequest(requestPart);
+    } catch (ODataApplicationException | ODataLibraryException e) {
+      throw new ODataJPABatchRuntimeException(e);
+    }
   }
 }
@@ -1,6 +1,7 @@
 package com.sap.olingo.jpa.processor.core.processor;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.apache.olingo.server.api.deserializer.batch.ODataResponsePart;
 
@@ -13,4 +14,14 @@ public interface JPAODataBatchRequestGroup {
    * @throws ODataJPABatchRuntimeException
    */
   List<ODataResponsePart> execute();
+
+  /**
+   * Executes the parts of the group and hands over the response parts in the order of the request parts.
+   * @param consumer
+   * @throws ODataJPABatchRuntimeException
+   * @since 2.3.3
+   */
+  default void execute(final Consumer<ODataResponsePart> consumer) {
+    execute().forEach(consumer);
+  }
 }
\ No newline at end of file
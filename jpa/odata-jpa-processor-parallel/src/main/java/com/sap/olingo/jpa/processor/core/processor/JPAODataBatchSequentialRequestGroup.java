@@ -1,6 +1,7 @@
 package com.sap.olingo.jpa.processor.core.processor;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.apache.olingo.server.api.ODataApplicationException;
 import org.apache.olingo.server.api.ODataHandler;
@@ -32,6 +33,12 @@ public class JPAODataBatchSequentialRequestGroup implements JPAODataBatchRequest
         .toList();
   }
 
+  @Override
+  public void execute(final Consumer<ODataResponsePart> consumer) {
+    final BatchFacade facade = buildFacade();
+    groupElements.forEach(part -> consumer.accept(executePart(facade, part)));
+  }
+
   private ODataResponsePart executePart(final BatchFacade facade, final BatchRequestPart part) {
     try {
       return facade.handleBatchRequest(part);
@@ -5,8 +5,14 @@ import static com.sap.olingo.jpa.processor.core.exception.ODataJPABatchException
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.apache.olingo.commons.api.http.HttpMethod;
 import org.apache.olingo.commons.api.http.HttpStatusCode;
@@ -39,22 +45,41 @@ import com.sap.olingo.jpa.processor.core.exception.ODataJPABatchRuntimeException
  * Created: 27.02.2020
  */
 public class JPAODataParallelBatchProcessor extends JPAODataBatchProcessor {
+  private final Executor executor;
+  private final Semaphore batchLimit;
+  private final Semaphore globalLimit;
 
   public JPAODataParallelBatchProcessor(final JPAODataSessionContextAccess serviceContext,
       final JPAODataRequestContextAccess requestContext) {
+    this(serviceContext, requestContext, ForkJoinPool.commonPool(), Integer.MAX_VALUE, null);
+  }
+
+  /**
+   * @param serviceContext
+   * @param requestContext
+   * @param executor Executor to run the batch parts
+   * @param maxParallelPerBatch Maximum number of parts of this batch executed in parallel
+   * @param globalLimit Permits shared by all batch requests. Null if the number of parts executed in parallel is not
+   * restricted.
+   * @since 2.3.3
+   */
+  public JPAODataParallelBatchProcessor(final JPAODataSessionContextAccess serviceContext,
+      final JPAODataRequestContextAccess requestContext, @Nonnull final Executor executor,
+      final int maxParallelPerBatch, @Nullable final Semaphore globalLimit) {
     super(serviceContext, requestContext);
+    this.executor = executor;
+    this.batchLimit = maxParallelPerBatch == Integer.MAX_VALUE ? null : new Semaphore(maxParallelPerBatch);
+    this.globalLimit = globalLimit;
   }
 
   @Override
-  protected List<ODataResponsePart> executeBatchParts(final BatchFacade facade,
-      final List<BatchRequestPart> requestParts, final boolean continueOnError) throws ODataApplicationException,
+  protected void executeBatchParts(final BatchFacade facade, final List<BatchRequestPart> requestParts,
+      final boolean continueOnError, final Consumer<ODataResponsePart> consumer) throws ODataApplicationException,
       ODataLibraryException {
 
     try {
-      return buildGroups(requestParts).stream()
-          .map(JPAODataBatchRequestGroup::execute)
-          .flatMap(List::stream)
-          .toList();
+      for (final JPAODataBatchRequestGroup group : buildGroups(requestParts))
+        group.execute(consumer);
     } catch (final ODataJPABatchRuntimeException e) {
       throw new ODataJPABatchException(e);
     }
@@ -107,6 +132,18 @@ public class JPAODataParallelBatchProcessor extends JPAODataBatchProcessor {
     return serviceMetadata;
   }
 
+  Executor getExecutor() {
+    return executor;
+  }
+
+  Optional<Semaphore> getBatchLimit() {
+    return Optional.ofNullable(batchLimit);
+  }
+
+  Optional<Semaphore> getGlobalLimit() {
+    return Optional.ofNullable(globalLimit);
+  }
+
   private void addLastGroup(final List<JPAODataBatchRequestGroup> groups, final Boolean isGetGroup,
       final List<BatchRequestPart> groupElements) {
     if (Boolean.FALSE.equals(isGetGroup) || groupElements.size() == 1)
@@ -19,6 +19,7 @@ import org.apache.olingo.server.api.deserializer.batch.BatchRequestPart;
 import org.junit.jupiter.api.BeforeEach;
 import org.mockito.Answers;
 
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetrics;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAODataSessionContextAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger;
@@ -53,6 +54,8 @@ abstract class JPAODataBatchAbstractRequestGroupTest {
 
     when(odata.createRawHandler(serviceMetadata)).thenReturn(odataHandler);
     when(requestContext.getDebugger()).thenReturn(debugger);
+    // Deep stubs must not be created lazily by the threads executing the parts
+    when(requestContext.getMetrics()).thenReturn(JPAODataMetrics.NONE);
     when(debugger.newMeasurement(any(), any())).thenReturn(measurment);
 
   }
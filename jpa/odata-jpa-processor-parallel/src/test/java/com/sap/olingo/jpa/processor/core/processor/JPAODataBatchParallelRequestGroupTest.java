@@ -1,12 +1,26 @@
 package com.sap.olingo.jpa.processor.core.processor;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.olingo.commons.api.http.HttpHeader;
 import org.apache.olingo.commons.api.http.HttpMethod;
@@ -19,9 +33,13 @@ import org.apache.olingo.server.api.deserializer.batch.ODataResponsePart;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.ArgumentCaptor;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetrics;
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetrics.Phase;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPABatchRuntimeException;
 
 class JPAODataBatchParallelRequestGroupTest extends JPAODataBatchAbstractRequestGroupTest {
@@ -127,6 +145,158 @@ class JPAODataBatchParallelRequestGroupTest extends JPAODataBatchAbstractRequest
     Assertions.assertThrows(ODataJPABatchRuntimeException.class, cut::execute);
   }
 
+  @Test
+  void testUsesExecutorOfProcessor() {
+    final AtomicInteger submitted = new AtomicInteger();
+    final Executor executor = command -> {
+      submitted.incrementAndGet();
+      ForkJoinPool.commonPool().execute(command);
+    };
+    doReturn(executor).when(processor).getExecutor();
+    buildPart();
+    buildPart();
+
+    final List<ODataResponsePart> act = cut.execute();
+    Assertions.assertEquals(2, act.size());
+    Assertions.assertEquals(2, submitted.get());
+  }
+
+  @Test
+  @Timeout(10)
+  void testBatchLimitRestrictsParallelism() throws InterruptedException {
+    final Semaphore batchLimit = new Semaphore(1);
+    doReturn(Optional.of(batchLimit)).when(processor).getBatchLimit();
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final CountDownLatch firstStarted = new CountDownLatch(1);
+    final CountDownLatch firstMayFinish = new CountDownLatch(1);
+    final ODataRequest request1 = buildPart();
+    final ODataRequest request2 = buildPart();
+    final ODataRequest request3 = buildPart();
+    final ODataResponse response1 = mock(ODataResponse.class);
+    final ODataResponse response2 = mock(ODataResponse.class);
+    final ODataResponse response3 = mock(ODataResponse.class);
+    when(odataHandler.process(request1)).thenAnswer(invocation -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      firstStarted.countDown();
+      firstMayFinish.await();
+      running.decrementAndGet();
+      return response1;
+    });
+    when(odataHandler.process(request2)).thenAnswer(new AnswerCounting<>(running, maxRunning, response2));
+    when(odataHandler.process(request3)).thenAnswer(new AnswerCounting<>(running, maxRunning, response3));
+
+    final ExecutorService caller = Executors.newSingleThreadExecutor();
+    try {
+      final Future<List<ODataResponsePart>> execution = caller.submit(() -> cut.execute());
+      firstStarted.await();
+      // The second part must wait for the permit as long as the first one is running
+      while (!batchLimit.hasQueuedThreads())
+        Thread.onSpinWait();
+      Assertions.assertEquals(1, running.get());
+      firstMayFinish.countDown();
+
+      final List<ODataResponsePart> act = assertDoesNotThrow(() -> execution.get());
+      Assertions.assertEquals(3, act.size());
+      Assertions.assertEquals(List.of(response1, response2, response3), act.stream()
+          .map(part -> part.getResponses().get(0))
+          .toList());
+      Assertions.assertEquals(1, maxRunning.get());
+      Assertions.assertEquals(1, batchLimit.availablePermits());
+    } finally {
+      caller.shutdownNow();
+    }
+  }
+
+  @Test
+  void testGlobalLimitReachedExecutesSequential() {
+    final Semaphore globalLimit = new Semaphore(0);
+    doReturn(Optional.of(globalLimit)).when(processor).getGlobalLimit();
+    final Thread caller = Thread.currentThread();
+    final List<Thread> executedBy = Collections.synchronizedList(new ArrayList<>());
+    final ODataRequest request1 = buildPart();
+    final ODataRequest request2 = buildPart();
+    final Answer<ODataResponse> answer = invocation -> {
+      executedBy.add(Thread.currentThread());
+      return mock(ODataResponse.class);
+    };
+    when(odataHandler.process(request1)).thenAnswer(answer);
+    when(odataHandler.process(request2)).thenAnswer(answer);
+
+    final List<ODataResponsePart> act = cut.execute();
+    Assertions.assertEquals(2, act.size());
+    Assertions.assertEquals(List.of(caller, caller), executedBy);
+    Assertions.assertEquals(0, globalLimit.availablePermits());
+  }
+
+  @Test
+  void testRejectedPartExecutesSequentialAndReleasesPermits() {
+    final Semaphore globalLimit = new Semaphore(2);
+    final Semaphore batchLimit = new Semaphore(2);
+    doReturn(Optional.of(globalLimit)).when(processor).getGlobalLimit();
+    doReturn(Optional.of(batchLimit)).when(processor).getBatchLimit();
+    doReturn((Executor) command -> {
+      throw new RejectedExecutionException();
+    }).when(processor).getExecutor();
+    buildPart();
+    buildPart();
+
+    final List<ODataResponsePart> act = cut.execute();
+    Assertions.assertEquals(2, act.size());
+    Assertions.assertEquals(2, globalLimit.availablePermits());
+    Assertions.assertEquals(2, batchLimit.availablePermits());
+  }
+
+  @Test
+  void testRecordsQueueTimeOfParts() {
+    final JPAODataMetrics metrics = mock(JPAODataMetrics.class);
+    when(metrics.isEnabled()).thenReturn(true);
+    when(processor.getRequestContext().getMetrics()).thenReturn(metrics);
+    doReturn(Optional.of(new Semaphore(1))).when(processor).getBatchLimit();
+    final ODataRequest request1 = buildPart();
+    buildPart();
+    when(odataHandler.process(request1)).thenAnswer(new AnswerLate<>(50, mock(ODataResponse.class)));
+
+    final List<ODataResponsePart> act = cut.execute();
+    Assertions.assertEquals(2, act.size());
+    final ArgumentCaptor<Long> durations = ArgumentCaptor.forClass(Long.class);
+    verify(metrics, times(2)).record(eq(Phase.QUEUE), eq(JPAODataBatchParallelRequestGroup.METRICS_KEY), durations
+        .capture());
+    // The second part has to wait until the first one has released the permit
+    Assertions.assertTrue(durations.getAllValues().stream().anyMatch(duration -> duration >= 50_000_000L));
+  }
+
+  @Test
+  void testPermitsReleasedAfterParallelExecution() {
+    final Semaphore globalLimit = new Semaphore(5);
+    doReturn(Optional.of(globalLimit)).when(processor).getGlobalLimit();
+    buildPart();
+    buildPart();
+
+    final List<ODataResponsePart> act = cut.execute();
+    Assertions.assertEquals(2, act.size());
+    Assertions.assertEquals(5, globalLimit.availablePermits());
+  }
+
+  private static class AnswerCounting<T> implements Answer<T> {
+    private final AtomicInteger running;
+    private final AtomicInteger maxRunning;
+    private final T response;
+
+    AnswerCounting(final AtomicInteger running, final AtomicInteger maxRunning, final T response) {
+      this.running = running;
+      this.maxRunning = maxRunning;
+      this.response = response;
+    }
+
+    @Override
+    public T answer(final InvocationOnMock invocation) {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      running.decrementAndGet();
+      return response;
+    }
+  }
+
   private static class AnswerLate<T> implements Answer<T> {
     private final int millisDelay;
     private final T response;
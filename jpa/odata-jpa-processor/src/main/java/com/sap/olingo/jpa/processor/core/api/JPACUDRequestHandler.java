@@ -1,5 +1,8 @@
 package com.sap.olingo.jpa.processor.core.api;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import jakarta.persistence.EntityManager;
 
 import org.apache.olingo.commons.api.http.HttpMethod;
@@ -71,4 +74,66 @@ public interface JPACUDRequestHandler {
    * @throws ODataJPAProcessException
    */
   public void validateChanges(final EntityManager em) throws ODataJPAProcessException;
+
+  /**
+   * Opt-in for bulk processing of change sets. If true, consecutive creates, updates with the same http method or
+   * deletes on the same entity set within a change set are collected and handed over together to
+   * {@link #createEntities(List, EntityManager)}, {@link #updateEntities(List, EntityManager, HttpMethod)} or
+   * {@link #deleteEntities(List, EntityManager)}. This allows e.g. to flush all of them at once, so the JPA provider
+   * can send them using JDBC batching. The responses are created after the bulk method has returned.
+   * @return Default is false
+   * @since 2.3.3
+   */
+  public default boolean supportsBulkChanges() {
+    return false;
+  }
+
+  /**
+   * Creates multiple entities of the same entity set, see {@link #supportsBulkChanges()}. By default
+   * {@link #createEntity(JPARequestEntity, EntityManager)} is called for each of them.
+   * @param requestEntities
+   * @param em
+   * @return The created instances in the same order as the request entities
+   * @throws ODataJPAProcessException
+   * @since 2.3.3
+   */
+  public default List<Object> createEntities(final List<JPARequestEntity> requestEntities, final EntityManager em)
+      throws ODataJPAProcessException {
+    final List<Object> results = new ArrayList<>(requestEntities.size());
+    for (final JPARequestEntity requestEntity : requestEntities)
+      results.add(createEntity(requestEntity, em));
+    return results;
+  }
+
+  /**
+   * Updates multiple entities of the same entity set, see {@link #supportsBulkChanges()}. By default
+   * {@link #updateEntity(JPARequestEntity, EntityManager, HttpMethod)} is called for each of them.
+   * @param requestEntities
+   * @param em
+   * @param httpMethod
+   * @return The update results in the same order as the request entities
+   * @throws ODataJPAProcessException
+   * @since 2.3.3
+   */
+  public default List<JPAUpdateResult> updateEntities(final List<JPARequestEntity> requestEntities,
+      final EntityManager em, final HttpMethod httpMethod) throws ODataJPAProcessException {
+    final List<JPAUpdateResult> results = new ArrayList<>(requestEntities.size());
+    for (final JPARequestEntity requestEntity : requestEntities)
+      results.add(updateEntity(requestEntity, em, httpMethod));
+    return results;
+  }
+
+  /**
+   * Deletes multiple entities of the same entity set, see {@link #supportsBulkChanges()}. By default
+   * {@link #deleteEntity(JPARequestEntity, EntityManager)} is called for each of them.
+   * @param requestEntities
+   * @param em
+   * @throws ODataJPAProcessException
+   * @since 2.3.3
+   */
+  public default void deleteEntities(final List<JPARequestEntity> requestEntities, final EntityManager em)
+      throws ODataJPAProcessException {
+    for (final JPARequestEntity requestEntity : requestEntities)
+      deleteEntity(requestEntity, em);
+  }
 }
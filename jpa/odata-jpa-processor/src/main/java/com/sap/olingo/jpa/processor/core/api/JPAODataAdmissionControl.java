@@ -0,0 +1,189 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import static com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException.MessageKeys.ADMISSION_BUDGET_EXHAUSTED;
+import static com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException.MessageKeys.ADMISSION_COST_EXCEEDED;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.Nonnull;
+
+import org.apache.olingo.commons.api.http.HttpStatusCode;
+
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
+
+/**
+ * Admission control for read requests. Before the query of a request gets executed, its cost is estimated from the
+ * shape of the request and the expected number of rows of the requested entity set. The cost is given in rows the
+ * database has to process:
+ * <ul>
+ * <li>A request without key predicates reads the cardinality of the entity set. A $filter reduces it, a $top limits
+ * the rows returned.</li>
+ * <li>A function returning a collection reads the cardinality of the entity set it returns or, if there is none, the
+ * cardinality given for the function name. Collection properties multiply the rows by the fan-out.</li>
+ * <li>$count and $orderby on properties that are neither key nor leading column of an index add the rows selected.
+ * </li>
+ * <li>Each $expand multiplies the rows returned by the fan-out of the navigation property, per level. $levels=max is
+ * limited by Capabilities.ExpandRestrictions/MaxLevels of the entity set or the maximum levels given here.</li>
+ * </ul>
+ * Requests that exceed the maximum cost are rejected with 400 Bad Request, as they will never be executed. For each
+ * entity set a budget of concurrent requests can be given. If the budget is exhausted, a request waits for a free
+ * slot up to the maximum wait time. Afterwards it is rejected with 503 Service Unavailable and a Retry-After header.
+ * Unbound functions that do not return entities of an entity set use the budget given for the function name. The slot
+ * is held until the response has been written, as streamed responses still read from the database at that time.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+public class JPAODataAdmissionControl {
+  private static final long DEFAULT_CARDINALITY = 1000L;
+  private static final int DEFAULT_FAN_OUT = 10;
+  private static final int DEFAULT_MAX_LEVELS = 5;
+  private static final Permit NO_PERMIT = () -> {};
+
+  private final long maxCost;
+  private final Duration maxWait;
+  private final Map<String, Long> cardinalities;
+  private final Map<String, Semaphore> budgets;
+  private long defaultCardinality;
+  private int fanOut;
+  private int maxLevels;
+
+  /**
+   *
+   * @param maxCost Maximum estimated number of rows a request may process
+   * @param maxWait Maximum time a request waits for a free slot of the concurrency budget of an entity set
+   */
+  public JPAODataAdmissionControl(final long maxCost, @Nonnull final Duration maxWait) {
+    if (maxCost < 1)
+      throw new IllegalArgumentException("maxCost has to be at least one");
+    this.maxCost = maxCost;
+    this.maxWait = Objects.requireNonNull(maxWait);
+    this.cardinalities = new ConcurrentHashMap<>();
+    this.budgets = new ConcurrentHashMap<>();
+    this.defaultCardinality = DEFAULT_CARDINALITY;
+    this.fanOut = DEFAULT_FAN_OUT;
+    this.maxLevels = DEFAULT_MAX_LEVELS;
+  }
+
+  /**
+   * Expected number of rows of an entity set or of the result of a function.
+   * @param entitySet External name of the entity set or function
+   * @param rows
+   * @return
+   */
+  public JPAODataAdmissionControl setCardinality(@Nonnull final String entitySet, final long rows) {
+    cardinalities.put(Objects.requireNonNull(entitySet), rows);
+    return this;
+  }
+
+  /**
+   * Expected number of rows of entity sets without cardinality. Default is 1000.
+   * @param rows
+   * @return
+   */
+  public JPAODataAdmissionControl setDefaultCardinality(final long rows) {
+    this.defaultCardinality = rows;
+    return this;
+  }
+
+  /**
+   * Expected number of entities related via a collection valued navigation property. Default is 10.
+   * @param fanOut
+   * @return
+   */
+  public JPAODataAdmissionControl setFanOut(final int fanOut) {
+    this.fanOut = fanOut;
+    return this;
+  }
+
+  /**
+   * Number of levels assumed for $levels=max, if the entity set has no ExpandRestrictions annotation. Default is 5.
+   * @param maxLevels
+   * @return
+   */
+  public JPAODataAdmissionControl setMaxLevels(final int maxLevels) {
+    this.maxLevels = maxLevels;
+    return this;
+  }
+
+  /**
+   * Maximum number of requests executed concurrently on an entity set. Without budget the number of concurrent
+   * requests is not limited.
+   * @param entitySet External name of the entity set or unbound function
+   * @param maxRequests
+   * @return
+   */
+  public JPAODataAdmissionControl setConcurrencyBudget(@Nonnull final String entitySet, final int maxRequests) {
+    if (maxRequests < 1)
+      throw new IllegalArgumentException("maxRequests has to be at least one");
+    budgets.put(Objects.requireNonNull(entitySet), new Semaphore(maxRequests, true));
+    return this;
+  }
+
+  public long getCardinality(@Nonnull final String entitySet) {
+    return cardinalities.getOrDefault(entitySet, defaultCardinality);
+  }
+
+  public int getFanOut() {
+    return fanOut;
+  }
+
+  public int getMaxLevels() {
+    return maxLevels;
+  }
+
+  public long getMaxCost() {
+    return maxCost;
+  }
+
+  /**
+   * @return Seconds a client shall wait before repeating a request rejected because of an exhausted budget
+   */
+  public long getRetryAfter() {
+    return Math.max(1L, (maxWait.toMillis() + 999L) / 1000L);
+  }
+
+  /**
+   * Admits the execution of a request on an entity set.
+   * @param entitySet External name of the entity set
+   * @param cost Estimated cost of the request
+   * @return Permit, which has to be closed after the request has been executed
+   * @throws ODataJPAProcessorException In case the cost exceeds the maximum cost or no slot of the concurrency budget
+   * got free in time
+   */
+  public Permit admit(@Nonnull final String entitySet, final long cost) throws ODataJPAProcessorException {
+    if (cost > maxCost)
+      throw new ODataJPAProcessorException(ADMISSION_COST_EXCEEDED, HttpStatusCode.BAD_REQUEST, String.valueOf(cost),
+          entitySet, String.valueOf(maxCost));
+    final Semaphore budget = budgets.get(entitySet);
+    if (budget == null)
+      return NO_PERMIT;
+    try {
+      if (budget.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+        final AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+          if (released.compareAndSet(false, true))
+            budget.release();
+        };
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    throw new ODataJPAProcessorException(ADMISSION_BUDGET_EXHAUSTED, HttpStatusCode.SERVICE_UNAVAILABLE, entitySet);
+  }
+
+  /**
+   * Slot of the concurrency budget of an entity set. Closing the permit releases the slot.
+   */
+  @FunctionalInterface
+  public interface Permit extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
@@ -0,0 +1,94 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.olingo.commons.api.ex.ODataRuntimeException;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.ODataContent;
+import org.apache.olingo.server.api.ODataLibraryException;
+import org.apache.olingo.server.api.deserializer.batch.ODataResponsePart;
+import org.apache.olingo.server.api.serializer.BatchSerializerException;
+import org.apache.olingo.server.api.serializer.FixedFormatSerializer;
+
+/**
+ * Multipart body of a batch response. The batch parts are executed when the content gets written. Each response part
+ * is serialized and written as soon as it is available, so only one part at a time is kept in memory.
+ * <p>
+ * As the status code 202 and the headers have already been committed, a failure during the execution can't be
+ * converted into an error response. It ends the response with an {@link ODataRuntimeException}. The parts written so
+ * far have already been sent, so the client receives a truncated response without close delimiter.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+final class JPAODataBatchContent implements ODataContent {
+  private static final String CRLF = "\r\n";
+
+  @FunctionalInterface
+  interface Execution {
+    void execute(Consumer<ODataResponsePart> consumer) throws ODataApplicationException, ODataLibraryException;
+  }
+
+  private final FixedFormatSerializer serializer;
+  private final String boundary;
+  private final byte[] closeDelimiter;
+  private final Execution execution;
+
+  JPAODataBatchContent(final FixedFormatSerializer serializer, final String boundary, final Execution execution) {
+    this.serializer = serializer;
+    this.boundary = boundary;
+    this.closeDelimiter = ("--" + boundary + "--" + CRLF).getBytes(StandardCharsets.UTF_8);
+    this.execution = execution;
+  }
+
+  @Override
+  public void write(final WritableByteChannel channel) {
+    write(Channels.newOutputStream(channel));
+  }
+
+  @Override
+  public void write(final OutputStream stream) {
+    try {
+      execution.execute(part -> writePart(stream, part));
+      stream.write(closeDelimiter);
+      stream.flush();
+    } catch (final ODataApplicationException | ODataLibraryException e) {
+      throw new ODataRuntimeException(e);
+    } catch (final IOException e) {
+      throw new ODataRuntimeException(e);
+    } catch (final UncheckedIOException e) {
+      throw new ODataRuntimeException(e.getCause());
+    }
+  }
+
+  /**
+   * The serializer creates a complete multipart body for the part. All but the close delimiter is written, so the
+   * parts can be concatenated.
+   */
+  private void writePart(final OutputStream stream, final ODataResponsePart part) {
+    try (InputStream content = serializer.batchResponse(List.of(part), boundary)) {
+      final byte[] bytes = content.readAllBytes();
+      stream.write(bytes, 0, endsWithCloseDelimiter(bytes) ? bytes.length - closeDelimiter.length : bytes.length);
+      stream.flush();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (final BatchSerializerException e) {
+      throw new ODataRuntimeException(e);
+    }
+  }
+
+  private boolean endsWithCloseDelimiter(final byte[] bytes) {
+    return bytes.length >= closeDelimiter.length
+        && Arrays.equals(bytes, bytes.length - closeDelimiter.length, bytes.length,
+            closeDelimiter, 0, closeDelimiter.length);
+  }
+}
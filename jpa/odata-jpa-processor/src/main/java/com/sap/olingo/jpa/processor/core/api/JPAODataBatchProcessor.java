@@ -1,10 +1,15 @@
 package com.sap.olingo.jpa.processor.core.api;
 
-import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import jakarta.persistence.OptimisticLockException;
 import jakarta.persistence.RollbackException;
@@ -18,6 +23,7 @@ import org.apache.olingo.server.api.ODataApplicationException;
 import org.apache.olingo.server.api.ODataLibraryException;
 import org.apache.olingo.server.api.ODataRequest;
 import org.apache.olingo.server.api.ODataResponse;
+import org.apache.olingo.server.api.ODataServerError;
 import org.apache.olingo.server.api.ServiceMetadata;
 import org.apache.olingo.server.api.batch.BatchFacade;
 import org.apache.olingo.server.api.deserializer.batch.BatchOptions;
@@ -25,11 +31,19 @@ import org.apache.olingo.server.api.deserializer.batch.BatchRequestPart;
 import org.apache.olingo.server.api.deserializer.batch.ODataResponsePart;
 import org.apache.olingo.server.api.prefer.Preferences;
 import org.apache.olingo.server.api.processor.BatchProcessor;
+import org.apache.olingo.server.api.processor.ErrorProcessor;
+import org.apache.olingo.server.api.serializer.RepresentationType;
+import org.apache.olingo.server.api.uri.queryoption.FormatOption;
+import org.apache.olingo.server.core.ContentNegotiator;
+import org.apache.olingo.server.core.ContentNegotiatorException;
+import org.apache.olingo.server.core.uri.queryoption.FormatOptionImpl;
 
 import com.sap.olingo.jpa.processor.core.api.JPAODataTransactionFactory.JPAODataTransaction;
 import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger.JPARuntimeMeasurement;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPATransactionException;
+import com.sap.olingo.jpa.processor.core.processor.JPAChangeSetBuffer;
+import com.sap.olingo.jpa.processor.core.processor.JPAODataInternalRequestContext;
 
 /**
  *
@@ -59,6 +73,14 @@ public class JPAODataBatchProcessor implements BatchProcessor {
     this.serviceMetadata = serviceMetadata;
   }
 
+  /**
+   * Prepares the batch response. The batch parts are executed, when the response content gets written, so the
+   * response parts can be streamed.
+   * <p>
+   * The status code 202 <i>Accepted</i> and the headers are committed before the first part is executed. A failure
+   * during the execution, which is not converted into an error response of a part, can't change the status code
+   * anymore. In this case the response is truncated after the last part written and the close delimiter is missing.
+   */
   @Override
   public final void processBatch(final BatchFacade facade, final ODataRequest request, final ODataResponse response)
       throws ODataApplicationException, ODataLibraryException {
@@ -71,35 +93,71 @@ public class JPAODataBatchProcessor implements BatchProcessor {
           .build();
       final List<BatchRequestPart> requestParts = odata.createFixedFormatDeserializer()
           .parseBatchRequest(request.getBody(), boundary, options);
-      final List<ODataResponsePart> responseParts = executeBatchParts(facade, requestParts,
-          continueOnError(odata.createPreferences(request.getHeaders(HttpHeader.PREFER))));
+      final boolean continueOnError = continueOnError(odata.createPreferences(request.getHeaders(
+          HttpHeader.PREFER)));
 
       final String responseBoundary = "batch_" + UUID.randomUUID().toString();
-      final InputStream responseContent = odata.createFixedFormatSerializer().batchResponse(responseParts,
-          responseBoundary);
-
       response.setHeader(HttpHeader.CONTENT_TYPE, ContentType.MULTIPART_MIXED + ";boundary=" + responseBoundary);
-      response.setContent(responseContent);
+      response.setODataContent(new JPAODataBatchContent(odata.createFixedFormatSerializer(), responseBoundary,
+          isResponsePartStreamingEnabled()
+              ? consumer -> executeBatchParts(facade, requestParts, continueOnError, consumer)
+              : consumer -> executeBatchParts(facade, requestParts, continueOnError).forEach(consumer)));
       response.setStatusCode(HttpStatusCode.ACCEPTED.getStatusCode());
     }
   }
 
+  /**
+   * Executes the parts of a batch request and returns all response parts at once. This method is called by
+   * {@link #processBatch(BatchFacade, ODataRequest, ODataResponse)} only if {@link #isResponsePartStreamingEnabled()}
+   * returns false. In that case the response parts are written only after all parts have been executed. To stream the
+   * response parts, {@link #executeBatchParts(BatchFacade, List, boolean, Consumer)} has to be overridden instead.
+   */
   protected List<ODataResponsePart> executeBatchParts(final BatchFacade facade,
       final List<BatchRequestPart> requestParts, final boolean continueOnError) throws ODataApplicationException,
       ODataLibraryException {
 
     final List<ODataResponsePart> responseParts = new ArrayList<>(requestParts.size());
-    for (final BatchRequestPart part : requestParts) {
-      final ODataResponsePart resp = facade.handleBatchRequest(part);
-      responseParts.add(resp);
-      final List<ODataResponse> responses = resp.getResponses();
-      responses.get(responses.size() - 1).getStatusCode();
-      if (requestHasFailed(responses) && !continueOnError)
-        return responseParts;
-    }
+    executeBatchParts(facade, requestParts, continueOnError, responseParts::add);
     return responseParts;
   }
 
+  /**
+   * Executes the parts of a batch request. The response parts are handed over to the consumer in the order of the
+   * request parts, as soon as they are available. The batch response is written by the consumer, so a response part
+   * can be released after the consumer has returned.
+   * @param facade
+   * @param requestParts
+   * @param continueOnError
+   * @param consumer
+   * @throws ODataApplicationException
+   * @throws ODataLibraryException
+   * @since 2.3.3
+   */
+  protected void executeBatchParts(final BatchFacade facade, final List<BatchRequestPart> requestParts,
+      final boolean continueOnError, final Consumer<ODataResponsePart> consumer) throws ODataApplicationException,
+      ODataLibraryException {
+
+    try (JPARuntimeMeasurement measurement = requestContext.getDebugger().newMeasurement(this, "executeBatchParts")) {
+      for (final BatchRequestPart part : requestParts) {
+        final ODataResponsePart resp = facade.handleBatchRequest(part);
+        consumer.accept(resp);
+        if (requestHasFailed(resp.getResponses()) && !continueOnError)
+          return;
+      }
+    }
+  }
+
+  /**
+   * Determines if the response parts are written as soon as they are available, by calling
+   * {@link #executeBatchParts(BatchFacade, List, boolean, Consumer)}, or after all parts have been executed, by calling
+   * {@link #executeBatchParts(BatchFacade, List, boolean)}. Subclasses that override the latter have to return false.
+   * @return true by default
+   * @since 2.3.3
+   */
+  protected boolean isResponsePartStreamingEnabled() {
+    return true;
+  }
+
   /**
    * Processing one change set of a $batch request.
    * <p>
@@ -121,6 +179,12 @@ public class JPAODataBatchProcessor implements BatchProcessor {
    * This requires that the batch processor can create transactions. To do so it takes an instance of
    * {@link JPAODataTransactionFactory } from the request context and requests a new transaction. In case this is not
    * possible a exception with http status code 501 <i>Not Implemented</i> will be raised.
+   * <p>
+   * In case the {@link JPACUDRequestHandler} supports bulk changes, consecutive creates, updates or deletes on the
+   * same entity set are collected and handed over together. The collected modifications are processed before a
+   * request referencing a previous one via its Content-ID, before any other request and at the end of the change set.
+   * Creates, whose Content-ID is referenced by a request of the change set, are not collected, as the location of the
+   * created entity is needed to resolve the reference.
    */
   @Override
   public final ODataResponsePart processChangeSet(final BatchFacade facade, final List<ODataRequest> requests)
@@ -132,8 +196,16 @@ public class JPAODataBatchProcessor implements BatchProcessor {
     final List<ODataResponse> responses = new ArrayList<>();
     try (JPARuntimeMeasurement measurement = requestContext.getDebugger().newMeasurement(this, "processChangeSet")) {
       final JPAODataTransaction t = requestContext.getTransactionFactory().createTransaction();
+      final Optional<JPAChangeSetBuffer> buffer = createChangeSetBuffer(requests);
       try {
         for (final ODataRequest request : requests) {
+          if (isContentIdReference(request)) {
+            final Optional<ODataResponse> errorResponse = flushChangeSet(buffer, request);
+            if (errorResponse.isPresent()) {
+              t.rollback();
+              return new ODataResponsePart(errorResponse.get(), false);
+            }
+          }
           // Actual request dispatching to the other processor interfaces.
           final ODataResponse response = facade.handleODataRequest(request);
 
@@ -170,8 +242,18 @@ public class JPAODataBatchProcessor implements BatchProcessor {
             return new ODataResponsePart(response, false);
           }
         }
+        if (!requests.isEmpty()) {
+          final Optional<ODataResponse> errorResponse = flushChangeSet(buffer, requests.get(requests.size() - 1));
+          if (errorResponse.isPresent()) {
+            t.rollback();
+            return new ODataResponsePart(errorResponse.get(), false);
+          }
+        }
         requestContext.getCUDRequestHandler().validateChanges(requestContext.getEntityManager());
         t.commit();
+        // The single requests are not known in detail, e.g. in case of a buffered change set
+        Objects.requireNonNullElse(requestContext.getEntityCache(), Optional.<JPAODataEntityCache> empty())
+            .ifPresent(JPAODataEntityCache::changedAll);
         return new ODataResponsePart(responses, true);
       } catch (ODataApplicationException | ODataLibraryException e) {
         // In case of ODataLibraryException the batch request is malformed or the processor implementation is not
@@ -183,12 +265,96 @@ public class JPAODataBatchProcessor implements BatchProcessor {
           throw new ODataJPAProcessorException(e.getCause().getCause(), HttpStatusCode.PRECONDITION_FAILED);
         }
         throw new ODataJPAProcessorException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
+      } finally {
+        if (buffer.isPresent())
+          ((JPAODataInternalRequestContext) requestContext).setChangeSetBuffer(null);
       }
     } catch (final ODataJPATransactionException e) {
       throw new ODataJPAProcessorException(e, HttpStatusCode.NOT_IMPLEMENTED);
     }
   }
 
+  private Optional<JPAChangeSetBuffer> createChangeSetBuffer(final List<ODataRequest> requests) {
+    final JPACUDRequestHandler handler = requestContext.getCUDRequestHandler();
+    if (handler != null && handler.supportsBulkChanges()
+        && requestContext instanceof final JPAODataInternalRequestContext context) {
+      final JPAChangeSetBuffer buffer = new JPAChangeSetBuffer(handler, requestContext.getEntityManager(),
+          getReferencedContentIds(requests));
+      context.setChangeSetBuffer(buffer);
+      return Optional.of(buffer);
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Determines the Content-IDs used in the resource path of the requests, e.g. <code>1</code> for
+   * <code>$1/Roles</code>.
+   */
+  private Set<String> getReferencedContentIds(final List<ODataRequest> requests) {
+    final Set<String> contentIds = new HashSet<>();
+    for (final ODataRequest request : requests) {
+      if (isContentIdReference(request)) {
+        final String path = request.getRawODataPath();
+        final int start = path.indexOf('$') + 1;
+        final int end = path.indexOf('/', start);
+        contentIds.add(end < 0 ? path.substring(start) : path.substring(start, end));
+      }
+    }
+    return contentIds;
+  }
+
+  private boolean isContentIdReference(final ODataRequest request) {
+    final String path = request.getRawODataPath();
+    return path != null && (path.startsWith("$") || path.startsWith("/$"));
+  }
+
+  /**
+   * Processes the collected modifications. A failure is converted into an error response, which applies to the whole
+   * change set. The format of the error is negotiated for the given request, like for the error of a single request.
+   */
+  private Optional<ODataResponse> flushChangeSet(final Optional<JPAChangeSetBuffer> buffer,
+      final ODataRequest request) throws ODataLibraryException {
+    if (buffer.isPresent()) {
+      try {
+        buffer.get().flush();
+      } catch (final ODataApplicationException e) {
+        final ODataResponse response = new ODataResponse();
+        final ErrorProcessor errorProcessor = Objects.requireNonNullElseGet(serviceContext.getErrorProcessor(),
+            JPADefaultErrorProcessor::new);
+        errorProcessor.init(odata, serviceMetadata);
+        errorProcessor.processError(request, response, new ODataServerError()
+            .setException(e)
+            .setStatusCode(e.getStatusCode())
+            .setMessage(e.getMessage())
+            .setCode(e.getODataErrorCode())
+            .setLocale(e.getLocale()), determineErrorFormat(request));
+        return Optional.of(response);
+      }
+    }
+    return Optional.empty();
+  }
+
+  private ContentType determineErrorFormat(final ODataRequest request) {
+    try {
+      return ContentNegotiator.doContentNegotiation(getFormatOption(request), request, null,
+          RepresentationType.ERROR);
+    } catch (final ContentNegotiatorException e) {
+      return ContentType.APPLICATION_JSON;
+    }
+  }
+
+  private FormatOption getFormatOption(final ODataRequest request) {
+    final String query = request.getRawQueryPath();
+    if (query != null) {
+      for (final String option : query.split("&")) {
+        final String decoded = URLDecoder.decode(option, StandardCharsets.UTF_8);
+        if (decoded.startsWith("$format="))
+          return new FormatOptionImpl().setFormat(decoded.substring("$format=".length()));
+      }
+    }
+    return null;
+  }
+
   /**
    * OData Version 4.0 Part 1: Protocol Plus Errata 02 11.7.2 Batch Request Body states:
    * <p>
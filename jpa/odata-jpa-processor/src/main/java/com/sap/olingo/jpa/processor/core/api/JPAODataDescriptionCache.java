@@ -0,0 +1,234 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import org.apache.olingo.commons.api.http.HttpStatusCode;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPADescriptionAttribute;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAElement;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAOnConditionItem;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException;
+
+/**
+ * In-memory cache for language dependent descriptions, see
+ * {@link com.sap.olingo.jpa.metadata.core.edm.annotation.EdmDescriptionAssociation}. Instead of joining the
+ * description table for each request, the description table is read once per locale and kept until the time to
+ * live has expired or the cache was invalidated. This is meant for text tables that change rarely, like country or
+ * region names.<p>
+ * Descriptions that are used within $filter or $orderby are still joined, as the database has to evaluate them.<p>
+ * The descriptions are cached per description property and locale. As the locale is taken from the request, the
+ * number of cached locales is limited by <code>maxEntries</code>. If the limit is reached, the least recently used
+ * descriptions are removed.<p>
+ * The cache does not know about tenants. The descriptions are read with the entity manager of the first request that
+ * misses them and are returned to all callers of the service context. If tenants have different descriptions, e.g.
+ * because they use tenant specific entity managers, each tenant needs a cache of its own.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+public class JPAODataDescriptionCache {
+
+  private static final String DESCRIPTION_ALIAS = "description";
+  private static final String KEY_ALIAS = "key";
+
+  private final int maxEntries;
+  private final long timeToLive;
+  private final Set<Class<?>> descriptionEntities;
+  private final Map<CacheKey, Texts> cache;
+  private long generation;
+
+  /**
+   *
+   * @param maxEntries Maximum number of description property and locale combinations that are cached. If the limit
+   * is reached, the least recently used descriptions are removed.
+   * @param timeToLive Time after that the descriptions of a locale are read again
+   * @param descriptionEntities Entities that contain the descriptions that shall be cached. If none is given, all
+   * descriptions are cached.
+   */
+  public JPAODataDescriptionCache(final int maxEntries, @Nonnull final Duration timeToLive,
+      final Class<?>... descriptionEntities) {
+    if (maxEntries < 1)
+      throw new IllegalArgumentException("maxEntries has to be at least one");
+    this.maxEntries = maxEntries;
+    this.timeToLive = Objects.requireNonNull(timeToLive).toNanos();
+    this.descriptionEntities = Set.copyOf(Arrays.asList(descriptionEntities));
+    this.cache = new LinkedHashMap<>(16, 0.75F, true);
+  }
+
+  /**
+   * Checks if the descriptions of a description property are provided by this cache. This requires that the join
+   * columns are known on both sides of the association.
+   * @param attribute
+   * @return
+   */
+  public boolean isCached(@Nonnull final JPADescriptionAttribute attribute) {
+    try {
+      return (descriptionEntities.isEmpty()
+          || descriptionEntities.contains(attribute.asAssociationAttribute().getTargetEntity().getTypeClass()))
+          && attribute.asAssociationAttribute().getPath().getJoinColumnsList().stream()
+              .allMatch(item -> item.getLeftPath() != null && item.getRightPath() != null);
+    } catch (final ODataJPAModelException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Provides the description belonging to a key. The descriptions of the requested locale are read, in case they
+   * have not been read yet or the time to live has expired. The descriptions are read outside of the lock of the
+   * cache. They are not cached, if the cache got invalidated in the meantime.
+   * @param em Entity manager used to read the descriptions
+   * @param attribute Description property
+   * @param locale Value of the locale or language field
+   * @param key Value of the join column. In case the association has multiple join columns, a list with the values
+   * in the order of the join columns.
+   * @return The description or null if no description was found
+   * @throws ODataJPAQueryException
+   */
+  @Nullable
+  public Object getDescription(@Nonnull final EntityManager em, @Nonnull final JPADescriptionAttribute attribute,
+      @Nonnull final String locale, @Nonnull final Object key) throws ODataJPAQueryException {
+
+    final var cacheKey = new CacheKey(attribute, locale);
+    final long readGeneration;
+    synchronized (this) {
+      final var texts = cache.get(cacheKey);
+      if (texts != null && !texts.isExpired(timeToLive))
+        return texts.values().get(key);
+      readGeneration = generation;
+    }
+    final var texts = readTexts(em, attribute, locale);
+    put(cacheKey, texts, readGeneration);
+    return texts.values().get(key);
+  }
+
+  /**
+   * Removes the cached descriptions of a description entity, so they are read again by the next request.
+   * @param descriptionEntity
+   */
+  public synchronized void invalidate(@Nonnull final Class<?> descriptionEntity) {
+    generation++;
+    cache.values().removeIf(texts -> texts.descriptionEntity() == descriptionEntity);
+  }
+
+  /**
+   * Removes all cached descriptions.
+   */
+  public synchronized void invalidateAll() {
+    generation++;
+    cache.clear();
+  }
+
+  public synchronized int size() {
+    return cache.size();
+  }
+
+  /**
+   * Alias of a join column within a query that selects the key of a cached description instead of the description
+   * itself.
+   * @param descriptionPath
+   * @param joinColumn
+   * @return
+   */
+  public static String createKeyAlias(@Nonnull final JPAPath descriptionPath,
+      @Nonnull final JPAOnConditionItem joinColumn) {
+    return descriptionPath.getAlias() + JPAPath.PATH_SEPARATOR + joinColumn.getLeftPath().getAlias();
+  }
+
+  /**
+   * Builds the key of a description from the values of the join columns.
+   * @param values Values of the join columns in the order of the join columns
+   * @return The key or null if one of the values is null
+   */
+  @Nullable
+  public static Object createKey(@Nonnull final List<Object> values) {
+    if (values.stream().anyMatch(Objects::isNull))
+      return null;
+    return values.size() == 1 ? values.get(0) : values;
+  }
+
+  private synchronized void put(final CacheKey cacheKey, final Texts texts, final long readGeneration) {
+    if (readGeneration != generation)
+      return;
+    cache.put(cacheKey, texts);
+    if (cache.size() > maxEntries)
+      cache.remove(cache.keySet().iterator().next());
+  }
+
+  private Texts readTexts(final EntityManager em, final JPADescriptionAttribute attribute, final String locale)
+      throws ODataJPAQueryException {
+    try {
+      final Class<?> descriptionEntity = attribute.asAssociationAttribute().getTargetEntity().getTypeClass();
+      final List<JPAOnConditionItem> joinColumns = attribute.asAssociationAttribute().getPath().getJoinColumnsList();
+      final CriteriaBuilder cb = em.getCriteriaBuilder();
+      final CriteriaQuery<Tuple> query = cb.createTupleQuery();
+      final Root<?> root = query.from(descriptionEntity);
+
+      final List<Selection<?>> selections = new ArrayList<>(joinColumns.size() + 1);
+      for (int i = 0; i < joinColumns.size(); i++) {
+        final Path<?> path = convertToPath(root, joinColumns.get(i).getRightPath());
+        path.alias(KEY_ALIAS + i);
+        selections.add(path);
+      }
+      final Path<?> description = root.get(attribute.getDescriptionAttribute().getInternalName());
+      description.alias(DESCRIPTION_ALIAS);
+      selections.add(description);
+
+      Expression<Boolean> where = cb.equal(convertToPath(root, attribute.getLocaleFieldName()), locale);
+      for (final var fixedValue : attribute.getFixedValueAssignment().entrySet()) {
+        where = cb.and(where, cb.equal(convertToPath(root, fixedValue.getKey()), fixedValue.getValue()));
+      }
+      query.multiselect(selections).where(where);
+
+      final Map<Object, Object> values = new HashMap<>();
+      for (final Tuple row : em.createQuery(query).getResultList()) {
+        final List<Object> keyValues = new ArrayList<>(joinColumns.size());
+        for (int i = 0; i < joinColumns.size(); i++)
+          keyValues.add(row.get(KEY_ALIAS + i));
+        final Object key = createKey(keyValues);
+        if (key != null)
+          values.put(key, row.get(DESCRIPTION_ALIAS));
+      }
+      return new Texts(descriptionEntity, values, System.nanoTime());
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAQueryException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  private static Path<?> convertToPath(final Root<?> root, final JPAPath jpaPath) {
+    Path<?> path = root;
+    for (final JPAElement element : jpaPath.getPath())
+      path = path.get(element.getInternalName());
+    return path;
+  }
+
+  private static record CacheKey(JPADescriptionAttribute attribute, String locale) {}
+
+  private static record Texts(Class<?> descriptionEntity, Map<Object, Object> values, long readAt) {
+
+    boolean isExpired(final long timeToLive) {
+      return System.nanoTime() - readAt > timeToLive;
+    }
+  }
+}
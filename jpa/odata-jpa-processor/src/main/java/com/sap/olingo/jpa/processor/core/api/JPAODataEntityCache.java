@@ -0,0 +1,178 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.annotation.Nonnull;
+
+import org.apache.olingo.commons.api.data.EntityCollection;
+
+/**
+ * Read-through cache for single entities requested by key, like <code>/BusinessPartners('123')?$select=...</code>.
+ * The converted entities are cached per request URI, locale and the claims and groups of the caller. This is meant
+ * for master data that changes rarely.<p>
+ * Create, update and delete requests processed by the JPA processor invalidate the affected entries. Entries that
+ * contain expanded entities are invalidated by any change. Changes done by other means, e.g. by other nodes, are only
+ * visible after the time to live has expired, unless the cache gets invalidated explicitly. To do so, the
+ * invalidations can be forwarded by a {@link JPAODataEntityCacheListener}.<p>
+ * An entity read while it gets changed must not be cached. Therefore, a reader takes the {@link #getGeneration()
+ * generation} of the cache before it reads the entity from the database and hands it over to
+ * {@link #put(Key, EntityCollection, long)}. The result is not cached if an invalidation happened in between.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+public class JPAODataEntityCache {
+
+  private final int maxEntries;
+  private final long timeToLive;
+  private final Set<Class<?>> entities;
+  private final Map<Key, Entry> cache;
+  private final List<JPAODataEntityCacheListener> listeners;
+  private long generation;
+
+  /**
+   *
+   * @param maxEntries Maximum number of cached requests. If the limit is reached, the least recently used entry is
+   * removed.
+   * @param timeToLive Time after which an entry is read again from the database
+   * @param entities JPA entities that shall be cached. If none is given, all entities are cached.
+   */
+  public JPAODataEntityCache(final int maxEntries, @Nonnull final Duration timeToLive, final Class<?>... entities) {
+    if (maxEntries < 1)
+      throw new IllegalArgumentException("maxEntries has to be at least one");
+    this.maxEntries = maxEntries;
+    this.timeToLive = Objects.requireNonNull(timeToLive).toNanos();
+    this.entities = Set.copyOf(Arrays.asList(entities));
+    this.cache = new LinkedHashMap<>(16, 0.75F, true);
+    this.listeners = new CopyOnWriteArrayList<>();
+  }
+
+  public void addListener(@Nonnull final JPAODataEntityCacheListener listener) {
+    listeners.add(Objects.requireNonNull(listener));
+  }
+
+  public boolean isCached(@Nonnull final Class<?> entity) {
+    return entities.isEmpty() || entities.contains(entity);
+  }
+
+  public synchronized Optional<EntityCollection> get(@Nonnull final Key key) {
+    final var entry = cache.get(key);
+    if (entry == null)
+      return Optional.empty();
+    if (System.nanoTime() - entry.readAt() > timeToLive) {
+      cache.remove(key);
+      return Optional.empty();
+    }
+    return Optional.of(entry.result());
+  }
+
+  /**
+   * Generation of the cache content, which changes with each invalidation.
+   */
+  public synchronized long getGeneration() {
+    return generation;
+  }
+
+  /**
+   * @param key
+   * @param result Complete result of the request. It must not be changed afterwards.
+   * @param readGeneration Generation of the cache taken before the result was read from the database. The result is
+   * not cached if the cache has been invalidated since then.
+   */
+  public synchronized void put(@Nonnull final Key key, @Nonnull final EntityCollection result,
+      final long readGeneration) {
+    if (readGeneration != generation)
+      return;
+    cache.put(key, new Entry(result, System.nanoTime()));
+    if (cache.size() > maxEntries)
+      cache.remove(cache.keySet().iterator().next());
+  }
+
+  /**
+   * Removes the entries of an entity as well as all entries containing expanded entities. The listeners are not
+   * informed.
+   * @param entity JPA entity that has been changed
+   * @param keys Key of the changed entity as created by {@link #asKeys(Map)}. If empty, all entries of the entity are
+   * removed.
+   */
+  public synchronized void invalidate(@Nonnull final Class<?> entity, @Nonnull final Map<String, String> keys) {
+    generation++;
+    cache.keySet().removeIf(key -> key.expanded()
+        || (key.entity() == entity && (keys.isEmpty() || keys.equals(key.keys()))));
+  }
+
+  /**
+   * Removes all entries. The listeners are not informed.
+   */
+  public synchronized void invalidateAll() {
+    generation++;
+    cache.clear();
+  }
+
+  /**
+   * Invalidates the entries affected by a change and informs the listeners.
+   * @param entity JPA entity that has been changed
+   * @param keys Key of the changed entity as created by {@link #asKeys(Map)}
+   */
+  public void changed(@Nonnull final Class<?> entity, @Nonnull final Map<String, String> keys) {
+    invalidate(entity, keys);
+    listeners.forEach(listener -> listener.invalidated(entity, keys));
+  }
+
+  /**
+   * Invalidates all entries, as the changes are not known in detail, and informs the listeners.
+   */
+  public void changedAll() {
+    invalidateAll();
+    listeners.forEach(JPAODataEntityCacheListener::invalidatedAll);
+  }
+
+  /**
+   * Converts the key of an entity into the keys of an entry. The key is created from the converted key values and not
+   * from the literals of the request URI, so that e.g. <code>(ID=123)</code> and <code>(ID=0123)</code> lead to the
+   * same key.
+   * @param jpaKeys Key attribute name to key value, as converted from the key predicates of a request
+   * @return Key attribute name to the string representation of the value
+   */
+  public static Map<String, String> asKeys(@Nonnull final Map<String, Object> jpaKeys) {
+    final Map<String, String> keys = new HashMap<>(jpaKeys.size());
+    for (final var jpaKey : jpaKeys.entrySet())
+      keys.put(jpaKey.getKey(), asString(jpaKey.getValue()));
+    return keys;
+  }
+
+  private static String asString(final Object value) {
+    if (value instanceof final BigDecimal decimal)
+      return decimal.stripTrailingZeros().toPlainString();
+    return String.valueOf(value);
+  }
+
+  public synchronized int size() {
+    return cache.size();
+  }
+
+  /**
+   * Identifies a cached request.
+   * @param path OData path of the request, which addresses the entity
+   * @param query Query options of the request, which determine the shape of the result
+   * @param locale Locale of the request
+   * @param fingerprint Claims and groups of the caller that restrict the result
+   * @param entity JPA entity of the requested entity
+   * @param keys Key of the requested entity as created by {@link #asKeys(Map)}
+   * @param expanded Result contains expanded entities
+   */
+  public static record Key(String path, String query, String locale, String fingerprint, Class<?> entity,
+      Map<String, String> keys, boolean expanded) {}
+
+  private static record Entry(EntityCollection result, long readAt) {}
+}
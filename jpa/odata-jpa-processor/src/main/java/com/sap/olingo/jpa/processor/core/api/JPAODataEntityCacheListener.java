@@ -0,0 +1,28 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Gets informed about invalidations of a {@link JPAODataEntityCache} triggered by create, update or delete requests.
+ * This can be used to forward the invalidation to the caches of other nodes, which shall call
+ * {@link JPAODataEntityCache#invalidate(Class, Map)} or {@link JPAODataEntityCache#invalidateAll()}.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+public interface JPAODataEntityCacheListener {
+
+  /**
+   * @param entity JPA entity that has been changed
+   * @param keys Key of the changed entity as created by {@link JPAODataEntityCache#asKeys(Map)}, key attribute name to
+   * the string representation of the value. Empty if the key is not known e.g. in case of a create.
+   */
+  void invalidated(@Nonnull final Class<?> entity, @Nonnull final Map<String, String> keys);
+
+  /**
+   * The whole cache has been invalidated, e.g. after a change set has been committed.
+   */
+  void invalidatedAll();
+}
@@ -7,6 +7,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -29,6 +30,7 @@ public class JPAODataExternalRequestContext implements JPAODataRequestContext {
   private final JPACUDRequestHandler cudRequestHandler;
   private final List<Locale> locales;
   private final String version;
+  private final Optional<Supplier<EntityManager>> entityManagerSupplier;
 
   public JPAODataExternalRequestContext(final Builder builder) {
 
@@ -41,6 +43,7 @@ public class JPAODataExternalRequestContext implements JPAODataRequestContext {
     this.customParameter = builder.customParameter;
     this.locales = builder.locales;
     this.version = builder.version;
+    this.entityManagerSupplier = Optional.ofNullable(builder.entityManagerSupplier);
   }
 
   @Override
@@ -88,6 +91,11 @@ public class JPAODataExternalRequestContext implements JPAODataRequestContext {
     return version;
   }
 
+  @Override
+  public Optional<Supplier<EntityManager>> getEntityManagerSupplier() {
+    return entityManagerSupplier;
+  }
+
   public static class Builder {
     public static final int CONTAINS_ONLY_LANGU = 1;
     public static final int CONTAINS_LANGU_COUNTRY = 2;
@@ -102,6 +110,7 @@ public class JPAODataExternalRequestContext implements JPAODataRequestContext {
     private JPACUDRequestHandler cudRequestHandler;
     private List<Locale> locales = emptyList();
     private String version = JPAODataApiVersionAccess.DEFAULT_VERSION;
+    private Supplier<EntityManager> entityManagerSupplier;
 
     public JPAODataRequestContext build() {
       return new JPAODataExternalRequestContext(this);
@@ -159,6 +168,19 @@ public class JPAODataExternalRequestContext implements JPAODataRequestContext {
       return this;
     }
 
+    /**
+     * Provides the entity managers used for parts of the request, which are processed concurrently, like sibling
+     * $expand branches. The supplier has to create them the same way as the entity manager given by
+     * {@link #setEntityManager(EntityManager)}. If an entity manager is given, but no supplier, these parts are
+     * processed sequentially using the given entity manager. The entity managers are closed after use.
+     * @param entityManagerSupplier
+     * @return Builder
+     */
+    public Builder setEntityManagerSupplier(@Nullable final Supplier<EntityManager> entityManagerSupplier) {
+      this.entityManagerSupplier = entityManagerSupplier;
+      return this;
+    }
+
     /**
      * Adds a Field Group Provider to the request context providing the field groups the current user is assigned to.
      * @param provider
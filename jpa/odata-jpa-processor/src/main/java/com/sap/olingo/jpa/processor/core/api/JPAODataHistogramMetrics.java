@@ -0,0 +1,124 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Collects the runtime of the request phases in histograms per phase and entity set. The histograms are kept in memory
+ * and can be exported e.g. to a metrics registry via {@link #export(Exporter)}. Recording a runtime does not allocate
+ * memory, except for the first runtime of an entity set.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+public final class JPAODataHistogramMetrics implements JPAODataMetrics {
+  private static final long[] DEFAULT_BUCKETS_NANOS = {
+      100_000L, 250_000L, 500_000L,
+      1_000_000L, 2_500_000L, 5_000_000L,
+      10_000_000L, 25_000_000L, 50_000_000L,
+      100_000_000L, 250_000_000L, 500_000_000L,
+      1_000_000_000L, 2_500_000_000L, 5_000_000_000L, 10_000_000_000L };
+
+  private final long[] bucketBounds;
+  private final Map<Phase, Map<String, Histogram>> histograms;
+
+  /**
+   * Creates histograms with buckets from 100 µs up to 10 s.
+   */
+  public JPAODataHistogramMetrics() {
+    this(DEFAULT_BUCKETS_NANOS);
+  }
+
+  /**
+   * @param bucketBoundsNanos Upper bounds of the histogram buckets in nanoseconds. Runtimes above the highest bound
+   * are only counted.
+   */
+  public JPAODataHistogramMetrics(@Nonnull final long... bucketBoundsNanos) {
+    if (bucketBoundsNanos.length == 0)
+      throw new IllegalArgumentException("At least one bucket is needed");
+    this.bucketBounds = bucketBoundsNanos.clone();
+    Arrays.sort(this.bucketBounds);
+    this.histograms = new EnumMap<>(Phase.class);
+    for (final Phase phase : Phase.values())
+      histograms.put(phase, new ConcurrentHashMap<>());
+  }
+
+  @Override
+  public void record(@Nonnull final Phase phase, @Nonnull final String entitySet, final long durationNanos) {
+    final Map<String, Histogram> phaseHistograms = histograms.get(phase);
+    Histogram histogram = phaseHistograms.get(entitySet);
+    if (histogram == null)
+      histogram = phaseHistograms.computeIfAbsent(entitySet, key -> new Histogram(bucketBounds.length));
+    histogram.record(bucketIndex(durationNanos), durationNanos);
+  }
+
+  /**
+   * Hands over a snapshot of each histogram to the exporter.
+   * @param exporter
+   */
+  public void export(@Nonnull final Exporter exporter) {
+    for (final var phase : histograms.entrySet()) {
+      for (final var histogram : phase.getValue().entrySet())
+        exporter.accept(phase.getKey(), histogram.getKey(), histogram.getValue().snapshot(bucketBounds));
+    }
+  }
+
+  private int bucketIndex(final long durationNanos) {
+    final int index = Arrays.binarySearch(bucketBounds, durationNanos);
+    return index >= 0 ? index : -(index + 1);
+  }
+
+  /**
+   * Receives the snapshots of the histograms.
+   */
+  @FunctionalInterface
+  public interface Exporter {
+    void accept(@Nonnull Phase phase, @Nonnull String entitySet, @Nonnull Snapshot snapshot);
+  }
+
+  /**
+   * State of a histogram at a point in time.
+   * @param count Number of recorded runtimes
+   * @param totalNanos Sum of all recorded runtimes
+   * @param maxNanos Highest recorded runtime
+   * @param bucketBoundsNanos Upper bounds of the buckets
+   * @param bucketCounts Cumulative number of runtimes less or equal the corresponding upper bound
+   */
+  public record Snapshot(long count, long totalNanos, long maxNanos, long[] bucketBoundsNanos, long[] bucketCounts) {}
+
+  private static final class Histogram {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+    // One more bucket for runtimes above the highest bound
+    private final AtomicLongArray buckets;
+
+    private Histogram(final int noBounds) {
+      this.buckets = new AtomicLongArray(noBounds + 1);
+    }
+
+    private void record(final int bucket, final long durationNanos) {
+      buckets.incrementAndGet(bucket);
+      count.increment();
+      total.add(durationNanos);
+      max.accumulate(durationNanos);
+    }
+
+    private Snapshot snapshot(final long[] bounds) {
+      final long[] cumulativeCounts = new long[bounds.length];
+      long cumulativeCount = 0;
+      for (int i = 0; i < bounds.length; i++) {
+        cumulativeCount += buckets.get(i);
+        cumulativeCounts[i] = cumulativeCount;
+      }
+      return new Snapshot(count.sum(), total.sum(), max.get(), bounds.clone(), cumulativeCounts);
+    }
+  }
+}
@@ -0,0 +1,293 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import jakarta.persistence.EntityManager;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.ServiceMetadata;
+import org.apache.olingo.server.api.uri.UriInfo;
+import org.apache.olingo.server.api.uri.UriResourceEntitySet;
+import org.apache.olingo.server.core.uri.parser.Parser;
+import org.apache.olingo.server.core.uri.parser.UriParserException;
+import org.apache.olingo.server.core.uri.validator.UriValidationException;
+
+import com.sap.olingo.jpa.metadata.api.JPARequestParameterMap;
+import com.sap.olingo.jpa.processor.core.query.JPACountQuery;
+
+/**
+ * Server driven paging based on keyset (seek) pagination. Instead of skipping the rows of all previous pages, which
+ * gets slower the deeper a page is located, a page starts after the last row of the previous page:<br>
+ * <code>WHERE (k1 > ?) OR (k1 = ? AND k2 > ?)</code>.
+ * <p>
+ * The provider does not keep any state. The skip token contains the request, the position of the last row,
+ * the remaining number of rows and the point in time it was issued. It is signed with a HMAC, so that it can not be
+ * manipulated and the next page can be served by any instance knowing the secret. A skip token is only accepted
+ * within its time to live and for the resource path it was issued for.
+ * <p>
+ * Pages are created for requests on entity sets, which have a page size assigned. If the sort order can not be
+ * expressed by the values of a row, e.g. in case of <code>$orderby=Roles/$count</code>, or a sort criterion is
+ * nullable, the following page falls back to <code>$skip</code>. The position of NULL within the sort order depends
+ * on the database, so a comparison with the last row could skip rows.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+public class JPAODataKeysetPagingProvider implements JPAODataPagingProvider {
+  private static final Log LOGGER = LogFactory.getLog(JPAODataKeysetPagingProvider.class);
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final byte VERSION = 2;
+  private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofHours(1);
+  private static final String SEPARATOR = ".";
+  private static final int NO_LIMIT = -1;
+
+  private final Map<String, Integer> maxPageSizes;
+  private final SecretKeySpec secret;
+  private final Duration timeToLive;
+
+  /**
+   * Creates a provider, which accepts skip tokens for one hour.
+   * @param pageSizes Maximum page size per entity set
+   * @param secret Key used to sign the skip tokens. All instances serving the same service need to use the same key.
+   */
+  public JPAODataKeysetPagingProvider(@Nonnull final Map<String, Integer> pageSizes, @Nonnull final byte[] secret) {
+    this(pageSizes, secret, DEFAULT_TIME_TO_LIVE);
+  }
+
+  /**
+   * @param pageSizes Maximum page size per entity set
+   * @param secret Key used to sign the skip tokens. All instances serving the same service need to use the same key.
+   * @param timeToLive Time span a skip token is accepted after it was issued
+   */
+  public JPAODataKeysetPagingProvider(@Nonnull final Map<String, Integer> pageSizes, @Nonnull final byte[] secret,
+      @Nonnull final Duration timeToLive) {
+    if (secret.length == 0)
+      throw new IllegalArgumentException("Secret must not be empty");
+    if (timeToLive.isNegative())
+      throw new IllegalArgumentException("Time to live must not be negative");
+    this.maxPageSizes = Collections.unmodifiableMap(pageSizes);
+    this.secret = new SecretKeySpec(secret.clone(), ALGORITHM);
+    this.timeToLive = timeToLive;
+  }
+
+  @Override
+  public Optional<JPAODataPage> getNextPage(@Nonnull final String skipToken, final OData odata,
+      final ServiceMetadata serviceMetadata, final JPARequestParameterMap requestParameter, final EntityManager em) {
+    return getNextPage(skipToken, odata, serviceMetadata, requestParameter, null, em);
+  }
+
+  @Override
+  public Optional<JPAODataPage> getNextPage(@Nonnull final String skipToken, final OData odata,
+      final ServiceMetadata serviceMetadata, final JPARequestParameterMap requestParameter,
+      @Nullable final JPAODataPathInformation pathInformation, final EntityManager em) {
+
+    final var content = decode(skipToken.replace("'", ""))
+        .filter(this::isAlive)
+        .filter(token -> belongsTo(token, pathInformation));
+    if (content.isPresent()) {
+      try {
+        final UriInfo uriInfo = new Parser(serviceMetadata.getEdm(), odata)
+            .parseUri(content.get().oDataPath(), content.get().queryPath(), null, null);
+        final var skip = content.get().position().isEmpty() ? content.get().offset() : 0;
+        return Optional.of(new JPAODataPage(uriInfo, skip, content.get().top(), new KeysetSkipToken(content.get())));
+      } catch (UriParserException | UriValidationException e) {
+        LOGGER.warn("Request of skip token could not be parsed", e);
+      }
+    }
+    // skip token not valid => let JPA Processor handle this by return http.gone
+    return Optional.empty();
+  }
+
+  @Override
+  public Optional<JPAODataPage> getFirstPage(final JPARequestParameterMap requestParameter,
+      final JPAODataPathInformation pathInformation, final UriInfo uriInfo, @Nullable final Integer preferredPageSize,
+      final JPACountQuery countQuery, final EntityManager em) throws ODataApplicationException {
+
+    final var resourceParts = uriInfo.getUriResourceParts();
+    if (resourceParts.size() == 1
+        && resourceParts.get(0) instanceof final UriResourceEntitySet entitySet
+        && pathInformation != null) {
+      final var maxSize = maxPageSizes.get(entitySet.getEntitySet().getName());
+      if (maxSize != null) {
+        final int skipValue = uriInfo.getSkipOption() != null ? uriInfo.getSkipOption().getValue() : 0;
+        final var topValue = uriInfo.getTopOption() != null ? uriInfo.getTopOption().getValue() : null;
+        final int pageSize = preferredPageSize != null && preferredPageSize < maxSize ? preferredPageSize : maxSize;
+        if (topValue != null && topValue <= pageSize)
+          return Optional.of(new JPAODataPage(uriInfo, skipValue, topValue, null));
+        final var content = new KeysetSkipTokenContent(pathInformation.oDataPath(), removePagingOptions(
+            pathInformation.queryPath()), pageSize, topValue != null ? topValue : NO_LIMIT, skipValue, Collections
+                .emptyMap(), Instant.now());
+        return Optional.of(new JPAODataPage(uriInfo, skipValue, pageSize, new KeysetSkipToken(content)));
+      }
+    }
+    return Optional.empty();
+  }
+
+  private boolean isAlive(final KeysetSkipTokenContent token) {
+    if (Instant.now().isBefore(token.issuedAt().plus(timeToLive)))
+      return true;
+    LOGGER.debug("Expired skip token received");
+    return false;
+  }
+
+  private boolean belongsTo(final KeysetSkipTokenContent token,
+      @Nullable final JPAODataPathInformation pathInformation) {
+    if (pathInformation == null || pathInformation.oDataPath() == null
+        || stripSlash(token.oDataPath()).equals(stripSlash(pathInformation.oDataPath())))
+      return true;
+    LOGGER.warn("Skip token of an other resource received");
+    return false;
+  }
+
+  private String stripSlash(final String oDataPath) {
+    return oDataPath.startsWith("/") ? oDataPath.substring(1) : oDataPath;
+  }
+
+  private String removePagingOptions(@Nullable final String queryPath) {
+    if (queryPath == null)
+      return null;
+    final var query = Stream.of(queryPath.split("&"))
+        .filter(option -> !isPagingOption(option))
+        .collect(Collectors.joining("&"));
+    return query.isEmpty() ? null : query;
+  }
+
+  private boolean isPagingOption(final String option) {
+    final var name = option.split("=", 2)[0].replace("%24", "$");
+    return "$top".equals(name) || "$skip".equals(name) || "$skiptoken".equals(name);
+  }
+
+  private String encode(final KeysetSkipTokenContent token) {
+    try (var bytes = new ByteArrayOutputStream();
+        var out = new DataOutputStream(bytes)) {
+      out.writeByte(VERSION);
+      out.writeLong(token.issuedAt().toEpochMilli());
+      out.writeUTF(token.oDataPath());
+      out.writeUTF(token.queryPath() == null ? "" : token.queryPath());
+      out.writeInt(token.pageSize());
+      out.writeInt(token.remaining());
+      out.writeInt(token.offset());
+      out.writeInt(token.position().size());
+      for (final var entry : token.position().entrySet()) {
+        out.writeUTF(entry.getKey());
+        out.writeUTF(entry.getValue());
+      }
+      out.flush();
+      final var payload = bytes.toByteArray();
+      final var encoder = Base64.getUrlEncoder().withoutPadding();
+      return encoder.encodeToString(payload) + SEPARATOR + encoder.encodeToString(sign(payload));
+    } catch (final IOException | GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private Optional<KeysetSkipTokenContent> decode(final String skipToken) {
+    final var parts = skipToken.split("\\" + SEPARATOR);
+    if (parts.length != 2)
+      return Optional.empty();
+    try {
+      final var decoder = Base64.getUrlDecoder();
+      final var payload = decoder.decode(parts[0]);
+      if (!MessageDigest.isEqual(sign(payload), decoder.decode(parts[1]))) {
+        LOGGER.warn("Skip token with invalid signature received");
+        return Optional.empty();
+      }
+      try (var in = new DataInputStream(new ByteArrayInputStream(payload))) {
+        if (in.readByte() != VERSION)
+          return Optional.empty();
+        final var issuedAt = Instant.ofEpochMilli(in.readLong());
+        final var oDataPath = in.readUTF();
+        final var queryPath = in.readUTF();
+        final var pageSize = in.readInt();
+        final var remaining = in.readInt();
+        final var offset = in.readInt();
+        final var noPositions = in.readInt();
+        final Map<String, String> position = new LinkedHashMap<>(noPositions);
+        for (int i = 0; i < noPositions; i++)
+          position.put(in.readUTF(), in.readUTF());
+        return Optional.of(new KeysetSkipTokenContent(oDataPath, queryPath.isEmpty() ? null : queryPath, pageSize,
+            remaining, offset, position, issuedAt));
+      }
+    } catch (final IllegalArgumentException | IOException | GeneralSecurityException e) {
+      LOGGER.debug("Skip token could not be decoded", e);
+      return Optional.empty();
+    }
+  }
+
+  private byte[] sign(final byte[] payload) throws GeneralSecurityException {
+    final var mac = Mac.getInstance(ALGORITHM);
+    mac.init(secret);
+    return mac.doFinal(payload);
+  }
+
+  /**
+   * Content of a skip token.
+   *
+   * @param oDataPath Resource path of the original request
+   * @param queryPath Query options of the original request without $top, $skip and $skiptoken
+   * @param pageSize
+   * @param remaining Number of rows that still need to be read to fulfill $top. -1 if no $top was given
+   * @param offset Number of rows before the page
+   * @param position Position of the last row of the previous page
+   * @param issuedAt Point in time the skip token was created
+   */
+  private record KeysetSkipTokenContent(String oDataPath, String queryPath, int pageSize, int remaining, int offset,
+      Map<String, String> position, Instant issuedAt) {
+
+    int top() {
+      return remaining == NO_LIMIT ? pageSize : Math.min(pageSize, remaining);
+    }
+  }
+
+  private final class KeysetSkipToken implements JPAODataKeysetSkipToken {
+    private final KeysetSkipTokenContent content;
+
+    private KeysetSkipToken(final KeysetSkipTokenContent content) {
+      this.content = content;
+    }
+
+    @Override
+    public Map<String, String> getPosition() {
+      return content.position();
+    }
+
+    @Override
+    @CheckForNull
+    public String get(@Nonnull final Map<String, String> lastPosition, final int noResults) {
+      final var remaining = content.remaining() == NO_LIMIT ? NO_LIMIT : content.remaining() - noResults;
+      if (noResults < content.top() || remaining == 0)
+        return null;
+      return encode(new KeysetSkipTokenContent(content.oDataPath(), content.queryPath(), content.pageSize(), remaining,
+          content.offset() + noResults, lastPosition, Instant.now()));
+    }
+
+    @Override
+    public String toString() {
+      return encode(content);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.util.Map;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Skip token of a keyset (seek) based page. Such a page does not skip a number of rows, but starts after the row
+ * described by its position. As the skip token of the following page depends on the last row of a page, it can only be
+ * created after the page has been read.
+ * <p>
+ * A skip token is used as {@link JPAODataPage#skipToken()}.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+public interface JPAODataKeysetSkipToken {
+
+  /**
+   * Position after which the page starts. The keys are the aliases of the properties used in the order by clause, in
+   * the sequence of the order by clause. The values are the property values converted into a string. In case the
+   * position is empty, the page is read using {@link JPAODataPage#skip()}.
+   */
+  @Nonnull
+  Map<String, String> getPosition();
+
+  /**
+   * Creates the skip token of the following page.
+   * @param lastPosition Position of the last row of the page. Is empty if the position can not be expressed by the
+   * values of the row, e.g. because the sort order contains a $count or a value is null.
+   * @param noResults Number of rows read for the page
+   * @return Skip token of the following page or null if the page is the last one
+   */
+  @CheckForNull
+  String get(@Nonnull final Map<String, String> lastPosition, final int noResults);
+}
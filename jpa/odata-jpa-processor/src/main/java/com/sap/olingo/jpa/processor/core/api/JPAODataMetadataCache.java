@@ -0,0 +1,63 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.CheckForNull;
+
+import org.apache.olingo.server.api.ServiceMetadata;
+
+/**
+ * Rendered $metadata documents per service metadata and format. The cache belongs to a service context, so it is
+ * dropped together with the metadata when the service context is rebuilt. The service metadata is shared across
+ * requests, so the document does not depend on the locale of a request. The number of documents is limited anyhow;
+ * the least recently used document is dropped first.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+final class JPAODataMetadataCache {
+  static final int MAX_DOCUMENTS = 64;
+
+  private final Map<Key, Document> documents = new LinkedHashMap<>(16, 0.75F, true) {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<Key, Document> eldest) {
+      return size() > MAX_DOCUMENTS;
+    }
+  };
+
+  @CheckForNull
+  synchronized Document get(final ServiceMetadata metadata, final String contentType) {
+    return documents.get(new Key(metadata, contentType));
+  }
+
+  synchronized Document put(final ServiceMetadata metadata, final String contentType, final byte[] content) {
+    return documents.computeIfAbsent(new Key(metadata, contentType),
+        key -> new Document(content, createETag(content)));
+  }
+
+  synchronized int size() {
+    return documents.size();
+  }
+
+  private static String createETag(final byte[] content) {
+    try {
+      return "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)) + "\"";
+    } catch (final NoSuchAlgorithmException e) {
+      // Every Java platform has to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private record Key(ServiceMetadata metadata, String contentType) {}
+
+  /**
+   * A rendered document together with its strong ETag.
+   */
+  record Document(byte[] content, String eTag) {}
+}
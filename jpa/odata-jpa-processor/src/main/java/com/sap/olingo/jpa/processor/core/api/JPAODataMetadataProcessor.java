@@ -0,0 +1,96 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.olingo.commons.api.format.ContentType;
+import org.apache.olingo.commons.api.http.HttpHeader;
+import org.apache.olingo.commons.api.http.HttpMethod;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.ODataLibraryException;
+import org.apache.olingo.server.api.ODataRequest;
+import org.apache.olingo.server.api.ODataResponse;
+import org.apache.olingo.server.api.ServiceMetadata;
+import org.apache.olingo.server.api.etag.ServiceMetadataETagSupport;
+import org.apache.olingo.server.api.processor.DefaultProcessor;
+import org.apache.olingo.server.api.processor.MetadataProcessor;
+import org.apache.olingo.server.api.uri.UriInfo;
+
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
+
+/**
+ * Serves $metadata from the cache of the service context. The document is rendered once per service metadata and
+ * format and send with a strong ETag, so clients can revalidate it via <code>If-None-Match</code>. An ETag
+ * provided via {@link ServiceMetadataETagSupport} takes precedence.<br>
+ * The request handling is taken from
+ * {@link DefaultProcessor#readMetadata(ODataRequest, ODataResponse, UriInfo, ContentType)}.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+public class JPAODataMetadataProcessor implements MetadataProcessor {
+
+  private OData odata;
+  private ServiceMetadata serviceMetadata;
+  private final JPAODataMetadataCache cache;
+
+  public JPAODataMetadataProcessor(final JPAODataSessionContextAccess serviceContext) {
+    super();
+    this.cache = serviceContext instanceof final JPAODataServiceContext context
+        ? context.getMetadataCache()
+        : new JPAODataMetadataCache();
+  }
+
+  @Override
+  public void init(final OData odata, final ServiceMetadata serviceMetadata) {
+    this.odata = odata;
+    this.serviceMetadata = serviceMetadata;
+  }
+
+  @Override
+  public void readMetadata(final ODataRequest request, final ODataResponse response, final UriInfo uriInfo,
+      final ContentType requestedContentType) throws ODataApplicationException, ODataLibraryException {
+
+    final JPAODataMetadataCache.Document document = getDocument(requestedContentType);
+    final String eTag = determineETag(document);
+    response.setHeader(HttpHeader.ETAG, eTag);
+    final boolean isNotModified = odata.createETagHelper().checkReadPreconditions(eTag,
+        request.getHeaders(HttpHeader.IF_MATCH), request.getHeaders(HttpHeader.IF_NONE_MATCH));
+
+    if (isNotModified) {
+      response.setStatusCode(HttpStatusCode.NOT_MODIFIED.getStatusCode());
+    } else if (HttpMethod.HEAD == request.getMethod()) {
+      // HTTP HEAD requires no payload but a 200 OK response
+      response.setStatusCode(HttpStatusCode.OK.getStatusCode());
+    } else {
+      response.setContent(new ByteArrayInputStream(document.content()));
+      response.setStatusCode(HttpStatusCode.OK.getStatusCode());
+      response.setHeader(HttpHeader.CONTENT_TYPE, requestedContentType.toContentTypeString());
+    }
+  }
+
+  private JPAODataMetadataCache.Document getDocument(final ContentType requestedContentType)
+      throws ODataLibraryException, ODataJPAProcessorException {
+
+    final String contentType = requestedContentType.toContentTypeString();
+    final JPAODataMetadataCache.Document document = cache.get(serviceMetadata, contentType);
+    if (document != null)
+      return document;
+    try (InputStream content = odata.createSerializer(requestedContentType).metadataDocument(serviceMetadata)
+        .getContent()) {
+      return cache.put(serviceMetadata, contentType, content.readAllBytes());
+    } catch (final IOException e) {
+      throw new ODataJPAProcessorException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  private String determineETag(final JPAODataMetadataCache.Document document) {
+    final ServiceMetadataETagSupport eTagSupport = serviceMetadata.getServiceMetadataETagSupport();
+    if (eTagSupport != null && eTagSupport.getMetadataETag() != null)
+      return eTagSupport.getMetadataETag();
+    return document.eTag();
+  }
+}
@@ -0,0 +1,69 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Receives the runtime of the processing phases of a request. Other than the measurements of the
+ * {@link JPAServiceDebugger}, metrics are collected for every request, independent of whether <code>$debug</code> was
+ * requested. Implementations are called concurrently and within the processing of a request, so they have to be
+ * thread-safe and fast.
+ * <p>
+ * The runtime can be forwarded to a metrics registry, e.g. Micrometer:
+ * <pre>
+ * (phase, entitySet, durationNanos) -&gt; registry.timer("odata.jpa.request", "phase", phase.name(),
+ *     "entitySet", entitySet).record(durationNanos, TimeUnit.NANOSECONDS)
+ * </pre>
+ * or collected by {@link JPAODataHistogramMetrics}.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+@FunctionalInterface
+public interface JPAODataMetrics {
+  /**
+   * Metrics are not collected.
+   */
+  JPAODataMetrics NONE = new JPAODataMetrics() {
+    @Override
+    public void record(@Nonnull final Phase phase, @Nonnull final String entitySet, final long durationNanos) {
+      // Metrics are not collected
+    }
+
+    @Override
+    public boolean isEnabled() {
+      return false;
+    }
+  };
+
+  /**
+   * @param phase Phase of the request processing that has been finished
+   * @param entitySet Name of the entity set or singleton the request targets
+   * @param durationNanos Runtime of the phase in nanoseconds
+   */
+  void record(@Nonnull final Phase phase, @Nonnull final String entitySet, final long durationNanos);
+
+  /**
+   * @return false if nothing gets recorded, so the caller can skip the preparation of a metric.
+   */
+  default boolean isEnabled() {
+    return true;
+  }
+
+  enum Phase {
+    /**
+     * Waiting of a part of a parallel executed batch request for a free slot and thread. Recorded for entity set
+     * <code>$batch</code>, as the part has not been parsed yet
+     */
+    QUEUE,
+    /** Creation of the database query */
+    QUERY_BUILD,
+    /** Execution of the database query including reading the result */
+    EXECUTE,
+    /** Reading the $expand and collection properties */
+    EXPAND,
+    /** Conversion of the database result into the OData result */
+    CONVERT,
+    /** Serialization of the OData result. For streamed results this includes reading and converting the rows */
+    SERIALIZE
+  }
+}
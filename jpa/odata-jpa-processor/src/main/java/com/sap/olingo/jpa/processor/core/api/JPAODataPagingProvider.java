@@ -57,6 +57,23 @@ public interface JPAODataPagingProvider {
     return Optional.ofNullable(getNextPage(skipToken)); // NOSONAR
   }
 
+  /**
+   * Returns the page related to a given skiptoken.
+   * If the skiptoken is not known or does not belong to the request, the method must return an empty optional.
+   * @param skipToken
+   * @param odata
+   * @param serviceMetadata
+   * @param requestParameter The parameter from the request context
+   * @param pathInformation Request URI of the request the skiptoken was sent with
+   * @param em An instance of the entity manager
+   * @return
+   */
+  default Optional<JPAODataPage> getNextPage(@Nonnull final String skipToken, final OData odata,
+      final ServiceMetadata serviceMetadata, final JPARequestParameterMap requestParameter,
+      @Nullable final JPAODataPathInformation pathInformation, final EntityManager em) {
+    return getNextPage(skipToken, odata, serviceMetadata, requestParameter, em);
+  }
+
   /**
    * Based on the query the provider decides if a paging is required and return the first page.
    * @param uriInfo
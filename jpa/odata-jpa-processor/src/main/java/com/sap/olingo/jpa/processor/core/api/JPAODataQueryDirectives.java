@@ -1,5 +1,8 @@
 package com.sap.olingo.jpa.processor.core.api;
 
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
 import com.sap.olingo.jpa.processor.core.api.JPAODataServiceContext.Builder;
 
 public sealed interface JPAODataQueryDirectives {
@@ -12,8 +15,48 @@ public sealed interface JPAODataQueryDirectives {
 
   UuidSortOrder getUuidSortOrder();
 
-  static record JPAODataQueryDirectivesImpl(int maxValuesInInClause, UuidSortOrder uuidSortOrder) implements
-      JPAODataQueryDirectives {
+  /**
+   * Executor used to read sibling $expand and collection property branches concurrently. In case no executor is
+   * provided, the branches are read one after the other on the request thread. This is also the case if the request
+   * context provides an entity manager, but no supplier for further entity managers, see
+   * {@link JPAODataExternalRequestContext.Builder#setEntityManagerSupplier(java.util.function.Supplier)}.
+   * @since 2.3.3
+   */
+  Optional<Executor> getExpandExecutor();
+
+  /**
+   * Entity collections without $expand are read as stream and written row by row into the response.
+   * @since 2.3.3
+   */
+  boolean isCollectionStreamingEnabled();
+
+  /**
+   * $count=true is answered by a COUNT(*) OVER() window function, which is part of the query reading the entities.
+   * Within an $expand the window function is partitioned by the join columns.
+   * @since 2.3.3
+   */
+  boolean isFusedCountEnabled();
+
+  /**
+   * Maximum number of parent entities, whose keys are forwarded to the $expand queries. 0 if only the key range shall
+   * be forwarded.
+   * @since 2.3.3
+   */
+  int getMaxExactParentKeys();
+
+  /**
+   * Entity collections, which have been read completely, are serialized while the response is written.
+   * @since 2.3.3
+   */
+  boolean isDirectWriteEnabled();
+
+  static record JPAODataQueryDirectivesImpl(int maxValuesInInClause, UuidSortOrder uuidSortOrder,
+      Executor expandExecutor, boolean collectionStreaming, boolean fusedCount, int maxExactParentKeys,
+      boolean directWrite) implements JPAODataQueryDirectives {
+
+    public JPAODataQueryDirectivesImpl(final int maxValuesInInClause, final UuidSortOrder uuidSortOrder) {
+      this(maxValuesInInClause, uuidSortOrder, null, false, false, 0, false);
+    }
 
     @Override
     public int getMaxValuesInInClause() {
@@ -25,6 +68,30 @@ public sealed interface JPAODataQueryDirectives {
       return uuidSortOrder;
     }
 
+    @Override
+    public Optional<Executor> getExpandExecutor() {
+      return Optional.ofNullable(expandExecutor);
+    }
+
+    @Override
+    public boolean isCollectionStreamingEnabled() {
+      return collectionStreaming;
+    }
+
+    @Override
+    public boolean isFusedCountEnabled() {
+      return fusedCount;
+    }
+
+    @Override
+    public int getMaxExactParentKeys() {
+      return maxExactParentKeys;
+    }
+
+    @Override
+    public boolean isDirectWriteEnabled() {
+      return directWrite;
+    }
   }
 
   static class JPAODataQueryDirectivesBuilderImpl implements JPAODataQueryDirectivesBuilder {
@@ -32,6 +99,11 @@ public sealed interface JPAODataQueryDirectives {
     private final Builder parent;
     private int maxValuesInInClause = 0;
     private UuidSortOrder uuidSortOrder = UuidSortOrder.AS_STRING;
+    private Executor expandExecutor;
+    private boolean collectionStreaming = false;
+    private boolean fusedCount = false;
+    private int maxExactParentKeys = 0;
+    private boolean directWrite = false;
 
     JPAODataQueryDirectivesBuilderImpl(final Builder builder) {
       this.parent = builder;
@@ -45,7 +117,8 @@ public sealed interface JPAODataQueryDirectives {
 
     @Override
     public JPAODataServiceContextBuilder build() {
-      return parent.setQueryDirectives(new JPAODataQueryDirectivesImpl(maxValuesInInClause, uuidSortOrder));
+      return parent.setQueryDirectives(new JPAODataQueryDirectivesImpl(maxValuesInInClause, uuidSortOrder,
+          expandExecutor, collectionStreaming, fusedCount, maxExactParentKeys, directWrite));
     }
 
     @Override
@@ -53,6 +126,36 @@ public sealed interface JPAODataQueryDirectives {
       this.uuidSortOrder = order;
       return this;
     }
+
+    @Override
+    public JPAODataQueryDirectivesBuilder expandExecutor(final Executor executor) {
+      this.expandExecutor = executor;
+      return this;
+    }
+
+    @Override
+    public JPAODataQueryDirectivesBuilder collectionStreaming(final boolean streaming) {
+      this.collectionStreaming = streaming;
+      return this;
+    }
+
+    @Override
+    public JPAODataQueryDirectivesBuilder fusedCount(final boolean fused) {
+      this.fusedCount = fused;
+      return this;
+    }
+
+    @Override
+    public JPAODataQueryDirectivesBuilder maxExactParentKeys(final int maxKeys) {
+      this.maxExactParentKeys = maxKeys;
+      return this;
+    }
+
+    @Override
+    public JPAODataQueryDirectivesBuilder directWrite(final boolean directWrite) {
+      this.directWrite = directWrite;
+      return this;
+    }
   }
 
   public enum UuidSortOrder {
@@ -1,5 +1,7 @@
 package com.sap.olingo.jpa.processor.core.api;
 
+import java.util.concurrent.Executor;
+
 import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives.UuidSortOrder;
 
 public interface JPAODataQueryDirectivesBuilder {
@@ -8,6 +10,56 @@ public interface JPAODataQueryDirectivesBuilder {
 
   JPAODataQueryDirectivesBuilder uuidSortOrder(UuidSortOrder order);
 
+  /**
+   * Opt-in to read sibling $expand and collection property branches concurrently. Each branch uses its own entity
+   * manager created from the entity manager factory of the request. Nested expands of a branch are read within that
+   * branch, so the executor is not blocked by waiting sub tasks.
+   * @param executor Executor to run the branches on. <code>null</code> switches the concurrent processing off.
+   * @since 2.3.3
+   */
+  JPAODataQueryDirectivesBuilder expandExecutor(Executor executor);
+
+  /**
+   * Opt-in to stream entity collections. If switched on, requests for an entity collection without $expand and without
+   * collection properties are read row by row and each row is written into the response directly after conversion.
+   * This keeps the memory consumption of large results constant.
+   * @param streaming
+   * @since 2.3.3
+   */
+  JPAODataQueryDirectivesBuilder collectionStreaming(boolean streaming);
+
+  /**
+   * Opt-in to determine the result of $count=true together with the entities. Instead of a second query, the query
+   * reading the entities selects COUNT(*) OVER() in addition. This requires a database supporting window functions and
+   * the criteria builder of the processor. In case the page is empty, or the query can not be combined, e.g. because
+   * of a DISTINCT, a separate count query is executed.<br>
+   * The same holds for $count=true within an $expand. Here COUNT(*) OVER(PARTITION BY ...) is selected with the
+   * columns of the join condition.
+   * @param fused
+   * @since 2.3.3
+   */
+  JPAODataQueryDirectivesBuilder fusedCount(boolean fused);
+
+  /**
+   * Opt-in to forward the keys of the parent entities to the $expand queries. If the query of an entity collection
+   * returns at most <code>maxKeys</code> entities, the $expand queries are restricted by the keys of these entities
+   * instead of repeating the filter, order and paging of the parent query. Single keys are bound as IN list, compound
+   * keys as list of OR combined key comparisons. Larger results are handled as before.
+   * @param maxKeys Maximum number of keys. Should not exceed the number of parameters the database supports. 0 switches
+   * the forwarding off.
+   * @since 2.3.3
+   */
+  JPAODataQueryDirectivesBuilder maxExactParentKeys(int maxKeys);
+
+  /**
+   * Opt-in to write entity collections, which have been read completely, directly into the response. The
+   * serialization takes place while the response is written, instead of creating the complete payload in memory first.
+   * Requests that are streamed, see {@link #collectionStreaming(boolean)}, are not affected.
+   * @param directWrite
+   * @since 2.3.3
+   */
+  JPAODataQueryDirectivesBuilder directWrite(boolean directWrite);
+
   JPAODataServiceContextBuilder build();
 
 }
\ No newline at end of file
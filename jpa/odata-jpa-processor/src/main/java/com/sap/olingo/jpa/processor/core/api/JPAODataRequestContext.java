@@ -3,6 +3,7 @@ package com.sap.olingo.jpa.processor.core.api;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import jakarta.persistence.EntityManager;
 
@@ -33,4 +34,14 @@ public interface JPAODataRequestContext {
   public List<Locale> getLocales();
 
   public String getVersion();
+
+  /**
+   * Creates additional entity managers for parts of a request that are processed on another thread, like sibling
+   * $expand branches read via {@link JPAODataQueryDirectives#getExpandExecutor()}. Such an entity manager has to be
+   * created the same way as the one of the request, e.g. with the same tenant specific properties.
+   * @since 2.3.3
+   */
+  public default Optional<Supplier<EntityManager>> getEntityManagerSupplier() {
+    return Optional.empty();
+  }
 }
@@ -3,6 +3,7 @@ package com.sap.olingo.jpa.processor.core.api;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
@@ -77,4 +78,45 @@ public interface JPAODataRequestContextAccess {
   public JPAODataPathInformation getPathInformation();
 
   public String getMappingPath();
+
+  /**
+   * @return Receiver of the runtime metrics of the request
+   * @since 2.3.3
+   */
+  public default JPAODataMetrics getMetrics() {
+    return JPAODataMetrics.NONE;
+  }
+
+  /**
+   * @return Cache for language dependent descriptions. Empty if descriptions shall always be joined
+   * @since 2.3.3
+   */
+  public default Optional<JPAODataDescriptionCache> getDescriptionCache() {
+    return Optional.empty();
+  }
+
+  /**
+   * @return Cache for entities requested by key. Empty if entities shall always be read from the database
+   * @since 2.3.3
+   */
+  public default Optional<JPAODataEntityCache> getEntityCache() {
+    return Optional.empty();
+  }
+
+  /**
+   * @return Admission control for read requests. Empty if read requests shall always be executed
+   * @since 2.3.3
+   */
+  public default Optional<JPAODataAdmissionControl> getAdmissionControl() {
+    return Optional.empty();
+  }
+
+  /**
+   * @return Supplier of entity managers for parts of the request processed on another thread. Empty if these parts
+   * have to be processed with the entity manager of the request
+   * @since 2.3.3
+   */
+  public default Optional<Supplier<EntityManager>> getEntityManagerSupplier() {
+    return Optional.empty();
+  }
 }
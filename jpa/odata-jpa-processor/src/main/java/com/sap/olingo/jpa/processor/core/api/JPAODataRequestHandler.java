@@ -59,7 +59,7 @@ public class JPAODataRequestHandler {
       throws ODataException {
 
     final JPAEdmProvider jpaEdm = requestContext.getEdmProvider();
-    final ODataHttpHandler handler = odata.createHandler(odata.createServiceMetadata(jpaEdm, jpaEdm.getReferences()));
+    final ODataHttpHandler handler = odata.createHandler(jpaEdm.getServiceMetadata(odata));
     jpaEdm.setRequestLocales(request.getLocales());
     final HttpServletRequest mappedRequest = prepareRequestMapping(request, requestContext.getMappingPath());
     handler.register(requestContext.getDebugSupport());
@@ -68,6 +68,7 @@ public class JPAODataRequestHandler {
     handler.register(jpaEdm.getServiceDocument());
     handler.register(serviceContext.getErrorProcessor());
     handler.register(new JPAODataServiceDocumentProcessor(serviceContext));
+    handler.register(new JPAODataMetadataProcessor(serviceContext));
     handler.process(mappedRequest, response);
   }
 
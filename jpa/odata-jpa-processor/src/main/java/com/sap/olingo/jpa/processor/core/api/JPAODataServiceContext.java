@@ -58,6 +58,11 @@ public final class JPAODataServiceContext implements JPAODataSessionContextAcces
   private final JPAODataQueryDirectives queryDirectives;
   private final ProcessorSqlPatternProvider sqlPattern;
   private final Map<String, JPAODataApiVersionAccess> versions;
+  private final JPAODataMetrics metrics;
+  private final Optional<JPAODataDescriptionCache> descriptionCache;
+  private final Optional<JPAODataEntityCache> entityCache;
+  private final Optional<JPAODataAdmissionControl> admissionControl;
+  private final JPAODataMetadataCache metadataCache;
 
   public static JPAODataServiceContextBuilder with() {
     return new Builder();
@@ -81,6 +86,11 @@ public final class JPAODataServiceContext implements JPAODataSessionContextAcces
     queryDirectives = builder.queryDirectives;
     sqlPattern = builder.sqlPattern;
     versions = builder.versions;
+    metrics = builder.metrics;
+    descriptionCache = Optional.ofNullable(builder.descriptionCache);
+    entityCache = Optional.ofNullable(builder.entityCache);
+    admissionControl = Optional.ofNullable(builder.admissionControl);
+    metadataCache = new JPAODataMetadataCache();
   }
 
   @Override
@@ -146,6 +156,30 @@ public final class JPAODataServiceContext implements JPAODataSessionContextAcces
     return versions.get(id);
   }
 
+  @Override
+  public JPAODataMetrics getMetrics() {
+    return metrics;
+  }
+
+  @Override
+  public Optional<JPAODataDescriptionCache> getDescriptionCache() {
+    return descriptionCache;
+  }
+
+  @Override
+  public Optional<JPAODataEntityCache> getEntityCache() {
+    return entityCache;
+  }
+
+  @Override
+  public Optional<JPAODataAdmissionControl> getAdmissionControl() {
+    return admissionControl;
+  }
+
+  JPAODataMetadataCache getMetadataCache() {
+    return metadataCache;
+  }
+
   static class Builder implements JPAODataServiceContextBuilder {
 
     private String namespace;
@@ -156,6 +190,10 @@ public final class JPAODataServiceContext implements JPAODataSessionContextAcces
     private String[] packageNames;
     private ErrorProcessor errorProcessor;
     private JPAODataPagingProvider pagingProvider;
+    private JPAODataMetrics metrics = JPAODataMetrics.NONE;
+    private JPAODataDescriptionCache descriptionCache;
+    private JPAODataEntityCache entityCache;
+    private JPAODataAdmissionControl admissionControl;
     private Optional<? extends EntityManagerFactory> emf = Optional.empty();
     private DataSource dataSource;
     private JPAEdmProvider jpaEdm;
@@ -163,6 +201,7 @@ public final class JPAODataServiceContext implements JPAODataSessionContextAcces
     private String mappingPath;
     private JPAODataBatchProcessorFactory<?> batchProcessorFactory;
     private boolean useAbsoluteContextURL = false;
+    private boolean freezeModel = false;
     private AnnotationProvider[] annotationProvider;
     private JPAODataQueryDirectivesImpl queryDirectives;
     private ProcessorSqlPatternProvider sqlPattern;
@@ -225,9 +264,13 @@ public final class JPAODataServiceContext implements JPAODataSessionContextAcces
     }
 
     private void convertApiVersion() throws ODataException {
-      for (final var version : apiVersions)
-        versions.put(version.getId(), new JPAODataApiVersion(version, nameBuilder, Arrays.asList(annotationProvider),
-            sqlPattern));
+      for (final var version : apiVersions) {
+        final JPAODataApiVersion apiVersion = new JPAODataApiVersion(version, nameBuilder, Arrays.asList(
+            annotationProvider), sqlPattern);
+        if (freezeModel)
+          apiVersion.getEdmProvider().getServiceDocument().freeze();
+        versions.put(version.getId(), apiVersion);
+      }
     }
 
     private void createDefaultApiVersion() throws ODataJPAModelException {
@@ -453,6 +496,36 @@ public final class JPAODataServiceContext implements JPAODataSessionContextAcces
       this.apiVersions = Arrays.asList(apiVersion);
       return this;
     }
+
+    @Override
+    public JPAODataServiceContextBuilder setMetrics(final JPAODataMetrics metrics) {
+      this.metrics = metrics != null ? metrics : JPAODataMetrics.NONE;
+      return this;
+    }
+
+    @Override
+    public JPAODataServiceContextBuilder setDescriptionCache(final JPAODataDescriptionCache descriptionCache) {
+      this.descriptionCache = descriptionCache;
+      return this;
+    }
+
+    @Override
+    public JPAODataServiceContextBuilder setEntityCache(final JPAODataEntityCache entityCache) {
+      this.entityCache = entityCache;
+      return this;
+    }
+
+    @Override
+    public JPAODataServiceContextBuilder setAdmissionControl(final JPAODataAdmissionControl admissionControl) {
+      this.admissionControl = admissionControl;
+      return this;
+    }
+
+    @Override
+    public JPAODataServiceContextBuilder setFreezeModel(final boolean freezeModel) {
+      this.freezeModel = freezeModel;
+      return this;
+    }
   }
 
 }
\ No newline at end of file
@@ -161,4 +161,50 @@ public interface JPAODataServiceContextBuilder {
    */
   JPAODataServiceContextBuilder setVersions(JPAApiVersion... apiVersions);
 
+  /**
+   * Register a receiver of runtime metrics, like {@link JPAODataHistogramMetrics}. Metrics are collected for each
+   * request independent of <code>$debug</code>. By default no metrics are collected.
+   * @param metrics
+   * @return
+   * @since 2.3.3
+   */
+  JPAODataServiceContextBuilder setMetrics(JPAODataMetrics metrics);
+
+  /**
+   * Register a cache for language dependent descriptions. Descriptions provided by the cache are not joined when they
+   * are selected, but taken from the cache. By default descriptions are always joined.
+   * @param descriptionCache
+   * @return
+   * @since 2.3.3
+   */
+  JPAODataServiceContextBuilder setDescriptionCache(JPAODataDescriptionCache descriptionCache);
+
+  /**
+   * Register a cache for entities requested by key. Only requests addressing a single entity of an entity set are
+   * cached. By default entities are always read from the database.
+   * @param entityCache
+   * @return
+   * @since 2.3.3
+   */
+  JPAODataServiceContextBuilder setEntityCache(JPAODataEntityCache entityCache);
+
+  /**
+   * Register an admission control, which estimates the cost of read requests before the query gets executed and
+   * limits the number of concurrent requests per entity set. By default all read requests are executed.
+   * @param admissionControl
+   * @return
+   * @since 2.3.3
+   */
+  JPAODataServiceContextBuilder setAdmissionControl(JPAODataAdmissionControl admissionControl);
+
+  /**
+   * Builds the complete metadata model of each API version during {@link #build()} instead of building it lazily
+   * while processing the first requests. The model is indexed afterwards, so that requests look up types and
+   * properties via hash maps without synchronization. By default the model is built lazily.
+   * @param freezeModel
+   * @return
+   * @since 2.3.3
+   */
+  JPAODataServiceContextBuilder setFreezeModel(boolean freezeModel);
+
 }
\ No newline at end of file
@@ -81,4 +81,36 @@ public interface JPAODataSessionContextAccess {
 
   public JPAODataApiVersionAccess getApiVersion(String id);
 
+  /**
+   * @return Receiver of the runtime metrics of the requests
+   * @since 2.3.3
+   */
+  public default JPAODataMetrics getMetrics() {
+    return JPAODataMetrics.NONE;
+  }
+
+  /**
+   * @return Cache for language dependent descriptions. Empty if descriptions shall always be joined
+   * @since 2.3.3
+   */
+  public default Optional<JPAODataDescriptionCache> getDescriptionCache() {
+    return Optional.empty();
+  }
+
+  /**
+   * @return Cache for entities requested by key. Empty if entities shall always be read from the database
+   * @since 2.3.3
+   */
+  public default Optional<JPAODataEntityCache> getEntityCache() {
+    return Optional.empty();
+  }
+
+  /**
+   * @return Admission control for read requests. Empty if read requests shall always be executed
+   * @since 2.3.3
+   */
+  public default Optional<JPAODataAdmissionControl> getAdmissionControl() {
+    return Optional.empty();
+  }
+
 }
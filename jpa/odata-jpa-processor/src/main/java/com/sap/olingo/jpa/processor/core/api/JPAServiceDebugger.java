@@ -16,6 +16,14 @@ public interface JPAServiceDebugger {
 
   public JPARuntimeMeasurement newMeasurement(final Object instance, final String methodName);
 
+  /**
+   * @return True, if the runtime information is collected for a debug response. A debug response takes the content of
+   * the response as a whole, so it must not be written while the response is sent.
+   */
+  public default boolean isDebugMode() {
+    return false;
+  }
+
   public static interface JPARuntimeMeasurement extends AutoCloseable {
     @Override
     void close();
@@ -106,6 +106,7 @@ public class JPATupleChildConverter extends JPATupleResultConverter {
       result.put(tuple.getKey(), entityCollection);
       childResult.replace(tuple.getKey(), null);
     }
+    releaseTransientValues(jpaResult);
     return result;
   }
 
@@ -133,6 +134,31 @@ public class JPATupleChildConverter extends JPATupleResultConverter {
     return entityCollection;
   }
 
+  /**
+   * Converts a single row. This is used in case a result is processed row by row, e.g. in case it is streamed. $expand
+   * and collection properties are not supported.
+   * @param jpaResult Result the row belongs to
+   * @param requestedSelection Requested properties
+   * @param row Row to be converted
+   * @return Converted entity
+   * @throws ODataApplicationException
+   * @since 2.3.3
+   */
+  public Entity getResult(@Nonnull final JPAExpandResult jpaResult,
+      @Nonnull final Collection<JPAPath> requestedSelection, @Nonnull final Tuple row)
+      throws ODataApplicationException {
+
+    if (jpaQueryResult != jpaResult) {
+      jpaQueryResult = jpaResult;
+      this.setName = determineSetName(jpaResult);
+      this.jpaConversionTargetEntity = jpaResult.getEntityType();
+      this.edmType = determineEdmType(jpaConversionTargetEntity);
+    }
+    final Entity odataEntity = convertRow(jpaConversionTargetEntity, row, requestedSelection, Collections.emptyList());
+    odataEntity.setMediaContentType(determineContentType(jpaConversionTargetEntity, row));
+    return odataEntity;
+  }
+
   private void popResult() {
     if (!resultStack.isEmpty()) {
       final var result = resultStack.pop();
@@ -209,7 +235,8 @@ public class JPATupleChildConverter extends JPATupleResultConverter {
 
     final Optional<EdmTransientPropertyCalculator<?>> calculator = requestContext.getCalculator(collection);
     if (calculator.isPresent()) {
-      final Collection<?> collectionResult = calculator.get().calculateCollectionProperty(row);
+      final Collection<?> collectionResult = (Collection<?>) calculateTransientValue(calculator.get(), collection,
+          row);
       result.add(new Property(
           null,
           collection.getExternalName(),
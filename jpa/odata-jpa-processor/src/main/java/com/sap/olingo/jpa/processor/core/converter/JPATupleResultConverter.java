@@ -8,6 +8,8 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -65,6 +67,7 @@ abstract class JPATupleResultConverter implements JPAResultConverter {
   protected final ServiceMetadata serviceMetadata;
   protected EdmEntityType edmType;
   protected final JPAODataRequestContextAccess requestContext;
+  private final Map<JPAExpandResult, Map<JPAAttribute, Map<Tuple, ?>>> transientValues;
 
   protected JPATupleResultConverter(final JPAServiceDocument sd, final UriHelper uriHelper,
       final ServiceMetadata serviceMetadata, final JPAODataRequestContextAccess requestContext) {
@@ -72,6 +75,7 @@ abstract class JPATupleResultConverter implements JPAResultConverter {
     this.sd = sd;
     this.serviceMetadata = serviceMetadata;
     this.requestContext = requestContext;
+    this.transientValues = new IdentityHashMap<>();
   }
 
   protected String buildConcatenatedKey(final Tuple row, final List<JPAPath> leftColumns) {
@@ -85,6 +89,51 @@ abstract class JPATupleResultConverter implements JPAResultConverter {
     return buffer.toString();
   }
 
+  /**
+   * Determines the value of a transient property. When the first value of a property is needed, the calculator gets
+   * all rows of the current result that are not converted yet, so it can calculate the values in one go. Values not
+   * provided that way are calculated row by row.
+   * @param calculator
+   * @param attribute Transient property
+   * @param row Row to be converted
+   * @return Calculated value, which is a list in case of a collection property
+   */
+  protected <I> Object calculateTransientValue(final EdmTransientPropertyCalculator<I> calculator,
+      final JPAAttribute attribute, final Tuple row) {
+
+    final Map<Tuple, ?> values = transientValues
+        .computeIfAbsent(jpaQueryResult, key -> new HashMap<>())
+        .computeIfAbsent(attribute, key -> attribute.isCollection()
+            ? new IdentityHashMap<Tuple, Object>(calculator.calculateCollectionProperties(collectUnconvertedRows(row)))
+            : new IdentityHashMap<Tuple, Object>(calculator.calculateProperties(collectUnconvertedRows(row))));
+    if (values.containsKey(row))
+      return values.remove(row);
+    return attribute.isCollection() ? calculator.calculateCollectionProperty(row) : calculator.calculateProperty(row);
+  }
+
+  /**
+   * Releases the buffered values of transient properties of a result.
+   */
+  protected void releaseTransientValues(final JPAExpandResult jpaResult) {
+    transientValues.remove(jpaResult);
+  }
+
+  private List<Tuple> collectUnconvertedRows(final Tuple row) {
+    final List<Tuple> rows = new ArrayList<>();
+    rows.add(row);
+    if (jpaQueryResult != null && jpaQueryResult.getResults() != null) {
+      for (final List<Tuple> block : jpaQueryResult.getResults().values()) {
+        if (block != null) {
+          for (final Tuple unconverted : block) {
+            if (unconverted != null && unconverted != row)
+              rows.add(unconverted);
+          }
+        }
+      }
+    }
+    return rows;
+  }
+
   protected String buildPath(final String prefix, final JPAAssociationAttribute association) {
     return EMPTY_PREFIX.equals(prefix) ? association.getExternalName() : prefix + JPAPath.PATH_SEPARATOR + association
         .getExternalName();
@@ -254,7 +303,7 @@ abstract class JPATupleResultConverter implements JPAResultConverter {
       final Optional<EdmTransientPropertyCalculator<?>> calculator = requestContext.getCalculator(attribute);
       if (calculator.isPresent()) {
         try {
-          odataValue = calculator.get().calculateProperty(parentRow);
+          odataValue = calculateTransientValue(calculator.get(), attribute, parentRow);
         } catch (final IllegalArgumentException e) {
           requestContext.getDebugger().debug(this, "Error in transient field calculator %s: %s",
               calculator.get().getClass().getName(), e.getMessage());
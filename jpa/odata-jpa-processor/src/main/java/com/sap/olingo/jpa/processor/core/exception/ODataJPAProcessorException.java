@@ -52,7 +52,10 @@ public class ODataJPAProcessorException extends ODataJPAProcessException { // NO
     EXPAND_EXCEEDS_MAX_LEVEL,
 
     VALIDATION_NOT_POSSIBLE_TOO_MANY_RESULTS,
-    COUNT_NON_SUPPORTED_COUNT;
+    COUNT_NON_SUPPORTED_COUNT,
+
+    ADMISSION_COST_EXCEEDED,
+    ADMISSION_BUDGET_EXHAUSTED;
 
     @Override
     public String getKey() {
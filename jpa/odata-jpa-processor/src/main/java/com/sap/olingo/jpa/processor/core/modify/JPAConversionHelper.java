@@ -8,7 +8,6 @@ import static org.apache.olingo.commons.api.http.HttpStatusCode.BAD_REQUEST;
 
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -48,6 +47,7 @@ import com.sap.olingo.jpa.processor.core.exception.ODataJPAFilterException;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessException;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException.MessageKeys;
+import com.sap.olingo.jpa.processor.core.processor.JPAJavaAccessors;
 import com.sap.olingo.jpa.processor.core.query.EdmBindingTargetInfo;
 import com.sap.olingo.jpa.processor.core.query.ExpressionUtility;
 import com.sap.olingo.jpa.processor.core.query.Utility;
@@ -312,18 +312,14 @@ public class JPAConversionHelper {
   public Map<String, Object> determineGetter(final Object instance) throws ODataJPAProcessorException {
     Map<String, Object> getterMap;
     getterMap = new HashMap<>();
-    final Method[] methods = instance.getClass().getMethods();
-    for (final Method meth : methods) {
-      final String methodName = meth.getName();
-      if (methodName.substring(0, 3).equals("get") && methodName.length() > 3) {
-        final String attributeName = methodName.substring(3, 4).toLowerCase() + methodName.substring(4);
-        try {
-          final Object value = meth.invoke(instance);
-          getterMap.put(attributeName, value);
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-          throw new ODataJPAProcessorException(MessageKeys.ATTRIBUTE_RETRIEVAL_FAILED,
-              HttpStatusCode.INTERNAL_SERVER_ERROR, e, attributeName);
-        }
+    for (final JPAJavaAccessors.Accessor meth : JPAJavaAccessors.of(instance.getClass()).getGetters()) {
+      final String attributeName = meth.getAttributeName();
+      try {
+        final Object value = meth.get(instance);
+        getterMap.put(attributeName, value);
+      } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+        throw new ODataJPAProcessorException(MessageKeys.ATTRIBUTE_RETRIEVAL_FAILED,
+            HttpStatusCode.INTERNAL_SERVER_ERROR, e, attributeName);
       }
     }
     return getterMap;
@@ -1,5 +1,10 @@
 package com.sap.olingo.jpa.processor.core.processor;
 
+import static com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException.MessageKeys.QUERY_PREPARATION_ERROR;
+
+import java.util.Objects;
+import java.util.Optional;
+
 import javax.annotation.Nullable;
 
 import jakarta.persistence.EntityManager;
@@ -13,11 +18,20 @@ import org.apache.olingo.commons.api.http.HttpStatusCode;
 import org.apache.olingo.server.api.OData;
 import org.apache.olingo.server.api.ODataResponse;
 import org.apache.olingo.server.api.serializer.SerializerResult;
+import org.apache.olingo.server.api.serializer.SerializerStreamResult;
 import org.apache.olingo.server.api.uri.UriInfoResource;
+import org.apache.olingo.server.api.uri.UriResourceFunction;
 
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAnnotatable;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAServiceDocument;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+import com.sap.olingo.jpa.processor.core.api.JPAODataAdmissionControl;
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetrics;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessException;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
+import com.sap.olingo.jpa.processor.core.query.Utility;
 import com.sap.olingo.jpa.processor.core.serializer.JPASerializer;
 
 abstract class JPAAbstractRequestProcessor {
@@ -29,6 +43,7 @@ abstract class JPAAbstractRequestProcessor {
   protected final JPASerializer serializer;
   protected final OData odata;
   protected final JPAServiceDebugger debugger;
+  protected final JPAODataMetrics metrics;
   protected int successStatusCode = HttpStatusCode.OK.getStatusCode();
   protected final JPAODataRequestContextAccess requestContext;
 
@@ -42,6 +57,7 @@ abstract class JPAAbstractRequestProcessor {
     this.serializer = requestContext.getSerializer();
     this.odata = odata;
     this.debugger = requestContext.getDebugger();
+    this.metrics = Objects.requireNonNullElse(requestContext.getMetrics(), JPAODataMetrics.NONE);
     this.requestContext = requestContext;
   }
 
@@ -54,6 +70,24 @@ abstract class JPAAbstractRequestProcessor {
     createETagHeader(response, entityCollection);
   }
 
+  protected final void createSuccessResponse(final ODataResponse response, final ContentType responseFormat,
+      final SerializerStreamResult serializerResult) {
+    createSuccessResponse(response, responseFormat, serializerResult, null);
+  }
+
+  /**
+   * The content is serialized while the response is written.
+   * @since 2.3.3
+   */
+  protected final void createSuccessResponse(final ODataResponse response, final ContentType responseFormat,
+      final SerializerStreamResult serializerResult, @Nullable final EntityCollection entityCollection) {
+
+    response.setODataContent(serializerResult.getODataContent());
+    response.setStatusCode(successStatusCode);
+    response.setHeader(HttpHeader.CONTENT_TYPE, responseFormat.toContentTypeString());
+    createETagHeader(response, entityCollection);
+  }
+
   protected final void createNotModifiedResponse(final ODataResponse response,
       final EntityCollection entityCollection) {
     response.setStatusCode(HttpStatusCode.NOT_MODIFIED.getStatusCode());
@@ -64,6 +98,65 @@ abstract class JPAAbstractRequestProcessor {
     response.setStatusCode(HttpStatusCode.PRECONDITION_FAILED.getStatusCode());
   }
 
+  /**
+   * Estimates the cost of the request and waits for a free slot of the concurrency budget of the requested entity
+   * set, in case a {@link JPAODataAdmissionControl} is registered. If the budget is exhausted, the response gets a
+   * Retry-After header. Unbound functions that do not return entities of an entity set are admitted by their name.
+   * <p>
+   * The permit has to be handed over to {@link #releaseAdmission(ODataResponse, JPAODataAdmissionControl.Permit)}
+   * after the response has been created.
+   * @since 2.3.3
+   */
+  final JPAODataAdmissionControl.Permit admit(final ODataResponse response) throws ODataJPAProcessException {
+    final var admissionControl = Objects.requireNonNullElse(requestContext.getAdmissionControl(),
+        Optional.<JPAODataAdmissionControl> empty());
+    final var target = determineAdmissionTarget();
+    if (admissionControl.isEmpty() || target == null)
+      return () -> {};
+    final long cost;
+    try (var admissionMeasurement = debugger.newMeasurement(this, "admit")) {
+      final var maxLevels = new JPAExpandWatchDog(sd.getEntitySet(target).map(JPAAnnotatable.class::cast))
+          .getRemainingLevels();
+      cost = new JPARequestCostEstimator(admissionControl.get(), sd.getEntity(target), maxLevels).estimate(uriInfo);
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAProcessorException(QUERY_PREPARATION_ERROR, HttpStatusCode.INTERNAL_SERVER_ERROR, e);
+    }
+    try {
+      return admissionControl.get().admit(target, cost);
+    } catch (final ODataJPAProcessorException e) {
+      if (e.getStatusCode() == HttpStatusCode.SERVICE_UNAVAILABLE.getStatusCode())
+        response.setHeader(HttpHeader.RETRY_AFTER, String.valueOf(admissionControl.get().getRetryAfter()));
+      throw e;
+    }
+  }
+
+  /**
+   * Content that gets serialized while the response is written still needs the database or the read result, so the
+   * permit is only released after it has been written. Otherwise the permit is released immediately. This is also the
+   * case in debug mode, as a debug response never writes such content.
+   * @since 2.3.3
+   */
+  final void releaseAdmission(final ODataResponse response, final JPAODataAdmissionControl.Permit permit) {
+    if (response.getODataContent() != null && !debugger.isDebugMode())
+      response.setODataContent(new JPAAdmittedContent(response.getODataContent(), permit));
+    else
+      permit.close();
+  }
+
+  private String determineAdmissionTarget() {
+    final var resourceParts = uriInfo.getUriResourceParts();
+    final var bindingTarget = Utility.determineBindingTarget(resourceParts);
+    if (bindingTarget != null)
+      return bindingTarget.getName();
+    if (!resourceParts.isEmpty()
+        && resourceParts.get(resourceParts.size() - 1) instanceof final UriResourceFunction function) {
+      return function.getFunctionImport() != null && function.getFunctionImport().getReturnedEntitySet() != null
+          ? function.getFunctionImport().getReturnedEntitySet().getName()
+          : function.getFunction().getName();
+    }
+    return null;
+  }
+
   private void createETagHeader(final ODataResponse response, final EntityCollection entityCollection) {
     if (entityCollection != null && entityCollection.getEntities().size() == 1) {
       final var etag = entityCollection.getEntities().get(0).getETag();
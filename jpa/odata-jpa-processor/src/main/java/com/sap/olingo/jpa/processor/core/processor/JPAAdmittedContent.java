@@ -0,0 +1,43 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+
+import org.apache.olingo.server.api.ODataContent;
+
+import com.sap.olingo.jpa.processor.core.api.JPAODataAdmissionControl;
+
+/**
+ * Content that is serialized while the response is written, still reads from the database or holds a read result.
+ * Therefore the permit of the {@link JPAODataAdmissionControl} is kept until the content has been written.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+final class JPAAdmittedContent implements ODataContent {
+  private final ODataContent content;
+  private final JPAODataAdmissionControl.Permit permit;
+
+  JPAAdmittedContent(final ODataContent content, final JPAODataAdmissionControl.Permit permit) {
+    this.content = content;
+    this.permit = permit;
+  }
+
+  @Override
+  public void write(final WritableByteChannel channel) {
+    try {
+      content.write(channel);
+    } finally {
+      permit.close();
+    }
+  }
+
+  @Override
+  public void write(final OutputStream stream) {
+    try {
+      content.write(stream);
+    } finally {
+      permit.close();
+    }
+  }
+}
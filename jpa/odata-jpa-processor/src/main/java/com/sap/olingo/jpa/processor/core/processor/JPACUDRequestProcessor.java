@@ -17,7 +17,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
 
@@ -58,6 +60,7 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAStructuredType;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPATopLevelEntity;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
 import com.sap.olingo.jpa.processor.core.api.JPACUDRequestHandler;
+import com.sap.olingo.jpa.processor.core.api.JPAODataEntityCache;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAODataTransactionFactory.JPAODataTransaction;
 import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger.JPARuntimeMeasurement;
@@ -70,6 +73,7 @@ import com.sap.olingo.jpa.processor.core.exception.ODataJPATransactionException;
 import com.sap.olingo.jpa.processor.core.modify.JPAConversionHelper;
 import com.sap.olingo.jpa.processor.core.modify.JPACreateResultFactory;
 import com.sap.olingo.jpa.processor.core.modify.JPAUpdateResult;
+import com.sap.olingo.jpa.processor.core.processor.JPAChangeSetBuffer.Kind;
 import com.sap.olingo.jpa.processor.core.query.EdmBindingTargetInfo;
 import com.sap.olingo.jpa.processor.core.query.ExpressionUtility;
 import com.sap.olingo.jpa.processor.core.query.Utility;
@@ -93,6 +97,7 @@ public final class JPACUDRequestProcessor extends JPAAbstractRequestProcessor {
   public void clearFields(final ODataRequest request, final ODataResponse response) throws ODataJPAProcessException {
 
     try (JPARuntimeMeasurement measurement = debugger.newMeasurement(this, "clearFields")) {
+      prepareChangeSetBuffer(null, request.getMethod());
       final JPACUDRequestHandler handler = requestContext.getCUDRequestHandler();
       final EdmBindingTargetInfo edmEntitySetInfo = Utility.determineBindingTargetAndKeys(uriInfo
           .getUriResourceParts());
@@ -117,6 +122,7 @@ public final class JPACUDRequestProcessor extends JPAAbstractRequestProcessor {
       }
       if (!foreignTransaction)
         ownTransaction.commit();
+      invalidateEntityCache(requestEntity, requestEntity.getKeys());
       response.setStatusCode(HttpStatusCode.NO_CONTENT.getStatusCode());
     }
   }
@@ -131,8 +137,18 @@ public final class JPACUDRequestProcessor extends JPAAbstractRequestProcessor {
       final Entity odataEntity = helper.convertInputStream(odata, request, requestFormat, uriInfo
           .getUriResourceParts());
 
+      final Optional<JPAChangeSetBuffer> buffer = prepareChangeSetBuffer(isReferencedInChangeSet(request)
+          ? null : Kind.CREATE, request.getMethod());
       final JPARequestEntity requestEntity = createRequestEntity(edmEntitySetInfo, odataEntity, request
           .getAllHeaders());
+      if (buffer.isPresent()) {
+        buffer.get().add(requestEntity, null, result -> {
+          checkCreateResult(requestEntity, result);
+          createCreateResponse(request, response, responseFormat, requestEntity, edmEntitySetInfo, result);
+        });
+        response.setStatusCode(NO_CONTENT.getStatusCode());
+        return;
+      }
 
       // Create entity
       Object result = null;
@@ -152,14 +168,15 @@ public final class JPACUDRequestProcessor extends JPAAbstractRequestProcessor {
         throw new ODataJPAProcessorException(e, INTERNAL_SERVER_ERROR);
       }
 
-      if (result != null && result.getClass() != requestEntity.getEntityType().getTypeClass()
-          && !(result instanceof Map<?, ?>)) {
+      try {
+        checkCreateResult(requestEntity, result);
+      } catch (final ODataJPAProcessorException e) {
         checkForRollback(ownTransaction, foreignTransaction);
-        throw new ODataJPAProcessorException(WRONG_RETURN_TYPE, INTERNAL_SERVER_ERROR, result.getClass().toString(),
-            requestEntity.getEntityType().getTypeClass().toString());
+        throw e;
       }
       if (!foreignTransaction)
         ownTransaction.commit();
+      invalidateEntityCache(requestEntity, Collections.emptyMap());
 
       createCreateResponse(request, response, responseFormat, requestEntity, edmEntitySetInfo, result);
     }
@@ -198,7 +215,14 @@ public final class JPACUDRequestProcessor extends JPAAbstractRequestProcessor {
       } catch (final ODataException e) {
         throw new ODataJPAProcessorException(e, BAD_REQUEST);
       }
+      final Optional<JPAChangeSetBuffer> buffer = prepareChangeSetBuffer(Kind.DELETE, request.getMethod());
       final JPARequestEntity requestEntity = createRequestEntity(es, et, jpaKeyPredicates, request.getAllHeaders());
+      if (buffer.isPresent()) {
+        buffer.get().add(requestEntity, convertKeyPredicates(uriResourceEntitySet.getKeyPredicates()),
+            result -> response.setStatusCode(NO_CONTENT.getStatusCode()));
+        response.setStatusCode(NO_CONTENT.getStatusCode());
+        return;
+      }
 
       // 3. Perform Delete
       JPAODataTransaction ownTransaction = null;
@@ -218,6 +242,7 @@ public final class JPACUDRequestProcessor extends JPAAbstractRequestProcessor {
       }
       if (!foreignTransaction)
         ownTransaction.commit();
+      invalidateEntityCache(requestEntity, requestEntity.getKeys());
 
       // 4. configure the response object
       response.setStatusCode(NO_CONTENT.getStatusCode());
@@ -241,8 +266,19 @@ public final class JPACUDRequestProcessor extends JPAAbstractRequestProcessor {
       // navigation properties. For single-valued navigation properties this replaces the relationship. For
       // collection-valued navigation properties this adds to the relationship.
       // TODO navigation properties this replaces the relationship
+      final HttpMethod method = determineHttpVerb(request, uriInfo.getUriResourceParts());
+      final Optional<JPAChangeSetBuffer> buffer = prepareChangeSetBuffer(Kind.UPDATE, method);
       final JPARequestEntity requestEntity = createRequestEntity(edmBindingTargetInfo, odataEntity, request
           .getAllHeaders());
+      if (buffer.isPresent()) {
+        buffer.get().add(requestEntity, convertKeyPredicates(edmBindingTargetInfo.getKeyPredicates()), result -> {
+          final JPAUpdateResult updateResult = (JPAUpdateResult) result;
+          checkUpdateResult(requestEntity, updateResult);
+          createModifyResponse(request, response, responseFormat, requestEntity, edmBindingTargetInfo, updateResult);
+        });
+        response.setStatusCode(NO_CONTENT.getStatusCode());
+        return;
+      }
 
       // Update entity
       JPAUpdateResult updateResult = null;
@@ -264,8 +300,7 @@ public final class JPACUDRequestProcessor extends JPAAbstractRequestProcessor {
         // A PUT or PATCH request MUST NOT be treated as an update if an If-None-Match header is specified with a value
         // of
         // "*".
-        updateResult = handler.updateEntity(requestEntity, em, determineHttpVerb(request, uriInfo
-            .getUriResourceParts()));
+        updateResult = handler.updateEntity(requestEntity, em, method);
         if (!foreignTransaction)
           handler.validateChanges(em);
       } catch (final ODataJPAProcessException e) {
@@ -275,26 +310,119 @@ public final class JPACUDRequestProcessor extends JPAAbstractRequestProcessor {
         checkForRollback(ownTransaction, foreignTransaction);
         throw new ODataJPAProcessorException(e, INTERNAL_SERVER_ERROR);
       }
-      if (updateResult == null) {
-        checkForRollback(ownTransaction, foreignTransaction);
-        throw new ODataJPAProcessorException(RETURN_NULL, INTERNAL_SERVER_ERROR);
-      }
-      if (updateResult.modifiedEntity() != null && !requestEntity.getEntityType().getTypeClass().isInstance(
-          updateResult.modifiedEntity())) {
+      try {
+        checkUpdateResult(requestEntity, updateResult);
+      } catch (final ODataJPAProcessorException e) {
         checkForRollback(ownTransaction, foreignTransaction);
-        throw new ODataJPAProcessorException(WRONG_RETURN_TYPE, INTERNAL_SERVER_ERROR,
-            updateResult.modifiedEntity().getClass().toString(), requestEntity.getEntityType().getTypeClass()
-                .toString());
+        throw e;
       }
       if (!foreignTransaction)
         ownTransaction.commit();
+      invalidateEntityCache(requestEntity, requestEntity.getKeys());
 
-      if (updateResult.wasCreate()) {
-        createCreateResponse(request, response, responseFormat, requestEntity.getEntityType(),
-            (EdmEntitySet) edmBindingTargetInfo.getEdmBindingTarget(), updateResult.modifiedEntity()); // Singleton
-      } else {
-        createUpdateResponse(request, response, responseFormat, requestEntity, edmBindingTargetInfo, updateResult);
+      createModifyResponse(request, response, responseFormat, requestEntity, edmBindingTargetInfo, updateResult);
+    }
+  }
+
+  private void createModifyResponse(final ODataRequest request, final ODataResponse response,
+      final ContentType responseFormat, final JPARequestEntity requestEntity,
+      final EdmBindingTargetInfo edmBindingTargetInfo, final JPAUpdateResult updateResult)
+      throws SerializerException, ODataJPAProcessorException, ODataJPASerializerException {
+
+    if (updateResult.wasCreate()) {
+      createCreateResponse(request, response, responseFormat, requestEntity.getEntityType(),
+          (EdmEntitySet) edmBindingTargetInfo.getEdmBindingTarget(), updateResult.modifiedEntity()); // Singleton
+    } else {
+      createUpdateResponse(request, response, responseFormat, requestEntity, edmBindingTargetInfo, updateResult);
+    }
+  }
+
+  /**
+   * Modifications of a change set, which address an entity set directly, are collected, if the handler supports bulk
+   * changes. In all other cases the collected modifications are processed first.
+   * @param kind Kind of the modification, null if it can't be collected
+   */
+  private Optional<JPAChangeSetBuffer> prepareChangeSetBuffer(final Kind kind, final HttpMethod method)
+      throws ODataJPAProcessException {
+
+    final Optional<JPAChangeSetBuffer> buffer = requestContext instanceof final JPAODataInternalRequestContext context
+        ? context.getChangeSetBuffer() : Optional.empty();
+    if (buffer.isEmpty())
+      return buffer;
+    final List<UriResource> resourceParts = uriInfo.getUriResourceParts();
+    try {
+      if (kind == null || resourceParts.size() != 1
+          || !(resourceParts.get(0) instanceof final UriResourceEntitySet entitySet)) {
+        buffer.get().flush();
+        return Optional.empty();
       }
+      buffer.get().prepare(kind, method, entitySet.getEntitySet().getName(),
+          convertKeyPredicates(entitySet.getKeyPredicates()));
+      return buffer;
+    } catch (final ODataJPAProcessException e) {
+      throw e;
+    } catch (ODataApplicationException | ODataLibraryException e) {
+      throw new ODataJPAProcessorException(e, INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  /**
+   * A create that is referenced via its Content-ID needs the location in its response immediately, so it can't be
+   * collected.
+   */
+  private boolean isReferencedInChangeSet(final ODataRequest request) {
+    return requestContext instanceof final JPAODataInternalRequestContext context
+        && context.getChangeSetBuffer()
+            .map(buffer -> buffer.isReferenced(request.getHeader(HttpHeader.CONTENT_ID)))
+            .orElse(false);
+  }
+
+  private String convertKeyPredicates(final List<UriParameter> keyPredicates) {
+    if (keyPredicates == null || keyPredicates.isEmpty())
+      return null;
+    return keyPredicates.stream()
+        .map(key -> key.getName() + "=" + key.getText())
+        .collect(Collectors.joining(","));
+  }
+
+  private void checkCreateResult(final JPARequestEntity requestEntity, final Object result)
+      throws ODataJPAProcessorException {
+    if (result != null && result.getClass() != requestEntity.getEntityType().getTypeClass()
+        && !(result instanceof Map<?, ?>)) {
+      throw new ODataJPAProcessorException(WRONG_RETURN_TYPE, INTERNAL_SERVER_ERROR, result.getClass().toString(),
+          requestEntity.getEntityType().getTypeClass().toString());
+    }
+  }
+
+  private void checkUpdateResult(final JPARequestEntity requestEntity, final JPAUpdateResult updateResult)
+      throws ODataJPAProcessorException {
+    if (updateResult == null)
+      throw new ODataJPAProcessorException(RETURN_NULL, INTERNAL_SERVER_ERROR);
+    if (updateResult.modifiedEntity() != null && !requestEntity.getEntityType().getTypeClass().isInstance(
+        updateResult.modifiedEntity())) {
+      throw new ODataJPAProcessorException(WRONG_RETURN_TYPE, INTERNAL_SERVER_ERROR,
+          updateResult.modifiedEntity().getClass().toString(), requestEntity.getEntityType().getTypeClass()
+              .toString());
+    }
+  }
+
+  /**
+   * Invalidates the entries of the entity cache affected by a modification. Related entities and linked entities are
+   * invalidated completely, as their keys are not known in all cases. Modifications buffered for a change set are
+   * handled by the batch processor after the commit.
+   */
+  private void invalidateEntityCache(final JPARequestEntity requestEntity, final Map<String, Object> keys) {
+    final Optional<JPAODataEntityCache> entityCache = Objects.requireNonNullElse(requestContext.getEntityCache(),
+        Optional.empty());
+    if (entityCache.isPresent()) {
+      final JPAODataEntityCache cache = entityCache.get();
+      cache.changed(requestEntity.getEntityType().getTypeClass(), JPAODataEntityCache.asKeys(keys));
+      if (requestEntity.getRelatedEntities() != null)
+        requestEntity.getRelatedEntities().keySet()
+            .forEach(path -> cache.changed(path.getTargetType().getTypeClass(), Collections.emptyMap()));
+      if (requestEntity.getRelationLinks() != null)
+        requestEntity.getRelationLinks().keySet()
+            .forEach(path -> cache.changed(path.getTargetType().getTypeClass(), Collections.emptyMap()));
     }
   }
 
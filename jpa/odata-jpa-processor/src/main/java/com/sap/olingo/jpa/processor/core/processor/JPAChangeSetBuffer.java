@@ -0,0 +1,145 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import static com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException.MessageKeys.RETURN_NULL;
+import static org.apache.olingo.commons.api.http.HttpStatusCode.INTERNAL_SERVER_ERROR;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import jakarta.persistence.EntityManager;
+
+import org.apache.olingo.commons.api.http.HttpMethod;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.ODataLibraryException;
+
+import com.sap.olingo.jpa.processor.core.api.JPACUDRequestHandler;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessException;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
+
+/**
+ * Collects the modifications of a change set, so that runs of creates, updates or deletes on the same entity set can
+ * be handed over to the bulk methods of the {@link JPACUDRequestHandler}. A run ends with the first modification of
+ * another kind, http method or entity set, with a second modification of the same entity, or when {@link #flush()} is
+ * called. The responses of the collected requests are completed after the run has been processed.
+ * <p>
+ * Olingo maps a Content-ID to the location of a created entity directly after the create request has been handled.
+ * As the location of a collected create is only known after the run has been processed, creates whose Content-ID is
+ * referenced by a later request of the change set are not collected.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+public final class JPAChangeSetBuffer {
+
+  enum Kind {
+    CREATE, UPDATE, DELETE
+  }
+
+  @FunctionalInterface
+  interface Completion {
+    void complete(Object result) throws ODataApplicationException, ODataLibraryException;
+  }
+
+  private record Operation(JPARequestEntity requestEntity, Completion completion) {}
+
+  private final JPACUDRequestHandler handler;
+  private final EntityManager em;
+  private final List<Operation> pending;
+  private Kind kind;
+  private HttpMethod method;
+  private String entitySet;
+  private final Set<String> keys;
+  private final Set<String> referencedContentIds;
+
+  public JPAChangeSetBuffer(@Nonnull final JPACUDRequestHandler handler, @Nonnull final EntityManager em) {
+    this(handler, em, Collections.emptySet());
+  }
+
+  /**
+   * @param referencedContentIds Content-IDs referenced by requests of the change set
+   */
+  public JPAChangeSetBuffer(@Nonnull final JPACUDRequestHandler handler, @Nonnull final EntityManager em,
+      @Nonnull final Set<String> referencedContentIds) {
+    this.handler = handler;
+    this.em = em;
+    this.pending = new ArrayList<>();
+    this.keys = new HashSet<>();
+    this.referencedContentIds = referencedContentIds;
+  }
+
+  /**
+   * @param contentId Content-ID of a request, null if not given
+   * @return True if a request of the change set references the given Content-ID
+   */
+  boolean isReferenced(@Nullable final String contentId) {
+    return contentId != null && referencedContentIds.contains(contentId);
+  }
+
+  /**
+   * Has to be called before the request entity is created, as this may read the before image of the entity.
+   * Processes the collected modifications, if the next one does not belong to the current run.
+   * @param key Key of the modified entity as given in the request URI, null if not given.
+   */
+  void prepare(final Kind kind, final HttpMethod method, final String entitySet, final String key)
+      throws ODataApplicationException, ODataLibraryException {
+    if (!pending.isEmpty()
+        && (this.kind != kind || this.method != method || !this.entitySet.equals(entitySet)
+            || (key != null && keys.contains(key))))
+      flush();
+    this.kind = kind;
+    this.method = method;
+    this.entitySet = entitySet;
+  }
+
+  void add(final JPARequestEntity requestEntity, final String key, final Completion completion) {
+    pending.add(new Operation(requestEntity, completion));
+    if (key != null)
+      keys.add(key);
+  }
+
+  public boolean isEmpty() {
+    return pending.isEmpty();
+  }
+
+  /**
+   * Processes the collected modifications and completes the corresponding responses.
+   * @throws ODataApplicationException
+   * @throws ODataLibraryException
+   */
+  public void flush() throws ODataApplicationException, ODataLibraryException {
+    if (pending.isEmpty())
+      return;
+    final List<Operation> operations = new ArrayList<>(pending);
+    pending.clear();
+    keys.clear();
+    final List<JPARequestEntity> requestEntities = operations.stream().map(Operation::requestEntity).toList();
+    final List<?> results = execute(requestEntities);
+    if (results == null || results.size() != operations.size())
+      throw new ODataJPAProcessorException(RETURN_NULL, INTERNAL_SERVER_ERROR);
+    for (int i = 0; i < operations.size(); i++)
+      operations.get(i).completion().complete(results.get(i));
+  }
+
+  private List<?> execute(final List<JPARequestEntity> requestEntities) throws ODataJPAProcessException {
+    try {
+      return switch (kind) {
+        case CREATE -> handler.createEntities(requestEntities, em);
+        case UPDATE -> handler.updateEntities(requestEntities, em, method);
+        case DELETE -> {
+          handler.deleteEntities(requestEntities, em);
+          yield Collections.nCopies(requestEntities.size(), null);
+        }
+      };
+    } catch (final ODataJPAProcessException e) {
+      throw e;
+    } catch (final RuntimeException e) {
+      throw new ODataJPAProcessorException(e, INTERNAL_SERVER_ERROR);
+    }
+  }
+}
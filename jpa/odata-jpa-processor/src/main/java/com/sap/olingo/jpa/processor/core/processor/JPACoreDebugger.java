@@ -13,7 +13,7 @@ import org.apache.olingo.server.api.debug.RuntimeMeasurement;
 import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger;
 
 class JPACoreDebugger implements JPAServiceDebugger {
-  private final List<RuntimeMeasurement> runtimeInformation = new ArrayList<>();
+  private final List<RuntimeMeasurement> runtimeInformation = Collections.synchronizedList(new ArrayList<>());
   private final boolean isDebugMode;
   private final MemoryReader memoryReader;
 
@@ -24,9 +24,11 @@ class JPACoreDebugger implements JPAServiceDebugger {
 
   @Override
   public void debug(final Object instance, final String log) {
-    final Long threadID = Thread.currentThread().getId();
-    LogFactory.getLog(instance.getClass().getCanonicalName())
-        .debug(String.format("thread: %d, logger: %s, info %s", threadID, this, log));
+    final Log logger = LogFactory.getLog(instance.getClass().getCanonicalName());
+    if (logger.isDebugEnabled()) {
+      final Long threadID = Thread.currentThread().getId();
+      logger.debug(String.format("thread: %d, logger: %s, info %s", threadID, this, log));
+    }
   }
 
   @Override
@@ -37,6 +39,11 @@ class JPACoreDebugger implements JPAServiceDebugger {
     }
   }
 
+  @Override
+  public boolean isDebugMode() {
+    return isDebugMode;
+  }
+
   @Override
   public List<RuntimeMeasurement> getRuntimeInformation() {
     if (isDebugMode)
@@ -46,7 +53,7 @@ class JPACoreDebugger implements JPAServiceDebugger {
 
   @Override
   public JPARuntimeMeasurement newMeasurement(final Object instance, final String methodName) {
-    final Measurement m = new Measurement(instance, methodName, memoryReader);
+    final Measurement m = new Measurement(instance, methodName, memoryReader, isDebugMode);
     if (isDebugMode)
       runtimeInformation.add(m);
     return m;
@@ -77,31 +84,42 @@ class JPACoreDebugger implements JPAServiceDebugger {
     return String.format(log.toString(), composeArguments(threadID, arguments));
   }
 
+  /**
+   * Memory consumption is only read and the measurement is only logged, if the runtime information was requested or
+   * the debug log is enabled.
+   */
   private static class Measurement extends RuntimeMeasurement implements JPARuntimeMeasurement {
 
     private final MemoryReader memoryReader;
+    private final Log logger;
+    private final boolean traceMemory;
     private boolean closed;
     private long usedMemory;
 
-    public Measurement(final Object instance, final String methodName, final MemoryReader memoryReader) {
+    public Measurement(final Object instance, final String methodName, final MemoryReader memoryReader,
+        final boolean isDebugMode) {
       this.setTimeStarted(System.nanoTime());
       this.setClassName(instance.getClass().getCanonicalName());
       this.setMethodName(methodName);
       this.memoryReader = memoryReader;
+      this.logger = LogFactory.getLog(this.getClassName());
+      this.traceMemory = isDebugMode || logger.isDebugEnabled();
       this.closed = false;
-      this.usedMemory = memoryReader.getCurrentThreadMemoryConsumption() / 1000;
+      this.usedMemory = traceMemory ? memoryReader.getCurrentThreadMemoryConsumption() / 1000 : 0L;
     }
 
     @Override
     public void close() {
       this.setTimeStopped(System.nanoTime());
       this.closed = true;
+      if (!traceMemory)
+        return;
       final long threadID = Thread.currentThread().getId();
       final long runtime = (this.getTimeStopped() - this.getTimeStarted()) / 1000;
       final Long memory = memoryReader.getCurrentThreadMemoryConsumption() / 1000;
       usedMemory = memory - usedMemory;
-      LogFactory.getLog(this.getClassName())
-          .debug(String.format(
+      if (logger.isDebugEnabled())
+        logger.debug(String.format(
               "thread: %d, method: %s,  runtime [µs]: %d; over all memory [kb]: %d; additional memory [kb]: %d",
               threadID,
               this.getMethodName(),
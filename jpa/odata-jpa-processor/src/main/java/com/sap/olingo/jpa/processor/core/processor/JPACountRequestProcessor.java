@@ -34,8 +34,15 @@ public final class JPACountRequestProcessor extends JPAAbstractGetRequestProcess
 
     if (uriResource instanceof UriResourceEntitySet
         || uriResource instanceof UriResourceSingleton) {
-      final var result = countEntities();
-      createSuccessResponse(response, ContentType.TEXT_PLAIN, serializer.serialize(request, result), null);
+      final var admission = admit(response);
+      try {
+        final var result = countEntities();
+        createSuccessResponse(response, ContentType.TEXT_PLAIN, serializer.serialize(request, result), null);
+      } catch (final ODataException | RuntimeException e) {
+        admission.close();
+        throw e;
+      }
+      releaseAdmission(response, admission);
     } else {
       throw new ODataJPAProcessorException(ODataJPAProcessorException.MessageKeys.NOT_SUPPORTED_RESOURCE_TYPE,
           HttpStatusCode.NOT_IMPLEMENTED, uriResource.getKind().toString());
@@ -0,0 +1,74 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import java.net.URI;
+import java.util.Iterator;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.EntityCollection;
+import org.apache.olingo.commons.api.data.EntityIterator;
+
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetrics;
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetrics.Phase;
+
+/**
+ * Provides an entity collection, which has been read completely, to the streaming serializer. This way the payload is
+ * written into the response while it is created, instead of being created in memory first. As the serialization
+ * happens while the response is written, the serialization phase reported to the metrics ends with the last entity
+ * being taken.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+final class JPAEntityCollectionIterator extends EntityIterator {
+  private final EntityCollection collection;
+  private final Iterator<Entity> entities;
+  private final JPAODataMetrics metrics;
+  private final String entitySet;
+  private final long started;
+  private boolean finished;
+
+  JPAEntityCollectionIterator(final EntityCollection collection) {
+    this(collection, JPAODataMetrics.NONE, "");
+  }
+
+  JPAEntityCollectionIterator(final EntityCollection collection, final JPAODataMetrics metrics,
+      final String entitySet) {
+    super();
+    this.collection = collection;
+    this.entities = collection.iterator();
+    this.metrics = metrics;
+    this.entitySet = entitySet;
+    this.started = System.nanoTime();
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (entities.hasNext())
+      return true;
+    if (!finished) {
+      finished = true;
+      metrics.record(Phase.SERIALIZE, entitySet, System.nanoTime() - started);
+    }
+    return false;
+  }
+
+  @Override
+  public Entity next() {
+    return entities.next();
+  }
+
+  @Override
+  public Integer getCount() {
+    return collection.getCount();
+  }
+
+  @Override
+  public URI getNext() {
+    return collection.getNext();
+  }
+
+  @Override
+  public URI getDeltaLink() {
+    return collection.getDeltaLink();
+  }
+}
@@ -0,0 +1,96 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import java.net.URI;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import jakarta.persistence.Tuple;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.EntityIterator;
+import org.apache.olingo.commons.api.ex.ODataRuntimeException;
+import org.apache.olingo.server.api.ODataApplicationException;
+
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetrics;
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetrics.Phase;
+import com.sap.olingo.jpa.processor.core.converter.JPATupleChildConverter;
+import com.sap.olingo.jpa.processor.core.query.JPAQueryStreamResult;
+
+/**
+ * Converts the rows of a streamed query result while they are serialized. The underlying stream gets closed as soon as
+ * the last row has been read. As the rows are read while the response is written, the serialization phase reported to
+ * the metrics ends with closing the stream.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+final class JPAEntityStreamIterator extends EntityIterator {
+  private final JPAQueryStreamResult result;
+  private final JPATupleChildConverter converter;
+  private final Iterator<Tuple> rows;
+  private final Integer count;
+  private final URI next;
+  private final JPAODataMetrics metrics;
+  private final String entitySet;
+  private final long started;
+  private boolean closed;
+
+  JPAEntityStreamIterator(final JPAQueryStreamResult result, final JPATupleChildConverter converter,
+      final Integer count, final URI next) {
+    this(result, converter, count, next, JPAODataMetrics.NONE, "");
+  }
+
+  JPAEntityStreamIterator(final JPAQueryStreamResult result, final JPATupleChildConverter converter,
+      final Integer count, final URI next, final JPAODataMetrics metrics, final String entitySet) {
+    super();
+    this.result = result;
+    this.converter = converter;
+    this.rows = result.rows().iterator();
+    this.count = count;
+    this.next = next;
+    this.metrics = metrics;
+    this.entitySet = entitySet;
+    this.started = System.nanoTime();
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (closed)
+      return false;
+    if (!rows.hasNext()) {
+      close();
+      return false;
+    }
+    return true;
+  }
+
+  @Override
+  public Entity next() {
+    if (!hasNext())
+      throw new NoSuchElementException();
+    try {
+      return converter.getResult(result.result(), result.result().getRequestedSelection(), rows.next());
+    } catch (final ODataApplicationException e) {
+      close();
+      throw new ODataRuntimeException(e);
+    }
+  }
+
+  @Override
+  public Integer getCount() {
+    return count;
+  }
+
+  @Override
+  public URI getNext() {
+    return next;
+  }
+
+  void close() {
+    if (!closed) {
+      closed = true;
+      result.close();
+      metrics.record(Phase.SERIALIZE, entitySet, System.nanoTime() - started);
+    }
+  }
+}
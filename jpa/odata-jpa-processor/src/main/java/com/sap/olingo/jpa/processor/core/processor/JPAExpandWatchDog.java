@@ -77,6 +77,21 @@ class JPAExpandWatchDog extends AbstractWatchDog {
     nonExpandableProperties = determineNonExpandable(properties);
   }
 
+  /**
+   * Copy constructor. Creates a watch dog for an $expand branch that is processed independently, e.g. concurrently to
+   * its siblings. The copy starts with the remaining levels of the source.
+   * @param source
+   */
+  JPAExpandWatchDog(final JPAExpandWatchDog source) {
+    super();
+    externalName = source.externalName;
+    annotation = source.annotation;
+    isExpandable = source.isExpandable;
+    nonExpandableProperties = source.nonExpandableProperties;
+    maxLevels = source.maxLevels;
+    remainingLevels = source.remainingLevels;
+  }
+
   boolean isExpandable() {
     return isExpandable;
   }
@@ -48,6 +48,20 @@ public final class JPAFunctionRequestProcessor extends JPAOperationRequestProces
     if (jpaFunction == null)
       throw new ODataJPAProcessorException(FUNCTION_UNKNOWN, HttpStatusCode.BAD_REQUEST, uriResourceFunction
           .getFunction().getName());
+    final var admission = admit(response);
+    try {
+      executeFunction(request, response, responseFormat, uriResourceFunction, jpaFunction);
+    } catch (final ODataApplicationException | ODataLibraryException | RuntimeException e) {
+      admission.close();
+      throw e;
+    }
+    releaseAdmission(response, admission);
+  }
+
+  private void executeFunction(final ODataRequest request, final ODataResponse response,
+      final ContentType responseFormat, final UriResourceFunction uriResourceFunction, final JPAFunction jpaFunction)
+      throws ODataApplicationException, ODataLibraryException {
+
     Object result = null;
     if (jpaFunction.getFunctionType() == EdmFunctionType.JavaClass) {
       result = new JPAJavaFunctionProcessor(sd, uriResourceFunction, (JPAJavaFunction) jpaFunction,
@@ -0,0 +1,235 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Public getter and setter of a Java class. The methods are looked up once per class and bound as
+ * {@link MethodHandle}, so modifying requests neither search them by name nor invoke them via
+ * {@link Method#invoke(Object, Object...)} for each attribute of each entity.
+ * <p>
+ * The accessors are determined for the runtime class of an instance, which may be a sub class or a proxy of the
+ * class known by the metamodel.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+public final class JPAJavaAccessors {
+  private static final String GET = "get";
+  private static final String SET = "set";
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+  private static final ClassValue<JPAJavaAccessors> CACHE = new ClassValue<>() {
+    @Override
+    protected JPAJavaAccessors computeValue(final Class<?> type) {
+      return new JPAJavaAccessors(type);
+    }
+  };
+
+  private final Class<?> type;
+  private final List<Accessor> getters;
+  private final List<Accessor> setters;
+  private final Map<String, Accessor> getterByName;
+  private final Map<String, List<Accessor>> settersByName;
+  private final Map<Class<?>, Optional<Accessor>> methodByParameter;
+
+  /**
+   * Returns the accessors of a class. They are created at the first call for that class.
+   * @param type
+   * @return
+   */
+  public static JPAJavaAccessors of(@Nonnull final Class<?> type) {
+    return CACHE.get(type);
+  }
+
+  private JPAJavaAccessors(final Class<?> type) {
+    this.type = type;
+    this.getters = new ArrayList<>();
+    this.setters = new ArrayList<>();
+    this.getterByName = new HashMap<>();
+    this.settersByName = new HashMap<>();
+    this.methodByParameter = new ConcurrentHashMap<>();
+    final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+    for (final Method method : type.getMethods()) {
+      final String name = method.getName();
+      if (name.length() > 3 && name.startsWith(GET)) {
+        final Accessor getter = new Accessor(method, bind(lookup, method, 0, GETTER_TYPE));
+        getters.add(getter);
+        if (method.getParameterCount() == 0)
+          getterByName.merge(name, getter, JPAJavaAccessors::mostSpecificGetter);
+      } else if (name.length() > 3 && name.startsWith(SET)) {
+        final Accessor setter = new Accessor(method, bind(lookup, method, 1, SETTER_TYPE));
+        setters.add(setter);
+        settersByName.computeIfAbsent(name, key -> new ArrayList<>(1)).add(setter);
+      }
+    }
+  }
+
+  /**
+   * All public methods starting with <i>get</i>, including e.g. <code>getClass</code>.
+   */
+  public List<Accessor> getGetters() {
+    return Collections.unmodifiableList(getters);
+  }
+
+  /**
+   * All public methods starting with <i>set</i>.
+   */
+  public List<Accessor> getSetters() {
+    return Collections.unmodifiableList(setters);
+  }
+
+  /**
+   * Same as {@link Class#getMethod(String, Class...)} for a method without parameter.
+   * @param methodName
+   * @return
+   * @throws NoSuchMethodException
+   */
+  public Accessor getGetter(final String methodName) throws NoSuchMethodException {
+    final Accessor getter = getterByName.get(methodName);
+    if (getter == null)
+      throw new NoSuchMethodException(type.getName() + "." + methodName + "()");
+    return getter;
+  }
+
+  /**
+   * Same as {@link Class#getMethod(String, Class...)} for a method with exactly one parameter.
+   * @param methodName
+   * @param parameterType
+   * @return
+   * @throws NoSuchMethodException
+   */
+  public Accessor getSetter(final String methodName, final Class<?> parameterType) throws NoSuchMethodException {
+    for (final Accessor setter : settersByName.getOrDefault(methodName, List.of())) {
+      if (setter.getParameterTypes().length == 1 && setter.getParameterTypes()[0] == parameterType)
+        return setter;
+    }
+    throw new NoSuchMethodException(type.getName() + "." + methodName + "(" + parameterType.getName() + ")");
+  }
+
+  /**
+   * Searches for any public method taking exactly one parameter of the given type.
+   * @param parameterType
+   * @return
+   */
+  public Optional<Accessor> findMethodWithParameter(final Class<?> parameterType) {
+    return methodByParameter.computeIfAbsent(parameterType, this::determineMethodWithParameter);
+  }
+
+  private Optional<Accessor> determineMethodWithParameter(final Class<?> parameterType) {
+    for (final Accessor setter : setters) {
+      if (setter.getParameterTypes().length == 1 && setter.getParameterTypes()[0] == parameterType)
+        return Optional.of(setter);
+    }
+    final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+    for (final Method method : type.getMethods()) {
+      if (method.getParameterCount() == 1 && method.getParameterTypes()[0] == parameterType)
+        return Optional.of(new Accessor(method, bind(lookup, method, 1, SETTER_TYPE)));
+    }
+    return Optional.empty();
+  }
+
+  private static Accessor mostSpecificGetter(final Accessor first, final Accessor second) {
+    // Covariant return types create bridge methods. Class#getMethod prefers the most specific return type.
+    return first.method.getReturnType().isAssignableFrom(second.method.getReturnType()) ? second : first;
+  }
+
+  /**
+   * Creates a method handle, if the method is an instance method with the expected number of parameter. In all other
+   * cases the accessor falls back to reflection.
+   */
+  private static MethodHandle bind(final MethodHandles.Lookup lookup, final Method method, final int parameterCount,
+      final MethodType methodType) {
+    if (method.getParameterCount() != parameterCount || Modifier.isStatic(method.getModifiers()))
+      return null;
+    try {
+      return lookup.unreflect(method).asType(methodType);
+    } catch (final IllegalAccessException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * A getter or setter. Behaves like {@link Method#invoke(Object, Object...)}: invalid arguments lead to an
+   * {@link IllegalArgumentException}, exceptions raised by the method itself are wrapped into an
+   * {@link InvocationTargetException}.
+   */
+  public static final class Accessor {
+    private final Method method;
+    private final MethodHandle handle;
+    private final Class<?>[] parameterTypes;
+    private final String attributeName;
+
+    private Accessor(final Method method, final MethodHandle handle) {
+      this.method = method;
+      this.handle = handle;
+      this.parameterTypes = method.getParameterTypes();
+      final String name = method.getName();
+      this.attributeName = name.substring(3, 4).toLowerCase(Locale.ENGLISH) + name.substring(4);
+    }
+
+    /**
+     * Name of the attribute derived from the method name, e.g. <code>name</code> for <code>getName</code>.
+     */
+    public String getAttributeName() {
+      return attributeName;
+    }
+
+    public Method getMethod() {
+      return method;
+    }
+
+    public Class<?>[] getParameterTypes() {
+      return parameterTypes.clone();
+    }
+
+    public Object get(final Object instance) throws IllegalAccessException, InvocationTargetException {
+      if (handle == null || !method.getDeclaringClass().isInstance(instance))
+        return method.invoke(instance);
+      try {
+        return handle.invokeExact(instance);
+      } catch (final Throwable e) { // NOSONAR
+        throw new InvocationTargetException(e);
+      }
+    }
+
+    public void set(final Object instance, final Object value) throws IllegalAccessException,
+        InvocationTargetException {
+      if (handle == null || !method.getDeclaringClass().isInstance(instance) || !isAssignable(value)) {
+        method.invoke(instance, value);
+        return;
+      }
+      try {
+        handle.invokeExact(instance, value);
+      } catch (final Throwable e) { // NOSONAR
+        throw new InvocationTargetException(e);
+      }
+    }
+
+    private boolean isAssignable(final Object value) {
+      final Class<?> parameterType = parameterTypes[0];
+      if (parameterType.isPrimitive())
+        return value != null && MethodType.methodType(parameterType).wrap().returnType() == value.getClass();
+      return value == null || parameterType.isInstance(value);
+    }
+
+    @Override
+    public String toString() {
+      return "Accessor [method=" + method + "]";
+    }
+  }
+}
@@ -6,11 +6,9 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 
 import javax.annotation.Nonnull;
@@ -31,6 +29,7 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelExcept
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAInvocationTargetException;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException.MessageKeys;
+import com.sap.olingo.jpa.processor.core.processor.JPAJavaAccessors.Accessor;
 
 /**
  * This class provides some primitive util methods to support modifying
@@ -39,7 +38,7 @@ import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException.Me
  * The set method shall fill an object from a given Map. JPA processor provides
  * in a Map the internal, JAVA attribute, names. Based on the JAVA naming
  * conventions the corresponding Setter is called, as long as the Setter has the
- * correct type.
+ * correct type. Getter and setter are taken from {@link JPAJavaAccessors}, so they are looked up only once per class.
  *
  * @author Oliver Grande
  *
@@ -147,12 +146,9 @@ public final class JPAModifyUtil {
         for (final JPAAttribute keyElement : et.getKey()) {
           setAttribute(key, keyElement, jpaKeys.get(keyElement.getInternalName()));
         }
-        final var setter = Arrays.stream(instance.getClass().getMethods())
-            .filter(method -> method.getParameterCount() == 1
-                && method.getParameters()[0].getType() == et.getKeyType())
-            .findAny();
+        final var setter = JPAJavaAccessors.of(instance.getClass()).findMethodWithParameter(et.getKeyType());
         if (setter.isPresent()) {
-          setter.get().invoke(instance, key);
+          setter.get().set(instance, key);
         }
       } else {
         for (final var key : et.getKey()) {
@@ -204,31 +200,27 @@ public final class JPAModifyUtil {
    */
   public void setAttributes(final Map<String, Object> jpaAttributes, final Object instance, final JPAStructuredType st)
       throws ODataJPAProcessorException, ODataJPAInvocationTargetException {
-    final Method[] methods = instance.getClass().getMethods();
-    for (final Method meth : methods) {
-      if (meth.getName().substring(0, 3).equals("set")) {
-        final String attributeName = meth.getName().substring(3, 4).toLowerCase(Locale.ENGLISH) + meth.getName()
-            .substring(4);
-        if (jpaAttributes.containsKey(attributeName)) {
-          final Object value = jpaAttributes.get(attributeName);
-          if (!(value instanceof Map<?, ?>) && !(value instanceof JPARequestEntity)) {
+    for (final Accessor meth : JPAJavaAccessors.of(instance.getClass()).getSetters()) {
+      final String attributeName = meth.getAttributeName();
+      if (jpaAttributes.containsKey(attributeName)) {
+        final Object value = jpaAttributes.get(attributeName);
+        if (!(value instanceof Map<?, ?>) && !(value instanceof JPARequestEntity)) {
+          try {
+            final Class<?>[] parameters = meth.getParameterTypes();
+            if (parameters.length == 1 && (value == null || value.getClass() == parameters[0])) {
+              meth.set(instance, value);
+            }
+          } catch (IllegalAccessException | IllegalArgumentException e) {
+            throw new ODataJPAProcessorException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
+          } catch (final InvocationTargetException e) {
             try {
-              final Class<?>[] parameters = meth.getParameterTypes();
-              if (parameters.length == 1 && (value == null || value.getClass() == parameters[0])) {
-                meth.invoke(instance, value);
-              }
-            } catch (IllegalAccessException | IllegalArgumentException e) {
-              throw new ODataJPAProcessorException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
-            } catch (final InvocationTargetException e) {
-              try {
-                throw new ODataJPAInvocationTargetException(e.getCause(),
-                    st.getExternalName() + JPAPath.PATH_SEPARATOR + st.getAttribute(attributeName)
-                        .orElseThrow(() -> new ODataJPAProcessorException(
-                            ATTRIBUTE_NOT_FOUND, HttpStatusCode.INTERNAL_SERVER_ERROR, attributeName))
-                        .getExternalName());
-              } catch (final ODataJPAModelException e1) {
-                throw new ODataJPAProcessorException(e1, HttpStatusCode.INTERNAL_SERVER_ERROR);
-              }
+              throw new ODataJPAInvocationTargetException(e.getCause(),
+                  st.getExternalName() + JPAPath.PATH_SEPARATOR + st.getAttribute(attributeName)
+                      .orElseThrow(() -> new ODataJPAProcessorException(
+                          ATTRIBUTE_NOT_FOUND, HttpStatusCode.INTERNAL_SERVER_ERROR, attributeName))
+                      .getExternalName());
+            } catch (final ODataJPAModelException e1) {
+              throw new ODataJPAProcessorException(e1, HttpStatusCode.INTERNAL_SERVER_ERROR);
             }
           }
         }
@@ -253,16 +245,13 @@ public final class JPAModifyUtil {
   public void setAttributesDeep(final Map<String, Object> jpaAttributes, final Object instance,
       final JPAStructuredType st) throws ODataJPAProcessorException, ODataJPAInvocationTargetException {
 
-    final Method[] methods = instance.getClass().getMethods();
-    for (final Method meth : methods) {
-      if (meth.getName().substring(0, 3).equals("set")) {
-        final String attributeName = meth.getName().substring(3, 4).toLowerCase() + meth.getName().substring(4);
-        if (jpaAttributes.containsKey(attributeName)) {
-          final Object value = jpaAttributes.get(attributeName);
-          final Class<?>[] parameters = meth.getParameterTypes();
-          if (!(value instanceof JPARequestEntity) && parameters.length == 1) {
-            setAttributeDeep(instance, st, meth, attributeName, value, parameters);
-          }
+    for (final Accessor meth : JPAJavaAccessors.of(instance.getClass()).getSetters()) {
+      final String attributeName = meth.getAttributeName();
+      if (jpaAttributes.containsKey(attributeName)) {
+        final Object value = jpaAttributes.get(attributeName);
+        final Class<?>[] parameters = meth.getParameterTypes();
+        if (!(value instanceof JPARequestEntity) && parameters.length == 1) {
+          setAttributeDeep(instance, st, meth, attributeName, value, parameters);
         }
       }
     }
@@ -324,15 +313,16 @@ public final class JPAModifyUtil {
     for (final JPAElement pathItem : pathInfo.getPath()) {
       if (pathItem != pathInfo.getLeaf()) {
         final String methodSuffix = buildMethodNameSuffix(pathItem);
-        final Method getter = source.getClass().getMethod("get" + methodSuffix);
-        Object next = getter.invoke(source);
+        final Accessor getter = JPAJavaAccessors.of(source.getClass()).getGetter("get" + methodSuffix);
+        Object next = getter.get(source);
         if (next == null) {
           try {
             final Constructor<?> constructor = ((JPAAttribute) pathItem).getStructuredType().getTypeClass()
                 .getConstructor();
             next = constructor.newInstance();
-            final Method setter = source.getClass().getMethod("set" + methodSuffix, next.getClass());
-            setter.invoke(source, next);
+            final Accessor setter = JPAJavaAccessors.of(source.getClass()).getSetter("set" + methodSuffix,
+                next.getClass());
+            setter.set(source, next);
           } catch (ODataJPAModelException | InstantiationException e) {
             throw new ODataJPAProcessorException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
           }
@@ -356,11 +346,12 @@ public final class JPAModifyUtil {
   private Object getAttribute(final Object instance, final JPAElement attribute) throws NoSuchMethodException,
       ODataJPAProcessorException, IllegalAccessException, InvocationTargetException {
 
-    final Method getter = instance.getClass().getMethod("get" + buildMethodNameSuffix(attribute));
+    final Accessor getter = JPAJavaAccessors.of(instance.getClass())
+        .getGetter("get" + buildMethodNameSuffix(attribute));
     if (getter == null)
       throw new ODataJPAProcessorException(MessageKeys.GETTER_NOT_FOUND, HttpStatusCode.INTERNAL_SERVER_ERROR,
           buildMethodNameSuffix(attribute), instance.getClass().getName());
-    return getter.invoke(instance);
+    return getter.get(instance);
   }
 
   private void handleInvocationTargetException(final JPAStructuredType st, final String attributeName,
@@ -398,23 +389,25 @@ public final class JPAModifyUtil {
   private Object readCurrentState(final Object instance, final JPAElement attribute) throws NoSuchMethodException,
       IllegalAccessException, InvocationTargetException {
 
-    final Method getter = instance.getClass().getMethod("get" + buildMethodNameSuffix(attribute));
+    final Accessor getter = JPAJavaAccessors.of(instance.getClass())
+        .getGetter("get" + buildMethodNameSuffix(attribute));
     if (getter == null)
       return null;
-    return getter.invoke(instance);
+    return getter.get(instance);
   }
 
   private void setAttribute(final Object instance, final JPAElement attribute, final Object value)
       throws NoSuchMethodException, ODataJPAProcessorException, IllegalAccessException, InvocationTargetException {
 
-    final Method setter = instance.getClass().getMethod("set" + buildMethodNameSuffix(attribute), value.getClass());
+    final Accessor setter = JPAJavaAccessors.of(instance.getClass())
+        .getSetter("set" + buildMethodNameSuffix(attribute), value.getClass());
     if (setter == null)
       throw new ODataJPAProcessorException(MessageKeys.SETTER_NOT_FOUND, HttpStatusCode.INTERNAL_SERVER_ERROR,
           buildMethodNameSuffix(attribute), instance.getClass().getName(), value.getClass().getName());
-    setter.invoke(instance, value);
+    setter.set(instance, value);
   }
 
-  private void setAttributeDeep(final Object instance, final JPAStructuredType st, final Method method,
+  private void setAttributeDeep(final Object instance, final JPAStructuredType st, final Accessor method,
       final String attributeName, final Object value, final Class<?>[] parameters) throws ODataJPAProcessorException,
       ODataJPAInvocationTargetException {
     try {
@@ -423,7 +416,7 @@ public final class JPAModifyUtil {
               HttpStatusCode.INTERNAL_SERVER_ERROR, attributeName));
       if (!attribute.isComplex() || value == null) {
         if (value == null || parameters[0].isAssignableFrom(value.getClass())) {
-          method.invoke(instance, value);
+          method.set(instance, value);
         }
       } else if (attribute.isCollection()) {
         setEmbeddedCollectionAttributeDeep(instance, st, method, value, parameters, attribute);
@@ -439,7 +432,7 @@ public final class JPAModifyUtil {
   }
 
   @SuppressWarnings("unchecked")
-  private void setEmbeddedAttributeDeep(final Object instance, final JPAStructuredType st, final Method meth,
+  private void setEmbeddedAttributeDeep(final Object instance, final JPAStructuredType st, final Accessor meth,
       final Object value, final Class<?>[] parameters, final JPAAttribute attribute)
       throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException,
       ODataJPAModelException, ODataJPAProcessorException, ODataJPAInvocationTargetException {
@@ -447,7 +440,7 @@ public final class JPAModifyUtil {
     Object embedded = readCurrentState(instance, attribute);
     if (embedded == null) {
       embedded = createInstance(parameters[0]);
-      meth.invoke(instance, embedded);
+      meth.set(instance, embedded);
     }
     if (embedded != null) {
       if (this.st == null)
@@ -461,7 +454,7 @@ public final class JPAModifyUtil {
 
   @SuppressWarnings("unchecked")
   private void setEmbeddedCollectionAttributeDeep(final Object instance, final JPAStructuredType st,
-      final Method method,
+      final Accessor method,
       final Object value, final Class<?>[] parameters, final JPAAttribute attribute)
       throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException,
       ODataJPAModelException, ODataJPAProcessorException, ODataJPAInvocationTargetException {
@@ -474,7 +467,7 @@ public final class JPAModifyUtil {
       } else {
         embedded = (Collection<Object>) createInstance(parameters[0]);
       }
-      method.invoke(instance, embedded);
+      method.set(instance, embedded);
     }
     if (embedded != null) {
       if (this.st == null)
@@ -497,16 +490,17 @@ public final class JPAModifyUtil {
 
     final String methodSuffix = attribute.getInternalName().substring(0, 1).toUpperCase() + attribute.getInternalName()
         .substring(1);
+    final JPAJavaAccessors accessors = JPAJavaAccessors.of(sourceInstance.getClass());
 
     if (attribute.isCollection()) {
-      final Method getter = sourceInstance.getClass().getMethod("get" + methodSuffix);
-      ((Collection<T>) getter.invoke(sourceInstance)).add(targetInstance);
+      final Accessor getter = accessors.getGetter("get" + methodSuffix);
+      ((Collection<T>) getter.get(sourceInstance)).add(targetInstance);
     } else {
-      Method setter = null;
+      Accessor setter = null;
       Class<?> clazz = targetInstance.getClass();
       while (clazz != null && setter == null) {
         try {
-          setter = sourceInstance.getClass().getMethod("set" + methodSuffix, clazz);
+          setter = accessors.getSetter("set" + methodSuffix, clazz);
         } catch (final NoSuchMethodException e) {
           clazz = clazz.getSuperclass();
         }
@@ -514,7 +508,7 @@ public final class JPAModifyUtil {
       if (setter == null)
         throw new ODataJPAProcessorException(MessageKeys.SETTER_NOT_FOUND, HttpStatusCode.INTERNAL_SERVER_ERROR, "set"
             + methodSuffix, sourceInstance.getClass().getName(), targetInstance.getClass().getName());
-      setter.invoke(sourceInstance, targetInstance);
+      setter.set(sourceInstance, targetInstance);
     }
   }
 }
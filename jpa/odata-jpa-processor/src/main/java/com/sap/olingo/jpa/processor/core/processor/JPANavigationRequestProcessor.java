@@ -8,12 +8,20 @@ import static com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorExcep
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.Tuple;
 
 import org.apache.commons.logging.Log;
@@ -35,6 +43,7 @@ import org.apache.olingo.server.api.ServiceMetadata;
 import org.apache.olingo.server.api.etag.PreconditionException;
 import org.apache.olingo.server.api.uri.UriInfoResource;
 import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceEntitySet;
 import org.apache.olingo.server.api.uri.UriResourceKind;
 import org.apache.olingo.server.api.uri.UriResourcePartTyped;
 import org.apache.olingo.server.api.uri.queryoption.SystemQueryOptionKind;
@@ -42,7 +51,12 @@ import org.apache.olingo.server.api.uri.queryoption.SystemQueryOptionKind;
 import com.sap.olingo.jpa.metadata.api.JPAHttpHeaderMap;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAnnotatable;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAssociationPath;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+import com.sap.olingo.jpa.processor.core.api.JPAODataClaimProvider;
+import com.sap.olingo.jpa.processor.core.api.JPAODataEntityCache;
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetrics.Phase;
+import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.converter.JPAExpandResult;
 import com.sap.olingo.jpa.processor.core.converter.JPATupleChildConverter;
@@ -50,6 +64,8 @@ import com.sap.olingo.jpa.processor.core.exception.ODataJPANotImplementedExcepti
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessException;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException;
+import com.sap.olingo.jpa.processor.core.modify.JPAConversionHelper;
+import com.sap.olingo.jpa.processor.core.query.JPAApplyQuery;
 import com.sap.olingo.jpa.processor.core.query.JPACollectionItemInfo;
 import com.sap.olingo.jpa.processor.core.query.JPACollectionJoinQuery;
 import com.sap.olingo.jpa.processor.core.query.JPAConvertibleResult;
@@ -61,6 +77,7 @@ import com.sap.olingo.jpa.processor.core.query.JPAJoinQuery;
 import com.sap.olingo.jpa.processor.core.query.JPAKeyBoundary;
 import com.sap.olingo.jpa.processor.core.query.JPANavigationPropertyInfo;
 import com.sap.olingo.jpa.processor.core.query.Utility;
+import com.sap.olingo.jpa.processor.core.uri.JPAKeysetSkipTokenOption;
 
 public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestProcessor {
   private static final Log LOGGER = LogFactory.getLog(JPANavigationRequestProcessor.class);
@@ -80,8 +97,33 @@ public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestPr
   public <K extends Comparable<K>> void retrieveData(final ODataRequest request, final ODataResponse response,
       final ContentType responseFormat) throws ODataException {
 
+    final var admission = admit(response);
+    try {
+      retrieveAdmittedData(request, response, responseFormat);
+    } catch (final ODataException | RuntimeException e) {
+      admission.close();
+      throw e;
+    }
+    releaseAdmission(response, admission);
+  }
+
+  private void retrieveAdmittedData(final ODataRequest request, final ODataResponse response,
+      final ContentType responseFormat) throws ODataException {
+
     try (var measurement = debugger.newMeasurement(this, "retrieveData")) {
       checkRequestSupported();
+      if (uriInfo.getApplyOption() != null) {
+        retrieveAggregatedData(request, response, responseFormat);
+        return;
+      }
+      final var entityCacheKey = determineEntityCacheKey(request);
+      if (entityCacheKey.isPresent() && retrieveCachedEntity(request, response, responseFormat, entityCacheKey.get()))
+        return;
+      // Taken before reading, so that an entity changed in the meantime does not get cached
+      final var entityCacheGeneration = entityCacheKey.isPresent()
+          ? requestContext.getEntityCache().get().getGeneration()
+          : 0L;
+      final var entitySet = determineMetricsKey();
       // Create a JPQL Query and execute it
       JPAJoinQuery query = null;
       try {
@@ -89,7 +131,10 @@ public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestPr
       } catch (final ODataException e) {
         throw new ODataJPAProcessorException(QUERY_PREPARATION_ERROR, HttpStatusCode.INTERNAL_SERVER_ERROR, e);
       }
-
+      if (isStreamingPossible(request, query)) {
+        retrieveDataStreamed(request, response, responseFormat, query, entitySet);
+        return;
+      }
       final var result = query.execute();
       // Validate If-Match and If-None-Match headers
       final var conditionValidationResult = validateEntityTag(result, requestContext.getHeader());
@@ -99,23 +144,34 @@ public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestPr
         final var keyBoundary = result.getKeyBoundary(requestContext, query.getNavigationInfo());
         final var watchDog = new JPAExpandWatchDog(determineTargetEntitySet(requestContext));
         watchDog.watch(uriInfo.getExpandOption(), uriInfo.getUriResourceParts());
+        final var expandStart = System.nanoTime();
         result.putChildren(readExpandEntities(request.getAllHeaders(), query.getNavigationInfo(), uriInfo, keyBoundary,
             watchDog));
+        metrics.record(Phase.EXPAND, entitySet, System.nanoTime() - expandStart);
       }
+      // Next link of keyset paging depends on last row, which gets lost during conversion
+      final var nextLink = buildNextLink(uriInfo, query, result);
       // Convert tuple result into an OData Result
       try (var converterMeasurement = debugger.newMeasurement(this, "convertResult")) {
+        final var convertStart = System.nanoTime();
         entityCollection = result.asEntityCollection(new JPATupleChildConverter(sd, odata.createUriHelper(),
             serviceMetadata, requestContext)).get(ROOT_RESULT_KEY);
+        metrics.record(Phase.CONVERT, entitySet, System.nanoTime() - convertStart);
       } catch (final ODataApplicationException e) {
         throw new ODataJPAProcessorException(QUERY_RESULT_CONV_ERROR, HttpStatusCode.INTERNAL_SERVER_ERROR, e);
       }
       // Set Next Link
-      entityCollection.setNext(buildNextLink(uriInfo));
+      entityCollection.setNext(nextLink);
       // Count results if requested
       final var countOption = uriInfo.getCountOption();
       if (countOption != null && countOption.getValue())
-        entityCollection.setCount(new JPAJoinCountQuery(odata, requestContext)
-            .countResults().intValue());
+        entityCollection.setCount(query.getFusedCount().isPresent()
+            ? query.getFusedCount().get().intValue()
+            : new JPAJoinCountQuery(odata, requestContext).countResults().intValue());
+      // Cache the result only when it is complete, as it is shared with other requests
+      if (entityCacheKey.isPresent() && entityCollection.getEntities() != null
+          && entityCollection.getEntities().size() == 1)
+        requestContext.getEntityCache().get().put(entityCacheKey.get(), entityCollection, entityCacheGeneration);
 
       /*
        * See part 1:
@@ -154,8 +210,16 @@ public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestPr
       // 200 OK indicates that either a result was found or that the a Entity Collection query had no result
       else if (entityCollection.getEntities() != null) {
         try (var serializerMeasurement = debugger.newMeasurement(this, "serialize")) {
-          final var serializerResult = serializer.serialize(request, entityCollection);
-          createSuccessResponse(response, responseFormat, serializerResult, entityCollection);
+          if (isDirectWritePossible()) {
+            // The iterator reports the serialization phase, as it takes place while the response is written
+            createSuccessResponse(response, responseFormat, serializer.serialize(request,
+                new JPAEntityCollectionIterator(entityCollection, metrics, entitySet)), entityCollection);
+          } else {
+            final var serializeStart = System.nanoTime();
+            final var serializerResult = serializer.serialize(request, entityCollection);
+            createSuccessResponse(response, responseFormat, serializerResult, entityCollection);
+            metrics.record(Phase.SERIALIZE, entitySet, System.nanoTime() - serializeStart);
+          }
         }
       } else {
         // A request returns 204 No Content if the requested resource has the null value, or if the service applies a
@@ -165,9 +229,147 @@ public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestPr
     }
   }
 
+  /**
+   * Entity collections are streamed into the response if requested by the query directives and no information is
+   * needed that requires the complete result to be read upfront: $expand, collection properties or ETag preconditions.
+   * A debug response needs the complete content, so nothing is streamed in debug mode.
+   */
+  boolean isStreamingPossible(final ODataRequest request, final JPAJoinQuery query) throws ODataException {
+    final var streamingEnabled = Optional.ofNullable(requestContext.getQueryDirectives())
+        .map(JPAODataQueryDirectives::isCollectionStreamingEnabled)
+        .orElse(false);
+    return streamingEnabled
+        && !debugger.isDebugMode()
+        && serializer != null
+        && serializer.isStreamingSupported()
+        && isEntityCollection(lastItem)
+        && uriInfo.getExpandOption() == null
+        && !(uriInfo.getSkipTokenOption() instanceof JPAKeysetSkipTokenOption)
+        && request.getHeader(HttpHeader.IF_MATCH) == null
+        && request.getHeader(HttpHeader.IF_NONE_MATCH) == null
+        && new JPAExpandItemInfoFactory(requestContext).buildCollectionItemInfo(sd, uriInfo, query.getNavigationInfo(),
+            requestContext.getGroupsProvider()).isEmpty();
+  }
+
+  /**
+   * Entity collections, which have been read completely, are serialized while the response is written, if requested
+   * by the query directives and not in debug mode.
+   */
+  boolean isDirectWritePossible() {
+    return Optional.ofNullable(requestContext.getQueryDirectives())
+        .map(JPAODataQueryDirectives::isDirectWriteEnabled)
+        .orElse(false)
+        && !debugger.isDebugMode()
+        && serializer != null
+        && serializer.isStreamingSupported()
+        && isEntityCollection(lastItem);
+  }
+
+  private void retrieveDataStreamed(final ODataRequest request, final ODataResponse response,
+      final ContentType responseFormat, final JPAJoinQuery query, final String entitySet) throws ODataException {
+
+    // Count first, so that the query result is not kept open longer than needed
+    Integer count = null;
+    final var countOption = uriInfo.getCountOption();
+    if (countOption != null && countOption.getValue())
+      count = new JPAJoinCountQuery(odata, requestContext).countResults().intValue();
+    final var result = query.executeAsStream();
+    final var iterator = new JPAEntityStreamIterator(result, new JPATupleChildConverter(sd, odata.createUriHelper(),
+        serviceMetadata, requestContext), count, buildNextLink(uriInfo), metrics, entitySet);
+    try (var serializerMeasurement = debugger.newMeasurement(this, "serializeStreamed")) {
+      createSuccessResponse(response, responseFormat, serializer.serialize(request, iterator));
+    } catch (final ODataException | RuntimeException e) {
+      iterator.close();
+      throw e;
+    }
+  }
+
+  /**
+   * A single entity requested by its key can be taken from the {@link JPAODataEntityCache}, provided that its entity
+   * is cached and no precondition has to be checked. Results that contain expanded entities are only cached if no
+   * claims are present, as the claims are only taken into account for the requested entity.
+   */
+  Optional<JPAODataEntityCache.Key> determineEntityCacheKey(final ODataRequest request) throws ODataException {
+
+    final var entityCache = Objects.requireNonNullElse(requestContext.getEntityCache(),
+        Optional.<JPAODataEntityCache> empty());
+    if (entityCache.isEmpty()
+        || uriInfo.getUriResourceParts().size() != 1
+        || !(lastItem instanceof final UriResourceEntitySet entitySetResource)
+        || entitySetResource.getKeyPredicates().isEmpty()
+        || request.getHeader(HttpHeader.IF_MATCH) != null
+        || request.getHeader(HttpHeader.IF_NONE_MATCH) != null)
+      return Optional.empty();
+
+    final var claims = requestContext.getClaimsProvider();
+    final var et = sd.getEntity(entitySetResource.getEntitySet().getName());
+    if (et == null
+        || !entityCache.get().isCached(et.getTypeClass())
+        || (claims.isPresent() && uriInfo.getExpandOption() != null))
+      return Optional.empty();
+    return Optional.of(new JPAODataEntityCache.Key(request.getRawODataPath(), request.getRawQueryPath(),
+        requestContext.getLocale().toString(), determineFingerprint(et, claims), et.getTypeClass(),
+        JPAODataEntityCache.asKeys(new JPAConversionHelper().convertUriKeys(odata, et,
+            entitySetResource.getKeyPredicates())), uriInfo.getExpandOption() != null));
+  }
+
+  private String determineFingerprint(final JPAEntityType et, final Optional<JPAODataClaimProvider> claims)
+      throws ODataJPAModelException {
+
+    final var fingerprint = new StringBuilder();
+    requestContext.getGroupsProvider().ifPresent(groups -> fingerprint.append(groups.getGroups()));
+    if (claims.isPresent()) {
+      for (final var protection : et.getProtections())
+        fingerprint.append(protection.getClaimName()).append(claims.get().get(protection.getClaimName()));
+    }
+    return fingerprint.toString();
+  }
+
+  private boolean retrieveCachedEntity(final ODataRequest request, final ODataResponse response,
+      final ContentType responseFormat, final JPAODataEntityCache.Key entityCacheKey) throws ODataException {
+
+    final var entityCollection = requestContext.getEntityCache()
+        .flatMap(cache -> cache.get(entityCacheKey));
+    if (entityCollection.isEmpty())
+      return false;
+    try (var serializerMeasurement = debugger.newMeasurement(this, "serializeCached")) {
+      createSuccessResponse(response, responseFormat, serializer.serialize(request, entityCollection.get()),
+          entityCollection.get());
+    }
+    return true;
+  }
+
+  /**
+   * The transformations of $apply are executed by the database, see {@link JPAApplyQuery}.
+   */
+  private void retrieveAggregatedData(final ODataRequest request, final ODataResponse response,
+      final ContentType responseFormat) throws ODataException {
+
+    final var entityCollection = new JPAApplyQuery(odata, requestContext).execute();
+    try (var serializerMeasurement = debugger.newMeasurement(this, "serialize")) {
+      createSuccessResponse(response, responseFormat, serializer.serialize(request, entityCollection), null);
+    }
+  }
+
+  private static boolean isEntityCollection(final UriResource resource) {
+    return (resource.getKind() == UriResourceKind.entitySet
+        || resource.getKind() == UriResourceKind.navigationProperty)
+        && ((UriResourcePartTyped) resource).isCollection();
+  }
+
   void checkRequestSupported() throws ODataJPAProcessException {
-    if (uriInfo.getApplyOption() != null)
-      throw new ODataJPANotImplementedException("$apply");
+    if (uriInfo.getApplyOption() != null) {
+      if (!isEntityCollection(lastItem))
+        throw new ODataJPANotImplementedException("$apply");
+      if (uriInfo.getExpandOption() != null)
+        throw new ODataJPANotImplementedException("$apply with $expand");
+      if (uriInfo.getOrderByOption() != null)
+        throw new ODataJPANotImplementedException("$apply with $orderby");
+      if (uriInfo.getCountOption() != null && uriInfo.getCountOption().getValue())
+        throw new ODataJPANotImplementedException("$apply with $count");
+      if (uriInfo.getSkipTokenOption() != null)
+        throw new ODataJPANotImplementedException("$apply with $skiptoken");
+    }
   }
 
   /**
@@ -235,10 +437,32 @@ public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestPr
     return list == null || list.isEmpty();
   }
 
+  private URI buildNextLink(final UriInfoResource uriInfo, final JPAJoinQuery query,
+      final JPAConvertibleResult result) throws ODataJPAProcessorException, ODataJPAQueryException {
+
+    if (uriInfo != null && uriInfo.getSkipTokenOption() instanceof final JPAKeysetSkipTokenOption keysetOption) {
+      final var rows = result instanceof final JPAExpandResult expandResult
+          ? expandResult.getResult(ROOT_RESULT_KEY)
+          : Collections.<Tuple> emptyList();
+      final var lastPosition = rows.isEmpty()
+          ? Collections.<String, String> emptyMap()
+          : query.getKeysetPosition(rows.get(rows.size() - 1));
+      return buildNextLink(uriInfo, keysetOption.skipToken().get(lastPosition, rows.size()));
+    }
+    return buildNextLink(uriInfo);
+  }
+
   private URI buildNextLink(final UriInfoResource uriInfo) throws ODataJPAProcessorException {
     if (uriInfo != null && uriInfo.getSkipTokenOption() != null) {
+      return buildNextLink(uriInfo, uriInfo.getSkipTokenOption().getValue());
+    }
+    return null;
+  }
+
+  private URI buildNextLink(final UriInfoResource uriInfo, final String skipToken)
+      throws ODataJPAProcessorException {
+    if (skipToken != null) {
       try {
-        final var skipToken = uriInfo.getSkipTokenOption().getValue();
         return new URI(Utility.determineBindingTarget(uriInfo.getUriResourceParts()).getName() + "?"
             + SystemQueryOptionKind.SKIPTOKEN.toString() + "=" + skipToken);
       } catch (final URISyntaxException e) {
@@ -307,6 +531,19 @@ public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestPr
     return (property != null && property.getValue() == null);
   }
 
+  private Map<JPAAssociationPath, JPAExpandResult> readExpandEntities(final Map<String, List<String>> headers,
+      final List<JPANavigationPropertyInfo> parentHops, final UriInfoResource uriResourceInfo,
+      final Optional<JPAKeyBoundary> keyBoundary, final JPAExpandWatchDog watchDog) throws ODataException {
+
+    final var executor = Optional.ofNullable(requestContext.getQueryDirectives())
+        .flatMap(JPAODataQueryDirectives::getExpandExecutor);
+    final var entityManagerSupplier = requestContext.getEntityManagerSupplier();
+    if (executor.isPresent() && entityManagerSupplier.isPresent())
+      return readExpandEntitiesConcurrent(executor.get(), entityManagerSupplier.get(), headers, parentHops,
+          uriResourceInfo, keyBoundary, watchDog);
+    return readExpandEntities(requestContext, headers, parentHops, uriResourceInfo, keyBoundary, watchDog);
+  }
+
   /**
    * $expand is implemented as a recursively processing of all expands with a DB round trip per expand item.
    * Alternatively also a <i>big</i> join could be created. This would lead to a transport of redundant data, but has
@@ -332,6 +569,7 @@ public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestPr
    * <a href=
    * "http://docs.oasis-open.org/odata/odata/v4.0/errata02/os/complete/part2-url-conventions/odata-v4.0-errata02-os-part2-url-conventions-complete.html#_Toc406398162"
    * >OData Version 4.0 Part 2 - 5.1.2 System Query Option $expand</a> boundary
+   * @param context
    * @param headers
    * @param parentHops
    * @param uriResourceInfo
@@ -340,14 +578,15 @@ public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestPr
    * @return
    * @throws ODataException
    */
-  private Map<JPAAssociationPath, JPAExpandResult> readExpandEntities(final Map<String, List<String>> headers,
-      final List<JPANavigationPropertyInfo> parentHops, final UriInfoResource uriResourceInfo,
-      final Optional<JPAKeyBoundary> keyBoundary, final JPAExpandWatchDog watchDog) throws ODataException {
+  private Map<JPAAssociationPath, JPAExpandResult> readExpandEntities(final JPAODataRequestContextAccess context,
+      final Map<String, List<String>> headers, final List<JPANavigationPropertyInfo> parentHops,
+      final UriInfoResource uriResourceInfo, final Optional<JPAKeyBoundary> keyBoundary,
+      final JPAExpandWatchDog watchDog) throws ODataException {
 
     try (var expandMeasurement = debugger.newMeasurement(this, "readExpandEntities")) {
 
-      final var factory = new JPAExpandQueryFactory(odata, requestContext, cb);
-      final Map<JPAAssociationPath, JPAExpandResult> allExpResults = new HashMap<>();
+      final var factory = new JPAExpandQueryFactory(odata, context, context.getEntityManager().getCriteriaBuilder());
+      final Map<JPAAssociationPath, JPAExpandResult> allExpResults = new LinkedHashMap<>();
       if (watchDog.getRemainingLevels() > 0) {
         // x/a?$expand=b/c($expand=d,e/f)&$filter=...&$top=3&$orderBy=...
         // x?$expand=*(levels=3)
@@ -360,32 +599,144 @@ public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestPr
         // sub-query used within EXISTS.
         // Solution: Forward the highest and lowest key from the root and create a "between" those.
 
-        final var itemInfoList = new JPAExpandItemInfoFactory(requestContext)
+        final var itemInfoList = new JPAExpandItemInfoFactory(context)
             .buildExpandItemInfo(sd, uriResourceInfo, parentHops, keyBoundary, factory);
         for (final JPAExpandItemInfo item : watchDog.filter(itemInfoList)) {
           final var expandQuery = factory.createQuery(item, keyBoundary);
           final var expandResult = expandQuery.execute();
           if (expandResult.getNoResults() > 0)
             // Only go to the next hop if the current one has a result
-            expandResult.putChildren(readExpandEntities(headers, item.getHops(), item.getUriInfo(), keyBoundary,
-                watchDog));
+            expandResult.putChildren(readExpandEntities(context, headers, item.getHops(), item.getUriInfo(),
+                keyBoundary, watchDog));
           allExpResults.put(item.getExpandAssociation(), expandResult);
         }
         watchDog.levelProcessed();
       }
       // process collection attributes
+      final var collectionInfoList = new JPAExpandItemInfoFactory(context)
+          .buildCollectionItemInfo(sd, uriResourceInfo, parentHops, context.getGroupsProvider());
+      for (final JPACollectionItemInfo item : collectionInfoList) {
+        allExpResults.put(item.getExpandAssociation(), readCollection(context, headers, item, keyBoundary));
+      }
+      return allExpResults;
+    }
+  }
+
+  /**
+   * Concurrent variant of {@link #readExpandEntities(JPAODataRequestContextAccess, Map, List, UriInfoResource,
+   * Optional, JPAExpandWatchDog)}. The expand items and collection properties of the first level are read in parallel
+   * on the given executor. Each branch gets its own entity manager, created by the entity manager supplier of the
+   * request context, and its own copy of the watch dog, so that a branch, including its nested expands, can be
+   * processed independently. Nested expands are read sequentially within their branch. The results are merged in the
+   * order of the items.
+   * @param executor
+   * @param entityManagerSupplier
+   * @param headers
+   * @param parentHops
+   * @param uriResourceInfo
+   * @param keyBoundary
+   * @param watchDog
+   * @return
+   * @throws ODataException
+   */
+  private Map<JPAAssociationPath, JPAExpandResult> readExpandEntitiesConcurrent(final Executor executor,
+      final Supplier<EntityManager> entityManagerSupplier, final Map<String, List<String>> headers,
+      final List<JPANavigationPropertyInfo> parentHops,
+      final UriInfoResource uriResourceInfo, final Optional<JPAKeyBoundary> keyBoundary,
+      final JPAExpandWatchDog watchDog) throws ODataException {
+
+    try (var expandMeasurement = debugger.newMeasurement(this, "readExpandEntitiesConcurrent")) {
+      final List<JPAAssociationPath> associations = new ArrayList<>();
+      final List<CompletableFuture<JPAExpandResult>> branches = new ArrayList<>();
+      if (watchDog.getRemainingLevels() > 0) {
+        final var factory = new JPAExpandQueryFactory(odata, requestContext, cb);
+        final var itemInfoList = new JPAExpandItemInfoFactory(requestContext)
+            .buildExpandItemInfo(sd, uriResourceInfo, parentHops, keyBoundary, factory);
+        for (final JPAExpandItemInfo item : watchDog.filter(itemInfoList)) {
+          final var branchWatchDog = new JPAExpandWatchDog(watchDog);
+          associations.add(item.getExpandAssociation());
+          branches.add(startBranch(executor, entityManagerSupplier, headers, context -> readExpandItem(context,
+              headers, item, keyBoundary, branchWatchDog)));
+        }
+        watchDog.levelProcessed();
+      }
       final var collectionInfoList = new JPAExpandItemInfoFactory(requestContext)
           .buildCollectionItemInfo(sd, uriResourceInfo, parentHops, requestContext.getGroupsProvider());
       for (final JPACollectionItemInfo item : collectionInfoList) {
-        final var collectionQuery = new JPACollectionJoinQuery(odata, item,
-            new JPAODataInternalRequestContext(item.getUriInfo(), requestContext, headers), keyBoundary);
-        final JPAExpandResult expandResult = collectionQuery.execute();
-        allExpResults.put(item.getExpandAssociation(), expandResult);
+        associations.add(item.getExpandAssociation());
+        branches.add(startBranch(executor, entityManagerSupplier, headers, context -> readCollection(context, headers,
+            item, keyBoundary)));
+      }
+      final Map<JPAAssociationPath, JPAExpandResult> allExpResults = new LinkedHashMap<>();
+      for (int i = 0; i < branches.size(); i++) {
+        allExpResults.put(associations.get(i), joinBranch(branches.get(i)));
       }
       return allExpResults;
     }
   }
 
+  private JPAExpandResult readExpandItem(final JPAODataRequestContextAccess context,
+      final Map<String, List<String>> headers, final JPAExpandItemInfo item,
+      final Optional<JPAKeyBoundary> keyBoundary, final JPAExpandWatchDog watchDog) throws ODataException {
+
+    final var factory = new JPAExpandQueryFactory(odata, context, context.getEntityManager().getCriteriaBuilder());
+    final var expandResult = factory.createQuery(item, keyBoundary).execute();
+    if (expandResult.getNoResults() > 0)
+      expandResult.putChildren(readExpandEntities(context, headers, item.getHops(), item.getUriInfo(), keyBoundary,
+          watchDog));
+    return expandResult;
+  }
+
+  private JPAExpandResult readCollection(final JPAODataRequestContextAccess context,
+      final Map<String, List<String>> headers, final JPACollectionItemInfo item,
+      final Optional<JPAKeyBoundary> keyBoundary) throws ODataException {
+
+    final var collectionQuery = new JPACollectionJoinQuery(odata, item,
+        new JPAODataInternalRequestContext(item.getUriInfo(), context, headers), keyBoundary);
+    return collectionQuery.execute();
+  }
+
+  private CompletableFuture<JPAExpandResult> startBranch(final Executor executor,
+      final Supplier<EntityManager> entityManagerSupplier, final Map<String, List<String>> headers,
+      final JPAExpandBranch branch) {
+
+    return CompletableFuture.supplyAsync(() -> {
+      final var branchEm = entityManagerSupplier.get();
+      try {
+        return branch.read(new JPAODataInternalRequestContext(uriInfo, requestContext, headers, branchEm));
+      } catch (final ODataException e) {
+        throw new CompletionException(e);
+      } finally {
+        branchEm.close();
+      }
+    }, executor);
+  }
+
+  private JPAExpandResult joinBranch(final CompletableFuture<JPAExpandResult> branch) throws ODataException {
+    try {
+      return branch.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final ODataException odataException)
+        throw odataException;
+      throw new ODataJPAProcessorException(e.getCause() != null ? e.getCause() : e,
+          HttpStatusCode.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  @FunctionalInterface
+  private static interface JPAExpandBranch {
+    JPAExpandResult read(JPAODataRequestContextAccess context) throws ODataException;
+  }
+
+  /**
+   * Metrics are collected per entity set or singleton the request targets
+   */
+  private String determineMetricsKey() {
+    return metrics.isEnabled()
+        ? Utility.determineBindingTarget(uriInfo.getUriResourceParts()).getName()
+        : "";
+  }
+
   private static Optional<JPAAnnotatable> determineTargetEntitySet(final JPAODataRequestContextAccess requestContext)
       throws ODataException {
 
@@ -10,6 +10,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -30,12 +31,16 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAttribute;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
 import com.sap.olingo.jpa.processor.core.api.JPAAbstractCUDRequestHandler;
 import com.sap.olingo.jpa.processor.core.api.JPACUDRequestHandler;
+import com.sap.olingo.jpa.processor.core.api.JPAODataAdmissionControl;
 import com.sap.olingo.jpa.processor.core.api.JPAODataApiVersionAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAODataClaimProvider;
 import com.sap.olingo.jpa.processor.core.api.JPAODataDatabaseProcessor;
 import com.sap.olingo.jpa.processor.core.api.JPAODataDefaultTransactionFactory;
 import com.sap.olingo.jpa.processor.core.api.JPAODataEtagHelper;
 import com.sap.olingo.jpa.processor.core.api.JPAODataGroupProvider;
+import com.sap.olingo.jpa.processor.core.api.JPAODataDescriptionCache;
+import com.sap.olingo.jpa.processor.core.api.JPAODataEntityCache;
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetrics;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPagingProvider;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPathInformation;
 import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives;
@@ -75,6 +80,12 @@ public final class JPAODataInternalRequestContext implements JPAODataRequestCont
   private Optional<JPAODataPagingProvider> pagingProvider;
   private JPAODataPathInformation pathInformation;
   private String mappingPath;
+  private JPAODataMetrics metrics;
+  private Optional<JPAODataDescriptionCache> descriptionCache;
+  private Optional<JPAODataEntityCache> entityCache;
+  private Optional<JPAODataAdmissionControl> admissionControl;
+  private Optional<Supplier<EntityManager>> entityManagerSupplier;
+  private JPAChangeSetBuffer changeSetBuffer;
 
   public JPAODataInternalRequestContext(@Nonnull final JPAODataRequestContext requestContext,
       @Nonnull final JPAODataSessionContextAccess sessionContext, final OData odata) {
@@ -107,12 +118,38 @@ public final class JPAODataInternalRequestContext implements JPAODataRequestCont
     this(uriInfo, null, context, header, null);
   }
 
+  /**
+   * Copy constructor switching the header and the entity manager. This is used to process a part of a request, like an
+   * $expand branch, independent from the entity manager of the request.
+   * @param uriInfo
+   * @param context
+   * @param header
+   * @param em
+   * @throws ODataJPAProcessorException
+   */
+  public JPAODataInternalRequestContext(final UriInfoResource uriInfo, final JPAODataRequestContextAccess context,
+      final Map<String, List<String>> header, @Nonnull final EntityManager em) throws ODataJPAProcessorException {
+    this(uriInfo, null, context, header, null, Objects.requireNonNull(em));
+  }
+
   JPAODataInternalRequestContext(final UriInfoResource uriInfo, @Nullable final JPASerializer serializer,
       final JPAODataRequestContextAccess context, final Map<String, List<String>> header,
       final JPAODataPathInformation pathInformation)
       throws ODataJPAProcessorException {
+    this(uriInfo, serializer, context, header, pathInformation, null);
+  }
+
+  private JPAODataInternalRequestContext(final UriInfoResource uriInfo, @Nullable final JPASerializer serializer,
+      final JPAODataRequestContextAccess context, final Map<String, List<String>> header,
+      final JPAODataPathInformation pathInformation, @Nullable final EntityManager em)
+      throws ODataJPAProcessorException {
 
     copyContextValues(context);
+    if (em != null) {
+      this.em = em;
+      this.transactionFactory = null;
+      this.changeSetBuffer = null;
+    }
     this.serializer = serializer;
     this.cudRequestHandler = this.cudRequestHandler == null ? new JPADefaultCUDRequestHandler()
         : this.cudRequestHandler;
@@ -152,6 +189,18 @@ public final class JPAODataInternalRequestContext implements JPAODataRequestCont
     return debugger;
   }
 
+  /**
+   * Buffer of the change set currently processed, if the modifications shall be processed in bulk.
+   * @since 2.3.3
+   */
+  public Optional<JPAChangeSetBuffer> getChangeSetBuffer() {
+    return Optional.ofNullable(changeSetBuffer);
+  }
+
+  public void setChangeSetBuffer(@Nullable final JPAChangeSetBuffer changeSetBuffer) {
+    this.changeSetBuffer = changeSetBuffer;
+  }
+
   public JPADebugSupportWrapper getDebugSupport() {
     if (debugger == null)
       initDebugger();
@@ -260,6 +309,31 @@ public final class JPAODataInternalRequestContext implements JPAODataRequestCont
     return mappingPath;
   }
 
+  @Override
+  public JPAODataMetrics getMetrics() {
+    return metrics;
+  }
+
+  @Override
+  public Optional<JPAODataDescriptionCache> getDescriptionCache() {
+    return descriptionCache;
+  }
+
+  @Override
+  public Optional<JPAODataEntityCache> getEntityCache() {
+    return entityCache;
+  }
+
+  @Override
+  public Optional<JPAODataAdmissionControl> getAdmissionControl() {
+    return admissionControl;
+  }
+
+  @Override
+  public Optional<Supplier<EntityManager>> getEntityManagerSupplier() {
+    return entityManagerSupplier;
+  }
+
   private void copyContextValues(final JPAODataRequestContextAccess context)
       throws ODataJPAProcessorException {
     this.em = context.getEntityManager();
@@ -270,6 +344,8 @@ public final class JPAODataInternalRequestContext implements JPAODataRequestCont
     this.locales = context.getProvidedLocale();
     this.debugSupport = context instanceof final JPAODataInternalRequestContext internalContext
         ? internalContext.getDebugSupport() : null;
+    this.changeSetBuffer = context instanceof final JPAODataInternalRequestContext internalContext
+        ? internalContext.changeSetBuffer : null;
     this.dbProcessor = context.getDatabaseProcessor();
     this.edmProvider = Optional.ofNullable(context.getEdmProvider());
     this.operationConverter = context.getOperationConverter();
@@ -277,6 +353,11 @@ public final class JPAODataInternalRequestContext implements JPAODataRequestCont
     this.etagHelper = context.getEtagHelper();
     this.pagingProvider = context.getPagingProvider();
     this.pathInformation = context.getPathInformation();
+    this.metrics = Objects.requireNonNullElse(context.getMetrics(), JPAODataMetrics.NONE);
+    this.descriptionCache = Objects.requireNonNullElse(context.getDescriptionCache(), Optional.empty());
+    this.entityCache = Objects.requireNonNullElse(context.getEntityCache(), Optional.empty());
+    this.admissionControl = Objects.requireNonNullElse(context.getAdmissionControl(), Optional.empty());
+    this.entityManagerSupplier = Objects.requireNonNullElse(context.getEntityManagerSupplier(), Optional.empty());
   }
 
   private void copyRequestContext(@Nonnull final JPAODataRequestContext requestContext,
@@ -300,11 +381,32 @@ public final class JPAODataInternalRequestContext implements JPAODataRequestCont
     edmProvider = determineEdmProvider(version, sessionContext, em);
     queryDirectives = sessionContext.getQueryDirectives();
     pagingProvider = Optional.ofNullable(sessionContext.getPagingProvider());
+    metrics = Objects.requireNonNullElse(sessionContext.getMetrics(), JPAODataMetrics.NONE);
+    descriptionCache = Objects.requireNonNullElse(sessionContext.getDescriptionCache(), Optional.empty());
+    entityCache = Objects.requireNonNullElse(sessionContext.getEntityCache(), Optional.empty());
+    admissionControl = Objects.requireNonNullElse(sessionContext.getAdmissionControl(), Optional.empty());
+    entityManagerSupplier = determineEntityManagerSupplier(requestContext, version);
     mappingPath = version != null
         ? version.getMappingPath()
         : null;
   }
 
+  /**
+   * An entity manager given by the caller may have been created with properties unknown here, like a tenant. Additional
+   * entity managers can only be created, if the caller provides a supplier, or if the entity manager of the request has
+   * been created from the entity manager factory of the API version as well.
+   */
+  private Optional<Supplier<EntityManager>> determineEntityManagerSupplier(
+      final JPAODataRequestContext requestContext, final JPAODataApiVersionAccess version) {
+
+    final var supplier = Objects.requireNonNullElse(requestContext.getEntityManagerSupplier(),
+        Optional.<Supplier<EntityManager>> empty());
+    if (supplier.isPresent() || requestContext.getEntityManager() != null || version == null)
+      return supplier;
+    final var emf = version.getEntityManagerFactory();
+    return Optional.of(emf::createEntityManager);
+  }
+
   private EntityManager determineEntityManager(final JPAODataRequestContext requestContext,
       final JPAODataApiVersionAccess version) {
     return requestContext.getEntityManager() != null
@@ -71,6 +71,7 @@ public final class JPAProcessorFactory {
   public JPAActionRequestProcessor createActionProcessor(final UriInfo uriInfo, final ContentType responseFormat,
       final Map<String, List<String>> header, final JPAODataRequestContextAccess context) throws ODataException {
 
+    flushChangeSet(context);
     final JPAODataRequestContextAccess requestContext = new JPAODataInternalRequestContext(uriInfo,
         responseFormat != null ? serializerFactory.createSerializer(responseFormat, uriInfo, Optional.ofNullable(header
             .get(HttpHeader.ODATA_MAX_VERSION))) : null, context, header, null);
@@ -83,6 +84,7 @@ public final class JPAProcessorFactory {
       final Map<String, List<String>> header, final JPAODataRequestContextAccess context,
       final JPAODataPathInformation pathInformation) throws ODataException {
 
+    flushChangeSet(context);
     final var page = getPage(header, uriInfo, context, pathInformation);
     final var newUriInfo = new JPAUriInfoFactory(page).build();
 
@@ -107,6 +109,17 @@ public final class JPAProcessorFactory {
 
   }
 
+  /**
+   * Modifications collected for a bulk execution have to be processed before an other request gets executed.
+   */
+  private void flushChangeSet(final JPAODataRequestContextAccess context) throws ODataException {
+    if (context instanceof final JPAODataInternalRequestContext internalContext) {
+      final Optional<JPAChangeSetBuffer> buffer = internalContext.getChangeSetBuffer();
+      if (buffer.isPresent())
+        buffer.get().flush();
+    }
+  }
+
   private void checkFunctionPathSupported(final List<UriResource> resourceParts) throws ODataApplicationException {
     if (resourceParts.size() > 2)
       throw new ODataJPAProcessorException(ODataJPAProcessorException.MessageKeys.NOT_SUPPORTED_FUNC_WITH_NAVI,
@@ -137,8 +150,7 @@ public final class JPAProcessorFactory {
       final var skipToken = skipToken(uriInfo);
       if (skipToken != null && !skipToken.isEmpty()) {
         return sessionContext.getPagingProvider().getNextPage(skipToken, odata,
-            odata.createServiceMetadata(requestContext.getEdmProvider(), requestContext.getEdmProvider()
-                .getReferences()), requestContext.getRequestParameter(), requestContext.getEntityManager())
+            serviceMetadata, requestContext.getRequestParameter(), pathInformation, requestContext.getEntityManager())
             .orElseThrow(() -> new ODataJPAProcessorException(QUERY_SERVER_DRIVEN_PAGING_GONE, HttpStatusCode.GONE,
                 skipToken));
       } else {
@@ -0,0 +1,191 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import org.apache.olingo.commons.api.edm.EdmEntityType;
+import org.apache.olingo.commons.api.edm.EdmNavigationProperty;
+import org.apache.olingo.server.api.uri.UriInfoResource;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceEntitySet;
+import org.apache.olingo.server.api.uri.UriResourceFunction;
+import org.apache.olingo.server.api.uri.UriResourceKind;
+import org.apache.olingo.server.api.uri.UriResourceNavigation;
+import org.apache.olingo.server.api.uri.UriResourcePartTyped;
+import org.apache.olingo.server.api.uri.UriResourceProperty;
+import org.apache.olingo.server.api.uri.queryoption.ExpandItem;
+import org.apache.olingo.server.api.uri.queryoption.ExpandOption;
+import org.apache.olingo.server.api.uri.queryoption.OrderByItem;
+import org.apache.olingo.server.api.uri.queryoption.OrderByOption;
+import org.apache.olingo.server.api.uri.queryoption.expression.Member;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+import com.sap.olingo.jpa.processor.core.api.JPAODataAdmissionControl;
+
+/**
+ * Estimates the cost of a read request as the number of rows the database has to process. See
+ * {@link JPAODataAdmissionControl} for the cost model.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+class JPARequestCostEstimator {
+  static final double FILTER_SELECTIVITY = 0.1;
+
+  private final JPAODataAdmissionControl admissionControl;
+  private final JPAEntityType et;
+  private final int maxLevels;
+
+  /**
+   *
+   * @param admissionControl
+   * @param et Entity type of the requested entities. Null in case it is not known, e.g. for singletons.
+   * @param maxLevels Maximum number of levels as given by the ExpandRestrictions of the entity set
+   */
+  JPARequestCostEstimator(final JPAODataAdmissionControl admissionControl, final JPAEntityType et,
+      final int maxLevels) {
+    this.admissionControl = admissionControl;
+    this.et = et;
+    this.maxLevels = Math.min(maxLevels, admissionControl.getMaxLevels());
+  }
+
+  long estimate(final UriInfoResource uriInfo) throws ODataJPAModelException {
+    final double selected = estimateSelected(uriInfo);
+    double returned = selected;
+    if (uriInfo.getTopOption() != null)
+      returned = Math.min(returned, uriInfo.getTopOption().getValue());
+    double cost = returned;
+    if (isCount(uriInfo))
+      cost += selected;
+    if (uriInfo.getOrderByOption() != null && !isIndexed(uriInfo.getOrderByOption()))
+      cost += selected;
+    if (uriInfo.getExpandOption() != null)
+      cost += returned * estimateExpand(uriInfo.getExpandOption(), determineEntityType(uriInfo));
+    return (long) Math.min(Math.ceil(cost), Long.MAX_VALUE);
+  }
+
+  private double estimateSelected(final UriInfoResource uriInfo) {
+    double rows = 1;
+    for (final UriResource resourcePart : uriInfo.getUriResourceParts()) {
+      if (resourcePart instanceof final UriResourceEntitySet entitySet)
+        rows = entitySet.getKeyPredicates().isEmpty()
+            ? admissionControl.getCardinality(entitySet.getEntitySet().getName()) : 1;
+      else if (resourcePart instanceof final UriResourceNavigation navigation)
+        rows = navigation.getKeyPredicates().isEmpty() && navigation.isCollection()
+            ? rows * admissionControl.getFanOut() : Math.min(rows, 1);
+      else if (resourcePart instanceof final UriResourceProperty property && property.isCollection())
+        rows = rows * admissionControl.getFanOut();
+      else if (resourcePart instanceof final UriResourceFunction function)
+        rows = function.isCollection() ? admissionControl.getCardinality(determineFunctionTarget(function)) : 1;
+    }
+    if (rows > 1 && (uriInfo.getFilterOption() != null || uriInfo.getSearchOption() != null))
+      rows = Math.max(1, rows * FILTER_SELECTIVITY);
+    return rows;
+  }
+
+  private double estimateExpand(final ExpandOption expandOption, final EdmEntityType type) {
+    double cost = 0;
+    if (expandOption == null || expandOption.getExpandItems() == null)
+      return cost;
+    for (final ExpandItem item : expandOption.getExpandItems()) {
+      if (item.isStar() && type != null) {
+        for (final String name : type.getNavigationPropertyNames())
+          cost += estimateNavigation(type.getNavigationProperty(name), item);
+      } else if (item.getResourcePath() != null) {
+        final List<UriResource> parts = item.getResourcePath().getUriResourceParts();
+        if (!parts.isEmpty() && parts.get(parts.size() - 1) instanceof final UriResourceNavigation navigation)
+          cost += estimateNavigation(navigation.getProperty(), item);
+      }
+    }
+    return cost;
+  }
+
+  private double estimateNavigation(final EdmNavigationProperty property, final ExpandItem item) {
+    double fanOut = property.isCollection() ? admissionControl.getFanOut() : 1;
+    if (item.getFilterOption() != null)
+      fanOut = Math.max(1, fanOut * FILTER_SELECTIVITY);
+    if (item.getTopOption() != null)
+      fanOut = Math.min(fanOut, item.getTopOption().getValue());
+    final double nested = 1 + estimateExpand(item.getExpandOption(), property.getType());
+    double cost = 0;
+    double rows = 1;
+    for (int level = 0; level < determineLevels(item); level++) {
+      rows *= fanOut;
+      cost += rows * nested;
+    }
+    return cost;
+  }
+
+  private int determineLevels(final ExpandItem item) {
+    if (item.getLevelsOption() == null)
+      return 1;
+    return item.getLevelsOption().isMax()
+        ? maxLevels
+        : Math.min(item.getLevelsOption().getValue(), maxLevels);
+  }
+
+  private boolean isCount(final UriInfoResource uriInfo) {
+    final List<UriResource> parts = uriInfo.getUriResourceParts();
+    if (!parts.isEmpty() && parts.get(parts.size() - 1).getKind() == UriResourceKind.count)
+      return true;
+    return uriInfo.getCountOption() != null && uriInfo.getCountOption().getValue();
+  }
+
+  /**
+   * An ordering can make use of an index, if the first order by property is part of the key or the leading column of
+   * an index given at the {@link Table} annotation of the entity.
+   */
+  private boolean isIndexed(final OrderByOption orderByOption) throws ODataJPAModelException {
+    final List<OrderByItem> orderByItems = orderByOption.getOrders();
+    if (et == null || orderByItems.isEmpty())
+      return true;
+    if (!(orderByItems.get(0).getExpression() instanceof final Member member))
+      return false;
+    final JPAPath path = et.getPath(member.getResourcePath().getUriResourceParts().stream()
+        .map(UriResource::getSegmentValue)
+        .collect(Collectors.joining(JPAPath.PATH_SEPARATOR)));
+    return path != null && determineIndexedColumns().contains(normalize(path.getDBFieldName()));
+  }
+
+  private Set<String> determineIndexedColumns() throws ODataJPAModelException {
+    final Set<String> columns = new HashSet<>();
+    for (final JPAPath key : et.getKeyPath())
+      columns.add(normalize(key.getDBFieldName()));
+    for (Class<?> clazz = et.getTypeClass(); clazz != null; clazz = clazz.getSuperclass()) {
+      final Table table = clazz.getAnnotation(Table.class);
+      if (table != null) {
+        for (final Index index : table.indexes())
+          columns.add(normalize(index.columnList().split(",")[0].trim().split(" ")[0]));
+      }
+    }
+    return columns;
+  }
+
+  private static String normalize(final String columnName) {
+    return columnName == null ? "" : columnName.replace("\"", "").trim().toUpperCase(Locale.ENGLISH);
+  }
+
+  private static String determineFunctionTarget(final UriResourceFunction function) {
+    return function.getFunctionImport() != null && function.getFunctionImport().getReturnedEntitySet() != null
+        ? function.getFunctionImport().getReturnedEntitySet().getName()
+        : function.getFunction().getName();
+  }
+
+  private static EdmEntityType determineEntityType(final UriInfoResource uriInfo) {
+    final List<UriResource> parts = uriInfo.getUriResourceParts();
+    for (int i = parts.size() - 1; i >= 0; i--) {
+      if (parts.get(i) instanceof final UriResourcePartTyped typed
+          && typed.getType() instanceof final EdmEntityType type)
+        return type;
+    }
+    return null;
+  }
+}
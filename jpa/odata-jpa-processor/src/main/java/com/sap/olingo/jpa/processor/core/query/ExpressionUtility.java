@@ -133,6 +133,35 @@ public final class ExpressionUtility {
     }
   }
 
+  /**
+   * Inverse of {@link #convertValueOnAttribute(OData, JPAAttribute, String, Boolean)} with isUri = false. Converts the
+   * value of an attribute into its OData string representation.
+   * @param odata
+   * @param attribute
+   * @param value Value of the attribute. Must not be null
+   * @return
+   * @throws ODataJPAFilterException
+   */
+  public static String convertValueToString(final OData odata, final JPAAttribute attribute, final Object value)
+      throws ODataJPAFilterException {
+
+    try {
+      final CsdlProperty edmProperty = (CsdlProperty) attribute.getProperty();
+      final EdmPrimitiveType edmType = odata.createPrimitiveTypeInstance(attribute.getEdmType());
+      final Object edmValue;
+      if (attribute.getConverter() != null) {
+        final AttributeConverter<Object, Object> dbConverter = attribute.getConverter();
+        edmValue = dbConverter.convertToDatabaseColumn(value);
+      } else {
+        edmValue = value;
+      }
+      return edmType.valueToString(edmValue, edmProperty.isNullable(), edmProperty.getMaxLength(),
+          edmProperty.getPrecision(), edmProperty.getScale(), true);
+    } catch (EdmPrimitiveTypeException | ODataJPAModelException e) {
+      throw new ODataJPAFilterException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
+    }
+  }
+
   public static Object convertValueOnFacet(final OData odata, final JPAParameterFacet returnType, final String value)
       throws ODataJPAFilterException {
     try {
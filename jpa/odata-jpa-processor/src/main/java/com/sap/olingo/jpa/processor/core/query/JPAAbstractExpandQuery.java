@@ -1,7 +1,6 @@
 package com.sap.olingo.jpa.processor.core.query;
 
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.joining;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -86,24 +85,6 @@ public abstract class JPAAbstractExpandQuery extends JPAAbstractJoinQuery {
     }
   }
 
-  protected String buildConcatenatedKey(final Tuple row, final JPAAssociationPath association)
-      throws ODataJPAModelException {
-
-    if (!association.hasJoinTable()) {
-      final List<JPAPath> joinColumns = association.getRightColumnsList();
-      return joinColumns.stream()
-          .map(column -> (row.get(column
-              .getAlias()))
-                  .toString())
-          .collect(joining(JPAPath.PATH_SEPARATOR));
-    } else {
-      final List<JPAPath> joinColumns = association.getLeftColumnsList();
-      return joinColumns.stream()
-          .map(column -> (row.get(association.getAlias() + ALIAS_SEPARATOR + column.getAlias())).toString())
-          .collect(joining(JPAPath.PATH_SEPARATOR));
-    }
-  }
-
   protected List<Order> createOrderByJoinCondition(final JPAAssociationPath associationPath)
       throws ODataApplicationException {
     final List<Order> orders = new ArrayList<>();
@@ -202,14 +183,14 @@ public abstract class JPAAbstractExpandQuery extends JPAAbstractJoinQuery {
 
   protected Map<String, Long> convertCountResult(final List<Tuple> intermediateResult) throws ODataJPAQueryException {
     final Map<String, Long> result = new HashMap<>();
-    for (final Tuple row : intermediateResult) {
-      try {
-        final String actualKey = buildConcatenatedKey(row, association);
+    try {
+      final JPAExpandKeyBuilder keyBuilder = new JPAExpandKeyBuilder(association);
+      for (final Tuple row : intermediateResult) {
         final Number count = (Number) row.get(COUNT_COLUMN_NAME);
-        result.put(actualKey, count.longValue());
-      } catch (final ODataJPAModelException e) {
-        throw new ODataJPAQueryException(e, HttpStatusCode.BAD_REQUEST);
+        result.put(keyBuilder.buildKey(row), count.longValue());
       }
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAQueryException(e, HttpStatusCode.BAD_REQUEST);
     }
     return result;
   }
@@ -69,7 +69,20 @@ abstract class JPAAbstractExpandSubQuery extends JPAAbstractExpandQuery {
   }
 
   LinkedList<JPAAbstractQuery> buildSubQueries(final JPAAbstractQuery query) throws ODataException {
+    return buildSubQueries(query, Optional.empty());
+  }
+
+  /**
+   * Creates a sub query for each parent hop. In case the keys of the entities of a hop are known, the hop is
+   * restricted by these keys and the hops above are not needed anymore.
+   */
+  LinkedList<JPAAbstractQuery> buildSubQueries(final JPAAbstractQuery query,
+      final Optional<JPAKeyBoundary> keyBoundary) throws ODataException {
     final LinkedList<JPAAbstractQuery> hops = new LinkedList<>();
+    final int keyHop = keyBoundary
+        .filter(JPAKeyBoundary::hasExactKeys)
+        .map(boundary -> boundary.getNoHops() - 1)
+        .orElse(-1);
     hops.push(query);
     for (int i = navigationInfo.size() - 2; i >= 0; i--) {
       final JPANavigationPropertyInfo hop = navigationInfo.get(i);
@@ -79,6 +92,11 @@ abstract class JPAAbstractExpandSubQuery extends JPAAbstractExpandQuery {
         final JPAAssociationPath childAssociation = associationIndex >= 0
             ? navigationInfo.get(associationIndex).getAssociationPath()
             : null;
+        if (i == keyHop) {
+          hops.push(new JPAExpandFilterQuery(odata, requestContext, hop, parent, childAssociation, keyBoundary));
+          debugger.trace(this, "Sub query restricted by %d keys", keyBoundary.get().getKeys().size());
+          break;
+        }
         hops.push(new JPAExpandFilterQuery(odata, requestContext, hop, parent, childAssociation));
         debugger.trace(this, "Sub query created: %s for %s", hops.getFirst().getQuery(), hops.getFirst().jpaEntity);
       }
@@ -236,7 +236,9 @@ public abstract class JPAAbstractJoinQuery extends JPAAbstractQuery {
         final JPAEntityType et = propertyInfo.getEntityType();
         final From<?, ?> from = propertyInfo.getFromClause();
 
-        if (keyBoundary.get().getKeyBoundary().hasUpperBoundary()) {
+        if (keyBoundary.get().hasExactKeys()) {
+          return createWhereByExactKeys(et, from, keyBoundary.get().getKeys());
+        } else if (keyBoundary.get().getKeyBoundary().hasUpperBoundary()) {
           return createBoundaryWithUpper(et, from, keyBoundary.get().getKeyBoundary());
         } else {
           return createBoundaryEquals(et, from, keyBoundary.get().getKeyBoundary());
@@ -4,6 +4,7 @@ import static com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException
 import static com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException.MessageKeys.MISSING_CLAIMS_PROVIDER;
 import static com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException.MessageKeys.QUERY_PREPARATION_ORDER_BY_NOT_SUPPORTED;
 import static com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException.MessageKeys.QUERY_RESULT_ENTITY_TYPE_ERROR;
+import static com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException.MessageKeys.QUERY_RESULT_KEY_PROPERTY_ERROR;
 import static com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException.MessageKeys.WILDCARD_UPPER_NOT_SUPPORTED;
 import static java.util.stream.Collectors.toList;
 import static org.apache.olingo.commons.api.http.HttpStatusCode.BAD_REQUEST;
@@ -27,6 +28,7 @@ import javax.annotation.Nonnull;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.AbstractQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaBuilder.In;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.From;
 import jakarta.persistence.criteria.Join;
@@ -47,6 +49,7 @@ import org.apache.olingo.server.api.uri.queryoption.SkipOption;
 import org.apache.olingo.server.api.uri.queryoption.TopOption;
 
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAssociationPath;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAttribute;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPADescriptionAttribute;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAElement;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
@@ -60,6 +63,7 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelExcept
 import com.sap.olingo.jpa.processor.cb.ProcessorCriteriaBuilder;
 import com.sap.olingo.jpa.processor.core.api.JPAClaimsPair;
 import com.sap.olingo.jpa.processor.core.api.JPAODataClaimProvider;
+import com.sap.olingo.jpa.processor.core.api.JPAODataDescriptionCache;
 import com.sap.olingo.jpa.processor.core.api.JPAODataGroupProvider;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger;
@@ -77,6 +81,7 @@ public abstract class JPAAbstractQuery {
   protected static final String SELECT_ITEM_SEPARATOR = ",";
   protected static final String SELECT_ALL = "*";
   protected static final String ROW_NUMBER_COLUMN_NAME = "rowNumber";
+  protected static final String ROW_COUNT_COLUMN_NAME = "rowCount";
   protected static final String COUNT_COLUMN_NAME = "\"$count\"";
   protected final EntityManager em;
   protected final CriteriaBuilder cb;
@@ -171,12 +176,48 @@ public abstract class JPAAbstractQuery {
     return whereCondition;
   }
 
+  /**
+   * Restricts the entities to the given keys. A single key attribute results in an IN list, compound keys in
+   * (k1 = ? AND k2 = ?) OR (k1 = ? AND k2 = ?) ...
+   * @param et Entity type the keys belong to
+   * @param from From clause of the entity type
+   * @param keys Non empty list of keys
+   */
+  @SuppressWarnings("rawtypes")
+  protected Expression<Boolean> createWhereByExactKeys(final JPAEntityType et, final From<?, ?> from,
+      final List<Map<JPAAttribute, Comparable>> keys) throws ODataJPAModelException, ODataJPAQueryException {
+
+    final List<JPAAttribute> keyElements = et.getKey();
+    final List<Path<Object>> keyPaths = new ArrayList<>(keyElements.size());
+    for (final JPAAttribute keyElement : keyElements) {
+      final var jpaPath = et.getPath(keyElement.getExternalName());
+      if (jpaPath == null)
+        throw new ODataJPAQueryException(QUERY_RESULT_KEY_PROPERTY_ERROR, INTERNAL_SERVER_ERROR, et.getExternalName());
+      keyPaths.add(ExpressionUtility.convertToCriteriaPath(from, jpaPath.getPath()));
+    }
+    if (keyPaths.size() == 1) {
+      final In<Object> in = cb.in(keyPaths.get(0));
+      for (final var key : keys)
+        in.value(key.get(keyElements.get(0)));
+      return in;
+    }
+    Expression<Boolean> restriction = null;
+    for (final var key : keys) {
+      Expression<Boolean> equals = null;
+      for (int i = 0; i < keyElements.size(); i++)
+        equals = addWhereClause(equals, cb.equal(keyPaths.get(i), key.get(keyElements.get(i))));
+      restriction = orWhereClause(restriction, equals);
+    }
+    return restriction;
+  }
+
   protected final void createFromClauseDescriptionFields(final Collection<JPAPath> selectionPath,
       final Map<String, From<?, ?>> joinTables, final From<?, ?> from,
       final List<JPANavigationPropertyInfo> navigationInfo)
       throws ODataApplicationException {
 
     final List<JPAPath> descriptionFields = extractDescriptionAttributes(selectionPath);
+    descriptionFields.removeIf(path -> !getCachedDescriptionKeys(path).isEmpty());
     for (final JPANavigationPropertyInfo info : navigationInfo) {
       generateDescriptionJoin(joinTables,
           determineAllDescriptionPath(info.getFromClause() == from ? descriptionFields : Collections.emptyList(),
@@ -204,9 +245,10 @@ public abstract class JPAAbstractQuery {
     try (JPARuntimeMeasurement serializerMeasurement = debugger.newMeasurement(this, "createGroupBy")) {
       final List<jakarta.persistence.criteria.Expression<?>> groupBy = new ArrayList<>();
       for (final JPAPath jpaPath : selectionPathList) {
-        final var path = ExpressionUtility.convertToCriteriaPath(joinTables, from, jpaPath);
-        orderByPaths.remove(path);
-        groupBy.add(path);
+        for (final var path : convertToSelectionPaths(joinTables, from, jpaPath, false)) {
+          orderByPaths.remove(path);
+          groupBy.add(path);
+        }
       }
 
       for (final var path : orderByPaths) {
@@ -224,9 +266,10 @@ public abstract class JPAAbstractQuery {
       final Set<Path<?>> orderByPaths = new HashSet<>();
       final List<jakarta.persistence.criteria.Expression<?>> groupBy = new ArrayList<>();
       for (final JPAPath jpaPath : selectionPathList) {
-        final var path = ExpressionUtility.convertToCriteriaPath(joinTables, from, jpaPath);
-        orderByPaths.add(path);
-        groupBy.add(path);
+        for (final var path : convertToSelectionPaths(joinTables, from, jpaPath, false)) {
+          orderByPaths.add(path);
+          groupBy.add(path);
+        }
       }
 
       for (final var attribute : orderByAttributes) {
@@ -291,15 +334,47 @@ public abstract class JPAAbstractQuery {
       // Build select clause
       for (final JPAPath jpaPath : requestedProperties) {
         if (jpaPath.isPartOfGroups(groups)) {
-          final Path<?> path = ExpressionUtility.convertToCriteriaPath(joinTables, target, jpaPath);
-          path.alias(jpaPath.getAlias());
-          selections.add(path);
+          selections.addAll(convertToSelectionPaths(joinTables, target, jpaPath, true));
         }
       }
       return selections;
     }
   }
 
+  /**
+   * Join columns of a description property that is provided by a {@link JPAODataDescriptionCache}. Such a
+   * description property is not joined. Instead its join columns are selected, so the description can be taken from
+   * the cache.
+   * @param descriptionPath
+   * @return Empty list if the description property has to be joined
+   */
+  protected List<JPAOnConditionItem> getCachedDescriptionKeys(final JPAPath descriptionPath) {
+    return Collections.emptyList();
+  }
+
+  private List<Path<?>> convertToSelectionPaths(final Map<String, From<?, ?>> joinTables, final From<?, ?> from,
+      final JPAPath jpaPath, final boolean withAlias) {
+
+    final List<JPAOnConditionItem> descriptionKeys = getCachedDescriptionKeys(jpaPath);
+    if (descriptionKeys.isEmpty()) {
+      final Path<?> path = ExpressionUtility.convertToCriteriaPath(joinTables, from, jpaPath);
+      if (withAlias)
+        path.alias(jpaPath.getAlias());
+      return List.of(path);
+    }
+    final List<JPAElement> prefix = jpaPath.getPath().subList(0, jpaPath.getPath().size() - 1);
+    final List<Path<?>> keyPaths = new ArrayList<>(descriptionKeys.size());
+    for (final JPAOnConditionItem joinColumn : descriptionKeys) {
+      final List<JPAElement> keyPath = new ArrayList<>(prefix);
+      keyPath.addAll(joinColumn.getLeftPath().getPath());
+      final Path<?> path = ExpressionUtility.convertToCriteriaPath(from, keyPath);
+      if (withAlias)
+        path.alias(JPAODataDescriptionCache.createKeyAlias(jpaPath, joinColumn));
+      keyPaths.add(path);
+    }
+    return keyPaths;
+  }
+
   protected Expression<Boolean> createProtectionWhereForEntityType(
       final Optional<JPAODataClaimProvider> claimsProvider, final JPAEntityType et, final From<?, ?> from)
       throws ODataJPAQueryException {
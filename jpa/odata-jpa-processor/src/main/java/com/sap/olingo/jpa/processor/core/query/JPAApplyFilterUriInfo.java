@@ -0,0 +1,117 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import java.util.List;
+
+import org.apache.olingo.server.api.uri.UriInfoResource;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.queryoption.ApplyOption;
+import org.apache.olingo.server.api.uri.queryoption.CountOption;
+import org.apache.olingo.server.api.uri.queryoption.CustomQueryOption;
+import org.apache.olingo.server.api.uri.queryoption.DeltaTokenOption;
+import org.apache.olingo.server.api.uri.queryoption.ExpandOption;
+import org.apache.olingo.server.api.uri.queryoption.FilterOption;
+import org.apache.olingo.server.api.uri.queryoption.FormatOption;
+import org.apache.olingo.server.api.uri.queryoption.IdOption;
+import org.apache.olingo.server.api.uri.queryoption.OrderByOption;
+import org.apache.olingo.server.api.uri.queryoption.SearchOption;
+import org.apache.olingo.server.api.uri.queryoption.SelectOption;
+import org.apache.olingo.server.api.uri.queryoption.SkipOption;
+import org.apache.olingo.server.api.uri.queryoption.SkipTokenOption;
+import org.apache.olingo.server.api.uri.queryoption.TopOption;
+
+/**
+ * Provides the filter option of a $apply filter transformation as $filter, so it can be compiled by the filter
+ * compiler. All other information are taken from the original request.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+final class JPAApplyFilterUriInfo implements UriInfoResource {
+  private final UriInfoResource original;
+  private final FilterOption filterOption;
+
+  JPAApplyFilterUriInfo(final UriInfoResource original, final FilterOption filterOption) {
+    this.original = original;
+    this.filterOption = filterOption;
+  }
+
+  @Override
+  public List<CustomQueryOption> getCustomQueryOptions() {
+    return original.getCustomQueryOptions();
+  }
+
+  @Override
+  public ExpandOption getExpandOption() {
+    return null;
+  }
+
+  @Override
+  public FilterOption getFilterOption() {
+    return filterOption;
+  }
+
+  @Override
+  public FormatOption getFormatOption() {
+    return original.getFormatOption();
+  }
+
+  @Override
+  public IdOption getIdOption() {
+    return null;
+  }
+
+  @Override
+  public CountOption getCountOption() {
+    return null;
+  }
+
+  @Override
+  public DeltaTokenOption getDeltaTokenOption() {
+    return null;
+  }
+
+  @Override
+  public OrderByOption getOrderByOption() {
+    return null;
+  }
+
+  @Override
+  public SearchOption getSearchOption() {
+    return null;
+  }
+
+  @Override
+  public SelectOption getSelectOption() {
+    return null;
+  }
+
+  @Override
+  public SkipOption getSkipOption() {
+    return null;
+  }
+
+  @Override
+  public SkipTokenOption getSkipTokenOption() {
+    return null;
+  }
+
+  @Override
+  public TopOption getTopOption() {
+    return null;
+  }
+
+  @Override
+  public ApplyOption getApplyOption() {
+    return null;
+  }
+
+  @Override
+  public List<UriResource> getUriResourceParts() {
+    return original.getUriResourceParts();
+  }
+
+  @Override
+  public String getValueForAlias(final String alias) {
+    return original.getValueForAlias(alias);
+  }
+}
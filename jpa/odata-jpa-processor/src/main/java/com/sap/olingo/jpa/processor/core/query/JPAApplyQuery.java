@@ -0,0 +1,364 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import static com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException.MessageKeys.QUERY_PREPARATION_FILTER_ERROR;
+import static com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException.MessageKeys.QUERY_PREPARATION_INVALID_SELECTION_PATH;
+import static com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException.MessageKeys.QUERY_PREPARATION_NOT_ALLOWED_MEMBER;
+import static org.apache.olingo.commons.api.http.HttpStatusCode.BAD_REQUEST;
+import static org.apache.olingo.commons.api.http.HttpStatusCode.FORBIDDEN;
+import static org.apache.olingo.commons.api.http.HttpStatusCode.INTERNAL_SERVER_ERROR;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Selection;
+
+import org.apache.olingo.commons.api.data.ComplexValue;
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.EntityCollection;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.ex.ODataException;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceKind;
+import org.apache.olingo.server.api.uri.queryoption.ApplyItem;
+import org.apache.olingo.server.api.uri.queryoption.ApplyOption;
+import org.apache.olingo.server.api.uri.queryoption.FilterOption;
+import org.apache.olingo.server.api.uri.queryoption.apply.Aggregate;
+import org.apache.olingo.server.api.uri.queryoption.apply.AggregateExpression;
+import org.apache.olingo.server.api.uri.queryoption.apply.AggregateExpression.StandardMethod;
+import org.apache.olingo.server.api.uri.queryoption.apply.Filter;
+import org.apache.olingo.server.api.uri.queryoption.apply.GroupBy;
+import org.apache.olingo.server.api.uri.queryoption.apply.GroupByItem;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
+import org.apache.olingo.server.api.uri.queryoption.expression.Member;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAttribute;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPANotImplementedException;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException;
+import com.sap.olingo.jpa.processor.core.filter.JPAFilterCrossComplier;
+import com.sap.olingo.jpa.processor.core.filter.JPAFilterRestrictionsWatchDog;
+import com.sap.olingo.jpa.processor.core.filter.JPAOperationConverter;
+import com.sap.olingo.jpa.processor.core.processor.JPAODataInternalRequestContext;
+
+/**
+ * Translates the transformations of a <code>$apply</code> request into one GROUP BY query, so the reduction is done by
+ * the database. Supported are a sequence of <code>filter</code> transformations followed either by a
+ * <code>groupby</code>, optionally with an <code>aggregate</code>, or by an <code>aggregate</code>. Aggregations can
+ * use the standard methods sum, min, max, average and countdistinct, as well as <code>$count</code>.
+ * <p>
+ * Example: <code>../Organizations?$apply=filter(Country eq 'DEU')/groupby((Address/Region),aggregate(ID with
+ * countdistinct as Count))</code>
+ * <p>
+ * The grouping properties are returned like the properties of the entity type, the aggregated values as dynamic
+ * properties named by their alias.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+public class JPAApplyQuery extends JPAAbstractRootJoinQuery {
+  private static final String APPLY = "$apply";
+  private final List<FilterOption> filters;
+  private final List<JPAPath> groupByPaths;
+  private final List<Aggregation> aggregations;
+
+  public JPAApplyQuery(final OData odata, final JPAODataRequestContextAccess requestContext) throws ODataException {
+    super(odata, requestContext);
+    this.filters = new ArrayList<>();
+    this.groupByPaths = new ArrayList<>();
+    this.aggregations = new ArrayList<>();
+    analyseTransformations(uriResource.getApplyOption());
+  }
+
+  public EntityCollection execute() throws ODataApplicationException {
+    try (var measurement = debugger.newMeasurement(this, "execute")) {
+      createFromClause(Collections.emptyList(), Collections.emptyList(), cq, lastInfo);
+      var whereClause = createWhere();
+      for (final FilterOption filter : filters)
+        whereClause = addWhereClause(whereClause, compileFilter(filter));
+      if (whereClause != null)
+        cq.where(whereClause);
+
+      final List<Selection<?>> selections = new ArrayList<>(groupByPaths.size() + aggregations.size());
+      final List<Expression<?>> groupBy = new ArrayList<>(groupByPaths.size());
+      for (final JPAPath groupByPath : groupByPaths) {
+        final Path<?> path = ExpressionUtility.convertToCriteriaPath(target, groupByPath.getPath());
+        selections.add(path.alias(groupByPath.getAlias()));
+        groupBy.add(path);
+      }
+      for (final Aggregation aggregation : aggregations)
+        selections.add(createAggregation(aggregation).alias(aggregation.alias()));
+      cq.multiselect(selections);
+      if (!groupBy.isEmpty())
+        cq.groupBy(groupBy);
+
+      final TypedQuery<Tuple> typedQuery = em.createQuery(cq);
+      addTopSkip(typedQuery);
+      try (var resultMeasurement = debugger.newMeasurement(this, "getResultList")) {
+        return convertResult(typedQuery.getResultList());
+      }
+    } catch (final JPANoSelectionException e) {
+      return new EntityCollection();
+    }
+  }
+
+  List<JPAPath> getGroupByPaths() {
+    return groupByPaths;
+  }
+
+  List<String> getAggregationAliases() {
+    return aggregations.stream()
+        .map(Aggregation::alias)
+        .toList();
+  }
+
+  private void analyseTransformations(final ApplyOption applyOption) throws ODataApplicationException {
+    for (final ApplyItem item : applyOption.getApplyItems()) {
+      if (!groupByPaths.isEmpty() || !aggregations.isEmpty())
+        // Transformations of an aggregated result would require a sub query
+        throw new ODataJPANotImplementedException(APPLY + " " + item.getKind() + " after aggregation");
+      switch (item.getKind()) {
+        case FILTER -> filters.add(((Filter) item).getFilterOption());
+        case GROUP_BY -> analyseGroupBy((GroupBy) item);
+        case AGGREGATE -> analyseAggregate((Aggregate) item);
+        default -> throw new ODataJPANotImplementedException(APPLY + " " + item.getKind());
+      }
+    }
+  }
+
+  private void analyseGroupBy(final GroupBy groupBy) throws ODataApplicationException {
+    for (final GroupByItem item : groupBy.getGroupByItems()) {
+      if (item.isRollupAll() || (item.getRollup() != null && !item.getRollup().isEmpty()))
+        throw new ODataJPANotImplementedException(APPLY + " rollup");
+      groupByPaths.add(determinePath(item.getPath()));
+    }
+    if (groupBy.getApplyOption() != null) {
+      for (final ApplyItem item : groupBy.getApplyOption().getApplyItems()) {
+        if (item.getKind() != ApplyItem.Kind.AGGREGATE || !aggregations.isEmpty())
+          throw new ODataJPANotImplementedException(APPLY + " groupby with " + item.getKind());
+        analyseAggregate((Aggregate) item);
+      }
+    }
+  }
+
+  private void analyseAggregate(final Aggregate aggregate) throws ODataApplicationException {
+    for (final AggregateExpression expression : aggregate.getExpressions()) {
+      final var resourcePath = determineResourcePath(expression);
+      if (isCount(resourcePath)) {
+        aggregations.add(new Aggregation(expression.getAlias(), null, null));
+      } else if (expression.getStandardMethod() != null
+          && expression.getInlineAggregateExpression() == null
+          && (expression.getFrom() == null || expression.getFrom().isEmpty())) {
+        aggregations.add(new Aggregation(expression.getAlias(), expression.getStandardMethod(),
+            determinePath(resourcePath)));
+      } else {
+        throw new ODataJPANotImplementedException(APPLY + " aggregate for " + expression.getAlias());
+      }
+    }
+  }
+
+  private List<UriResource> determineResourcePath(final AggregateExpression expression)
+      throws ODataJPANotImplementedException {
+    if (expression.getPath() != null && !expression.getPath().isEmpty())
+      return expression.getPath();
+    if (expression.getExpression() instanceof final Member member)
+      return member.getResourcePath().getUriResourceParts();
+    throw new ODataJPANotImplementedException(APPLY + " aggregate for " + expression.getAlias());
+  }
+
+  private static boolean isCount(final List<UriResource> resourcePath) {
+    return !resourcePath.isEmpty()
+        && resourcePath.get(resourcePath.size() - 1).getKind() == UriResourceKind.count;
+  }
+
+  /**
+   * Only properties of the requested entity type, including properties of complex types, are supported. Grouping or
+   * aggregation via navigation properties is not supported. Like for $select, properties that are restricted to
+   * field groups the caller does not belong to can not be used.
+   */
+  private JPAPath determinePath(final List<UriResource> resourcePath) throws ODataApplicationException {
+    for (final UriResource part : resourcePath) {
+      if (part.getKind() != UriResourceKind.primitiveProperty && part.getKind() != UriResourceKind.complexProperty)
+        throw new ODataJPANotImplementedException(APPLY + " with " + part.getSegmentValue());
+    }
+    final var externalPath = resourcePath.stream()
+        .map(UriResource::getSegmentValue)
+        .collect(Collectors.joining(JPAPath.PATH_SEPARATOR));
+    try {
+      final var jpaPath = jpaEntity.getPath(externalPath);
+      if (jpaPath == null || jpaPath.isTransient() || jpaPath.getLeaf().isCollection())
+        throw new ODataJPAQueryException(QUERY_PREPARATION_INVALID_SELECTION_PATH, BAD_REQUEST);
+      if (!jpaPath.isPartOfGroups(groups))
+        throw new ODataJPAQueryException(QUERY_PREPARATION_NOT_ALLOWED_MEMBER, FORBIDDEN, jpaPath.getAlias());
+      return jpaPath;
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAQueryException(QUERY_PREPARATION_INVALID_SELECTION_PATH, BAD_REQUEST, e);
+    }
+  }
+
+  private Expression<Boolean> compileFilter(final FilterOption filter) throws ODataApplicationException {
+    final var converter = new JPAOperationConverter(cb, requestContext.getOperationConverter(),
+        requestContext.getQueryDirectives());
+    final var subContext = new JPAODataInternalRequestContext(new JPAApplyFilterUriInfo(uriResource, filter),
+        requestContext);
+    final var watchDog = new JPAFilterRestrictionsWatchDog(entitySet.orElse(null),
+        !lastInfo.getKeyPredicates().isEmpty());
+    try {
+      final var compiler = new JPAFilterCrossComplier(odata, sd, jpaEntity, converter, this, target,
+          lastInfo.getAssociationPath(), subContext, watchDog);
+      final var filterExpression = compiler.compile();
+      watchDog.watch(filterExpression);
+      return filterExpression;
+    } catch (final ExpressionVisitException e) {
+      throw new ODataJPAQueryException(QUERY_PREPARATION_FILTER_ERROR, BAD_REQUEST, e);
+    }
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private Expression<?> createAggregation(final Aggregation aggregation) {
+    if (aggregation.path() == null)
+      return cb.count(target);
+    final Path path = ExpressionUtility.convertToCriteriaPath(target, aggregation.path().getPath());
+    final boolean numeric = Number.class.isAssignableFrom(boxed(aggregation.path().getLeaf().getType()));
+    return switch (aggregation.method()) {
+      case SUM -> cb.sum(path);
+      case AVERAGE -> cb.avg(path);
+      case MIN -> numeric ? cb.min(path) : cb.least(path);
+      case MAX -> numeric ? cb.max(path) : cb.greatest(path);
+      case COUNT_DISTINCT -> cb.countDistinct(path);
+      default -> throw new IllegalArgumentException("Unsupported aggregation method: " + aggregation.method());
+    };
+  }
+
+  private static Class<?> boxed(final Class<?> type) {
+    if (type == int.class)
+      return Integer.class;
+    if (type == long.class)
+      return Long.class;
+    if (type == short.class)
+      return Short.class;
+    if (type == byte.class)
+      return Byte.class;
+    if (type == double.class)
+      return Double.class;
+    if (type == float.class)
+      return Float.class;
+    return type;
+  }
+
+  private EntityCollection convertResult(final List<Tuple> rows) throws ODataJPAQueryException {
+    final var entityCollection = new EntityCollection();
+    final var entityTypeName = jpaEntity.getExternalFQN().getFullQualifiedNameAsString();
+    for (final Tuple row : rows) {
+      final var entity = new Entity();
+      entity.setType(entityTypeName);
+      final Map<String, ComplexValue> complexValueBuffer = new HashMap<>();
+      for (final JPAPath groupByPath : groupByPaths)
+        addGroupByProperty(entity.getProperties(), complexValueBuffer, groupByPath, row.get(groupByPath.getAlias()));
+      for (final Aggregation aggregation : aggregations)
+        entity.getProperties().add(createAggregationProperty(aggregation, row.get(aggregation.alias())));
+      entityCollection.getEntities().add(entity);
+    }
+    return entityCollection;
+  }
+
+  /**
+   * Minimum and maximum return a value of the aggregated property, which needs the same conversion as the property
+   * itself. All other aggregation methods return a number.
+   */
+  private static Property createAggregationProperty(final Aggregation aggregation, final Object value) {
+    if (aggregation.method() == StandardMethod.MIN || aggregation.method() == StandardMethod.MAX) {
+      final var attribute = aggregation.path().getLeaf();
+      return new Property(null, aggregation.alias(), attribute.isEnum() ? ValueType.ENUM : ValueType.PRIMITIVE,
+          convertValue(attribute, value));
+    }
+    return new Property(null, aggregation.alias(), ValueType.PRIMITIVE, toDecimal(value));
+  }
+
+  /**
+   * Sum, average and count distinct are typed as Edm.Decimal. Depending on the database the result is e.g. a Long or a
+   * Double.
+   */
+  private static Object toDecimal(final Object value) {
+    if (value instanceof final BigDecimal decimal)
+      return decimal.stripTrailingZeros();
+    if (value instanceof Double || value instanceof Float)
+      return BigDecimal.valueOf(((Number) value).doubleValue()).stripTrailingZeros();
+    if (value instanceof final Number number)
+      return new BigDecimal(number.toString());
+    return value;
+  }
+
+  private void addGroupByProperty(final List<Property> properties, final Map<String, ComplexValue> complexValueBuffer,
+      final JPAPath groupByPath, final Object value) throws ODataJPAQueryException {
+
+    var currentProperties = properties;
+    final var prefix = new StringBuilder();
+    try {
+      for (final var element : groupByPath.getPath().subList(0, groupByPath.getPath().size() - 1)) {
+        final var complexAttribute = (JPAAttribute) element;
+        prefix.append(JPAPath.PATH_SEPARATOR).append(complexAttribute.getExternalName());
+        var complexValue = complexValueBuffer.get(prefix.toString());
+        if (complexValue == null) {
+          complexValue = new ComplexValue();
+          complexValueBuffer.put(prefix.toString(), complexValue);
+          currentProperties.add(new Property(
+              complexAttribute.getStructuredType().getExternalFQN().getFullQualifiedNameAsString(),
+              complexAttribute.getExternalName(),
+              ValueType.COMPLEX,
+              complexValue));
+        }
+        currentProperties = complexValue.getValue();
+      }
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAQueryException(e, INTERNAL_SERVER_ERROR);
+    }
+    final var attribute = groupByPath.getLeaf();
+    currentProperties.add(new Property(
+        null,
+        attribute.getExternalName(),
+        attribute.isEnum() ? ValueType.ENUM : ValueType.PRIMITIVE,
+        convertValue(attribute, value)));
+  }
+
+  /**
+   * Values of a grouping property are read like the attribute of an entity. Databases return the aggregated value of
+   * a minimum or maximum as stored in the column, so an enumeration is returned as ordinal and a converted attribute as
+   * database type already.
+   */
+  @SuppressWarnings("unchecked")
+  private static <T, S> Object convertValue(final JPAAttribute attribute, @Nullable final Object value) {
+    if (value instanceof final Enum<?> enumeration && attribute.isEnum())
+      return enumeration.ordinal();
+    if (attribute.getConverter() != null && (value == null || isEntityValue(attribute, value))) {
+      final AttributeConverter<T, S> converter = attribute.getConverter();
+      return converter.convertToDatabaseColumn((T) value);
+    }
+    if (value instanceof final Duration duration)
+      return duration.getSeconds();
+    return value;
+  }
+
+  private static boolean isEntityValue(final JPAAttribute attribute, final Object value) {
+    return attribute.getJavaType() == null || attribute.getJavaType().isInstance(value);
+  }
+
+  private static record Aggregation(String alias, @Nullable StandardMethod method, @Nullable JPAPath path) {}
+}
@@ -2,7 +2,6 @@ package com.sap.olingo.jpa.processor.core.query;
 
 import static com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException.MessageKeys.QUERY_PREPARATION_FILTER_ERROR;
 import static com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException.MessageKeys.QUERY_PREPARATION_INVALID_SELECTION_PATH;
-import static java.util.stream.Collectors.joining;
 import static org.apache.olingo.commons.api.http.HttpStatusCode.BAD_REQUEST;
 import static org.apache.olingo.commons.api.http.HttpStatusCode.INTERNAL_SERVER_ERROR;
 
@@ -176,14 +175,14 @@ public class JPACollectionJoinQuery extends JPAAbstractJoinQuery implements JPAQ
 
     List<Tuple> subResult = null;
     final Map<String, List<Tuple>> convertedResult = new HashMap<>();
+    final JPAExpandKeyBuilder keyBuilder;
+    try {
+      keyBuilder = new JPAExpandKeyBuilder(associationPath);
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAQueryException(e, BAD_REQUEST);
+    }
     for (final Tuple row : intermediateResult) {
-      String actualKey;
-      try {
-        actualKey = buildConcatenatedKey(row, associationPath);
-      } catch (final ODataJPAModelException e) {
-        throw new ODataJPAQueryException(e, BAD_REQUEST);
-      }
-
+      final String actualKey = keyBuilder.buildKey(row);
       if (!actualKey.equals(joinKey)) {
         subResult = new ArrayList<>();
         convertedResult.put(actualKey, subResult);
@@ -200,22 +199,6 @@ public class JPACollectionJoinQuery extends JPAAbstractJoinQuery implements JPAQ
     return convertedResult;
   }
 
-  private String buildConcatenatedKey(final Tuple row, final JPAAssociationPath associationPath)
-      throws ODataJPAModelException {
-
-    if (!associationPath.hasJoinTable()) {
-      final List<JPAPath> joinColumns = associationPath.getRightColumnsList();
-      return joinColumns.stream()
-          .map(column -> (row.get(column.getAlias())).toString())
-          .collect(joining(JPAPath.PATH_SEPARATOR));
-    } else {
-      final List<JPAPath> joinColumns = associationPath.getLeftColumnsList();
-      return joinColumns.stream()
-          .map(column -> (row.get(association.getAlias() + ALIAS_SEPARATOR + column.getAlias())).toString())
-          .collect(joining(JPAPath.PATH_SEPARATOR));
-    }
-  }
-
   private List<Order> createOrderByJoinCondition(final JPAAssociationPath associationPath)
       throws ODataApplicationException {
     final List<Order> orders = new ArrayList<>();
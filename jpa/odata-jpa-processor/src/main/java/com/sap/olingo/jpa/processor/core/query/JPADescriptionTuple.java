@@ -0,0 +1,107 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
+import com.sap.olingo.jpa.processor.core.api.JPAODataDescriptionCache;
+
+/**
+ * Row of a query result, which got enriched by the descriptions taken from a {@link JPAODataDescriptionCache}. The
+ * join columns selected to look up the descriptions are hidden. Index based access follows the order of
+ * {@link #getElements()}.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+final class JPADescriptionTuple implements Tuple {
+
+  private final Tuple row;
+  private final List<JPAPath> descriptionPaths;
+  private final Map<String, Object> descriptions;
+  private final Set<String> keyAliases;
+
+  JPADescriptionTuple(final Tuple row, final List<JPAPath> descriptionPaths, final Map<String, Object> descriptions,
+      final Set<String> keyAliases) {
+    this.row = row;
+    this.descriptionPaths = descriptionPaths;
+    this.descriptions = descriptions;
+    this.keyAliases = keyAliases;
+  }
+
+  @Override
+  public <X> X get(final TupleElement<X> tupleElement) {
+    if (descriptions.containsKey(tupleElement.getAlias()))
+      return tupleElement.getJavaType().cast(descriptions.get(tupleElement.getAlias()));
+    return row.get(tupleElement);
+  }
+
+  @Override
+  public <X> X get(final String alias, final Class<X> type) {
+    if (descriptions.containsKey(alias))
+      return type.cast(descriptions.get(alias));
+    return row.get(alias, type);
+  }
+
+  @Override
+  public Object get(final String alias) {
+    if (descriptions.containsKey(alias))
+      return descriptions.get(alias);
+    return row.get(alias);
+  }
+
+  @Override
+  public <X> X get(final int i, final Class<X> type) {
+    final Object value = get(i);
+    if (value != null && !type.isInstance(value))
+      throw new IllegalArgumentException("Element at index " + i + " is not of type " + type.getName());
+    return type.cast(value);
+  }
+
+  @Override
+  public Object get(final int i) {
+    final List<TupleElement<?>> elements = getElements();
+    if (i < 0 || i >= elements.size())
+      throw new IllegalArgumentException("Index " + i + " exceeds the number of elements " + elements.size());
+    return get(elements.get(i).getAlias());
+  }
+
+  @Override
+  public Object[] toArray() {
+    final List<TupleElement<?>> elements = getElements();
+    final Object[] values = new Object[elements.size()];
+    for (int i = 0; i < values.length; i++)
+      values[i] = get(elements.get(i).getAlias());
+    return values;
+  }
+
+  @Override
+  public List<TupleElement<?>> getElements() {
+    final List<TupleElement<?>> elements = new ArrayList<>(row.getElements().size());
+    for (final TupleElement<?> element : row.getElements()) {
+      if (!keyAliases.contains(element.getAlias()))
+        elements.add(element);
+    }
+    for (final JPAPath path : descriptionPaths)
+      elements.add(new DescriptionElement<>(path.getAlias(), path.getLeaf().getType()));
+    return elements;
+  }
+
+  private static record DescriptionElement<X>(String alias, Class<? extends X> javaType) implements TupleElement<X> {
+
+    @Override
+    public String getAlias() {
+      return alias;
+    }
+
+    @Override
+    public Class<? extends X> getJavaType() {
+      return javaType;
+    }
+  }
+}
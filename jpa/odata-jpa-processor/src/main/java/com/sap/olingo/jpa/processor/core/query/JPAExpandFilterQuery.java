@@ -63,6 +63,7 @@ class JPAExpandFilterQuery extends JPAAbstractSubQuery {
   final JPANavigationPropertyInfo lastInfo;
   final Optional<JPAAssociationPath> childAssociation;
   final Map<String, From<?, ?>> joinTables;
+  private final Optional<JPAKeyBoundary> keyBoundary;
 
   private static List<JPANavigationPropertyInfo> determineNavigationInfo(
       final JPAServiceDocument sd, final JPANavigationPropertyInfo navigationInfo)
@@ -75,7 +76,20 @@ class JPAExpandFilterQuery extends JPAAbstractSubQuery {
       final JPANavigationPropertyInfo navigationInfo, final JPAAbstractQuery parent,
       final JPAAssociationPath childAssociation) throws ODataException {
 
-    this(odata, requestContext, navigationInfo, parent, navigationInfo.getAssociationPath(), childAssociation);
+    this(odata, requestContext, navigationInfo, parent, navigationInfo.getAssociationPath(), childAssociation,
+        Optional.empty());
+  }
+
+  /**
+   * Creates a sub query that is restricted by the known keys of the entities instead of the query options of the
+   * hop.
+   */
+  JPAExpandFilterQuery(final OData odata, final JPAODataRequestContextAccess requestContext,
+      final JPANavigationPropertyInfo navigationInfo, final JPAAbstractQuery parent,
+      final JPAAssociationPath childAssociation, final Optional<JPAKeyBoundary> keyBoundary) throws ODataException {
+
+    this(odata, requestContext, navigationInfo, parent, navigationInfo.getAssociationPath(), childAssociation,
+        keyBoundary.filter(JPAKeyBoundary::hasExactKeys));
   }
 
   public JPAExpandFilterQuery(final OData odata, final JPAODataRequestContextAccess requestContext,
@@ -83,6 +97,14 @@ class JPAExpandFilterQuery extends JPAAbstractSubQuery {
       final JPAAssociationPath association,
       final JPAAssociationPath childAssociation) throws ODataException {
 
+    this(odata, requestContext, navigationInfo, parent, association, childAssociation, Optional.empty());
+  }
+
+  private JPAExpandFilterQuery(final OData odata, final JPAODataRequestContextAccess requestContext,
+      final JPANavigationPropertyInfo navigationInfo, final JPAAbstractQuery parent,
+      final JPAAssociationPath association, final JPAAssociationPath childAssociation,
+      final Optional<JPAKeyBoundary> keyBoundary) throws ODataException {
+
     super(odata,
         requestContext.getEdmProvider().getServiceDocument(),
         navigationInfo.getEntityType(),
@@ -101,6 +123,7 @@ class JPAExpandFilterQuery extends JPAAbstractSubQuery {
     this.childAssociation = Optional.ofNullable(childAssociation);
     this.joinTables = new HashMap<>();
     this.debugger = requestContext.getDebugger();
+    this.keyBoundary = keyBoundary;
     setFilter(this.lastInfo);
   }
 
@@ -122,7 +145,9 @@ class JPAExpandFilterQuery extends JPAAbstractSubQuery {
     try (JPARuntimeMeasurement measurement = debugger.newMeasurement(this, "createSubQuery")) {
       final ProcessorSubquery<T> nextQuery = (ProcessorSubquery<T>) this.subQuery;
       final JPAQueryPair queries = createQueries(childQuery);
-      final var orderByAttributes = getOrderByAttributes(lastInfo.getUriInfo().getOrderByOption());
+      final var orderByAttributes = keyBoundary.isPresent()
+          ? List.<JPAProcessorAttribute> of()
+          : getOrderByAttributes(lastInfo.getUriInfo().getOrderByOption());
 
       createRoots(childQuery, queries, nextQuery);
       buildJoinTable(orderByAttributes, emptyList(), childQuery);
@@ -221,7 +246,7 @@ class JPAExpandFilterQuery extends JPAAbstractSubQuery {
 
   private List<Order> createOrderBy(final Subquery<?> childQuery, final List<JPAProcessorAttribute> orderByAttributes)
       throws ODataApplicationException {
-    if (!hasRowLimit(childQuery)) {
+    if (!hasRowLimit(childQuery) && keyBoundary.isEmpty()) {
       final JPAOrderByBuilder orderByBuilder = new JPAOrderByBuilder(jpaEntity, queryRoot, cb, groups);
       return orderByBuilder.createOrderByList(joinTables, orderByAttributes, lastInfo.getUriInfo());
     }
@@ -263,6 +288,9 @@ class JPAExpandFilterQuery extends JPAAbstractSubQuery {
 
   private Expression<Boolean> createWhere(final Subquery<?> childQuery) throws ODataApplicationException {
 
+    if (keyBoundary.isPresent()) {
+      return createWhereByParentKeys();
+    }
     if (hasRowLimit(childQuery)) {
       return createWhereByRowNumber(queryRoot, lastInfo);
     }
@@ -270,6 +298,17 @@ class JPAExpandFilterQuery extends JPAAbstractSubQuery {
     return createWhereSubQuery(childQuery, false);
   }
 
+  /**
+   * The keys have been read by a query, which already contained the filter and the protection restrictions of the hop.
+   */
+  private Expression<Boolean> createWhereByParentKeys() throws ODataJPAQueryException {
+    try {
+      return createWhereByExactKeys(lastInfo.getEntityType(), lastInfo.getFromClause(), keyBoundary.get().getKeys());
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAQueryException(e, INTERNAL_SERVER_ERROR);
+    }
+  }
+
   Expression<Boolean> createWhereSubQuery(@Nullable final Subquery<?> childQuery, final boolean useInverse)
       throws ODataApplicationException {
     Expression<Boolean> whereCondition = createKeyWhere(navigationInfo);
@@ -303,14 +342,14 @@ class JPAExpandFilterQuery extends JPAAbstractSubQuery {
   }
 
   private Integer getSkipValue(@Nullable final Subquery<?> childQuery) {
-    if (lastInfo.getUriInfo().getSkipOption() != null && childQuery == null) {
+    if (lastInfo.getUriInfo().getSkipOption() != null && childQuery == null && keyBoundary.isEmpty()) {
       return lastInfo.getUriInfo().getSkipOption().getValue();
     }
     return null;
   }
 
   private Integer getTopValue(@Nullable final Subquery<?> childQuery) {
-    if (lastInfo.getUriInfo().getTopOption() != null && childQuery == null) {
+    if (lastInfo.getUriInfo().getTopOption() != null && childQuery == null && keyBoundary.isEmpty()) {
       return lastInfo.getUriInfo().getTopOption().getValue();
     }
     return null;
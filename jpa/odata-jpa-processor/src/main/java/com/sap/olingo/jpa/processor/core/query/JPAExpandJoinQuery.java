@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
@@ -81,6 +82,9 @@ public final class JPAExpandJoinQuery extends JPAAbstractExpandJoinQuery impleme
    * together with <code>OVER ... ORDER BY</code> see e.g. <a
    * href="http://www.sqltutorial.org/sql-window-functions/sql-row_number/">SQL ROW_NUMBER</a>.
    * Unfortunately this is not supported by JPA.
+   * <p>
+   * In case all children belong to the same parent, $top and $skip are handed over to the database. Otherwise the
+   * result is read as stream and only the requested window of each parent is kept.
    * @return query result
    * @throws ODataApplicationException
    */
@@ -89,13 +93,20 @@ public final class JPAExpandJoinQuery extends JPAAbstractExpandJoinQuery impleme
 
     try (JPARuntimeMeasurement measurement = debugger.newMeasurement(this, "execute")) {
       tupleQuery = createTupleQuery();
-      List<Tuple> intermediateResult;
-      try (JPARuntimeMeasurement resultMeasurement = debugger.newMeasurement(tupleQuery, "getResultList")) {
-        intermediateResult = tupleQuery.query().getResultList();
+      final Map<String, List<Tuple>> result;
+      if (isSingleParent()) {
+        try (JPARuntimeMeasurement resultMeasurement = debugger.newMeasurement(tupleQuery, "getResultList")) {
+          result = convertResult(setWindow(tupleQuery.query()).getResultList(), association, 0, Long.MAX_VALUE);
+        }
+      } else {
+        // Simplest solution for the top/skip problem. Read all and throw away, what is not requested. Rows outside
+        // the window are dropped while reading, so they do not need to be kept in memory, as long as the JPA provider
+        // or the JDBC execution of the processor criteria builder reads the stream via a cursor
+        try (JPARuntimeMeasurement resultMeasurement = debugger.newMeasurement(tupleQuery, "getResultStream");
+            Stream<Tuple> intermediateResult = tupleQuery.query().getResultStream()) {
+          result = convertResult(intermediateResult::iterator, association, determineSkip(), determineTop());
+        }
       }
-      // Simplest solution for the top/skip problem. Read all and throw away, what is not requested
-      final Map<String, List<Tuple>> result = convertResult(intermediateResult, association, determineSkip(),
-          determineTop());
       return new JPAExpandQueryResult(result, count(), jpaEntity, tupleQuery.selection().joinedRequested(),
           skipTokenProvider);
     } catch (final JPANoSelectionException e) {
@@ -103,6 +114,29 @@ public final class JPAExpandJoinQuery extends JPAAbstractExpandJoinQuery impleme
     }
   }
 
+  /**
+   * All children belong to the same parent, if each parent hop was requested by its key, e.g.
+   * <code>Organizations('1')?$expand=Roles($top=2)</code>, or the parent query was restricted by $top and $skip to
+   * exactly one entity.
+   */
+  boolean isSingleParent() {
+    if (navigationInfo.size() < 2)
+      return false;
+    final var parentHops = navigationInfo.subList(0, navigationInfo.size() - 1);
+    if (keyBoundary.isPresent() && keyBoundary.get().getNoHops() == parentHops.size())
+      return !keyBoundary.get().getKeyBoundary().hasUpperBoundary();
+    return parentHops.stream()
+        .allMatch(hop -> hop.getKeyPredicates() != null && !hop.getKeyPredicates().isEmpty());
+  }
+
+  private TypedQuery<Tuple> setWindow(final TypedQuery<Tuple> query) {
+    if (uriResource.getSkipOption() != null)
+      query.setFirstResult(uriResource.getSkipOption().getValue());
+    if (uriResource.getTopOption() != null)
+      query.setMaxResults(uriResource.getTopOption().getValue());
+    return query;
+  }
+
   private long determineTop() {
     if (uriResource.getTopOption() != null) {
       return uriResource.getTopOption().getValue();
@@ -164,22 +198,22 @@ public final class JPAExpandJoinQuery extends JPAAbstractExpandJoinQuery impleme
    * @return
    * @throws ODataApplicationException
    */
-  Map<String, List<Tuple>> convertResult(final List<Tuple> intermediateResult, final JPAAssociationPath associationPath,
-      final long skip, final long top) throws ODataApplicationException {
+  Map<String, List<Tuple>> convertResult(final Iterable<Tuple> intermediateResult,
+      final JPAAssociationPath associationPath, final long skip, final long top) throws ODataApplicationException {
     String joinKey = "";
     long skipped = 0;
     long taken = 0;
 
     List<Tuple> subResult = null;
     final Map<String, List<Tuple>> convertedResult = new HashMap<>();
+    final JPAExpandKeyBuilder keyBuilder;
+    try {
+      keyBuilder = new JPAExpandKeyBuilder(associationPath);
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAQueryException(e, HttpStatusCode.BAD_REQUEST);
+    }
     for (final Tuple row : intermediateResult) {
-      String actualKey;
-      try {
-        actualKey = buildConcatenatedKey(row, associationPath);
-      } catch (final ODataJPAModelException e) {
-        throw new ODataJPAQueryException(e, HttpStatusCode.BAD_REQUEST);
-      }
-
+      final String actualKey = keyBuilder.buildKey(row);
       if (!actualKey.equals(joinKey)) {
         subResult = new ArrayList<>();
         convertedResult.put(actualKey, subResult);
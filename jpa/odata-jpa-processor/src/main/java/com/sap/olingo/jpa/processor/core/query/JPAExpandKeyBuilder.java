@@ -0,0 +1,61 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.persistence.Tuple;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAssociationPath;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+
+/**
+ * Builds the key of the parent a row of an expand result belongs to. The key is the concatenation of the join column
+ * values, separated by {@link JPAPath#PATH_SEPARATOR}.
+ * <p>
+ * The rows of an expand query are sorted by the join columns. Therefore a new key is only created in case the join
+ * column values differ from the ones of the previous row. All rows of the same parent get the same key instance.
+ * An instance shall only be used for one result.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+final class JPAExpandKeyBuilder {
+  private final List<String> aliases;
+  private final Object[] lastValues;
+  private String lastKey;
+
+  JPAExpandKeyBuilder(final JPAAssociationPath association) throws ODataJPAModelException {
+    if (!association.hasJoinTable())
+      aliases = association.getRightColumnsList().stream()
+          .map(JPAPath::getAlias)
+          .toList();
+    else
+      aliases = association.getLeftColumnsList().stream()
+          .map(column -> association.getAlias() + JPAAbstractJoinQuery.ALIAS_SEPARATOR + column.getAlias())
+          .toList();
+    lastValues = new Object[aliases.size()];
+  }
+
+  String buildKey(final Tuple row) {
+    if (lastKey != null && isSameParent(row))
+      return lastKey;
+    final StringBuilder key = new StringBuilder();
+    for (int i = 0; i < lastValues.length; i++) {
+      lastValues[i] = row.get(aliases.get(i));
+      if (i > 0)
+        key.append(JPAPath.PATH_SEPARATOR);
+      key.append(lastValues[i]);
+    }
+    lastKey = key.toString();
+    return lastKey;
+  }
+
+  private boolean isSameParent(final Tuple row) {
+    for (int i = 0; i < lastValues.length; i++) {
+      if (!Objects.equals(lastValues[i], row.get(aliases.get(i))))
+        return false;
+    }
+    return true;
+  }
+}
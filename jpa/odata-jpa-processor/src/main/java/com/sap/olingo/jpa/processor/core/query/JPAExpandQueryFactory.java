@@ -26,7 +26,7 @@ public class JPAExpandQueryFactory {
       throws ODataException {
 
     if (cb instanceof ProcessorCriteriaBuilder)
-      return new JPAExpandSubQuery(odata, item, requestContext);
+      return new JPAExpandSubQuery(odata, item, requestContext, keyBoundary);
     return new JPAExpandJoinQuery(odata, item, requestContext, keyBoundary);
   }
 
@@ -27,6 +27,7 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPageExpandInfo;
+import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAODataSkipTokenProvider;
 import com.sap.olingo.jpa.processor.core.converter.JPACollectionResult;
@@ -154,6 +155,10 @@ public final class JPAExpandQueryResult implements JPAExpandResult, JPAConvertib
     return jpaEntityType;
   }
 
+  public Collection<JPAPath> getRequestedSelection() {
+    return requestedSelection;
+  }
+
   public long getNoResults() {
     return jpaResult.size();
   }
@@ -216,19 +221,29 @@ public final class JPAExpandQueryResult implements JPAExpandResult, JPAConvertib
   public Optional<JPAKeyBoundary> getKeyBoundary(final JPAODataRequestContextAccess requestContext,
       final List<JPANavigationPropertyInfo> hops) throws ODataJPAProcessException {
     try {
-      if (!jpaResult.get(ROOT_RESULT_KEY).isEmpty()
+      final var rows = jpaResult.get(ROOT_RESULT_KEY);
+      final var exactKeys = !rows.isEmpty()
+          && rows.size() <= Optional.ofNullable(requestContext.getQueryDirectives())
+              .map(JPAODataQueryDirectives::getMaxExactParentKeys)
+              .orElse(0);
+      if (!rows.isEmpty()
           && (requestContext.getUriInfo().getExpandOption() != null
               || collectionPropertyRequested(requestContext))
           && (requestContext.getUriInfo().getTopOption() != null
-              || requestContext.getUriInfo().getSkipOption() != null)) {
+              || requestContext.getUriInfo().getSkipOption() != null
+              || exactKeys)) {
 
         final JPAKeyPair boundary = new JPAKeyPair(jpaEntityType.getKey(), requestContext.getQueryDirectives());
-        for (final Tuple tuple : jpaResult.get(ROOT_RESULT_KEY)) {
+        @SuppressWarnings("rawtypes")
+        final List<Map<JPAAttribute, Comparable>> keys = exactKeys ? new ArrayList<>(rows.size()) : List.of();
+        for (final Tuple tuple : rows) {
           @SuppressWarnings("rawtypes")
           final Map<JPAAttribute, Comparable> key = createKey(tuple);
           boundary.setValue(key);
+          if (exactKeys)
+            keys.add(key);
         }
-        return Optional.of(new JPAKeyBoundary(hops.size(), boundary));
+        return Optional.of(new JPAKeyBoundary(hops.size(), boundary, keys));
       }
     } catch (final ODataJPAModelException e) {
       throw new ODataJPAQueryException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
@@ -31,8 +31,10 @@ import org.apache.olingo.server.api.ODataApplicationException;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAssociationPath;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+import com.sap.olingo.jpa.processor.cb.ProcessorCriteriaBuilder;
 import com.sap.olingo.jpa.processor.cb.ProcessorCriteriaQuery;
 import com.sap.olingo.jpa.processor.cb.ProcessorSubquery;
+import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger.JPARuntimeMeasurement;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException;
@@ -46,11 +48,26 @@ import com.sap.olingo.jpa.processor.core.properties.JPAProcessorAttribute;
  * 25.11.2020
  */
 public class JPAExpandSubQuery extends JPAAbstractExpandSubQuery implements JPAExpandQuery {
+  private final Optional<JPAKeyBoundary> keyBoundary;
+  private boolean countFused;
 
   public JPAExpandSubQuery(final OData odata, final JPAInlineItemInfo item,
       final JPAODataRequestContextAccess requestContext) throws ODataException {
 
+    this(odata, item, requestContext, Optional.empty());
+  }
+
+  /**
+   * @param keyBoundary Keys of the entities of the root query. If all keys are known, the root query is not repeated
+   * as sub query, but replaced by the keys.
+   * @since 2.3.3
+   */
+  public JPAExpandSubQuery(final OData odata, final JPAInlineItemInfo item,
+      final JPAODataRequestContextAccess requestContext, final Optional<JPAKeyBoundary> keyBoundary)
+      throws ODataException {
+
     super(odata, requestContext, item);
+    this.keyBoundary = keyBoundary;
   }
 
   @Override
@@ -60,8 +77,8 @@ public class JPAExpandSubQuery extends JPAAbstractExpandSubQuery implements JPAE
       final JPAQueryCreationResult tupleQuery = createTupleQuery();
       final List<Tuple> intermediateResult = tupleQuery.query().getResultList();
       final Map<String, List<Tuple>> result = convertResult(intermediateResult);
-      return new JPAExpandQueryResult(result, count(), jpaEntity, tupleQuery.selection().joinedRequested(),
-          skipTokenProvider);
+      return new JPAExpandQueryResult(result, countFused ? readFusedCount(result) : count(), jpaEntity,
+          tupleQuery.selection().joinedRequested(), skipTokenProvider);
     } catch (final JPANoSelectionException e) {
       return new JPAExpandQueryResult(emptyMap(), emptyMap(), this.jpaEntity, emptyList(), Optional.empty());
     } catch (final ODataApplicationException e) {
@@ -91,6 +108,8 @@ public class JPAExpandSubQuery extends JPAAbstractExpandSubQuery implements JPAE
         selections = super.createSelectClause(joinTables, requestedProperties, target, groups);
       }
       selections = addSelectJoinTable(selections);
+      if (countFused)
+        selections.add(createRowCount());
       return selections;
     } finally {
       debugger.trace(this, "Determined selections %s", selections.toString());
@@ -112,18 +131,70 @@ public class JPAExpandSubQuery extends JPAAbstractExpandSubQuery implements JPAE
     }
   }
 
+  /**
+   * Takes the number of children per parent from the <code>count(*) over(partition by ...)</code> column, which has
+   * the same value in each row of a parent.
+   */
+  private Map<String, Long> readFusedCount(final Map<String, List<Tuple>> result) {
+    final Map<String, Long> counts = new HashMap<>(result.size());
+    for (final Map.Entry<String, List<Tuple>> parent : result.entrySet()) {
+      final Number count = (Number) parent.getValue().get(0).get(ROW_COUNT_COLUMN_NAME);
+      counts.put(parent.getKey(), count.longValue());
+    }
+    return counts;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Selection<?> createRowCount() throws ODataApplicationException {
+    if (hasRowLimit(lastInfo)) {
+      final Path<?> path = target.get(ROW_COUNT_COLUMN_NAME);
+      path.alias(ROW_COUNT_COLUMN_NAME);
+      return path;
+    }
+    try {
+      final List<Path<Comparable<?>>> pathList = (List<Path<Comparable<?>>>) createWhereKeyInPathList(association,
+          root);
+      return ((ProcessorCriteriaBuilder) cb).rowCount()
+          .partitionBy(pathList)
+          .alias(ROW_COUNT_COLUMN_NAME);
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAQueryException(e, INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  /**
+   * The count of an expand can be read together with the children if $count=true was requested, the fusion is
+   * enabled by {@link JPAODataQueryDirectives#isFusedCountEnabled()}, and no row of a parent can get lost before the
+   * count is read, so neither a $skip nor a $top=0 is given. As an $orderby always leads to a group by, the fusion is
+   * also not possible in case an $orderby is given.
+   */
+  private boolean isCountFusionPossible(final List<JPAProcessorAttribute> orderByAttributes) {
+    final var uriInfo = lastInfo.getUriInfo();
+    return uriInfo != null
+        && uriInfo.getCountOption() != null
+        && uriInfo.getCountOption().getValue()
+        && cb instanceof ProcessorCriteriaBuilder
+        && Optional.ofNullable(requestContext.getQueryDirectives())
+            .map(JPAODataQueryDirectives::isFusedCountEnabled)
+            .orElse(false)
+        && orderByAttributes.isEmpty()
+        && (uriInfo.getSkipOption() == null || uriInfo.getSkipOption().getValue() == 0)
+        && (uriInfo.getTopOption() == null || uriInfo.getTopOption().getValue() > 0);
+  }
+
   private Map<String, List<Tuple>> convertResult(final List<Tuple> intermediateResult)
       throws ODataApplicationException {
     String joinKey = "";
     List<Tuple> subResult = null;
     final Map<String, List<Tuple>> convertedResult = new HashMap<>();
+    final JPAExpandKeyBuilder keyBuilder;
+    try {
+      keyBuilder = new JPAExpandKeyBuilder(association);
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAQueryException(e, BAD_REQUEST);
+    }
     for (final Tuple row : intermediateResult) {
-      String actualKey;
-      try {
-        actualKey = buildConcatenatedKey(row, association);
-      } catch (final ODataJPAModelException e) {
-        throw new ODataJPAQueryException(e, BAD_REQUEST);
-      }
+      final String actualKey = keyBuilder.buildKey(row);
       if (!actualKey.equals(joinKey)) {
         subResult = new ArrayList<>();
         convertedResult.put(actualKey, subResult);
@@ -161,7 +232,7 @@ public class JPAExpandSubQuery extends JPAAbstractExpandSubQuery implements JPAE
       final int lastIndex = navigationInfo.size() - 2;
       final JPAAssociationPath childAssociation = navigationInfo.get(lastIndex).getAssociationPath();
       final JPARowNumberFilterQuery rowNumberQuery = new JPARowNumberFilterQuery(odata, requestContext, lastInfo,
-          this, association, childAssociation, selectionPath);
+          this, association, childAssociation, selectionPath, countFused);
       return new JPAQueryPair(rowNumberQuery, this);
     } else {
       debugger.trace(this, "Row number not required");
@@ -175,10 +246,11 @@ public class JPAExpandSubQuery extends JPAAbstractExpandSubQuery implements JPAE
     try (JPARuntimeMeasurement measurement = debugger.newMeasurement(this, "createTupleQuery")) {
       final ProcessorCriteriaQuery<Tuple> tupleQuery = (ProcessorCriteriaQuery<Tuple>) cq;
       final var orderByAttributes = getOrderByAttributes(uriResource.getOrderByOption());
+      countFused = isCountFusionPossible(orderByAttributes);
       final SelectionPathInfo<JPAPath> selectionPath = buildSelectionPathList(this.uriResource);
       final JPAQueryPair queries = createQueries(selectionPath);
       addFilterCompiler(lastInfo);
-      final LinkedList<JPAAbstractQuery> hops = buildSubQueries(queries.inner());
+      final LinkedList<JPAAbstractQuery> hops = buildSubQueries(queries.inner(), keyBoundary);
       final Subquery<Object> subQuery = linkSubQueries(hops);
       final Map<String, From<?, ?>> joinTables = createJoinTables(tupleQuery, selectionPath, orderByAttributes,
           subQuery);
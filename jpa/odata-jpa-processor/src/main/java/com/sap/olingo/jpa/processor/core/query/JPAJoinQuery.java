@@ -1,33 +1,71 @@
 package com.sap.olingo.jpa.processor.core.query;
 
 import static com.sap.olingo.jpa.processor.core.converter.JPAExpandResult.ROOT_RESULT_KEY;
+import static com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException.MessageKeys.QUERY_PREPARATION_INVALID_VALUE;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 
 import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Selection;
 
+import org.apache.olingo.commons.api.edm.provider.CsdlProperty;
 import org.apache.olingo.commons.api.ex.ODataException;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
 import org.apache.olingo.server.api.OData;
 import org.apache.olingo.server.api.ODataApplicationException;
 
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAnnotatable;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAttribute;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPACollectionAttribute;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPADescriptionAttribute;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAOnConditionItem;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+import com.sap.olingo.jpa.processor.cb.ProcessorCriteriaBuilder;
+import com.sap.olingo.jpa.processor.core.api.JPAODataDescriptionCache;
+import com.sap.olingo.jpa.processor.core.api.JPAODataKeysetSkipToken;
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetrics;
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetrics.Phase;
+import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAFilterException;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException;
 import com.sap.olingo.jpa.processor.core.properties.JPAProcessorAttribute;
+import com.sap.olingo.jpa.processor.core.properties.JPAProcessorSimpleAttribute;
+import com.sap.olingo.jpa.processor.core.uri.JPAKeysetSkipTokenOption;
 
 public class JPAJoinQuery extends JPAAbstractRootJoinQuery implements JPAQuery {
+  private List<JPAPath> keysetPaths;
+  private final JPAODataMetrics metrics;
+  private boolean countFused;
+  private Optional<Long> fusedCount;
+  private final Optional<JPAODataDescriptionCache> descriptionCache;
+  private Map<JPAPath, List<JPAOnConditionItem>> cachedDescriptions;
 
   public JPAJoinQuery(final OData odata, final JPAODataRequestContextAccess requestContext)
       throws ODataException {
     super(odata, requestContext);
+    keysetPaths = Collections.emptyList();
+    metrics = Objects.requireNonNullElse(requestContext.getMetrics(), JPAODataMetrics.NONE);
+    fusedCount = Optional.empty();
+    descriptionCache = Objects.requireNonNullElse(requestContext.getDescriptionCache(), Optional.empty());
+    cachedDescriptions = Collections.emptyMap();
   }
 
   @Override
@@ -35,40 +73,273 @@ public class JPAJoinQuery extends JPAAbstractRootJoinQuery implements JPAQuery {
     // Pre-process URI parameter, so they can be used at different places
     final var selectionPath = buildSelectionPathList(this.uriResource);
     try (var measurement = debugger.newMeasurement(this, "execute")) {
-      final var orderByAttributes = getOrderByAttributes(uriResource.getOrderByOption());
-
-      final var joinTables = createFromClause(orderByAttributes, selectionPath.joinedPersistent(), cq,
-          lastInfo);
-
-      cq.multiselect(createSelectClause(joinTables, selectionPath.joinedPersistent(), target, groups))
-          .distinct(determineDistinct());
-
-      final var whereClause = createWhere();
-      if (whereClause != null) {
-        cq.where(whereClause);
-      }
-
-      cq.orderBy(createOrderByBuilder().createOrderByList(joinTables, orderByAttributes, lastInfo.getUriInfo()));
-
-      if (orderByAttributes.stream().anyMatch(JPAProcessorAttribute::requiresJoin)) {
-        cq.groupBy(createGroupBy(joinTables, root, selectionPath.joinedPersistent(), orderByAttributes));
-      }
-
-      final TypedQuery<Tuple> typedQuery = em.createQuery(cq);
-      addTopSkip(typedQuery);
+      final var entitySet = determineMetricsKey();
+      final var buildStart = System.nanoTime();
+      cachedDescriptions = determineCachedDescriptions(selectionPath.joinedPersistent());
+      final TypedQuery<Tuple> typedQuery = createTypedQuery(selectionPath, true);
+      metrics.record(Phase.QUERY_BUILD, entitySet, System.nanoTime() - buildStart);
 
       final var result = new HashMap<String, List<Tuple>>(1);
       List<Tuple> intermediateResult;
       try (var resultMeasurement = debugger.newMeasurement(this, "getResultList")) {
+        final var executeStart = System.nanoTime();
         intermediateResult = typedQuery.getResultList();
+        metrics.record(Phase.EXECUTE, entitySet, System.nanoTime() - executeStart);
       }
+      intermediateResult = addCachedDescriptions(intermediateResult);
       result.put(ROOT_RESULT_KEY, intermediateResult);
+      fusedCount = countFused && !intermediateResult.isEmpty()
+          ? Optional.of(((Number) intermediateResult.get(0).get(ROW_COUNT_COLUMN_NAME)).longValue())
+          : Optional.empty();
       return returnResult(selectionPath.joinedRequested(), result);
     } catch (final JPANoSelectionException e) {
       return returnEmptyResult(selectionPath.joinedRequested());
     }
   }
 
+  /**
+   * Creates the same query as {@link #execute()}, but does not read the complete result. The rows are provided as
+   * stream instead, so they can be processed one after the other. Collection properties and $expand are not
+   * supported. The caller has to close the result.
+   * <p>
+   * Whether the rows are really read one after the other depends on the query: The processor criteria builder reads
+   * them via a database cursor only, if it executes the query via JDBC, see
+   * {@link com.sap.olingo.jpa.processor.cb.SqlConnectionProvider}. Otherwise the JPA provider reads the complete
+   * result and the stream is backed by it, so the memory consumption is not bounded.
+   * @return
+   * @throws ODataApplicationException
+   */
+  public JPAQueryStreamResult executeAsStream() throws ODataApplicationException {
+    final var selectionPath = buildSelectionPathList(this.uriResource);
+    try (var measurement = debugger.newMeasurement(this, "executeAsStream")) {
+      final var buildStart = System.nanoTime();
+      final TypedQuery<Tuple> typedQuery = createTypedQuery(selectionPath, false);
+      metrics.record(Phase.QUERY_BUILD, determineMetricsKey(), System.nanoTime() - buildStart);
+      return new JPAQueryStreamResult(new JPAExpandQueryResult(new HashMap<>(1), Collections.emptyMap(),
+          determineODataTargetEntityType(requestContext), selectionPath.joinedRequested(), Optional.empty()),
+          typedQuery.getResultStream());
+    } catch (final JPANoSelectionException e) {
+      return new JPAQueryStreamResult(new JPAExpandQueryResult(jpaEntity, selectionPath.joinedRequested()),
+          Stream.empty());
+    }
+  }
+
+  @Override
+  protected List<JPAOnConditionItem> getCachedDescriptionKeys(final JPAPath descriptionPath) {
+    return cachedDescriptions.getOrDefault(descriptionPath, Collections.emptyList());
+  }
+
+  /**
+   * Descriptions provided by a {@link JPAODataDescriptionCache} are not joined, if they are requested and are not
+   * part of a collection property.
+   */
+  private Map<JPAPath, List<JPAOnConditionItem>> determineCachedDescriptions(final Collection<JPAPath> selectionPath)
+      throws ODataJPAQueryException {
+
+    if (descriptionCache.isEmpty())
+      return Collections.emptyMap();
+    try {
+      final Map<JPAPath, List<JPAOnConditionItem>> result = new HashMap<>();
+      for (final var path : extractDescriptionAttributes(selectionPath)) {
+        final var description = (JPADescriptionAttribute) path.getLeaf();
+        if (path.isPartOfGroups(groups)
+            && path.getPath().stream().noneMatch(JPACollectionAttribute.class::isInstance)
+            && descriptionCache.get().isCached(description))
+          result.put(path, description.asAssociationAttribute().getPath().getJoinColumnsList());
+      }
+      return result;
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAQueryException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  private List<Tuple> addCachedDescriptions(final List<Tuple> rows) throws ODataJPAQueryException {
+    if (cachedDescriptions.isEmpty() || rows.isEmpty())
+      return rows;
+    try (var measurement = debugger.newMeasurement(this, "addCachedDescriptions")) {
+      final List<JPAPath> descriptionPaths = new ArrayList<>(cachedDescriptions.keySet());
+      final Set<String> keyAliases = new HashSet<>();
+      for (final var description : cachedDescriptions.entrySet()) {
+        for (final var joinColumn : description.getValue())
+          keyAliases.add(JPAODataDescriptionCache.createKeyAlias(description.getKey(), joinColumn));
+      }
+      final List<Tuple> result = new ArrayList<>(rows.size());
+      for (final Tuple row : rows)
+        result.add(new JPADescriptionTuple(row, descriptionPaths, determineDescriptions(row), keyAliases));
+      return result;
+    }
+  }
+
+  private Map<String, Object> determineDescriptions(final Tuple row) throws ODataJPAQueryException {
+    final Map<String, Object> descriptions = new HashMap<>(cachedDescriptions.size());
+    for (final var description : cachedDescriptions.entrySet()) {
+      final var attribute = (JPADescriptionAttribute) description.getKey().getLeaf();
+      final List<Object> keyValues = new ArrayList<>(description.getValue().size());
+      for (final var joinColumn : description.getValue())
+        keyValues.add(row.get(JPAODataDescriptionCache.createKeyAlias(description.getKey(), joinColumn)));
+      final var key = JPAODataDescriptionCache.createKey(keyValues);
+      final var locale = attribute.isLocationJoin() ? getLocale().toString() : getLocale().getLanguage();
+      descriptions.put(description.getKey().getAlias(), key == null
+          ? null
+          : descriptionCache.get().getDescription(em, attribute, locale, key));
+    }
+    return descriptions;
+  }
+
+  private String determineMetricsKey() {
+    return metrics.isEnabled()
+        ? Utility.determineBindingTarget(uriResource.getUriResourceParts()).getName()
+        : "";
+  }
+
+  /**
+   * Total number of entities requested via $count=true, which was read by {@link #execute()} together with the
+   * entities. See {@link JPAODataQueryDirectives#isFusedCountEnabled()}.
+   * @return Empty if the count could not be combined with the query or the page was empty. In this case the count has
+   * to be determined by a {@link JPAJoinCountQuery}.
+   */
+  public Optional<Long> getFusedCount() {
+    return fusedCount;
+  }
+
+  private TypedQuery<Tuple> createTypedQuery(final SelectionPathInfo<JPAPath> selectionPath, final boolean fuseCount)
+      throws ODataApplicationException, JPANoSelectionException {
+
+    final var orderByAttributes = getOrderByAttributes(uriResource.getOrderByOption());
+
+    final var joinTables = createFromClause(orderByAttributes, selectionPath.joinedPersistent(), cq,
+        lastInfo);
+
+    final List<Selection<?>> selections = new ArrayList<>(createSelectClause(joinTables, selectionPath
+        .joinedPersistent(), target, groups));
+    countFused = fuseCount && isCountFusionPossible(orderByAttributes);
+    if (countFused) {
+      new JPACountWatchDog(entitySet.map(JPAAnnotatable.class::cast)).watch(uriResource);
+      selections.add(((ProcessorCriteriaBuilder) cb).rowCount().alias(ROW_COUNT_COLUMN_NAME));
+    }
+    cq.multiselect(selections)
+        .distinct(determineDistinct());
+
+    cq.orderBy(createOrderByBuilder().createOrderByList(joinTables, orderByAttributes, lastInfo.getUriInfo()));
+
+    final var whereClause = addWhereClause(createWhere(), createKeysetRestriction(orderByAttributes));
+    if (whereClause != null) {
+      cq.where(whereClause);
+    }
+
+    if (orderByAttributes.stream().anyMatch(JPAProcessorAttribute::requiresJoin)) {
+      cq.groupBy(createGroupBy(joinTables, root, selectionPath.joinedPersistent(), orderByAttributes));
+    }
+
+    final TypedQuery<Tuple> typedQuery = em.createQuery(cq);
+    addTopSkip(typedQuery);
+    return typedQuery;
+  }
+
+  /**
+   * Determines the position of a row within the sort order of the query. The position can be used by a keyset based
+   * paging to continue reading after this row. See {@link JPAODataKeysetSkipToken}.
+   * @param row
+   * @return Position of the row. Empty if the sort order can not be expressed by values of the row.
+   * @throws ODataJPAQueryException
+   */
+  public Map<String, String> getKeysetPosition(@Nonnull final Tuple row) throws ODataJPAQueryException {
+    final Map<String, String> position = new LinkedHashMap<>(keysetPaths.size());
+    try {
+      for (final var path : keysetPaths) {
+        final var value = row.get(path.getAlias());
+        if (value == null)
+          return Collections.emptyMap();
+        position.put(path.getAlias(), ExpressionUtility.convertValueToString(odata, path.getLeaf(), value));
+      }
+    } catch (final IllegalArgumentException e) {
+      // Property not part of the selection
+      return Collections.emptyMap();
+    } catch (final ODataJPAFilterException e) {
+      throw new ODataJPAQueryException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
+    }
+    return position;
+  }
+
+  /**
+   * Keyset based paging requires that all sort criteria are properties of the target entity. In this case a page
+   * can start after the last row of the previous one:<br>
+   * (a > :a) OR (a = :a AND b > :b) OR (a = :a AND b = :b AND c > :c)
+   */
+  @SuppressWarnings("unchecked")
+  private Expression<Boolean> createKeysetRestriction(final List<JPAProcessorAttribute> orderByAttributes)
+      throws ODataApplicationException {
+
+    if (!(uriResource.getSkipTokenOption() instanceof final JPAKeysetSkipTokenOption skipTokenOption))
+      return null;
+    keysetPaths = orderByAttributes.stream().allMatch(this::isKeysetAttribute)
+        ? orderByAttributes.stream().map(JPAProcessorAttribute::getJPAPath).toList()
+        : Collections.emptyList();
+    final var position = skipTokenOption.skipToken().getPosition();
+    if (position.isEmpty())
+      return null;
+    if (!position.keySet().stream().toList().equals(keysetPaths.stream().map(JPAPath::getAlias).toList()))
+      throw new ODataJPAQueryException(QUERY_PREPARATION_INVALID_VALUE, HttpStatusCode.BAD_REQUEST,
+          skipTokenOption.getValue(), "$skiptoken");
+
+    Expression<Boolean> restriction = null;
+    Expression<Boolean> equals = null;
+    for (final var attribute : orderByAttributes) {
+      final var path = (Path<Comparable<Object>>) (Path<?>) attribute.getPath();
+      final var value = (Comparable<Object>) ExpressionUtility.convertValueOnAttribute(odata, attribute.getJPAPath()
+          .getLeaf(), position.get(attribute.getJPAPath().getAlias()), false);
+      final Expression<Boolean> compare = attribute.sortDescending()
+          ? cb.lessThan(path, value)
+          : cb.greaterThan(path, value);
+      restriction = orWhereClause(restriction, addWhereClause(equals, compare));
+      equals = addWhereClause(equals, cb.equal(path, value));
+    }
+    return restriction;
+  }
+
+  /**
+   * COUNT(*) OVER() is evaluated before $top and $skip are applied, but after DISTINCT and GROUP BY. So it can only
+   * replace the count query, if the query neither needs one of them nor restricts the result to a keyset page.
+   */
+  private boolean isCountFusionPossible(final List<JPAProcessorAttribute> orderByAttributes) {
+    return uriResource.getCountOption() != null
+        && uriResource.getCountOption().getValue()
+        && cb instanceof ProcessorCriteriaBuilder
+        && Optional.ofNullable(requestContext.getQueryDirectives())
+            .map(JPAODataQueryDirectives::isFusedCountEnabled)
+            .orElse(false)
+        && !determineDistinct()
+        && orderByAttributes.stream().noneMatch(JPAProcessorAttribute::requiresJoin)
+        && !(uriResource.getSkipTokenOption() instanceof JPAKeysetSkipTokenOption)
+        && !(lastInfo.getAssociationPath() != null
+            && lastInfo.getAssociationPath().getLeaf() instanceof JPACollectionAttribute);
+  }
+
+  /**
+   * The position of NULL within the sort order depends on the database. As a comparison with NULL is never true,
+   * rows could get lost if a sort criterion is nullable. In this case the paging falls back to $skip.
+   */
+  private boolean isKeysetAttribute(final JPAProcessorAttribute attribute) {
+    return attribute instanceof JPAProcessorSimpleAttribute
+        && attribute.isSortable()
+        && !attribute.requiresJoin()
+        && isNotNullable(attribute.getJPAPath());
+  }
+
+  private boolean isNotNullable(final JPAPath path) {
+    try {
+      for (final var element : path.getPath()) {
+        if (!(element instanceof final JPAAttribute attribute)
+            || !(attribute.isKey()
+                || attribute.getProperty() instanceof final CsdlProperty property && !property.isNullable()))
+          return false;
+      }
+      return true;
+    } catch (final ODataJPAModelException e) {
+      return false;
+    }
+  }
+
   private JPAOrderByBuilder createOrderByBuilder() throws ODataJPAQueryException {
     if (entitySet.isPresent()) {
       return new JPAOrderByBuilder(entitySet.get(), jpaEntity, target, cb, groups);
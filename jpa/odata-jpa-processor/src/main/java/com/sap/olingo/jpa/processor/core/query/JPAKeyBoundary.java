@@ -1,25 +1,38 @@
 package com.sap.olingo.jpa.processor.core.query;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.annotation.Nonnull;
 
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAttribute;
+
 /**
- * 
+ * Key range of the parent entities, which is forwarded to the $expand queries. In case the keys of all parents are
+ * known, they are forwarded as well. In this case the parent query does not need to be evaluated again.
  * 
  * @author Oliver Grande
  * Created: 10.11.2019
  *
  */
+@SuppressWarnings("rawtypes")
 public class JPAKeyBoundary {
 
   private final int noHops;
   private final JPAKeyPair keyBoundary;
+  private final List<Map<JPAAttribute, Comparable>> keys;
 
   JPAKeyBoundary(int noHops, @Nonnull JPAKeyPair keyBoundary) {
+    this(noHops, keyBoundary, Collections.emptyList());
+  }
+
+  JPAKeyBoundary(int noHops, @Nonnull JPAKeyPair keyBoundary, @Nonnull List<Map<JPAAttribute, Comparable>> keys) {
     super();
     this.noHops = noHops;
     this.keyBoundary = Objects.requireNonNull(keyBoundary);
+    this.keys = Objects.requireNonNull(keys);
   }
 
   public int getNoHops() {
@@ -30,8 +43,24 @@ public class JPAKeyBoundary {
     return keyBoundary;
   }
 
+  /**
+   * @return Keys of all parent entities. Empty if only the key range is known.
+   * @since 2.3.3
+   */
+  public List<Map<JPAAttribute, Comparable>> getKeys() {
+    return keys;
+  }
+
+  /**
+   * @return True if the keys of all parent entities are known.
+   * @since 2.3.3
+   */
+  public boolean hasExactKeys() {
+    return !keys.isEmpty();
+  }
+
   @Override
   public String toString() {
-    return "JPAKeyBoundary [noHops=" + noHops + ", keyBoundary=" + keyBoundary + "]";
+    return "JPAKeyBoundary [noHops=" + noHops + ", keyBoundary=" + keyBoundary + ", noKeys=" + keys.size() + "]";
   }
 }
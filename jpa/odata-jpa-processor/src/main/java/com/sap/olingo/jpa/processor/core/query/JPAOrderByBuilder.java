@@ -137,9 +137,11 @@ final class JPAOrderByBuilder {
   private boolean containsAttribute(final List<JPAProcessorAttribute> orderByAttributes, final JPAAttribute key)
       throws ODataJPAModelException {
 
+    final var keyPath = jpaEntity.getPath(key.getExternalName());
     var found = false;
     for (final var attribute : orderByAttributes) {
-      found = attribute.getJPAPath().equals(jpaEntity.getPath(key.getExternalName()));
+      // Attributes like $count have no path
+      found = keyPath.equals(attribute.getJPAPath());
       if (found)
         break;
     }
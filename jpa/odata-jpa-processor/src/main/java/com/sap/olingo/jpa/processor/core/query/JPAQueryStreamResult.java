@@ -0,0 +1,25 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import java.util.stream.Stream;
+
+import jakarta.persistence.Tuple;
+
+/**
+ * Result of a query that is read row by row. The expand result does not contain any rows, it provides the information
+ * needed to convert the rows of the stream.
+ *
+ * @param result Result providing the entity type and the requested selection
+ * @param rows Rows of the query
+ */
+public record JPAQueryStreamResult(JPAExpandQueryResult result, Stream<Tuple> rows) implements AutoCloseable {
+
+  @Override
+  public void close() {
+    rows.close();
+  }
+
+  @Override
+  public String toString() {
+    return "JPAQueryStreamResult [result=" + result + "]";
+  }
+}
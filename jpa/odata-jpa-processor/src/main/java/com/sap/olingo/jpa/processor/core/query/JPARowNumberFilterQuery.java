@@ -71,6 +71,9 @@ import com.sap.olingo.jpa.processor.core.filter.JPAFilterComplier;
  * }</li>
  * </ul>
  * <p>
+ * In case the count of the children was requested and shall be determined in the same statement, a
+ * <code>count(*) over(partition by ...) rowCount</code> is selected in addition.
+ * <p>
  * To filter on the provided row number a wrapping query is required.
  * Such a queries are only triggered if <i>odata-jpa-processor-cb</i> is used.
  * <p>
@@ -83,6 +86,7 @@ final class JPARowNumberFilterQuery extends JPAExpandFilterQuery {
   private final JPAFilterComplier filter;
   private final Set<JPAPath> outerSelections;
   private final boolean useInverse;
+  private final boolean selectRowCount;
 
   JPARowNumberFilterQuery(final OData odata, final JPAODataRequestContextAccess requestContext,
       final JPANavigationPropertyInfo navigationInfo, final JPAAbstractQuery parent,
@@ -93,6 +97,7 @@ final class JPARowNumberFilterQuery extends JPAExpandFilterQuery {
 
     this.outerSelections = navigationInfo.getAssociationPath().getLeftColumnsList().stream().collect(toSet());
     this.useInverse = false;
+    this.selectRowCount = false;
     filter = lastInfo.getFilterCompiler();
     filter.compile();
 
@@ -100,13 +105,15 @@ final class JPARowNumberFilterQuery extends JPAExpandFilterQuery {
 
   JPARowNumberFilterQuery(final OData odata, final JPAODataRequestContextAccess requestContext,
       final JPANavigationPropertyInfo navigationInfo, final JPAAbstractQuery parent, final JPAAssociationPath association,
-      final JPAAssociationPath childAssociation, final SelectionPathInfo<JPAPath> selectionPath) throws ODataException {
+      final JPAAssociationPath childAssociation, final SelectionPathInfo<JPAPath> selectionPath,
+      final boolean selectRowCount) throws ODataException {
 
     super(odata, requestContext, new JPANavigationPropertyInfo(navigationInfo), parent, association,
         childAssociation);
 
     this.outerSelections = selectionPath.joinedPersistent();
     this.useInverse = true;
+    this.selectRowCount = selectRowCount;
     filter = lastInfo.getFilterCompiler();
     filter.compile();
   }
@@ -128,6 +135,8 @@ final class JPARowNumberFilterQuery extends JPAExpandFilterQuery {
       final List<Selection<?>> selections = createSelectForParent();
       selections.addAll(crateSelectionJoinTable());
       selections.add(createRowNumber(useInverse));
+      if (selectRowCount)
+        selections.add(createRowCount(useInverse));
       nextQuery.where(createWhereSubQuery(childQuery, useInverse));
       nextQuery.multiselect(selections);
       return nextQuery;
@@ -172,21 +181,30 @@ final class JPARowNumberFilterQuery extends JPAExpandFilterQuery {
   }
 
   private Expression<Long> createRowNumber(final boolean inverse) throws ODataApplicationException {
+    final List<Path<Comparable<?>>> pathList = createPartitionPathList(inverse);
+    final List<Order> orderBy = createOrderBy();
+    return (Expression<Long>) ((ProcessorCriteriaBuilder) cb).rowNumber()
+        .orderBy(orderBy.isEmpty() ? singletonList(cb.asc(queryRoot)) : orderBy)
+        .partitionBy(pathList)
+        .alias(ROW_NUMBER_COLUMN_NAME);
+  }
+
+  private Expression<Long> createRowCount(final boolean inverse) throws ODataApplicationException {
+    return (Expression<Long>) ((ProcessorCriteriaBuilder) cb).rowCount()
+        .partitionBy(createPartitionPathList(inverse))
+        .alias(ROW_COUNT_COLUMN_NAME);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Path<Comparable<?>>> createPartitionPathList(final boolean inverse) throws ODataApplicationException {
     try {
-      @SuppressWarnings("unchecked")
-      final List<Path<Comparable<?>>> pathList = (List<Path<Comparable<?>>>) createWhereKeyInPathList(
+      return (List<Path<Comparable<?>>>) createWhereKeyInPathList(
           inverse ? association : childAssociation
               .orElseThrow(() -> new ODataJPAQueryException(QUERY_PREPARATION_ERROR, INTERNAL_SERVER_ERROR)),
           queryJoinTable == null ? queryRoot : queryJoinTable);
-      final List<Order> orderBy = createOrderBy();
-      return (Expression<Long>) ((ProcessorCriteriaBuilder) cb).rowNumber()
-          .orderBy(orderBy.isEmpty() ? singletonList(cb.asc(queryRoot)) : orderBy)
-          .partitionBy(pathList)
-          .alias(ROW_NUMBER_COLUMN_NAME);
     } catch (final ODataJPAModelException e) {
       throw new ODataJPAQueryException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
     }
-
   }
 
   @Override
@@ -0,0 +1,314 @@
+package com.sap.olingo.jpa.processor.core.serializer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.EntityCollection;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.edm.EdmAnnotation;
+import org.apache.olingo.commons.api.edm.EdmElement;
+import org.apache.olingo.commons.api.edm.EdmEntityType;
+import org.apache.olingo.commons.api.edm.EdmKeyPropertyRef;
+import org.apache.olingo.commons.api.edm.EdmMapping;
+import org.apache.olingo.commons.api.edm.EdmNavigationProperty;
+import org.apache.olingo.commons.api.edm.EdmProperty;
+import org.apache.olingo.commons.api.edm.EdmStructuredType;
+import org.apache.olingo.commons.api.edm.EdmTerm;
+import org.apache.olingo.commons.api.edm.EdmType;
+import org.apache.olingo.commons.api.edm.FullQualifiedName;
+import org.apache.olingo.commons.api.edm.constants.EdmTypeKind;
+import org.apache.olingo.commons.api.edm.geo.SRID;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceProperty;
+import org.apache.olingo.server.api.uri.queryoption.ApplyItem;
+import org.apache.olingo.server.api.uri.queryoption.ApplyOption;
+import org.apache.olingo.server.api.uri.queryoption.apply.Aggregate;
+import org.apache.olingo.server.api.uri.queryoption.apply.AggregateExpression;
+import org.apache.olingo.server.api.uri.queryoption.apply.AggregateExpression.StandardMethod;
+import org.apache.olingo.server.api.uri.queryoption.apply.GroupBy;
+import org.apache.olingo.server.api.uri.queryoption.expression.Member;
+
+/**
+ * Entity type of the result of a <code>$apply</code> request. Olingo describes the result by a structured type, which
+ * contains the aggregated values as dynamic properties, but the serializer requires an entity type. The type exposes
+ * only the properties that are part of the result, so that the properties of the entity type, which got reduced by
+ * the transformations, are not reported as missing.
+ * <p>
+ * Aggregated values are nullable, as e.g. the minimum of a group that contains only null values is null. Minimum and
+ * maximum have the type of the aggregated property. All other aggregated values are of type Edm.Decimal without a
+ * scale, which would restrict them to integer values, so their scale is taken from the values of the result.
+ *
+ * @author Oliver Grande
+ * @since 2.3.3
+ */
+final class JPAApplyEntityType implements EdmEntityType {
+  private final EdmEntityType entityType;
+  private final EdmStructuredType applyType;
+  private final Map<String, EdmProperty> properties;
+
+  JPAApplyEntityType(final EdmEntityType entityType, final ApplyOption applyOption, final EntityCollection result) {
+    this.entityType = entityType;
+    this.applyType = applyOption.getEdmStructuredType();
+    this.properties = determineProperties(collectAggregations(applyOption.getApplyItems(), new HashMap<>()), result);
+  }
+
+  @Override
+  public EdmElement getProperty(final String name) {
+    return properties.get(name);
+  }
+
+  @Override
+  public List<String> getPropertyNames() {
+    return new ArrayList<>(properties.keySet());
+  }
+
+  @Override
+  public EdmProperty getStructuralProperty(final String name) {
+    return properties.get(name);
+  }
+
+  @Override
+  public EdmNavigationProperty getNavigationProperty(final String name) {
+    return null;
+  }
+
+  @Override
+  public List<String> getNavigationPropertyNames() {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public boolean compatibleTo(final EdmType targetType) {
+    return entityType.compatibleTo(targetType);
+  }
+
+  @Override
+  public boolean isOpenType() {
+    return entityType.isOpenType();
+  }
+
+  @Override
+  public boolean isAbstract() {
+    return entityType.isAbstract();
+  }
+
+  @Override
+  public FullQualifiedName getFullQualifiedName() {
+    return entityType.getFullQualifiedName();
+  }
+
+  @Override
+  public String getNamespace() {
+    return entityType.getNamespace();
+  }
+
+  @Override
+  public EdmTypeKind getKind() {
+    return entityType.getKind();
+  }
+
+  @Override
+  public String getName() {
+    return entityType.getName();
+  }
+
+  @Override
+  public EdmAnnotation getAnnotation(final EdmTerm term, final String qualifier) {
+    return entityType.getAnnotation(term, qualifier);
+  }
+
+  @Override
+  public List<EdmAnnotation> getAnnotations() {
+    return entityType.getAnnotations();
+  }
+
+  @Override
+  public List<String> getKeyPredicateNames() {
+    return entityType.getKeyPredicateNames();
+  }
+
+  @Override
+  public List<EdmKeyPropertyRef> getKeyPropertyRefs() {
+    return entityType.getKeyPropertyRefs();
+  }
+
+  @Override
+  public EdmKeyPropertyRef getKeyPropertyRef(final String keyPredicateName) {
+    return entityType.getKeyPropertyRef(keyPredicateName);
+  }
+
+  @Override
+  public boolean hasStream() {
+    return false;
+  }
+
+  @Override
+  public EdmEntityType getBaseType() {
+    return null;
+  }
+
+  private Map<String, EdmProperty> determineProperties(final Map<String, AggregateExpression> aggregations,
+      final EntityCollection result) {
+    final Map<String, EdmProperty> resultProperties = new LinkedHashMap<>();
+    for (final Entity entity : result.getEntities()) {
+      for (final Property property : entity.getProperties()) {
+        final EdmProperty edmProperty = resultProperties.computeIfAbsent(property.getName(),
+            name -> createProperty(name, aggregations.get(name)));
+        if (edmProperty instanceof final AggregatedProperty aggregatedProperty)
+          aggregatedProperty.adjustScale(property.getValue());
+      }
+    }
+    return resultProperties;
+  }
+
+  private EdmProperty createProperty(final String name, final AggregateExpression aggregation) {
+    final EdmProperty property = applyType.getStructuralProperty(name);
+    if (aggregation == null || property == null)
+      return property;
+    if (aggregation.getStandardMethod() == StandardMethod.MIN
+        || aggregation.getStandardMethod() == StandardMethod.MAX) {
+      final EdmProperty source = determineSourceProperty(aggregation);
+      if (source != null)
+        return new AggregatedProperty(name, source.getType(), source.getMaxLength(), source.getPrecision(),
+            source.getScale());
+    }
+    return new AggregatedProperty(name, property.getType(), null, property.getPrecision(), property.getScale());
+  }
+
+  private static Map<String, AggregateExpression> collectAggregations(final List<ApplyItem> items,
+      final Map<String, AggregateExpression> aggregations) {
+    for (final ApplyItem item : items) {
+      if (item instanceof final Aggregate aggregate) {
+        for (final AggregateExpression expression : aggregate.getExpressions())
+          aggregations.put(expression.getAlias(), expression);
+      } else if (item instanceof final GroupBy groupBy && groupBy.getApplyOption() != null) {
+        collectAggregations(groupBy.getApplyOption().getApplyItems(), aggregations);
+      }
+    }
+    return aggregations;
+  }
+
+  private static EdmProperty determineSourceProperty(final AggregateExpression aggregation) {
+    List<UriResource> resourcePath = aggregation.getPath();
+    if ((resourcePath == null || resourcePath.isEmpty()) && aggregation.getExpression() instanceof final Member member)
+      resourcePath = member.getResourcePath().getUriResourceParts();
+    if (resourcePath != null && !resourcePath.isEmpty()
+        && resourcePath.get(resourcePath.size() - 1) instanceof final UriResourceProperty property)
+      return property.getProperty();
+    return null;
+  }
+
+  private static final class AggregatedProperty implements EdmProperty {
+    private final String name;
+    private final EdmType type;
+    private final Integer maxLength;
+    private final Integer precision;
+    private Integer scale;
+
+    private AggregatedProperty(final String name, final EdmType type, final Integer maxLength,
+        final Integer precision, final Integer scale) {
+      this.name = name;
+      this.type = type;
+      this.maxLength = maxLength;
+      this.precision = precision;
+      this.scale = scale;
+    }
+
+    private void adjustScale(final Object value) {
+      if (value instanceof final BigDecimal decimal && decimal.scale() > 0
+          && (scale == null || scale < decimal.scale()))
+        scale = decimal.scale();
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public EdmType getType() {
+      return type;
+    }
+
+    @Override
+    public boolean isCollection() {
+      return false;
+    }
+
+    @Override
+    public EdmMapping getMapping() {
+      return null;
+    }
+
+    @Override
+    public EdmAnnotation getAnnotation(final EdmTerm term, final String qualifier) {
+      return null;
+    }
+
+    @Override
+    public List<EdmAnnotation> getAnnotations() {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public String getMimeType() {
+      return null;
+    }
+
+    @Override
+    public boolean isPrimitive() {
+      return type.getKind() == EdmTypeKind.PRIMITIVE;
+    }
+
+    @Override
+    public boolean isNullable() {
+      return true;
+    }
+
+    @Override
+    public Integer getMaxLength() {
+      return maxLength;
+    }
+
+    @Override
+    public Integer getPrecision() {
+      return precision;
+    }
+
+    @Override
+    public Integer getScale() {
+      return scale;
+    }
+
+    @Override
+    public String getScaleAsString() {
+      return scale == null ? null : scale.toString();
+    }
+
+    @Override
+    public SRID getSrid() {
+      return null;
+    }
+
+    @Override
+    public boolean isUnicode() {
+      return true;
+    }
+
+    @Override
+    public String getDefaultValue() {
+      return null;
+    }
+
+    @Override
+    public EdmType getTypeWithAnnotations() {
+      return type;
+    }
+  }
+}
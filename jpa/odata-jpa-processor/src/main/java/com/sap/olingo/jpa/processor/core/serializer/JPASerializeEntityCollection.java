@@ -5,6 +5,7 @@ import java.net.URISyntaxException;
 import org.apache.olingo.commons.api.data.Annotatable;
 import org.apache.olingo.commons.api.data.ContextURL;
 import org.apache.olingo.commons.api.data.EntityCollection;
+import org.apache.olingo.commons.api.data.EntityIterator;
 import org.apache.olingo.commons.api.edm.EdmBindingTarget;
 import org.apache.olingo.commons.api.edm.EdmEntityType;
 import org.apache.olingo.commons.api.edm.EdmType;
@@ -16,8 +17,10 @@ import org.apache.olingo.server.api.serializer.EntityCollectionSerializerOptions
 import org.apache.olingo.server.api.serializer.ODataSerializer;
 import org.apache.olingo.server.api.serializer.SerializerException;
 import org.apache.olingo.server.api.serializer.SerializerResult;
+import org.apache.olingo.server.api.serializer.SerializerStreamResult;
 import org.apache.olingo.server.api.uri.UriHelper;
 import org.apache.olingo.server.api.uri.UriInfoResource;
+import org.apache.olingo.server.api.uri.queryoption.ApplyOption;
 
 import com.sap.olingo.jpa.processor.core.api.JPAODataSessionContextAccess;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPASerializerException;
@@ -47,6 +50,38 @@ final class JPASerializeEntityCollection implements JPAOperationSerializer {
       throws SerializerException, ODataJPASerializerException {
 
     final EdmBindingTarget targetEdmBindingTarget = Utility.determineBindingTarget(uriInfo.getUriResourceParts());
+    return serializer.entityCollection(this.serviceMetadata, determineEntityType(targetEdmBindingTarget, result),
+        result, buildOptions(request, targetEdmBindingTarget));
+  }
+
+  @Override
+  public SerializerStreamResult serialize(final ODataRequest request, final EntityIterator result)
+      throws SerializerException, ODataJPASerializerException {
+
+    final EdmBindingTarget targetEdmBindingTarget = Utility.determineBindingTarget(uriInfo.getUriResourceParts());
+    return serializer.entityCollectionStreamed(this.serviceMetadata, targetEdmBindingTarget.getEntityType(), result,
+        buildOptions(request, targetEdmBindingTarget));
+  }
+
+  @Override
+  public boolean isStreamingSupported() {
+    return true;
+  }
+
+  /**
+   * The result of a $apply request has the type created during parsing. It contains the aggregated values as dynamic
+   * properties, but only the properties of the result shall be serialized.
+   */
+  private EdmEntityType determineEntityType(final EdmBindingTarget targetEdmBindingTarget,
+      final EntityCollection result) {
+    final ApplyOption applyOption = uriInfo.getApplyOption();
+    if (applyOption != null && applyOption.getEdmStructuredType() != null)
+      return new JPAApplyEntityType(targetEdmBindingTarget.getEntityType(), applyOption, result);
+    return targetEdmBindingTarget.getEntityType();
+  }
+
+  private EntityCollectionSerializerOptions buildOptions(final ODataRequest request,
+      final EdmBindingTarget targetEdmBindingTarget) throws SerializerException, ODataJPASerializerException {
 
     final String selectList = uriHelper.buildContextURLSelectList(targetEdmBindingTarget.getEntityType(),
         uriInfo.getExpandOption(), uriInfo.getSelectOption());
@@ -63,16 +98,13 @@ final class JPASerializeEntityCollection implements JPAOperationSerializer {
     }
 
     final String id = request.getRawBaseUri() + "/" + targetEdmBindingTarget.getEntityType().getName();
-    final EntityCollectionSerializerOptions opts = EntityCollectionSerializerOptions.with()
+    return EntityCollectionSerializerOptions.with()
         .contextURL(contextUrl)
         .id(id)
         .count(uriInfo.getCountOption())
         .select(uriInfo.getSelectOption())
         .expand(uriInfo.getExpandOption())
         .build();
-
-    return serializer.entityCollection(this.serviceMetadata, targetEdmBindingTarget.getEntityType(), result, opts);
-
   }
 
   @Override
@@ -1,13 +1,18 @@
 package com.sap.olingo.jpa.processor.core.serializer;
 
+import static com.sap.olingo.jpa.processor.core.exception.ODataJPASerializerException.MessageKeys.NOT_SUPPORTED_RESOURCE_TYPE;
+
 import java.net.URI;
 import java.net.URISyntaxException;
 
 import org.apache.olingo.commons.api.data.EntityCollection;
+import org.apache.olingo.commons.api.data.EntityIterator;
 import org.apache.olingo.commons.api.format.ContentType;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
 import org.apache.olingo.server.api.ODataRequest;
 import org.apache.olingo.server.api.serializer.SerializerException;
 import org.apache.olingo.server.api.serializer.SerializerResult;
+import org.apache.olingo.server.api.serializer.SerializerStreamResult;
 
 import com.sap.olingo.jpa.processor.core.api.JPAODataSessionContextAccess;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPASerializerException;
@@ -17,6 +22,27 @@ public interface JPASerializer {
   public SerializerResult serialize(final ODataRequest request, final EntityCollection result)
       throws SerializerException, ODataJPASerializerException;
 
+  /**
+   * Serializes a result that is provided entity by entity. The entities are written into the response while they are
+   * read.
+   * @throws SerializerException
+   * @throws ODataJPASerializerException
+   * @since 2.3.3
+   */
+  public default SerializerStreamResult serialize(final ODataRequest request, final EntityIterator result)
+      throws SerializerException, ODataJPASerializerException {
+    throw new ODataJPASerializerException(NOT_SUPPORTED_RESOURCE_TYPE, HttpStatusCode.NOT_IMPLEMENTED,
+        getClass().getSimpleName());
+  }
+
+  /**
+   * @return <code>true</code> if the serializer is able to handle results of type {@link EntityIterator}
+   * @since 2.3.3
+   */
+  public default boolean isStreamingSupported() {
+    return false;
+  }
+
   public ContentType getContentType();
 
   default URI buildServiceRoot(final ODataRequest request, final JPAODataSessionContextAccess serviceContext)
@@ -0,0 +1,36 @@
+package com.sap.olingo.jpa.processor.core.uri;
+
+import org.apache.olingo.server.api.uri.queryoption.SkipTokenOption;
+import org.apache.olingo.server.api.uri.queryoption.SystemQueryOptionKind;
+
+import com.sap.olingo.jpa.processor.core.api.JPAODataKeysetSkipToken;
+
+/**
+ * Skip token option of a keyset based page. Gives the query access to the position the page starts after.
+ *
+ * @param skipToken
+ * @since 2.3.3
+ */
+public record JPAKeysetSkipTokenOption(JPAODataKeysetSkipToken skipToken) implements SkipTokenOption {
+
+  @Override
+  public SystemQueryOptionKind getKind() {
+    return SystemQueryOptionKind.SKIPTOKEN;
+  }
+
+  @Override
+  public String getName() {
+    return null;
+  }
+
+  @Override
+  public String getText() {
+    return skipToken.toString();
+  }
+
+  @Override
+  public String getValue() {
+    return skipToken.toString();
+  }
+
+}
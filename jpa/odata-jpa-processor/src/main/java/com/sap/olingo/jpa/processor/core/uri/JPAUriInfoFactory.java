@@ -23,6 +23,7 @@ import org.apache.olingo.server.api.uri.queryoption.SystemQueryOption;
 import org.apache.olingo.server.api.uri.queryoption.SystemQueryOptionKind;
 
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
+import com.sap.olingo.jpa.processor.core.api.JPAODataKeysetSkipToken;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPage;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPageExpandInfo;
 
@@ -193,6 +194,8 @@ public class JPAUriInfoFactory {
     public JPAUriInfoBuilder withSkipToken(@Nullable final Object skipToken) {
       if (skipToken == null)
         uriInfo.removeSystemQueryOption(SystemQueryOptionKind.SKIPTOKEN);
+      else if (skipToken instanceof final JPAODataKeysetSkipToken keysetSkipToken)
+        uriInfo.setSystemQueryOption(new JPAKeysetSkipTokenOption(keysetSkipToken));
       else
         uriInfo.setSystemQueryOption(new JPASkipTokenOptionImpl(skipToken.toString()));
       return this;
@@ -2,14 +2,29 @@ package com.sap.olingo.jpa.processor.core.api;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
 import java.util.List;
 
+import jakarta.persistence.EntityManager;
+
 import org.apache.olingo.commons.api.ex.ODataException;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.sap.olingo.jpa.processor.core.api.example.JPAExampleCUDRequestHandler;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
+import com.sap.olingo.jpa.processor.core.testmodel.BusinessPartnerRole;
+import com.sap.olingo.jpa.processor.core.testmodel.BusinessPartnerRoleKey;
 import com.sap.olingo.jpa.processor.core.util.IntegrationTestHelper;
 import com.sap.olingo.jpa.processor.core.util.TestBase;
 
@@ -68,6 +83,107 @@ class BatchRequestTest extends TestBase {
     assertEquals("5", value.get("ID").asText());
   }
 
+  @Test
+  void testChangeSetReferenceToCollectedCreateViaContentId() throws IOException, ODataException {
+    final JPACUDRequestHandler handler = spy(new JPAExampleCUDRequestHandler());
+    doReturn(true).when(handler).supportsBulkChanges();
+    final StringBuffer requestBody = createBodyChangeSetCreateReferenced();
+    try {
+      final IntegrationTestHelper helper = new IntegrationTestHelper(emf, "$batch", requestBody, handler);
+
+      assertEquals(201, helper.getBatchResultStatus(1));
+      assertEquals(201, helper.getBatchResultStatus(2));
+      assertEquals(204, helper.getBatchResultStatus(3));
+      // Only the create, which is not referenced, was collected
+      verify(handler).createEntities(argThat(entities -> entities.size() == 1), any());
+      final EntityManager em = emf.createEntityManager();
+      assertNull(em.find(BusinessPartnerRole.class, new BusinessPartnerRoleKey("1", "X")));
+      assertNotNull(em.find(BusinessPartnerRole.class, new BusinessPartnerRoleKey("1", "Y")));
+    } finally {
+      deleteRole(new BusinessPartnerRoleKey("1", "Y"));
+    }
+  }
+
+  @Test
+  void testChangeSetFlushErrorUsesNegotiatedFormat() throws IOException, ODataException {
+    final JPACUDRequestHandler handler = spy(new JPAExampleCUDRequestHandler());
+    doReturn(true).when(handler).supportsBulkChanges();
+    doThrow(new ODataJPAProcessorException(new IllegalStateException("Bulk failed"), HttpStatusCode.BAD_REQUEST))
+        .when(handler).createEntities(any(), any());
+    final StringBuffer requestBody = createBodyChangeSetCreateAcceptXml();
+
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf, "$batch", requestBody, handler);
+
+    assertEquals(400, helper.getBatchResultStatus(1));
+    assertTrue(helper.getRawBatchResult().stream().anyMatch(line -> line.startsWith("Content-Type: application/xml")));
+    assertNull(emf.createEntityManager().find(BusinessPartnerRole.class, new BusinessPartnerRoleKey("1", "X")));
+  }
+
+  private void deleteRole(final BusinessPartnerRoleKey key) {
+    final EntityManager em = emf.createEntityManager();
+    em.getTransaction().begin();
+    final BusinessPartnerRole role = em.find(BusinessPartnerRole.class, key);
+    if (role != null)
+      em.remove(role);
+    em.getTransaction().commit();
+  }
+
+  private StringBuffer createBodyChangeSetCreateReferenced() {
+    final StringBuffer requestBody = new StringBuffer("--abc123\r\n");
+    requestBody.append("Content-Type: multipart/mixed; boundary=changeset_1\r\n");
+    requestBody.append("\r\n");
+    requestBody.append("--changeset_1\r\n");
+    requestBody.append("Content-Type: application/http\r\n");
+    requestBody.append("Content-Transfer-Encoding: binary\r\n");
+    requestBody.append("Content-ID: 1\r\n");
+    requestBody.append("\r\n");
+    requestBody.append("POST BusinessPartnerRoles HTTP/1.1\r\n");
+    requestBody.append("Content-Type: application/json\r\n");
+    requestBody.append("\r\n");
+    requestBody.append("{\"BusinessPartnerID\": \"1\", \"RoleCategory\": \"X\"}\r\n");
+    requestBody.append("--changeset_1\r\n");
+    requestBody.append("Content-Type: application/http\r\n");
+    requestBody.append("Content-Transfer-Encoding: binary\r\n");
+    requestBody.append("Content-ID: 2\r\n");
+    requestBody.append("\r\n");
+    requestBody.append("POST BusinessPartnerRoles HTTP/1.1\r\n");
+    requestBody.append("Content-Type: application/json\r\n");
+    requestBody.append("\r\n");
+    requestBody.append("{\"BusinessPartnerID\": \"1\", \"RoleCategory\": \"Y\"}\r\n");
+    requestBody.append("--changeset_1\r\n");
+    requestBody.append("Content-Type: application/http\r\n");
+    requestBody.append("Content-Transfer-Encoding: binary\r\n");
+    requestBody.append("Content-ID: 3\r\n");
+    requestBody.append("\r\n");
+    requestBody.append("DELETE $1 HTTP/1.1\r\n");
+    requestBody.append("\r\n");
+    requestBody.append("\r\n");
+    requestBody.append("--changeset_1--\r\n");
+    requestBody.append("\r\n");
+    requestBody.append("--abc123--");
+    return requestBody;
+  }
+
+  private StringBuffer createBodyChangeSetCreateAcceptXml() {
+    final StringBuffer requestBody = new StringBuffer("--abc123\r\n");
+    requestBody.append("Content-Type: multipart/mixed; boundary=changeset_1\r\n");
+    requestBody.append("\r\n");
+    requestBody.append("--changeset_1\r\n");
+    requestBody.append("Content-Type: application/http\r\n");
+    requestBody.append("Content-Transfer-Encoding: binary\r\n");
+    requestBody.append("Content-ID: 1\r\n");
+    requestBody.append("\r\n");
+    requestBody.append("POST BusinessPartnerRoles HTTP/1.1\r\n");
+    requestBody.append("Content-Type: application/json\r\n");
+    requestBody.append("Accept: application/xml\r\n");
+    requestBody.append("\r\n");
+    requestBody.append("{\"BusinessPartnerID\": \"1\", \"RoleCategory\": \"X\"}\r\n");
+    requestBody.append("--changeset_1--\r\n");
+    requestBody.append("\r\n");
+    requestBody.append("--abc123--");
+    return requestBody;
+  }
+
   private StringBuffer createBodyTwoGetOneFail() {
     final StringBuffer requestBody = new StringBuffer("--abc123\r\n");
     requestBody.append("Content-Type: application/http\r\n");
@@ -0,0 +1,91 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+
+import org.apache.olingo.commons.api.http.HttpStatusCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
+
+class JPAODataAdmissionControlTest {
+  private JPAODataAdmissionControl cut;
+
+  @BeforeEach
+  void setup() {
+    cut = new JPAODataAdmissionControl(1000L, Duration.ofMillis(10));
+  }
+
+  @Test
+  void testThrowsExceptionOnMaxCostBelowOne() {
+    assertThrows(IllegalArgumentException.class, () -> new JPAODataAdmissionControl(0L, Duration.ZERO));
+  }
+
+  @Test
+  void testThrowsExceptionOnBudgetBelowOne() {
+    assertThrows(IllegalArgumentException.class, () -> cut.setConcurrencyBudget("Organizations", 0));
+  }
+
+  @Test
+  void testGetCardinalityReturnsDefault() {
+    assertEquals(1000L, cut.getCardinality("Organizations"));
+    cut.setDefaultCardinality(50L);
+    assertEquals(50L, cut.getCardinality("Organizations"));
+  }
+
+  @Test
+  void testGetCardinalityReturnsProvided() {
+    cut.setCardinality("Organizations", 50_000_000L);
+    assertEquals(50_000_000L, cut.getCardinality("Organizations"));
+    assertEquals(1000L, cut.getCardinality("BusinessPartners"));
+  }
+
+  @Test
+  void testGetRetryAfterRoundsUpToSeconds() {
+    assertEquals(1L, cut.getRetryAfter());
+    assertEquals(3L, new JPAODataAdmissionControl(1000L, Duration.ofMillis(2500)).getRetryAfter());
+  }
+
+  @Test
+  void testAdmitRejectsTooExpensiveRequest() {
+    final ODataJPAProcessorException act = assertThrows(ODataJPAProcessorException.class,
+        () -> cut.admit("Organizations", 1001L));
+    assertEquals(HttpStatusCode.BAD_REQUEST.getStatusCode(), act.getStatusCode());
+  }
+
+  @Test
+  void testAdmitWithoutBudget() throws ODataJPAProcessorException {
+    try (var first = cut.admit("Organizations", 1000L);
+        var second = cut.admit("Organizations", 1000L)) {
+      assertNotNull(first);
+      assertNotNull(second);
+    }
+  }
+
+  @Test
+  void testAdmitRejectsIfBudgetExhausted() throws ODataJPAProcessorException {
+    cut.setConcurrencyBudget("Organizations", 1);
+    try (var first = cut.admit("Organizations", 1L)) {
+      final ODataJPAProcessorException act = assertThrows(ODataJPAProcessorException.class,
+          () -> cut.admit("Organizations", 1L));
+      assertEquals(HttpStatusCode.SERVICE_UNAVAILABLE.getStatusCode(), act.getStatusCode());
+      assertDoesNotThrow(() -> cut.admit("BusinessPartners", 1L).close());
+    }
+  }
+
+  @Test
+  void testClosePermitReleasesBudgetOnce() throws ODataJPAProcessorException {
+    cut.setConcurrencyBudget("Organizations", 1);
+    final var first = cut.admit("Organizations", 1L);
+    first.close();
+    first.close();
+    try (var second = cut.admit("Organizations", 1L)) {
+      assertThrows(ODataJPAProcessorException.class, () -> cut.admit("Organizations", 1L));
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.olingo.commons.api.ex.ODataRuntimeException;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
+import org.apache.olingo.server.api.deserializer.batch.ODataResponsePart;
+import org.apache.olingo.server.api.serializer.FixedFormatSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
+
+class JPAODataBatchContentTest {
+  private static final String BOUNDARY = "batch_1";
+  private FixedFormatSerializer serializer;
+  private ODataResponsePart first;
+  private ODataResponsePart second;
+
+  @BeforeEach
+  void setup() throws Exception {
+    serializer = mock(FixedFormatSerializer.class);
+    first = mock(ODataResponsePart.class);
+    second = mock(ODataResponsePart.class);
+    when(serializer.batchResponse(eq(List.of(first)), eq(BOUNDARY))).thenReturn(body("First"));
+    when(serializer.batchResponse(eq(List.of(second)), eq(BOUNDARY))).thenReturn(body("Second"));
+  }
+
+  @Test
+  void checkWritesPartsBetweenOneCloseDelimiter() {
+    final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    final JPAODataBatchContent cut = new JPAODataBatchContent(serializer, BOUNDARY, consumer -> {
+      consumer.accept(first);
+      consumer.accept(second);
+    });
+
+    cut.write(stream);
+    assertEquals("--batch_1\r\nFirst\r\n--batch_1\r\nSecond\r\n--batch_1--\r\n", stream.toString(
+        StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void checkWritesPartBeforeNextIsExecuted() {
+    final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    final List<Integer> sizes = new ArrayList<>();
+    final JPAODataBatchContent cut = new JPAODataBatchContent(serializer, BOUNDARY, consumer -> {
+      consumer.accept(first);
+      sizes.add(stream.size());
+      consumer.accept(second);
+    });
+
+    cut.write(stream);
+    assertEquals(List.of("--batch_1\r\nFirst\r\n".length()), sizes);
+  }
+
+  @Test
+  void checkWritesCloseDelimiterOnlyIfNoPart() {
+    final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    final JPAODataBatchContent cut = new JPAODataBatchContent(serializer, BOUNDARY, consumer -> {});
+
+    cut.write(Channels.newChannel(stream));
+    assertEquals("--batch_1--\r\n", stream.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void checkRethrowsExceptionOfExecution() {
+    final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    final JPAODataBatchContent cut = new JPAODataBatchContent(serializer, BOUNDARY, consumer -> {
+      throw new ODataJPAProcessorException(new IllegalStateException(), HttpStatusCode.INTERNAL_SERVER_ERROR);
+    });
+
+    assertThrows(ODataRuntimeException.class, () -> cut.write(stream));
+  }
+
+  private static ByteArrayInputStream body(final String content) {
+    return new ByteArrayInputStream(("--" + BOUNDARY + "\r\n" + content + "\r\n--" + BOUNDARY + "--\r\n")
+        .getBytes(StandardCharsets.UTF_8));
+  }
+}
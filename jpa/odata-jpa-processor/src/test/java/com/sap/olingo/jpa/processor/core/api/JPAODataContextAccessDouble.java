@@ -34,6 +34,14 @@ public class JPAODataContextAccessDouble implements JPAODataSessionContextAccess
       final DataSource dataSource,
       final JPAODataPagingProvider provider, final AnnotationProvider annotationProvider,
       final ProcessorSqlPatternProvider sqlPatternProvider, final String... packages) {
+    this(edmProvider, emf, dataSource, provider, annotationProvider, sqlPatternProvider, null, packages);
+  }
+
+  public JPAODataContextAccessDouble(final JPAEdmProvider edmProvider, final EntityManagerFactory emf,
+      final DataSource dataSource,
+      final JPAODataPagingProvider provider, final AnnotationProvider annotationProvider,
+      final ProcessorSqlPatternProvider sqlPatternProvider, final JPAODataQueryDirectives directives,
+      final String... packages) {
     super();
     this.dataSource = dataSource;
     this.processor = new JPADefaultDatabaseProcessor();
@@ -53,6 +61,8 @@ public class JPAODataContextAccessDouble implements JPAODataSessionContextAccess
     } catch (final ODataException e) {
       this.directives = null;
     }
+    if (directives != null)
+      this.directives = directives;
   }
 
   @Override
@@ -0,0 +1,145 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+
+import org.apache.olingo.commons.api.ex.ODataException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPADescriptionAttribute;
+import com.sap.olingo.jpa.processor.core.testmodel.AdministrativeDivisionDescription;
+import com.sap.olingo.jpa.processor.core.testmodel.Country;
+import com.sap.olingo.jpa.processor.core.util.TestBase;
+
+class JPAODataDescriptionCacheTest extends TestBase {
+  private JPAODataDescriptionCache cut;
+  private EntityManager em;
+  private JPADescriptionAttribute countryName;
+  private JPADescriptionAttribute regionName;
+
+  @BeforeEach
+  void setup() throws ODataException {
+    em = spy(emf.createEntityManager());
+    final var organization = getHelper().getJPAEntityType("Organizations");
+    countryName = (JPADescriptionAttribute) organization.getPath("Address/CountryName").getLeaf();
+    regionName = (JPADescriptionAttribute) organization.getPath("Address/RegionName").getLeaf();
+    cut = new JPAODataDescriptionCache(100, Duration.ofHours(1));
+  }
+
+  @Test
+  void testIsCachedAllIfNoEntityGiven() {
+    assertTrue(cut.isCached(countryName));
+    assertTrue(cut.isCached(regionName));
+  }
+
+  @Test
+  void testIsCachedOnlyGivenEntities() {
+    cut = new JPAODataDescriptionCache(100, Duration.ofHours(1), Country.class);
+    assertTrue(cut.isCached(countryName));
+    assertFalse(cut.isCached(regionName));
+  }
+
+  @Test
+  void testGetDescriptionPerLanguage() throws ODataException {
+    assertEquals("Deutschland", cut.getDescription(em, countryName, "de", "DEU"));
+    assertEquals("Germany", cut.getDescription(em, countryName, "en", "DEU"));
+  }
+
+  @Test
+  void testGetDescriptionMultipleJoinColumns() throws ODataException {
+    assertEquals("Kalifornien", cut.getDescription(em, regionName, "de", Arrays.asList("ISO", "3166-2", "US-CA")));
+  }
+
+  @Test
+  void testGetDescriptionReturnsNullIfUnknown() throws ODataException {
+    assertNull(cut.getDescription(em, countryName, "de", "XYZ"));
+  }
+
+  @Test
+  void testGetDescriptionReadsDescriptionsOnlyOnce() throws ODataException {
+    cut.getDescription(em, countryName, "de", "DEU");
+    cut.getDescription(em, countryName, "de", "USA");
+    verify(em, times(1)).getCriteriaBuilder();
+  }
+
+  @Test
+  void testGetDescriptionReadsAgainAfterTimeToLive() throws ODataException {
+    cut = new JPAODataDescriptionCache(100, Duration.ofNanos(-1));
+    cut.getDescription(em, countryName, "de", "DEU");
+    cut.getDescription(em, countryName, "de", "DEU");
+    verify(em, times(2)).getCriteriaBuilder();
+  }
+
+  @Test
+  void testInvalidateReadsEntityAgain() throws ODataException {
+    cut.getDescription(em, countryName, "de", "DEU");
+    cut.getDescription(em, regionName, "de", Arrays.asList("ISO", "3166-2", "US-CA"));
+    cut.invalidate(Country.class);
+    cut.getDescription(em, countryName, "de", "DEU");
+    cut.getDescription(em, regionName, "de", Arrays.asList("ISO", "3166-2", "US-CA"));
+    verify(em, times(3)).getCriteriaBuilder();
+    cut.invalidate(AdministrativeDivisionDescription.class);
+    cut.getDescription(em, regionName, "de", Arrays.asList("ISO", "3166-2", "US-CA"));
+    verify(em, times(4)).getCriteriaBuilder();
+  }
+
+  @Test
+  void testInvalidateAllReadsAgain() throws ODataException {
+    cut.getDescription(em, countryName, "de", "DEU");
+    cut.invalidateAll();
+    cut.getDescription(em, countryName, "de", "DEU");
+    verify(em, times(2)).getCriteriaBuilder();
+  }
+
+  @Test
+  void testConstructorRejectsMaxEntriesLessThanOne() {
+    assertThrows(IllegalArgumentException.class, () -> new JPAODataDescriptionCache(0, Duration.ofHours(1)));
+  }
+
+  @Test
+  void testGetDescriptionRemovesLeastRecentlyUsedLocale() throws ODataException {
+    cut = new JPAODataDescriptionCache(2, Duration.ofHours(1));
+    cut.getDescription(em, countryName, "de", "DEU");
+    cut.getDescription(em, countryName, "en", "DEU");
+    cut.getDescription(em, countryName, "de", "DEU");
+    cut.getDescription(em, countryName, "fr", "DEU");
+    assertEquals(2, cut.size());
+    verify(em, times(3)).getCriteriaBuilder();
+    cut.getDescription(em, countryName, "de", "DEU");
+    verify(em, times(3)).getCriteriaBuilder();
+    cut.getDescription(em, countryName, "en", "DEU");
+    verify(em, times(4)).getCriteriaBuilder();
+  }
+
+  @Test
+  void testGetDescriptionDoesNotCacheIfInvalidatedWhileReading() throws ODataException {
+    doAnswer(invocation -> {
+      cut.invalidate(Country.class);
+      return invocation.callRealMethod();
+    }).when(em).getCriteriaBuilder();
+
+    assertEquals("Deutschland", cut.getDescription(em, countryName, "de", "DEU"));
+    assertEquals(0, cut.size());
+  }
+
+  @Test
+  void testCreateKey() {
+    assertEquals("DEU", JPAODataDescriptionCache.createKey(List.of("DEU")));
+    assertEquals(List.of("ISO", "DEU"), JPAODataDescriptionCache.createKey(List.of("ISO", "DEU")));
+    assertNull(JPAODataDescriptionCache.createKey(Arrays.asList("ISO", null)));
+  }
+}
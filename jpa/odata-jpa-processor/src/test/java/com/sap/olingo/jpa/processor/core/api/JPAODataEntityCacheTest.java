@@ -0,0 +1,157 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+import org.apache.olingo.commons.api.data.EntityCollection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.processor.core.testmodel.BusinessPartner;
+import com.sap.olingo.jpa.processor.core.testmodel.Country;
+
+class JPAODataEntityCacheTest {
+  private JPAODataEntityCache cut;
+  private EntityCollection result;
+
+  @BeforeEach
+  void setup() {
+    cut = new JPAODataEntityCache(2, Duration.ofHours(1));
+    result = new EntityCollection();
+  }
+
+  @Test
+  void testThrowsExceptionOnMaxEntriesBelowOne() {
+    assertThrows(IllegalArgumentException.class, () -> new JPAODataEntityCache(0, Duration.ofHours(1)));
+  }
+
+  @Test
+  void testIsCachedAllIfNoEntityGiven() {
+    assertTrue(cut.isCached(Country.class));
+    assertTrue(cut.isCached(BusinessPartner.class));
+  }
+
+  @Test
+  void testIsCachedOnlyGivenEntities() {
+    cut = new JPAODataEntityCache(2, Duration.ofHours(1), Country.class);
+    assertTrue(cut.isCached(Country.class));
+    assertFalse(cut.isCached(BusinessPartner.class));
+  }
+
+  @Test
+  void testGetReturnsPutResult() {
+    cut.put(createKey("1", false), result, cut.getGeneration());
+    assertEquals(result, cut.get(createKey("1", false)).get());
+    assertTrue(cut.get(createKey("2", false)).isEmpty());
+  }
+
+  @Test
+  void testGetReturnsEmptyAfterTimeToLive() {
+    cut = new JPAODataEntityCache(2, Duration.ofNanos(-1));
+    cut.put(createKey("1", false), result, cut.getGeneration());
+    assertTrue(cut.get(createKey("1", false)).isEmpty());
+    assertEquals(0, cut.size());
+  }
+
+  @Test
+  void testPutRemovesLeastRecentlyUsed() {
+    cut.put(createKey("1", false), result, cut.getGeneration());
+    cut.put(createKey("2", false), result, cut.getGeneration());
+    cut.get(createKey("1", false));
+    cut.put(createKey("3", false), result, cut.getGeneration());
+    assertEquals(2, cut.size());
+    assertTrue(cut.get(createKey("1", false)).isPresent());
+    assertTrue(cut.get(createKey("2", false)).isEmpty());
+  }
+
+  @Test
+  void testInvalidateRemovesEntryWithKey() {
+    cut.put(createKey("1", false), result, cut.getGeneration());
+    cut.put(createKey("2", false), result, cut.getGeneration());
+    cut.invalidate(BusinessPartner.class, Map.of("iD", "1"));
+    assertTrue(cut.get(createKey("1", false)).isEmpty());
+    assertTrue(cut.get(createKey("2", false)).isPresent());
+  }
+
+  @Test
+  void testInvalidateRemovesAllEntriesOfEntityWithoutKey() {
+    cut.put(createKey("1", false), result, cut.getGeneration());
+    cut.put(createKey("2", false), result, cut.getGeneration());
+    cut.invalidate(BusinessPartner.class, Collections.emptyMap());
+    assertEquals(0, cut.size());
+  }
+
+  @Test
+  void testInvalidateRemovesExpandedEntries() {
+    cut.put(createKey("1", true), result, cut.getGeneration());
+    cut.put(createKey("2", false), result, cut.getGeneration());
+    cut.invalidate(Country.class, Collections.emptyMap());
+    assertTrue(cut.get(createKey("1", true)).isEmpty());
+    assertTrue(cut.get(createKey("2", false)).isPresent());
+  }
+
+  @Test
+  void testChangedInformsListener() {
+    final JPAODataEntityCacheListener listener = mock(JPAODataEntityCacheListener.class);
+    cut.addListener(listener);
+    cut.put(createKey("1", false), result, cut.getGeneration());
+    cut.changed(BusinessPartner.class, Map.of("iD", "1"));
+    assertEquals(0, cut.size());
+    verify(listener).invalidated(BusinessPartner.class, Map.of("iD", "1"));
+  }
+
+  @Test
+  void testChangedAllInformsListener() {
+    final JPAODataEntityCacheListener listener = mock(JPAODataEntityCacheListener.class);
+    cut.addListener(listener);
+    cut.put(createKey("1", false), result, cut.getGeneration());
+    cut.changedAll();
+    assertEquals(0, cut.size());
+    verify(listener).invalidatedAll();
+  }
+
+  @Test
+  void testPutIgnoresResultReadBeforeInvalidate() {
+    final long generation = cut.getGeneration();
+    cut.invalidate(BusinessPartner.class, Map.of("iD", "1"));
+    cut.put(createKey("1", false), result, generation);
+    assertEquals(0, cut.size());
+    cut.put(createKey("1", false), result, cut.getGeneration());
+    assertEquals(1, cut.size());
+  }
+
+  @Test
+  void testPutIgnoresResultReadBeforeInvalidateAll() {
+    final long generation = cut.getGeneration();
+    cut.invalidateAll();
+    cut.put(createKey("1", false), result, generation);
+    assertEquals(0, cut.size());
+  }
+
+  @Test
+  void testAsKeys() {
+    assertEquals(Map.of("codePublisher", "ISO", "code", "DEU"), JPAODataEntityCache.asKeys(Map.of("codePublisher",
+        "ISO", "code", "DEU")));
+  }
+
+  @Test
+  void testAsKeysNormalizesValues() {
+    assertEquals(Map.of("iD", "123"), JPAODataEntityCache.asKeys(Map.of("iD", 123)));
+    assertEquals(JPAODataEntityCache.asKeys(Map.of("value", new BigDecimal("1.50"))),
+        JPAODataEntityCache.asKeys(Map.of("value", new BigDecimal("1.5"))));
+  }
+
+  private JPAODataEntityCache.Key createKey(final String id, final boolean expanded) {
+    return new JPAODataEntityCache.Key("BusinessPartners('" + id + "')", expanded ? "$expand=Roles" : null, "en", "",
+        BusinessPartner.class, Map.of("iD", id), expanded);
+  }
+}
@@ -0,0 +1,81 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.processor.core.api.JPAODataHistogramMetrics.Snapshot;
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetrics.Phase;
+
+class JPAODataHistogramMetricsTest {
+  private JPAODataHistogramMetrics cut;
+  private Map<Phase, Map<String, Snapshot>> snapshots;
+
+  @BeforeEach
+  void setup() {
+    cut = new JPAODataHistogramMetrics(100L, 10L, 1000L);
+    snapshots = new EnumMap<>(Phase.class);
+  }
+
+  @Test
+  void testExportEmptyIfNothingRecorded() {
+    cut.export(this::collect);
+    assertTrue(snapshots.isEmpty());
+  }
+
+  @Test
+  void testExportPerPhaseAndEntitySet() {
+    cut.record(Phase.EXECUTE, "Organizations", 5L);
+    cut.record(Phase.EXECUTE, "Persons", 5L);
+    cut.record(Phase.SERIALIZE, "Organizations", 5L);
+
+    cut.export(this::collect);
+    assertEquals(2, snapshots.size());
+    assertEquals(2, snapshots.get(Phase.EXECUTE).size());
+    assertEquals(1, snapshots.get(Phase.SERIALIZE).size());
+  }
+
+  @Test
+  void testSnapshotContainsCumulativeCounts() {
+    cut.record(Phase.EXECUTE, "Organizations", 5L);
+    cut.record(Phase.EXECUTE, "Organizations", 10L);
+    cut.record(Phase.EXECUTE, "Organizations", 50L);
+    cut.record(Phase.EXECUTE, "Organizations", 5000L);
+
+    cut.export(this::collect);
+    final Snapshot act = snapshots.get(Phase.EXECUTE).get("Organizations");
+    assertEquals(4L, act.count());
+    assertEquals(5065L, act.totalNanos());
+    assertEquals(5000L, act.maxNanos());
+    assertArrayEquals(new long[] { 10L, 100L, 1000L }, act.bucketBoundsNanos());
+    assertArrayEquals(new long[] { 2L, 3L, 3L }, act.bucketCounts());
+  }
+
+  @Test
+  void testThrowsExceptionWithoutBuckets() {
+    assertThrows(IllegalArgumentException.class, () -> new JPAODataHistogramMetrics(new long[0]));
+  }
+
+  @Test
+  void testDefaultIsEnabled() {
+    assertTrue(new JPAODataHistogramMetrics().isEnabled());
+  }
+
+  @Test
+  void testNoneIsNotEnabled() {
+    assertFalse(JPAODataMetrics.NONE.isEnabled());
+  }
+
+  private void collect(final Phase phase, final String entitySet, final Snapshot snapshot) {
+    snapshots.computeIfAbsent(phase, key -> new HashMap<>()).put(entitySet, snapshot);
+  }
+}
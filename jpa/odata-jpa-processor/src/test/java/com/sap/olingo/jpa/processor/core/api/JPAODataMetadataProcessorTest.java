@@ -0,0 +1,157 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.olingo.commons.api.format.ContentType;
+import org.apache.olingo.commons.api.http.HttpHeader;
+import org.apache.olingo.commons.api.http.HttpMethod;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ODataRequest;
+import org.apache.olingo.server.api.ODataResponse;
+import org.apache.olingo.server.api.ServiceMetadata;
+import org.apache.olingo.server.api.etag.ServiceMetadataETagSupport;
+import org.apache.olingo.server.api.serializer.ODataSerializer;
+import org.apache.olingo.server.api.serializer.SerializerResult;
+import org.apache.olingo.server.api.uri.UriInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.sap.olingo.jpa.processor.core.util.matcher.InputStreamMatcher;
+
+class JPAODataMetadataProcessorTest {
+  private JPAODataMetadataProcessor cut;
+  private JPAODataServiceContext serviceContext;
+  private ServiceMetadata metadata;
+  private OData odata;
+  private ODataSerializer serializer;
+  private ODataRequest request;
+  private ODataResponse response;
+  private UriInfo uriInfo;
+
+  @BeforeEach
+  void setup() throws Exception {
+    serviceContext = (JPAODataServiceContext) JPAODataServiceContext.with().build();
+    metadata = mock(ServiceMetadata.class);
+    odata = mock(OData.class);
+    serializer = mock(ODataSerializer.class);
+    request = mock(ODataRequest.class);
+    response = mock(ODataResponse.class);
+    uriInfo = mock(UriInfo.class);
+    when(odata.createETagHelper()).thenReturn(OData.newInstance().createETagHelper());
+    when(odata.createSerializer(any(ContentType.class))).thenReturn(serializer);
+    when(serializer.metadataDocument(metadata)).thenAnswer(invocation -> {
+      final SerializerResult result = mock(SerializerResult.class);
+      when(result.getContent()).thenReturn(new ByteArrayInputStream("<edmx:Edmx/>".getBytes(
+          StandardCharsets.UTF_8)));
+      return result;
+    });
+    when(request.getMethod()).thenReturn(HttpMethod.GET);
+  }
+
+  @Test
+  void checkInstanceCanBeCreated() {
+    assertNotNull(new JPAODataMetadataProcessor(serviceContext));
+  }
+
+  @Test
+  void checkReturnsDocumentWithETag() throws Exception {
+    createCut().readMetadata(request, response, uriInfo, ContentType.APPLICATION_XML);
+
+    verify(response).setContent(argThat(new InputStreamMatcher("<edmx:Edmx/>")));
+    verify(response).setStatusCode(200);
+    verify(response).setHeader(eq(HttpHeader.ETAG), argThat(eTag -> eTag.startsWith("\"") && eTag.endsWith("\"")));
+  }
+
+  @Test
+  void checkDocumentSerializedOnlyOnce() throws Exception {
+    createCut().readMetadata(request, response, uriInfo, ContentType.APPLICATION_XML);
+    createCut().readMetadata(request, mock(ODataResponse.class), uriInfo, ContentType.APPLICATION_XML);
+
+    verify(serializer, times(1)).metadataDocument(metadata);
+    assertEquals(1, serviceContext.getMetadataCache().size());
+  }
+
+  @Test
+  void checkDocumentSerializedPerFormat() throws Exception {
+    createCut().readMetadata(request, response, uriInfo, ContentType.APPLICATION_XML);
+    createCut().readMetadata(request, mock(ODataResponse.class), uriInfo, ContentType.APPLICATION_JSON);
+    createCut().readMetadata(request, mock(ODataResponse.class), uriInfo, ContentType.APPLICATION_XML);
+
+    verify(serializer, times(2)).metadataDocument(metadata);
+    assertEquals(2, serviceContext.getMetadataCache().size());
+  }
+
+  @Test
+  void checkCacheDropsLeastRecentlyUsedDocument() {
+    final JPAODataMetadataCache cache = serviceContext.getMetadataCache();
+    final byte[] content = "<edmx:Edmx/>".getBytes(StandardCharsets.UTF_8);
+    cache.put(metadata, "First", content);
+    for (int i = 1; i < JPAODataMetadataCache.MAX_DOCUMENTS; i++) {
+      cache.put(metadata, "Type" + i, content);
+      assertNotNull(cache.get(metadata, "First"));
+    }
+    cache.put(metadata, "Last", content);
+
+    assertEquals(JPAODataMetadataCache.MAX_DOCUMENTS, cache.size());
+    assertNotNull(cache.get(metadata, "First"));
+    assertNotNull(cache.get(metadata, "Last"));
+    assertNull(cache.get(metadata, "Type1"));
+  }
+
+  @Test
+  void checkReturnsNotModifiedOnMatchingETag() throws Exception {
+    final ArgumentCaptor<String> eTag = ArgumentCaptor.forClass(String.class);
+    createCut().readMetadata(request, response, uriInfo, ContentType.APPLICATION_XML);
+    verify(response).setHeader(eq(HttpHeader.ETAG), eTag.capture());
+
+    final ODataResponse secondResponse = mock(ODataResponse.class);
+    when(request.getHeaders(HttpHeader.IF_NONE_MATCH)).thenReturn(List.of(eTag.getValue()));
+    createCut().readMetadata(request, secondResponse, uriInfo, ContentType.APPLICATION_XML);
+
+    verify(secondResponse).setStatusCode(304);
+    verify(secondResponse, never()).setContent(any());
+  }
+
+  @Test
+  void checkHeadReturnsNoContent() throws Exception {
+    when(request.getMethod()).thenReturn(HttpMethod.HEAD);
+    createCut().readMetadata(request, response, uriInfo, ContentType.APPLICATION_XML);
+
+    verify(response).setStatusCode(200);
+    verify(response, never()).setContent(any());
+  }
+
+  @Test
+  void checkProvidedETagTakesPrecedence() throws Exception {
+    final ServiceMetadataETagSupport eTagSupport = mock(ServiceMetadataETagSupport.class);
+    when(eTagSupport.getMetadataETag()).thenReturn("\"V1\"");
+    when(metadata.getServiceMetadataETagSupport()).thenReturn(eTagSupport);
+    createCut().readMetadata(request, response, uriInfo, ContentType.APPLICATION_XML);
+
+    verify(response).setHeader(HttpHeader.ETAG, "\"V1\"");
+    verify(response, never()).setHeader(eq(HttpHeader.ETAG), argThat(eTag -> !"\"V1\"".equals(eTag)));
+    verify(response).setHeader(eq(HttpHeader.CONTENT_TYPE), anyString());
+  }
+
+  private JPAODataMetadataProcessor createCut() {
+    cut = new JPAODataMetadataProcessor(serviceContext);
+    cut.init(odata, metadata);
+    return cut;
+  }
+}
@@ -1,6 +1,11 @@
 package com.sap.olingo.jpa.processor.core.api;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.olingo.commons.api.ex.ODataException;
 import org.junit.jupiter.api.Test;
@@ -29,4 +34,85 @@ class JPAODataQueryDirectivesTest {
     final JPAODataSessionContextAccess act = JPAODataServiceContext.with().build();
     assertEquals(0, act.getQueryDirectives().getMaxValuesInInClause());
   }
+
+  @Test
+  void testBuildWithoutExpandExecutor() throws ODataException {
+
+    final JPAODataSessionContextAccess act = JPAODataServiceContext.with()
+        .useQueryDirectives().build().build();
+    assertFalse(act.getQueryDirectives().getExpandExecutor().isPresent());
+  }
+
+  @Test
+  void testBuildProvideExpandExecutor() throws ODataException {
+    final Executor executor = ForkJoinPool.commonPool();
+    final JPAODataSessionContextAccess act = JPAODataServiceContext.with()
+        .useQueryDirectives().expandExecutor(executor).build().build();
+    assertTrue(act.getQueryDirectives().getExpandExecutor().isPresent());
+    assertEquals(executor, act.getQueryDirectives().getExpandExecutor().get());
+  }
+
+  @Test
+  void testBuildWithoutCollectionStreaming() throws ODataException {
+
+    final JPAODataSessionContextAccess act = JPAODataServiceContext.with()
+        .useQueryDirectives().build().build();
+    assertFalse(act.getQueryDirectives().isCollectionStreamingEnabled());
+  }
+
+  @Test
+  void testBuildProvideCollectionStreaming() throws ODataException {
+
+    final JPAODataSessionContextAccess act = JPAODataServiceContext.with()
+        .useQueryDirectives().collectionStreaming(true).build().build();
+    assertTrue(act.getQueryDirectives().isCollectionStreamingEnabled());
+  }
+
+  @Test
+  void testBuildWithoutFusedCount() throws ODataException {
+
+    final JPAODataSessionContextAccess act = JPAODataServiceContext.with()
+        .useQueryDirectives().build().build();
+    assertFalse(act.getQueryDirectives().isFusedCountEnabled());
+  }
+
+  @Test
+  void testBuildProvideFusedCount() throws ODataException {
+
+    final JPAODataSessionContextAccess act = JPAODataServiceContext.with()
+        .useQueryDirectives().fusedCount(true).build().build();
+    assertTrue(act.getQueryDirectives().isFusedCountEnabled());
+  }
+
+  @Test
+  void testBuildWithoutExactParentKeys() throws ODataException {
+
+    final JPAODataSessionContextAccess act = JPAODataServiceContext.with()
+        .useQueryDirectives().build().build();
+    assertEquals(0, act.getQueryDirectives().getMaxExactParentKeys());
+  }
+
+  @Test
+  void testBuildProvideExactParentKeys() throws ODataException {
+
+    final JPAODataSessionContextAccess act = JPAODataServiceContext.with()
+        .useQueryDirectives().maxExactParentKeys(100).build().build();
+    assertEquals(100, act.getQueryDirectives().getMaxExactParentKeys());
+  }
+
+  @Test
+  void testBuildWithoutDirectWrite() throws ODataException {
+
+    final JPAODataSessionContextAccess act = JPAODataServiceContext.with()
+        .useQueryDirectives().build().build();
+    assertFalse(act.getQueryDirectives().isDirectWriteEnabled());
+  }
+
+  @Test
+  void testBuildProvideDirectWrite() throws ODataException {
+
+    final JPAODataSessionContextAccess act = JPAODataServiceContext.with()
+        .useQueryDirectives().directWrite(true).build().build();
+    assertTrue(act.getQueryDirectives().isDirectWriteEnabled());
+  }
 }
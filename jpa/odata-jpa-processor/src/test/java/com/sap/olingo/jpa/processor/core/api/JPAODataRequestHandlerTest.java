@@ -19,6 +19,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.apache.olingo.commons.api.ex.ODataException;
 import org.apache.olingo.server.api.OData;
 import org.apache.olingo.server.api.ODataHttpHandler;
+import org.apache.olingo.server.api.ServiceMetadata;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -99,6 +100,23 @@ class JPAODataRequestHandlerTest extends TestBase {
     assertEquals(200, getStatus());
   }
 
+  @Test
+  void testServiceMetadataCreatedOnlyOnce() throws ODataException {
+    final OData odata = mock(OData.class);
+    final ODataHttpHandler handler = mock(ODataHttpHandler.class);
+    final ServiceMetadata serviceMetadata = mock(ServiceMetadata.class);
+    when(odata.createHandler(any())).thenReturn(handler);
+    when(odata.createServiceMetadata(any(), any())).thenReturn(serviceMetadata);
+    final JPAODataSessionContextAccess context = JPAODataServiceContext.with()
+        .setDataSource(dataSource)
+        .setPUnit(PUNIT_NAME)
+        .build();
+    new JPAODataRequestHandler(context, odata).process(request, response);
+    new JPAODataRequestHandler(context, odata).process(request, response);
+    verify(odata, times(1)).createServiceMetadata(any(), any());
+    verify(odata, times(2)).createHandler(serviceMetadata);
+  }
+
   @Test
   void testMappingPathInSessionContextCreatesMapper() throws ODataException {
     final OData odata = mock(OData.class);
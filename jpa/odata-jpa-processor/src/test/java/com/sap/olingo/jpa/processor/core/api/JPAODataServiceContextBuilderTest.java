@@ -12,6 +12,7 @@ import static org.mockito.Mockito.when;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -303,6 +304,100 @@ class JPAODataServiceContextBuilderTest {
     assertTrue(cut.getBatchProcessorFactory() instanceof JPADefaultBatchProcessorFactory);
   }
 
+  @Test
+  void checkReturnsNoMetricsIfNotProvided() throws ODataException {
+
+    cut = JPAODataServiceContext.with()
+        .setDataSource(dataSource)
+        .setPUnit(PUNIT_NAME)
+        .build();
+
+    assertEquals(JPAODataMetrics.NONE, cut.getMetrics());
+    assertFalse(cut.getMetrics().isEnabled());
+  }
+
+  @Test
+  void checkReturnsProvidedMetrics() throws ODataException {
+    final JPAODataMetrics metrics = new JPAODataHistogramMetrics();
+    cut = JPAODataServiceContext.with()
+        .setDataSource(dataSource)
+        .setPUnit(PUNIT_NAME)
+        .setMetrics(metrics)
+        .build();
+
+    assertEquals(metrics, cut.getMetrics());
+  }
+
+  @Test
+  void checkReturnsNoDescriptionCacheIfNotProvided() throws ODataException {
+
+    cut = JPAODataServiceContext.with()
+        .setDataSource(dataSource)
+        .setPUnit(PUNIT_NAME)
+        .build();
+
+    assertTrue(cut.getDescriptionCache().isEmpty());
+  }
+
+  @Test
+  void checkReturnsProvidedDescriptionCache() throws ODataException {
+    final JPAODataDescriptionCache cache = new JPAODataDescriptionCache(100, Duration.ofMinutes(10));
+    cut = JPAODataServiceContext.with()
+        .setDataSource(dataSource)
+        .setPUnit(PUNIT_NAME)
+        .setDescriptionCache(cache)
+        .build();
+
+    assertEquals(cache, cut.getDescriptionCache().get());
+  }
+
+  @Test
+  void checkReturnsNoEntityCacheIfNotProvided() throws ODataException {
+
+    cut = JPAODataServiceContext.with()
+        .setDataSource(dataSource)
+        .setPUnit(PUNIT_NAME)
+        .build();
+
+    assertTrue(cut.getEntityCache().isEmpty());
+  }
+
+  @Test
+  void checkReturnsProvidedEntityCache() throws ODataException {
+    final JPAODataEntityCache cache = new JPAODataEntityCache(100, Duration.ofMinutes(10));
+    cut = JPAODataServiceContext.with()
+        .setDataSource(dataSource)
+        .setPUnit(PUNIT_NAME)
+        .setEntityCache(cache)
+        .build();
+
+    assertEquals(cache, cut.getEntityCache().get());
+  }
+
+  @Test
+  void checkReturnsNoAdmissionControlIfNotProvided() throws ODataException {
+
+    cut = JPAODataServiceContext.with()
+        .setDataSource(dataSource)
+        .setPUnit(PUNIT_NAME)
+        .build();
+
+    assertTrue(cut.getAdmissionControl().isEmpty());
+  }
+
+  @Test
+  void checkReturnsProvidedAdmissionControl() throws ODataException {
+    final JPAODataAdmissionControl admissionControl = new JPAODataAdmissionControl(1_000_000L,
+        Duration.ofSeconds(1));
+    cut = JPAODataServiceContext.with()
+        .setDataSource(dataSource)
+        .setPUnit(PUNIT_NAME)
+        .setAdmissionControl(admissionControl)
+        .build();
+
+    assertEquals(admissionControl, cut.getAdmissionControl().get());
+  }
+
   @Test
   void checkReturnsFalseAsDefaultForUseAbsoluteContextURL() throws ODataException {
 
@@ -0,0 +1,161 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.EntityManager;
+
+import org.apache.olingo.commons.api.http.HttpMethod;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.processor.core.api.JPAAbstractCUDRequestHandler;
+import com.sap.olingo.jpa.processor.core.api.JPACUDRequestHandler;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessException;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
+import com.sap.olingo.jpa.processor.core.modify.JPAUpdateResult;
+import com.sap.olingo.jpa.processor.core.processor.JPAChangeSetBuffer.Kind;
+
+class JPAChangeSetBufferTest {
+  private static final String ENTITY_SET = "Organizations";
+  private JPAChangeSetBuffer cut;
+  private JPACUDRequestHandler handler;
+  private EntityManager em;
+  private List<Object> completed;
+
+  @BeforeEach
+  void setup() {
+    handler = mock(JPACUDRequestHandler.class);
+    em = mock(EntityManager.class);
+    completed = new ArrayList<>();
+    cut = new JPAChangeSetBuffer(handler, em);
+  }
+
+  @Test
+  void checkFlushOnEmptyBufferDoesNothing() throws Exception {
+    assertTrue(cut.isEmpty());
+    cut.flush();
+    verify(handler, never()).createEntities(anyList(), any());
+  }
+
+  @Test
+  void checkIsReferencedOnlyForReferencedContentIds() {
+    cut = new JPAChangeSetBuffer(handler, em, Set.of("1"));
+    assertTrue(cut.isReferenced("1"));
+    assertFalse(cut.isReferenced("2"));
+    assertFalse(cut.isReferenced(null));
+  }
+
+  @Test
+  void checkCreatesOfOneRunHandedOverTogether() throws Exception {
+    final JPARequestEntity first = mock(JPARequestEntity.class);
+    final JPARequestEntity second = mock(JPARequestEntity.class);
+    when(handler.createEntities(List.of(first, second), em)).thenReturn(List.of("1", "2"));
+
+    add(Kind.CREATE, HttpMethod.POST, first, null);
+    add(Kind.CREATE, HttpMethod.POST, second, null);
+    assertFalse(cut.isEmpty());
+    assertTrue(completed.isEmpty());
+
+    cut.flush();
+    assertTrue(cut.isEmpty());
+    assertEquals(List.of("1", "2"), completed);
+  }
+
+  @Test
+  void checkRunEndsOnOtherKind() throws Exception {
+    final JPARequestEntity create = mock(JPARequestEntity.class);
+    final JPARequestEntity delete = mock(JPARequestEntity.class);
+    when(handler.createEntities(List.of(create), em)).thenReturn(List.of("1"));
+
+    add(Kind.CREATE, HttpMethod.POST, create, null);
+    add(Kind.DELETE, HttpMethod.DELETE, delete, "ID='1'");
+    assertEquals(List.of("1"), completed);
+
+    cut.flush();
+    verify(handler).deleteEntities(List.of(delete), em);
+    assertEquals(2, completed.size());
+  }
+
+  @Test
+  void checkRunEndsOnOtherMethod() throws Exception {
+    final JPARequestEntity patch = mock(JPARequestEntity.class);
+    final JPARequestEntity put = mock(JPARequestEntity.class);
+    final JPAUpdateResult result = new JPAUpdateResult(false, null);
+    when(handler.updateEntities(List.of(patch), em, HttpMethod.PATCH)).thenReturn(List.of(result));
+
+    add(Kind.UPDATE, HttpMethod.PATCH, patch, "ID='1'");
+    add(Kind.UPDATE, HttpMethod.PUT, put, "ID='2'");
+    assertEquals(List.of(result), completed);
+    verify(handler, never()).updateEntities(anyList(), any(), eq(HttpMethod.PUT));
+  }
+
+  @Test
+  void checkRunEndsOnSameKey() throws Exception {
+    final JPARequestEntity first = mock(JPARequestEntity.class);
+    final JPARequestEntity second = mock(JPARequestEntity.class);
+    final JPAUpdateResult result = new JPAUpdateResult(false, null);
+    when(handler.updateEntities(List.of(first), em, HttpMethod.PATCH)).thenReturn(List.of(result));
+
+    add(Kind.UPDATE, HttpMethod.PATCH, first, "ID='1'");
+    add(Kind.UPDATE, HttpMethod.PATCH, second, "ID='1'");
+    assertEquals(1, completed.size());
+  }
+
+  @Test
+  void checkThrowsExceptionOnWrongNumberOfResults() throws Exception {
+    final JPARequestEntity first = mock(JPARequestEntity.class);
+    final JPARequestEntity second = mock(JPARequestEntity.class);
+    when(handler.createEntities(List.of(first, second), em)).thenReturn(List.of("1"));
+
+    add(Kind.CREATE, HttpMethod.POST, first, null);
+    add(Kind.CREATE, HttpMethod.POST, second, null);
+    final ODataJPAProcessorException act = assertThrows(ODataJPAProcessorException.class, () -> cut.flush());
+    assertEquals(HttpStatusCode.INTERNAL_SERVER_ERROR.getStatusCode(), act.getStatusCode());
+    assertTrue(completed.isEmpty());
+  }
+
+  @Test
+  void checkRuntimeExceptionOfHandlerWrapped() throws Exception {
+    final JPARequestEntity first = mock(JPARequestEntity.class);
+    when(handler.createEntities(List.of(first), em)).thenThrow(IllegalStateException.class);
+
+    add(Kind.CREATE, HttpMethod.POST, first, null);
+    final ODataJPAProcessorException act = assertThrows(ODataJPAProcessorException.class, () -> cut.flush());
+    assertEquals(HttpStatusCode.INTERNAL_SERVER_ERROR.getStatusCode(), act.getStatusCode());
+  }
+
+  @Test
+  void checkDefaultBulkMethodsCallSingleMethods() throws ODataJPAProcessException {
+    final List<JPARequestEntity> requestEntities = List.of(mock(JPARequestEntity.class), mock(
+        JPARequestEntity.class));
+    final JPACUDRequestHandler defaultHandler = new JPAAbstractCUDRequestHandler() {
+      @Override
+      public Object createEntity(final JPARequestEntity requestEntity, final EntityManager em) {
+        return requestEntities.indexOf(requestEntity);
+      }
+    };
+    assertFalse(defaultHandler.supportsBulkChanges());
+    assertEquals(List.of(0, 1), defaultHandler.createEntities(requestEntities, em));
+  }
+
+  private void add(final Kind kind, final HttpMethod method, final JPARequestEntity requestEntity, final String key)
+      throws Exception {
+    cut.prepare(kind, method, ENTITY_SET, key);
+    cut.add(requestEntity, key, completed::add);
+  }
+}
@@ -72,6 +72,12 @@ class JPACoreDebuggerTest {
     assertFalse(cutDebugOn.getRuntimeInformation().isEmpty());
   }
 
+  @Test
+  void testIsDebugMode() {
+    assertTrue(cutDebugOn.isDebugMode());
+    assertFalse(cutDebugOff.isDebugMode());
+  }
+
   @Test
   void testNoMeasurementDebugFalls() throws Exception {
     cutDebugOn = new JPACoreDebugger(false);
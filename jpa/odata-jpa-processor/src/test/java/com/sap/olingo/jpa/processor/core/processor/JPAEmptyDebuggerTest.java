@@ -1,6 +1,7 @@
 package com.sap.olingo.jpa.processor.core.processor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -25,4 +26,9 @@ class JPAEmptyDebuggerTest {
     assertTrue(cut.getRuntimeInformation().isEmpty());
   }
 
+  @Test
+  void testIsNotInDebugMode() {
+    assertFalse(cut.isDebugMode());
+  }
+
 }
@@ -0,0 +1,72 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.net.URI;
+import java.util.NoSuchElementException;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.EntityCollection;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetrics;
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetrics.Phase;
+
+class JPAEntityCollectionIteratorTest {
+
+  @Test
+  void checkReturnsEntitiesInOrder() {
+    final EntityCollection collection = new EntityCollection();
+    final Entity first = new Entity();
+    final Entity second = new Entity();
+    collection.getEntities().add(first);
+    collection.getEntities().add(second);
+    final JPAEntityCollectionIterator cut = new JPAEntityCollectionIterator(collection);
+
+    assertTrue(cut.hasNext());
+    assertSame(first, cut.next());
+    assertSame(second, cut.next());
+    assertFalse(cut.hasNext());
+    assertThrows(NoSuchElementException.class, cut::next);
+  }
+
+  @Test
+  void checkReturnsCountAndNextOfCollection() {
+    final EntityCollection collection = new EntityCollection();
+    final URI next = URI.create("Organizations?$skiptoken=10");
+    collection.setCount(15);
+    collection.setNext(next);
+    final JPAEntityCollectionIterator cut = new JPAEntityCollectionIterator(collection);
+
+    assertEquals(15, cut.getCount());
+    assertSame(next, cut.getNext());
+    assertNull(cut.getDeltaLink());
+  }
+
+  @Test
+  void checkRecordsSerializeOnceAfterLastEntity() {
+    final EntityCollection collection = new EntityCollection();
+    collection.getEntities().add(new Entity());
+    final JPAODataMetrics metrics = mock(JPAODataMetrics.class);
+    final JPAEntityCollectionIterator cut = new JPAEntityCollectionIterator(collection, metrics, "Organizations");
+
+    assertTrue(cut.hasNext());
+    cut.next();
+    verify(metrics, never()).record(any(), any(), anyLong());
+    assertFalse(cut.hasNext());
+    assertFalse(cut.hasNext());
+    verify(metrics, times(1)).record(eq(Phase.SERIALIZE), eq("Organizations"), anyLong());
+  }
+}
@@ -0,0 +1,121 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import jakarta.persistence.Tuple;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.ex.ODataRuntimeException;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetrics;
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetrics.Phase;
+import com.sap.olingo.jpa.processor.core.converter.JPATupleChildConverter;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException;
+import com.sap.olingo.jpa.processor.core.query.JPAExpandQueryResult;
+import com.sap.olingo.jpa.processor.core.query.JPAQueryStreamResult;
+
+class JPAEntityStreamIteratorTest {
+  private JPAEntityStreamIterator cut;
+  private JPATupleChildConverter converter;
+  private JPAExpandQueryResult expandResult;
+  private AtomicBoolean closed;
+
+  @BeforeEach
+  void setup() {
+    converter = mock(JPATupleChildConverter.class);
+    expandResult = mock(JPAExpandQueryResult.class);
+    closed = new AtomicBoolean(false);
+    when(expandResult.getRequestedSelection()).thenReturn(Collections.emptyList());
+  }
+
+  @Test
+  void testEmptyStreamHasNoNextAndIsClosed() {
+    cut = new JPAEntityStreamIterator(createResult(Stream.empty()), converter, null, null);
+
+    assertFalse(cut.hasNext());
+    assertTrue(closed.get());
+    assertThrows(NoSuchElementException.class, () -> cut.next());
+  }
+
+  @Test
+  void testReturnsConvertedRows() throws ODataApplicationException {
+    final Tuple first = mock(Tuple.class);
+    final Tuple second = mock(Tuple.class);
+    final Entity firstEntity = new Entity();
+    final Entity secondEntity = new Entity();
+    when(converter.getResult(expandResult, Collections.emptyList(), first)).thenReturn(firstEntity);
+    when(converter.getResult(expandResult, Collections.emptyList(), second)).thenReturn(secondEntity);
+    cut = new JPAEntityStreamIterator(createResult(Stream.of(first, second)), converter, null, null);
+
+    assertTrue(cut.hasNext());
+    assertEquals(firstEntity, cut.next());
+    assertEquals(secondEntity, cut.next());
+    assertFalse(closed.get());
+    assertFalse(cut.hasNext());
+    assertTrue(closed.get());
+  }
+
+  @Test
+  void testReturnsCountAndNext() throws Exception {
+    final URI next = new URI("Organizations?$skiptoken=1");
+    cut = new JPAEntityStreamIterator(createResult(Stream.empty()), converter, 10, next);
+
+    assertEquals(10, cut.getCount());
+    assertEquals(next, cut.getNext());
+  }
+
+  @Test
+  void testReturnsNullCountAndNext() {
+    cut = new JPAEntityStreamIterator(createResult(Stream.empty()), converter, null, null);
+
+    assertNull(cut.getCount());
+    assertNull(cut.getNext());
+  }
+
+  @Test
+  void testConversionErrorClosesStream() throws ODataApplicationException {
+    final Tuple first = mock(Tuple.class);
+    when(converter.getResult(any(), any(), any())).thenThrow(new ODataJPAQueryException(
+        ODataJPAQueryException.MessageKeys.QUERY_RESULT_CONV_ERROR, HttpStatusCode.INTERNAL_SERVER_ERROR));
+    cut = new JPAEntityStreamIterator(createResult(Stream.of(first)), converter, null, null);
+
+    assertThrows(ODataRuntimeException.class, () -> cut.next());
+    assertTrue(closed.get());
+    assertFalse(cut.hasNext());
+  }
+
+  @Test
+  void testCloseRecordsSerializationOnce() {
+    final JPAODataMetrics metrics = mock(JPAODataMetrics.class);
+    cut = new JPAEntityStreamIterator(createResult(Stream.empty()), converter, null, null, metrics, "Organizations");
+
+    assertFalse(cut.hasNext());
+    assertFalse(cut.hasNext());
+    verify(metrics, times(1)).record(eq(Phase.SERIALIZE), eq("Organizations"), anyLong());
+  }
+
+  private JPAQueryStreamResult createResult(final Stream<Tuple> rows) {
+    return new JPAQueryStreamResult(expandResult, rows.onClose(() -> closed.set(true)));
+  }
+}
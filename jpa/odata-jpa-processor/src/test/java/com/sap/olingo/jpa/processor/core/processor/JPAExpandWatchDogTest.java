@@ -82,6 +82,29 @@ class JPAExpandWatchDogTest extends AbstractWatchDogTest {
     assertEquals(exp, cut.getRemainingLevels());
   }
 
+  @Test
+  void testCopyTakesOverRemainingLevels() throws ODataJPAProcessException {
+    final Optional<JPAAnnotatable> annotatable = createAnnotatable(true, 3, "Children");
+    cut = new JPAExpandWatchDog(annotatable);
+    cut.filter(emptyList());
+
+    final JPAExpandWatchDog copy = new JPAExpandWatchDog(cut);
+    assertEquals(2, copy.getRemainingLevels());
+    assertEquals(cut.isExpandable(), copy.isExpandable());
+    assertEquals(cut.getNonExpandableProperties(), copy.getNonExpandableProperties());
+  }
+
+  @Test
+  void testCopyIndependentOfSource() throws ODataJPAProcessException {
+    final Optional<JPAAnnotatable> annotatable = createAnnotatable(true, 3);
+    cut = new JPAExpandWatchDog(annotatable);
+    final JPAExpandWatchDog copy = new JPAExpandWatchDog(cut);
+    copy.filter(emptyList());
+    copy.filter(emptyList());
+    assertEquals(3, cut.getRemainingLevels());
+    assertEquals(1, copy.getRemainingLevels());
+  }
+
   private static Stream<Arguments> provideSimpleChecks() {
     return Stream.of(
         Arguments.of(createAnnotatable(true, -1)),
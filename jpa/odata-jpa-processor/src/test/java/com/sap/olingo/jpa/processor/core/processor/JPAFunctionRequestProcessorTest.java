@@ -1,5 +1,8 @@
 package com.sap.olingo.jpa.processor.core.processor;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -11,10 +14,12 @@ import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -67,8 +72,10 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAParameter;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAServiceDocument;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+import com.sap.olingo.jpa.processor.core.api.JPAODataAdmissionControl;
 import com.sap.olingo.jpa.processor.core.api.JPAODataEtagHelper;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
 import com.sap.olingo.jpa.processor.core.serializer.JPAOperationSerializer;
 import com.sap.olingo.jpa.processor.core.testmodel.Person;
 import com.sap.olingo.jpa.processor.core.testobjects.TestFunctionActionConstructor;
@@ -260,6 +267,46 @@ class JPAFunctionRequestProcessorTest {
 
   }
 
+  @Test
+  void testFunctionAdmittedByFunctionName() throws ODataException {
+    final JPAODataAdmissionControl admissionControl = createAdmissionControl();
+    cut = new JPAFunctionRequestProcessor(odata, requestContext);
+
+    try (var permit = admissionControl.admit("Siblings", 1L)) {
+      final ODataJPAProcessorException act = assertThrows(ODataJPAProcessorException.class,
+          () -> cut.retrieveData(request, response, requestFormat));
+      assertEquals(HttpStatusCode.SERVICE_UNAVAILABLE.getStatusCode(), act.getStatusCode());
+    }
+    verify(response).setHeader(HttpHeader.RETRY_AFTER, "1");
+  }
+
+  @Test
+  void testFunctionReleasesPermitAfterExecution() throws ODataException, NoSuchMethodException {
+    final JPAODataAdmissionControl admissionControl = createAdmissionControl();
+    cut = new JPAFunctionRequestProcessor(odata, requestContext);
+    final Method method = setConstructorAndMethod("primitiveValue", short.class);
+    final Triple<UriParameter, EdmParameter, JPAParameter> parameter =
+        createParameter("A", "5", Short.class, method);
+    final EdmReturnType returnType = mock(EdmReturnType.class);
+    when(returnType.getType()).thenReturn(EdmInt32.getInstance());
+    when(edmFunction.getReturnType()).thenReturn(returnType);
+    when(edmFunction.getParameter("A")).thenReturn(parameter.getMiddle());
+    final JPAOperationResultParameter resultParameter = mock(JPAOperationResultParameter.class);
+    when(function.getResultParameter()).thenReturn(resultParameter);
+
+    cut.retrieveData(request, response, requestFormat);
+    assertDoesNotThrow(() -> admissionControl.admit("Siblings", 1L).close());
+  }
+
+  private JPAODataAdmissionControl createAdmissionControl() {
+    final JPAODataAdmissionControl admissionControl = new JPAODataAdmissionControl(1000L, Duration.ZERO)
+        .setConcurrencyBudget("Siblings", 1);
+    when(edmFunction.getName()).thenReturn("Siblings");
+    when(requestContext.getAdmissionControl()).thenReturn(Optional.of(admissionControl));
+    when(requestContext.getDebugger()).thenReturn(new JPAEmptyDebugger());
+    return admissionControl;
+  }
+
   private Method setConstructorAndMethod(final String methodName,
       final Class<?>... parameterTypes) throws NoSuchMethodException {
     return setConstructorAndMethod(TestFunctionReturnType.class, methodName, parameterTypes);
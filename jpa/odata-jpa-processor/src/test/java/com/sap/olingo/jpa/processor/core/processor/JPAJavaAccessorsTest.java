@@ -0,0 +1,119 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.processor.core.testmodel.AdministrativeDivisionKey;
+import com.sap.olingo.jpa.processor.core.testmodel.Organization;
+
+class JPAJavaAccessorsTest {
+
+  @Test
+  void checkOfReturnsSameInstanceForClass() {
+    assertSame(JPAJavaAccessors.of(Organization.class), JPAJavaAccessors.of(Organization.class));
+  }
+
+  @Test
+  void checkGetterReturnsValue() throws Exception {
+    final Organization organization = new Organization();
+    organization.setName1("Test Org");
+    organization.setID("1");
+    final JPAJavaAccessors cut = JPAJavaAccessors.of(Organization.class);
+
+    assertEquals("Test Org", cut.getGetter("getName1").get(organization));
+    assertEquals("1", cut.getGetter("getID").get(organization));
+  }
+
+  @Test
+  void checkGetterThrowsExceptionIfMissing() {
+    final JPAJavaAccessors cut = JPAJavaAccessors.of(Organization.class);
+    assertThrows(NoSuchMethodException.class, () -> cut.getGetter("getNotExisting"));
+  }
+
+  @Test
+  void checkSetterSetsValue() throws Exception {
+    final Organization organization = new Organization();
+    final JPAJavaAccessors cut = JPAJavaAccessors.of(Organization.class);
+
+    cut.getSetter("setName1", String.class).set(organization, "Test Org");
+    assertEquals("Test Org", organization.getName1());
+  }
+
+  @Test
+  void checkSetterThrowsExceptionIfParameterTypeDiffers() {
+    final JPAJavaAccessors cut = JPAJavaAccessors.of(Organization.class);
+    assertThrows(NoSuchMethodException.class, () -> cut.getSetter("setName1", Integer.class));
+  }
+
+  @Test
+  void checkGettersContainAttributeNames() {
+    final JPAJavaAccessors cut = JPAJavaAccessors.of(AdministrativeDivisionKey.class);
+    final var names = cut.getGetters().stream().map(JPAJavaAccessors.Accessor::getAttributeName).toList();
+
+    assertTrue(names.contains("codePublisher"));
+    assertTrue(names.contains("codeID"));
+    assertTrue(names.contains("divisionCode"));
+    assertTrue(names.contains("class"));
+  }
+
+  @Test
+  void checkSetterWrapsExceptionOfMethod() throws Exception {
+    final JPAJavaAccessors cut = JPAJavaAccessors.of(Bean.class);
+    final var setter = cut.getSetter("setText", String.class);
+    final Bean bean = new Bean();
+
+    final InvocationTargetException act = assertThrows(InvocationTargetException.class, () -> setter.set(bean,
+        "Error"));
+    assertInstanceOf(IllegalStateException.class, act.getCause());
+  }
+
+  @Test
+  void checkSetterThrowsIllegalArgumentOnNullForPrimitive() throws Exception {
+    final JPAJavaAccessors cut = JPAJavaAccessors.of(Bean.class);
+    final var setter = cut.getSetter("setNumber", int.class);
+    final Bean bean = new Bean();
+
+    assertThrows(IllegalArgumentException.class, () -> setter.set(bean, null));
+    setter.set(bean, 5);
+    assertEquals(5, bean.getNumber());
+  }
+
+  @Test
+  void checkFindMethodWithParameter() throws Exception {
+    final JPAJavaAccessors cut = JPAJavaAccessors.of(Bean.class);
+    final AdministrativeDivisionKey key = new AdministrativeDivisionKey("Eurostat", "NUTS1", "BE1");
+    final Bean bean = new Bean();
+
+    cut.findMethodWithParameter(AdministrativeDivisionKey.class).orElseThrow().set(bean, key);
+    assertSame(key, bean.key);
+    assertTrue(cut.findMethodWithParameter(Organization.class).isEmpty());
+  }
+
+  public static class Bean {
+    private int number;
+    private AdministrativeDivisionKey key;
+
+    public int getNumber() {
+      return number;
+    }
+
+    public void setNumber(final int number) {
+      this.number = number;
+    }
+
+    public void setText(final String text) {
+      throw new IllegalStateException(text);
+    }
+
+    public void assignKey(final AdministrativeDivisionKey key) {
+      this.key = key;
+    }
+  }
+}
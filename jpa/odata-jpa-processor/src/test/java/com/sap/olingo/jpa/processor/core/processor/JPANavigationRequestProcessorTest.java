@@ -4,27 +4,47 @@ import static com.sap.olingo.jpa.processor.core.converter.JPAExpandResult.ROOT_R
 import static com.sap.olingo.jpa.processor.core.processor.JPAETagValidationResult.NOT_MODIFIED;
 import static com.sap.olingo.jpa.processor.core.processor.JPAETagValidationResult.PRECONDITION_FAILED;
 import static com.sap.olingo.jpa.processor.core.processor.JPAETagValidationResult.SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import jakarta.persistence.Tuple;
 
+import org.apache.olingo.commons.api.edm.EdmEntitySet;
 import org.apache.olingo.commons.api.ex.ODataException;
 import org.apache.olingo.commons.api.http.HttpHeader;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
 import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ODataContent;
+import org.apache.olingo.server.api.ODataRequest;
+import org.apache.olingo.server.api.ODataResponse;
 import org.apache.olingo.server.api.ServiceMetadata;
 import org.apache.olingo.server.api.uri.UriInfoResource;
+import org.apache.olingo.server.api.uri.UriParameter;
 import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceEntitySet;
+import org.apache.olingo.server.api.uri.UriResourceKind;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -33,10 +53,15 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import com.sap.olingo.jpa.metadata.api.JPAHttpHeaderMap;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+import com.sap.olingo.jpa.processor.core.api.JPAODataAdmissionControl;
+import com.sap.olingo.jpa.processor.core.api.JPAODataEntityCache;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
+import com.sap.olingo.jpa.processor.core.api.JPAODataServiceContext;
+import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger;
 import com.sap.olingo.jpa.processor.core.converter.JPAExpandResult;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
 import com.sap.olingo.jpa.processor.core.query.JPAConvertibleResult;
+import com.sap.olingo.jpa.processor.core.serializer.JPASerializer;
 import com.sap.olingo.jpa.processor.core.testmodel.AdministrativeDivision;
 import com.sap.olingo.jpa.processor.core.testmodel.Organization;
 import com.sap.olingo.jpa.processor.core.util.TestBase;
@@ -68,6 +93,7 @@ class JPANavigationRequestProcessorTest extends TestBase {
     when(requestContext.getUriInfo()).thenReturn(uriInfo);
     when(requestContext.getEtagHelper()).thenReturn(new JPAODataEtagHelperImpl(odata));
     when(uriInfo.getUriResourceParts()).thenReturn(Collections.singletonList(uriResource));
+    when(requestContext.getDebugger()).thenReturn(new JPAEmptyDebugger());
 
     cut = new JPANavigationRequestProcessor(OData.newInstance(), metadata, requestContext);
 
@@ -163,6 +189,19 @@ class JPANavigationRequestProcessorTest extends TestBase {
         Arguments.of(Arrays.asList("\"0\""), HttpHeader.IF_NONE_MATCH));
   }
 
+  @Test
+  void testEntityCacheKeyIndependentOfKeyLiteral() throws ODataException {
+    final JPAODataEntityCache cache = new JPAODataEntityCache(10, Duration.ofHours(1));
+    when(requestContext.getEntityCache()).thenReturn(Optional.of(cache));
+    when(requestContext.getLocale()).thenReturn(Locale.ENGLISH);
+
+    final var key = determineEntityCacheKey("123");
+    final var keyWithLeadingZero = determineEntityCacheKey("0123");
+
+    assertEquals(Map.of("sourceID", "123"), key.keys());
+    assertEquals(key.keys(), keyWithLeadingZero.keys());
+  }
+
   @ParameterizedTest
   @MethodSource("provideHeaderException")
   void testThrowExceptionMultipleResults(final List<String> etag, final String header) {
@@ -177,4 +216,120 @@ class JPANavigationRequestProcessorTest extends TestBase {
         () -> cut.validateEntityTag((JPAConvertibleResult) result, headers));
 
   }
+
+  @Test
+  void testAdmitUsesBudgetOfEntitySet() throws ODataException {
+    final JPAODataAdmissionControl admissionControl = new JPAODataAdmissionControl(1000L, Duration.ZERO)
+        .setConcurrencyBudget("Organizations", 1);
+    final ODataResponse response = new ODataResponse();
+    final UriResourceEntitySet entitySetResource = mock(UriResourceEntitySet.class);
+    final EdmEntitySet entitySet = mock(EdmEntitySet.class);
+    when(entitySetResource.getKind()).thenReturn(UriResourceKind.entitySet);
+    when(entitySetResource.getEntitySet()).thenReturn(entitySet);
+    when(entitySetResource.getKeyPredicates()).thenReturn(List.of(mock(UriParameter.class)));
+    when(entitySet.getName()).thenReturn("Organizations");
+    when(uriInfo.getUriResourceParts()).thenReturn(List.of(entitySetResource));
+    when(requestContext.getAdmissionControl()).thenReturn(Optional.of(admissionControl));
+    cut = new JPANavigationRequestProcessor(odata, metadata, requestContext);
+
+    try (var permit = cut.admit(response)) {
+      final ODataJPAProcessorException act = assertThrows(ODataJPAProcessorException.class, () -> cut.admit(response));
+      assertEquals(HttpStatusCode.SERVICE_UNAVAILABLE.getStatusCode(), act.getStatusCode());
+      assertEquals("1", response.getHeader(HttpHeader.RETRY_AFTER));
+    }
+    assertDoesNotThrow(() -> cut.admit(response).close());
+  }
+
+  @Test
+  void testReleaseAdmissionAfterStreamedContentWritten() {
+    final ODataResponse response = new ODataResponse();
+    final ODataContent content = mock(ODataContent.class);
+    final JPAODataAdmissionControl.Permit permit = mock(JPAODataAdmissionControl.Permit.class);
+    final OutputStream stream = new ByteArrayOutputStream();
+    response.setODataContent(content);
+
+    cut.releaseAdmission(response, permit);
+    verify(permit, never()).close();
+    response.getODataContent().write(stream);
+    verify(content).write(stream);
+    verify(permit).close();
+  }
+
+  @Test
+  void testReleaseAdmissionImmediatelyWithoutStreamedContent() {
+    final ODataResponse response = new ODataResponse();
+    final JPAODataAdmissionControl.Permit permit = mock(JPAODataAdmissionControl.Permit.class);
+    response.setContent(new ByteArrayInputStream(new byte[0]));
+
+    cut.releaseAdmission(response, permit);
+    verify(permit).close();
+    assertNull(response.getODataContent());
+  }
+
+  @Test
+  void testReleaseAdmissionImmediatelyInDebugMode() throws ODataException {
+    final ODataResponse response = new ODataResponse();
+    final JPAODataAdmissionControl.Permit permit = mock(JPAODataAdmissionControl.Permit.class);
+    response.setODataContent(mock(ODataContent.class));
+    when(requestContext.getDebugger()).thenReturn(new JPACoreDebugger(true));
+    cut = new JPANavigationRequestProcessor(odata, metadata, requestContext);
+
+    cut.releaseAdmission(response, permit);
+    verify(permit).close();
+  }
+
+  @Test
+  void testDirectWritePossible() throws ODataException {
+    cut = createProcessorForEntityCollection(new JPAEmptyDebugger());
+    assertTrue(cut.isDirectWritePossible());
+  }
+
+  @Test
+  void testNoDirectWriteInDebugMode() throws ODataException {
+    cut = createProcessorForEntityCollection(new JPACoreDebugger(true));
+    assertFalse(cut.isDirectWritePossible());
+  }
+
+  @Test
+  void testNoStreamingInDebugMode() throws ODataException {
+    cut = createProcessorForEntityCollection(new JPACoreDebugger(true));
+    assertFalse(cut.isStreamingPossible(mock(ODataRequest.class), null));
+  }
+
+  private JPANavigationRequestProcessor createProcessorForEntityCollection(final JPAServiceDebugger debugger)
+      throws ODataException {
+    final UriResourceEntitySet entitySetResource = mock(UriResourceEntitySet.class);
+    final JPASerializer serializer = mock(JPASerializer.class);
+    when(entitySetResource.getKind()).thenReturn(UriResourceKind.entitySet);
+    when(entitySetResource.isCollection()).thenReturn(true);
+    when(serializer.isStreamingSupported()).thenReturn(true);
+    when(uriInfo.getUriResourceParts()).thenReturn(List.of(entitySetResource));
+    when(requestContext.getSerializer()).thenReturn(serializer);
+    when(requestContext.getDebugger()).thenReturn(debugger);
+    when(requestContext.getQueryDirectives()).thenReturn(JPAODataServiceContext.with()
+        .useQueryDirectives()
+        .collectionStreaming(true)
+        .directWrite(true)
+        .build()
+        .build()
+        .getQueryDirectives());
+    return new JPANavigationRequestProcessor(odata, metadata, requestContext);
+  }
+
+  private JPAODataEntityCache.Key determineEntityCacheKey(final String keyLiteral) throws ODataException {
+    final UriResourceEntitySet entitySetResource = mock(UriResourceEntitySet.class);
+    final EdmEntitySet entitySet = mock(EdmEntitySet.class);
+    final UriParameter keyPredicate = mock(UriParameter.class);
+    final ODataRequest request = mock(ODataRequest.class);
+    when(entitySetResource.getEntitySet()).thenReturn(entitySet);
+    when(entitySetResource.getKeyPredicates()).thenReturn(List.of(keyPredicate));
+    when(entitySet.getName()).thenReturn("JoinSources");
+    when(keyPredicate.getName()).thenReturn("SourceID");
+    when(keyPredicate.getText()).thenReturn(keyLiteral);
+    when(request.getRawODataPath()).thenReturn("JoinSources(" + keyLiteral + ")");
+    when(uriInfo.getUriResourceParts()).thenReturn(List.of(entitySetResource));
+
+    return new JPANavigationRequestProcessor(odata, metadata, requestContext).determineEntityCacheKey(request)
+        .orElseThrow();
+  }
 }
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
@@ -378,6 +379,42 @@ class JPAODataInternalRequestContextTest {
     assertNotNull(cut.getEntityManager());
   }
 
+  @Test
+  void testNoEntityManagerSupplierIfEntityManagerProvided() {
+    cut = new JPAODataInternalRequestContext(requestContext, sessionContext, odata);
+    assertTrue(cut.getEntityManagerSupplier().isEmpty());
+  }
+
+  @Test
+  void testTakesProvidedEntityManagerSupplier() {
+    final Supplier<EntityManager> supplier = () -> em;
+    when(requestContext.getEntityManagerSupplier()).thenReturn(Optional.of(supplier));
+    cut = new JPAODataInternalRequestContext(requestContext, sessionContext, odata);
+    assertEquals(supplier, cut.getEntityManagerSupplier().get());
+  }
+
+  @Test
+  void testEntityManagerSupplierUsesFactoryOfVersion() {
+    final var emf = mock(EntityManagerFactory.class);
+    final var branchEm = mock(EntityManager.class);
+    when(emf.createEntityManager()).thenReturn(em, branchEm);
+    when(requestContext.getEntityManager()).thenReturn(null);
+    when(version.getEntityManagerFactory()).thenReturn(emf);
+
+    cut = new JPAODataInternalRequestContext(requestContext, sessionContext, odata);
+    assertEquals(em, cut.getEntityManager());
+    assertEquals(branchEm, cut.getEntityManagerSupplier().get().get());
+  }
+
+  @Test
+  void testCopyKeepsEntityManagerSupplier() throws ODataJPAProcessorException {
+    final Supplier<EntityManager> supplier = () -> em;
+    when(contextAccess.getEntityManagerSupplier()).thenReturn(Optional.of(supplier));
+    when(contextAccess.getHeader()).thenReturn(new JPAHttpHeaderHashMap(header));
+    cut = new JPAODataInternalRequestContext(uriInfoResource, contextAccess);
+    assertEquals(supplier, cut.getEntityManagerSupplier().get());
+  }
+
   @Test
   void testGetMappingPathNullIfNotProvided() {
     cut = new JPAODataInternalRequestContext(requestContext, sessionContext, odata);
@@ -78,6 +78,21 @@ class JPAODataRequestContextBuilderTest {
     assertEquals(exp, act.getEntityManager());
   }
 
+  @Test
+  void testCreateWithSetEntityManagerSupplier() {
+    final EntityManager exp = mock(EntityManager.class);
+
+    cut.setEntityManagerSupplier(() -> exp);
+    final JPAODataRequestContext act = cut.build();
+
+    assertEquals(exp, act.getEntityManagerSupplier().get().get());
+  }
+
+  @Test
+  void testCreateWithoutEntityManagerSupplier() {
+    assertTrue(cut.build().getEntityManagerSupplier().isEmpty());
+  }
+
   @Test
   void testThrowsExceptionOnEntityManagerIsNull() throws ODataJPAIllegalAccessException {
     assertThrows(NullPointerException.class, () -> cut.setEntityManager(null));
@@ -0,0 +1,300 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import org.apache.olingo.commons.api.edm.EdmEntitySet;
+import org.apache.olingo.commons.api.edm.EdmEntityType;
+import org.apache.olingo.commons.api.edm.EdmFunction;
+import org.apache.olingo.commons.api.edm.EdmNavigationProperty;
+import org.apache.olingo.server.api.uri.UriInfoResource;
+import org.apache.olingo.server.api.uri.UriParameter;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceCount;
+import org.apache.olingo.server.api.uri.UriResourceEntitySet;
+import org.apache.olingo.server.api.uri.UriResourceFunction;
+import org.apache.olingo.server.api.uri.UriResourceKind;
+import org.apache.olingo.server.api.uri.UriResourceNavigation;
+import org.apache.olingo.server.api.uri.UriResourceProperty;
+import org.apache.olingo.server.api.uri.queryoption.CountOption;
+import org.apache.olingo.server.api.uri.queryoption.ExpandItem;
+import org.apache.olingo.server.api.uri.queryoption.ExpandOption;
+import org.apache.olingo.server.api.uri.queryoption.FilterOption;
+import org.apache.olingo.server.api.uri.queryoption.LevelsExpandOption;
+import org.apache.olingo.server.api.uri.queryoption.OrderByItem;
+import org.apache.olingo.server.api.uri.queryoption.OrderByOption;
+import org.apache.olingo.server.api.uri.queryoption.TopOption;
+import org.apache.olingo.server.api.uri.queryoption.expression.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+import com.sap.olingo.jpa.processor.core.api.JPAODataAdmissionControl;
+
+class JPARequestCostEstimatorTest {
+  private static final String ES_NAME = "Organizations";
+  private JPARequestCostEstimator cut;
+  private JPAODataAdmissionControl admissionControl;
+  private JPAEntityType et;
+  private EdmEntityType edmType;
+  private UriInfoResource uriInfo;
+  private List<UriResource> resourceParts;
+
+  @BeforeEach
+  void setup() throws ODataJPAModelException {
+    admissionControl = new JPAODataAdmissionControl(Long.MAX_VALUE, Duration.ZERO)
+        .setCardinality(ES_NAME, 50_000_000L);
+    et = mock(JPAEntityType.class);
+    edmType = mock(EdmEntityType.class);
+    uriInfo = mock(UriInfoResource.class);
+    resourceParts = new ArrayList<>();
+    final JPAPath key = createPath("\"ID\"");
+    when(et.getKeyPath()).thenReturn(List.of(key));
+    doReturn(IndexedEntity.class).when(et).getTypeClass();
+    when(uriInfo.getUriResourceParts()).thenReturn(resourceParts);
+    cut = new JPARequestCostEstimator(admissionControl, et, Integer.MAX_VALUE);
+  }
+
+  @Test
+  void testEstimateReadByKey() throws ODataJPAModelException {
+    resourceParts.add(createEntitySet(true));
+    assertEquals(1L, cut.estimate(uriInfo));
+  }
+
+  @Test
+  void testEstimateReadWithoutKeyReturnsCardinality() throws ODataJPAModelException {
+    resourceParts.add(createEntitySet(false));
+    assertEquals(50_000_000L, cut.estimate(uriInfo));
+  }
+
+  @Test
+  void testEstimateReadWithFilter() throws ODataJPAModelException {
+    resourceParts.add(createEntitySet(false));
+    when(uriInfo.getFilterOption()).thenReturn(mock(FilterOption.class));
+    assertEquals(5_000_000L, cut.estimate(uriInfo));
+  }
+
+  @Test
+  void testEstimateReadWithTop() throws ODataJPAModelException {
+    resourceParts.add(createEntitySet(false));
+    addTop(100);
+    assertEquals(100L, cut.estimate(uriInfo));
+  }
+
+  @Test
+  void testEstimateCountAddsSelectedRows() throws ODataJPAModelException {
+    resourceParts.add(createEntitySet(false));
+    when(uriInfo.getFilterOption()).thenReturn(mock(FilterOption.class));
+    final CountOption count = mock(CountOption.class);
+    when(count.getValue()).thenReturn(true);
+    when(uriInfo.getCountOption()).thenReturn(count);
+    addTop(10);
+    assertEquals(5_000_010L, cut.estimate(uriInfo));
+  }
+
+  @Test
+  void testEstimateCountSegment() throws ODataJPAModelException {
+    resourceParts.add(createEntitySet(false));
+    final UriResourceCount count = mock(UriResourceCount.class);
+    when(count.getKind()).thenReturn(UriResourceKind.count);
+    resourceParts.add(count);
+    assertEquals(100_000_000L, cut.estimate(uriInfo));
+  }
+
+  @Test
+  void testEstimateNavigationUsesFanOut() throws ODataJPAModelException {
+    resourceParts.add(createEntitySet(true));
+    final UriResourceNavigation navigation = mock(UriResourceNavigation.class);
+    when(navigation.getKeyPredicates()).thenReturn(Collections.emptyList());
+    when(navigation.isCollection()).thenReturn(true);
+    resourceParts.add(navigation);
+    assertEquals(10L, cut.estimate(uriInfo));
+  }
+
+  @Test
+  void testEstimateCollectionPropertyUsesFanOut() throws ODataJPAModelException {
+    resourceParts.add(createEntitySet(true));
+    final UriResourceProperty property = mock(UriResourceProperty.class);
+    when(property.isCollection()).thenReturn(true);
+    resourceParts.add(property);
+    assertEquals(10L, cut.estimate(uriInfo));
+  }
+
+  @Test
+  void testEstimatePrimitivePropertyOfEntity() throws ODataJPAModelException {
+    resourceParts.add(createEntitySet(true));
+    resourceParts.add(mock(UriResourceProperty.class));
+    assertEquals(1L, cut.estimate(uriInfo));
+  }
+
+  @Test
+  void testEstimateFunctionReturningCollectionUsesCardinalityOfFunction() throws ODataJPAModelException {
+    admissionControl.setCardinality("Siblings", 200L);
+    resourceParts.add(createFunction("Siblings", true));
+    assertEquals(200L, cut.estimate(uriInfo));
+  }
+
+  @Test
+  void testEstimateFunctionReturningSingleEntity() throws ODataJPAModelException {
+    resourceParts.add(createFunction("Siblings", false));
+    assertEquals(1L, cut.estimate(uriInfo));
+  }
+
+  @Test
+  void testEstimateOrderByNonIndexedAddsSelectedRows() throws ODataJPAModelException {
+    resourceParts.add(createEntitySet(false));
+    addTop(10);
+    addOrderBy("Name1", "\"NameLine1\"");
+    assertEquals(50_000_010L, cut.estimate(uriInfo));
+  }
+
+  @Test
+  void testEstimateOrderByIndexed() throws ODataJPAModelException {
+    resourceParts.add(createEntitySet(false));
+    addTop(10);
+    addOrderBy("Country", "\"Country\"");
+    assertEquals(10L, cut.estimate(uriInfo));
+  }
+
+  @Test
+  void testEstimateOrderByKey() throws ODataJPAModelException {
+    resourceParts.add(createEntitySet(false));
+    addTop(10);
+    addOrderBy("ID", "\"ID\"");
+    assertEquals(10L, cut.estimate(uriInfo));
+  }
+
+  @Test
+  void testEstimateExpandMultipliesFanOut() throws ODataJPAModelException {
+    resourceParts.add(createEntitySet(false));
+    addTop(10);
+    addExpand(createExpandItem(null));
+    assertEquals(110L, cut.estimate(uriInfo));
+  }
+
+  @Test
+  void testEstimateExpandLevelsMaxLimitedByAdmissionControl() throws ODataJPAModelException {
+    resourceParts.add(createEntitySet(false));
+    addTop(10);
+    final LevelsExpandOption levels = mock(LevelsExpandOption.class);
+    when(levels.isMax()).thenReturn(true);
+    addExpand(createExpandItem(levels));
+    assertEquals(1_111_110L, cut.estimate(uriInfo));
+  }
+
+  @Test
+  void testEstimateExpandLevelsMaxLimitedByExpandRestrictions() throws ODataJPAModelException {
+    cut = new JPARequestCostEstimator(admissionControl, et, 3);
+    resourceParts.add(createEntitySet(false));
+    addTop(10);
+    final LevelsExpandOption levels = mock(LevelsExpandOption.class);
+    when(levels.isMax()).thenReturn(true);
+    addExpand(createExpandItem(levels));
+    assertEquals(11_110L, cut.estimate(uriInfo));
+  }
+
+  @Test
+  void testEstimateExpandStarTakesAllNavigationProperties() throws ODataJPAModelException {
+    resourceParts.add(createEntitySet(true));
+    final EdmNavigationProperty roles = createNavigationProperty(true);
+    final EdmNavigationProperty parent = createNavigationProperty(false);
+    when(edmType.getNavigationPropertyNames()).thenReturn(List.of("Roles", "Parent"));
+    when(edmType.getNavigationProperty("Roles")).thenReturn(roles);
+    when(edmType.getNavigationProperty("Parent")).thenReturn(parent);
+    final ExpandItem star = mock(ExpandItem.class);
+    when(star.isStar()).thenReturn(true);
+    addExpand(star);
+    assertEquals(12L, cut.estimate(uriInfo));
+  }
+
+  private UriResourceEntitySet createEntitySet(final boolean withKey) {
+    final UriResourceEntitySet uriEntitySet = mock(UriResourceEntitySet.class);
+    final EdmEntitySet edmEntitySet = mock(EdmEntitySet.class);
+    when(edmEntitySet.getName()).thenReturn(ES_NAME);
+    when(uriEntitySet.getEntitySet()).thenReturn(edmEntitySet);
+    when(uriEntitySet.getKeyPredicates()).thenReturn(withKey
+        ? List.of(mock(UriParameter.class))
+        : Collections.emptyList());
+    when(uriEntitySet.getType()).thenReturn(edmType);
+    when(uriEntitySet.getKind()).thenReturn(UriResourceKind.entitySet);
+    return uriEntitySet;
+  }
+
+  private UriResourceFunction createFunction(final String name, final boolean isCollection) {
+    final UriResourceFunction uriFunction = mock(UriResourceFunction.class);
+    final EdmFunction function = mock(EdmFunction.class);
+    when(function.getName()).thenReturn(name);
+    when(uriFunction.getFunction()).thenReturn(function);
+    when(uriFunction.isCollection()).thenReturn(isCollection);
+    when(uriFunction.getKind()).thenReturn(UriResourceKind.function);
+    return uriFunction;
+  }
+
+  private void addTop(final int value) {
+    final TopOption top = mock(TopOption.class);
+    when(top.getValue()).thenReturn(value);
+    when(uriInfo.getTopOption()).thenReturn(top);
+  }
+
+  private void addOrderBy(final String property, final String dbFieldName) throws ODataJPAModelException {
+    final OrderByOption orderBy = mock(OrderByOption.class);
+    final OrderByItem item = mock(OrderByItem.class);
+    final Member member = mock(Member.class);
+    final UriInfoResource memberPath = mock(UriInfoResource.class);
+    final UriResourceProperty uriProperty = mock(UriResourceProperty.class);
+    when(uriProperty.getSegmentValue()).thenReturn(property);
+    when(memberPath.getUriResourceParts()).thenReturn(List.of(uriProperty));
+    when(member.getResourcePath()).thenReturn(memberPath);
+    when(item.getExpression()).thenReturn(member);
+    when(orderBy.getOrders()).thenReturn(List.of(item));
+    when(uriInfo.getOrderByOption()).thenReturn(orderBy);
+    final JPAPath path = createPath(dbFieldName);
+    when(et.getPath(property)).thenReturn(path);
+  }
+
+  private void addExpand(final ExpandItem item) {
+    final ExpandOption expand = mock(ExpandOption.class);
+    when(expand.getExpandItems()).thenReturn(List.of(item));
+    when(uriInfo.getExpandOption()).thenReturn(expand);
+  }
+
+  private ExpandItem createExpandItem(final LevelsExpandOption levels) {
+    final ExpandItem item = mock(ExpandItem.class);
+    final UriInfoResource expandPath = mock(UriInfoResource.class);
+    final UriResourceNavigation navigation = mock(UriResourceNavigation.class);
+    final EdmNavigationProperty property = createNavigationProperty(true);
+    when(navigation.getProperty()).thenReturn(property);
+    when(expandPath.getUriResourceParts()).thenReturn(List.of(navigation));
+    when(item.getResourcePath()).thenReturn(expandPath);
+    when(item.getLevelsOption()).thenReturn(levels);
+    return item;
+  }
+
+  private EdmNavigationProperty createNavigationProperty(final boolean isCollection) {
+    final EdmNavigationProperty property = mock(EdmNavigationProperty.class);
+    when(property.isCollection()).thenReturn(isCollection);
+    when(property.getType()).thenReturn(mock(EdmEntityType.class));
+    return property;
+  }
+
+  private static JPAPath createPath(final String dbFieldName) {
+    final JPAPath path = mock(JPAPath.class);
+    when(path.getDBFieldName()).thenReturn(dbFieldName);
+    return path;
+  }
+
+  @Table(indexes = @Index(columnList = "\"Country\", \"NameLine1\""))
+  private static class IndexedEntity {}
+}
@@ -1,17 +1,31 @@
 package com.sap.olingo.jpa.processor.core.query;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.AbstractQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaBuilder.In;
 import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 
 import org.apache.olingo.commons.api.ex.ODataException;
 import org.apache.olingo.server.api.OData;
@@ -28,9 +42,11 @@ import org.apache.olingo.server.api.uri.queryoption.expression.Method;
 import org.apache.olingo.server.api.uri.queryoption.expression.TypeLiteral;
 import org.apache.olingo.server.api.uri.queryoption.expression.Unary;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAttribute;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAServiceDocument;
 import com.sap.olingo.jpa.processor.core.api.JPAODataClaimProvider;
@@ -76,6 +92,76 @@ class JPAAbstractQueryTest extends TestQueryBase {
     assertThrows(ODataJPAQueryException.class, () -> cut.getOrderByAttributes(orderBy));
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  void testCreateWhereByExactKeysSingleKeyCreatesInList() throws ODataException {
+    final var cb = mock(CriteriaBuilder.class);
+    final var in = mock(In.class);
+    final var path = mock(Path.class);
+    final var from = mock(From.class);
+    final var et = helper.getJPAEntityType("Organizations");
+    final var keyAttribute = et.getKey().get(0);
+    when(em.getCriteriaBuilder()).thenReturn(cb);
+    when(from.get(keyAttribute.getInternalName())).thenReturn(path);
+    when(cb.in(path)).thenReturn(in);
+    cut = new Query(null, helper.sd, et, em, Optional.empty());
+
+    final var act = cut.createWhereByExactKeys(et, from, Arrays.asList(
+        Map.of(keyAttribute, "1"), Map.of(keyAttribute, "2"), Map.of(keyAttribute, "3")));
+
+    assertEquals(in, act);
+    verify(in).value("1");
+    verify(in).value("2");
+    verify(in).value("3");
+    verify(cb, never()).equal(any(jakarta.persistence.criteria.Expression.class), any(Object.class));
+    verify(cb, never()).or(any(jakarta.persistence.criteria.Expression.class), any(
+        jakarta.persistence.criteria.Expression.class));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void testCreateWhereByExactKeysCompoundKeyCreatesOrOfAnd() throws ODataException {
+    final var cb = mock(CriteriaBuilder.class);
+    final var from = mock(From.class);
+    final var et = helper.getJPAEntityType("AdministrativeDivisions");
+    final var keyAttributes = et.getKey();
+    final Map<JPAAttribute, Path<Object>> paths = new HashMap<>();
+    for (final var keyAttribute : keyAttributes) {
+      final var path = mock(Path.class);
+      paths.put(keyAttribute, path);
+      when(from.get(keyAttribute.getInternalName())).thenReturn(path);
+    }
+    final var equal = mock(Predicate.class);
+    final var and = mock(Predicate.class);
+    final var or = mock(Predicate.class);
+    when(cb.equal(any(jakarta.persistence.criteria.Expression.class), any(Object.class))).thenReturn(equal);
+    when(cb.and(any(jakarta.persistence.criteria.Expression.class), any(jakarta.persistence.criteria.Expression.class)))
+        .thenReturn(and);
+    when(cb.or(any(jakarta.persistence.criteria.Expression.class), any(jakarta.persistence.criteria.Expression.class)))
+        .thenReturn(or);
+    when(em.getCriteriaBuilder()).thenReturn(cb);
+    cut = new Query(null, helper.sd, et, em, Optional.empty());
+
+    final List<Map<JPAAttribute, Comparable>> keys = new ArrayList<>();
+    for (final var value : Arrays.asList("A", "B")) {
+      final Map<JPAAttribute, Comparable> key = new HashMap<>();
+      for (final var keyAttribute : keyAttributes)
+        key.put(keyAttribute, keyAttribute.getExternalName() + value);
+      keys.add(key);
+    }
+    final var act = cut.createWhereByExactKeys(et, from, keys);
+
+    assertEquals(or, act);
+    for (final var keyAttribute : keyAttributes) {
+      verify(cb).equal(paths.get(keyAttribute), keyAttribute.getExternalName() + "A");
+      verify(cb).equal(paths.get(keyAttribute), keyAttribute.getExternalName() + "B");
+    }
+    verify(cb, times(2 * (keyAttributes.size() - 1))).and(any(jakarta.persistence.criteria.Expression.class), any(
+        jakarta.persistence.criteria.Expression.class));
+    verify(cb).or(and, and);
+    verify(cb, never()).in(any(jakarta.persistence.criteria.Expression.class));
+  }
+
   private static class Query extends JPAAbstractQuery {
 
     Query(final OData odata, final JPAServiceDocument sd, final JPAEntityType jpaEntityType, final EntityManager em,
@@ -0,0 +1,84 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.persistence.TupleElement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAttribute;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
+import com.sap.olingo.jpa.processor.core.util.TupleDouble;
+
+class JPADescriptionTupleTest {
+  private JPADescriptionTuple cut;
+
+  @BeforeEach
+  void setup() {
+    final Map<String, Object> row = new LinkedHashMap<>();
+    row.put("ID", "1");
+    row.put("CountryKey", "DEU");
+    row.put("Name", "Hugo");
+    final JPAPath descriptionPath = mock(JPAPath.class);
+    final JPAAttribute description = mock(JPAAttribute.class);
+    when(descriptionPath.getAlias()).thenReturn("CountryName");
+    when(descriptionPath.getLeaf()).thenReturn(description);
+    doReturn(String.class).when(description).getType();
+    cut = new JPADescriptionTuple(new TupleDouble(row), List.of(descriptionPath), Map.of("CountryName", "Germany"),
+        Set.of("CountryKey"));
+  }
+
+  @Test
+  void testGetElementsHidesKeysAndAddsDescriptions() {
+    final List<TupleElement<?>> act = cut.getElements();
+    assertEquals(3, act.size());
+    assertEquals("ID", act.get(0).getAlias());
+    assertEquals("Name", act.get(1).getAlias());
+    assertEquals("CountryName", act.get(2).getAlias());
+  }
+
+  @Test
+  void testGetByIndexFollowsElements() {
+    assertEquals("1", cut.get(0));
+    assertEquals("Hugo", cut.get(1));
+    assertEquals("Germany", cut.get(2));
+  }
+
+  @Test
+  void testGetByIndexAndType() {
+    assertEquals("Germany", cut.get(2, String.class));
+  }
+
+  @Test
+  void testGetByIndexThrowsOnWrongType() {
+    assertThrows(IllegalArgumentException.class, () -> cut.get(2, Integer.class));
+  }
+
+  @Test
+  void testGetByIndexThrowsOnIndexOutOfRange() {
+    assertThrows(IllegalArgumentException.class, () -> cut.get(3));
+    assertThrows(IllegalArgumentException.class, () -> cut.get(-1));
+  }
+
+  @Test
+  void testToArrayFollowsElements() {
+    assertArrayEquals(new Object[] { "1", "Hugo", "Germany" }, cut.toArray());
+  }
+
+  @Test
+  void testGetByAliasReturnsDescription() {
+    assertEquals("Germany", cut.get("CountryName"));
+    assertEquals("Hugo", cut.get("Name"));
+  }
+}
@@ -110,6 +110,33 @@ class JPAExpandJoinQueryTest extends JPAExpandQueryTest {
     assertEquals(34, act.getNoResultsDeep());
   }
 
+  @Test
+  void testIsSingleParentFalseWithoutKeyAndBoundary() throws ODataException {
+    // .../Organizations?$expand=Roles&$format=json
+    final JPAInlineItemInfo item = createOrganizationExpandRoles(null);
+    cut = new JPAExpandJoinQuery(OData.newInstance(), item, requestContext, Optional.empty());
+    assertFalse(((JPAExpandJoinQuery) cut).isSingleParent());
+  }
+
+  @Test
+  void testIsSingleParentTrueWithMinBoundary() throws ODataException {
+    // .../Organizations?$expand=Roles&$skip=2&$top=1&$format=json
+    final JPAInlineItemInfo item = createOrganizationExpandRoles(null);
+    setSimpleKey(3);
+    cut = new JPAExpandJoinQuery(OData.newInstance(), item, requestContext, organizationBoundary);
+    assertTrue(((JPAExpandJoinQuery) cut).isSingleParent());
+  }
+
+  @Test
+  void testIsSingleParentFalseWithMinMaxBoundary() throws ODataException {
+    // .../Organizations?$expand=Roles&$top=3&$format=json
+    final JPAInlineItemInfo item = createOrganizationExpandRoles(null);
+    setSimpleKey(2);
+    setSimpleKey(1);
+    cut = new JPAExpandJoinQuery(OData.newInstance(), item, requestContext, organizationBoundary);
+    assertFalse(((JPAExpandJoinQuery) cut).isSingleParent());
+  }
+
   @Test
   void testSQLStringNotEmptyAfterExecute() throws ODataException {
     // .../Organizations?$expand=Roles&$format=json
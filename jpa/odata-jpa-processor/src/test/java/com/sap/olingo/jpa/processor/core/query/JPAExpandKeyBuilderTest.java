@@ -0,0 +1,83 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import jakarta.persistence.Tuple;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAssociationPath;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+
+class JPAExpandKeyBuilderTest {
+  private JPAExpandKeyBuilder cut;
+  private JPAAssociationPath association;
+  private JPAPath codePublisher;
+  private JPAPath codeId;
+
+  @BeforeEach
+  void setup() throws ODataJPAModelException {
+    association = mock(JPAAssociationPath.class);
+    codePublisher = mock(JPAPath.class);
+    codeId = mock(JPAPath.class);
+    when(codePublisher.getAlias()).thenReturn("CodePublisher");
+    when(codeId.getAlias()).thenReturn("CodeID");
+    when(association.getAlias()).thenReturn("Children");
+    when(association.getRightColumnsList()).thenReturn(List.of(codePublisher, codeId));
+    when(association.getLeftColumnsList()).thenReturn(List.of(codeId));
+  }
+
+  @Test
+  void testBuildKeyConcatenatesRightColumns() throws ODataJPAModelException {
+    cut = new JPAExpandKeyBuilder(association);
+    assertEquals("ISO/3166-1", cut.buildKey(createRow("CodePublisher", "ISO", "CodeID", "3166-1")));
+  }
+
+  @Test
+  void testBuildKeyUsesLeftColumnsOfJoinTable() throws ODataJPAModelException {
+    when(association.hasJoinTable()).thenReturn(true);
+    cut = new JPAExpandKeyBuilder(association);
+    assertEquals("3166-2", cut.buildKey(createRow("Children.CodeID", "3166-2", "CodeID", "3166-1")));
+  }
+
+  @Test
+  void testBuildKeyReturnsSameInstanceForSameParent() throws ODataJPAModelException {
+    cut = new JPAExpandKeyBuilder(association);
+    final String first = cut.buildKey(createRow("CodePublisher", "ISO", "CodeID", "3166-1"));
+    final String second = cut.buildKey(createRow("CodePublisher", "ISO", "CodeID", "3166-1"));
+    assertSame(first, second);
+  }
+
+  @Test
+  void testBuildKeyReturnsNewKeyForNewParent() throws ODataJPAModelException {
+    cut = new JPAExpandKeyBuilder(association);
+    final String first = cut.buildKey(createRow("CodePublisher", "ISO", "CodeID", "3166-1"));
+    final String second = cut.buildKey(createRow("CodePublisher", "ISO", "CodeID", "3166-2"));
+    assertNotEquals(first, second);
+    assertEquals("ISO/3166-2", second);
+  }
+
+  @Test
+  void testBuildKeyHandlesNumericValues() throws ODataJPAModelException {
+    when(association.getRightColumnsList()).thenReturn(List.of(codeId));
+    cut = new JPAExpandKeyBuilder(association);
+    assertEquals("10", cut.buildKey(createRow("CodeID", Integer.valueOf(10), "CodePublisher", "ISO")));
+    assertEquals("11", cut.buildKey(createRow("CodeID", Integer.valueOf(11), "CodePublisher", "ISO")));
+  }
+
+  private Tuple createRow(final String firstAlias, final Object firstValue, final String secondAlias,
+      final Object secondValue) {
+    final Tuple row = mock(Tuple.class);
+    when(row.get(firstAlias)).thenReturn(firstValue);
+    when(row.get(secondAlias)).thenReturn(secondValue);
+    return row;
+  }
+}
@@ -34,6 +34,7 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelExcept
 import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives;
 import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives.UuidSortOrder;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
+import com.sap.olingo.jpa.processor.core.api.JPAODataServiceContext;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessException;
 import com.sap.olingo.jpa.processor.core.util.TestBase;
 import com.sap.olingo.jpa.processor.core.util.TestHelper;
@@ -221,6 +222,51 @@ class JPAExpandQueryResultTest extends TestBase {
     assertFalse(act.isPresent());
   }
 
+  @Test
+  void checkGetKeyBoundaryExactKeysWithoutTopSkip() throws ODataException {
+
+    addTuple(12);
+    addTuple(15);
+    directives = createDirectivesWithMaxExactParentKeys(2);
+    when(requestContext.getQueryDirectives()).thenReturn(directives);
+    when(uriInfo.getExpandOption()).thenReturn(expand);
+    cut = new JPAExpandQueryResult(queryResult, null, et, emptyList(), empty());
+    final Optional<JPAKeyBoundary> act = cut.getKeyBoundary(requestContext, hops);
+    assertTrue(act.isPresent());
+    assertTrue(act.get().hasExactKeys());
+    assertEquals(2, act.get().getKeys().size());
+    assertEquals(12, act.get().getKeys().get(0).get(et.getKey().get(0)));
+    assertEquals(15, act.get().getKeys().get(1).get(et.getKey().get(0)));
+  }
+
+  @Test
+  void checkGetKeyBoundaryNoExactKeysIfTooManyResults() throws ODataException {
+
+    addTuple(12);
+    addTuple(15);
+    directives = createDirectivesWithMaxExactParentKeys(1);
+    when(requestContext.getQueryDirectives()).thenReturn(directives);
+    when(uriInfo.getExpandOption()).thenReturn(expand);
+    when(uriInfo.getTopOption()).thenReturn(top);
+    when(top.getValue()).thenReturn(2);
+    cut = new JPAExpandQueryResult(queryResult, null, et, emptyList(), empty());
+    final Optional<JPAKeyBoundary> act = cut.getKeyBoundary(requestContext, hops);
+    assertTrue(act.isPresent());
+    assertFalse(act.get().hasExactKeys());
+  }
+
+  @Test
+  void checkGetKeyBoundaryNoExactKeysWithoutQueryDirectives() throws ODataJPAProcessException {
+
+    addTuple(12);
+    addTuple(15);
+    when(requestContext.getQueryDirectives()).thenReturn(null);
+    when(uriInfo.getExpandOption()).thenReturn(expand);
+    cut = new JPAExpandQueryResult(queryResult, null, et, emptyList(), empty());
+    final Optional<JPAKeyBoundary> act = cut.getKeyBoundary(requestContext, hops);
+    assertFalse(act.isPresent());
+  }
+
   private void addTuple(final Integer value) {
     final Map<String, Object> key = new HashMap<>(1);
     final TupleDouble tuple = new TupleDouble(key);
@@ -228,4 +274,14 @@ class JPAExpandQueryResultTest extends TestBase {
     key.put("ID", value);
   }
 
+  private JPAODataQueryDirectives createDirectivesWithMaxExactParentKeys(final int maxKeys) throws ODataException {
+    return JPAODataServiceContext.with()
+        .useQueryDirectives()
+        .uuidSortOrder(UuidSortOrder.AS_JAVA_UUID)
+        .maxExactParentKeys(maxKeys)
+        .build()
+        .build()
+        .getQueryDirectives();
+  }
+
 }
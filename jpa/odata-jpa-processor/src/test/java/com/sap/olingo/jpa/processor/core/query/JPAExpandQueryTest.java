@@ -143,7 +143,7 @@ abstract class JPAExpandQueryTest extends TestBase {
     return createWithExpandRoles(keyPredicates, et, "CurrentUser");
   }
 
-  private JPAInlineItemInfo createPersonSupportedOrganizationsExpandRoles(final List<UriParameter> keyPredicates)
+  protected JPAInlineItemInfo createPersonSupportedOrganizationsExpandRoles(final List<UriParameter> keyPredicates)
       throws ODataJPAModelException, ODataApplicationException {
     final var person = helper.getJPAEntityType(Person.class);
     final var organization = helper.getJPAEntityType(Organization.class);
@@ -1,16 +1,31 @@
 package com.sap.olingo.jpa.processor.core.query;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 
 import org.apache.olingo.commons.api.ex.ODataException;
 import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.uri.UriParameter;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAttribute;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAServiceDocument;
 import com.sap.olingo.jpa.processor.cb.ProcessorSqlPatternProvider;
 import com.sap.olingo.jpa.processor.core.util.Assertions;
@@ -36,4 +51,35 @@ class JPAExpandSubQueryTest extends JPAExpandQueryTest {
     }
   }
 
+  @SuppressWarnings("rawtypes")
+  @Test
+  void testExpandViaNavigationRestrictedByExactKeysSkipsHopsAboveKeys() throws ODataException {
+    // .../Persons('98')/SupportedOrganizations?$expand=Roles
+    final UriParameter key = mock(UriParameter.class);
+    when(key.getName()).thenReturn("ID");
+    when(key.getText()).thenReturn("'98'");
+    final JPAInlineItemInfo item = createPersonSupportedOrganizationsExpandRoles(Collections.singletonList(key));
+    // Organization '2' is not supported by person '98', so it is only found if the person hop is not evaluated
+    final var keyAttribute = helper.getJPAEntityType("Organizations").getKey().get(0);
+    final List<Map<JPAAttribute, Comparable>> keys = Arrays.asList(Map.of(keyAttribute, "1"), Map.of(keyAttribute,
+        "2"));
+    organizationPair.setValue(keys.get(0));
+    organizationPair.setValue(keys.get(1));
+
+    cut = createCut(item, Optional.of(new JPAKeyBoundary(2, organizationPair, keys)));
+    final JPAExpandQueryResult act = cut.execute();
+
+    assertEquals(2, act.getNoResults());
+    assertNotNull(act.getResult("1"));
+    assertNotNull(act.getResult("2"));
+    final var debugger = requestContext.getDebugger();
+    verify(debugger).trace(any(), eq("Sub query restricted by %d keys"), eq(2));
+    verify(debugger, never()).trace(any(), eq("Sub query created: %s for %s"), any(), any());
+  }
+
+  private JPAExpandQuery createCut(final JPAInlineItemInfo item, final Optional<JPAKeyBoundary> keyBoundary)
+      throws ODataException {
+    createCut(item);
+    return new JPAExpandSubQuery(OData.newInstance(), item, requestContext, keyBoundary);
+  }
 }
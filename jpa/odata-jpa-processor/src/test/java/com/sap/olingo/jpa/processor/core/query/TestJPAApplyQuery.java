@@ -0,0 +1,136 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.olingo.commons.api.ex.ODataException;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.sap.olingo.jpa.processor.core.api.JPAODataGroupsProvider;
+import com.sap.olingo.jpa.processor.core.util.IntegrationTestHelper;
+import com.sap.olingo.jpa.processor.core.util.TestBase;
+
+class TestJPAApplyQuery extends TestBase {
+
+  @Test
+  void testGroupByWithAggregate() throws IOException, ODataException {
+
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf,
+        "Organizations?$apply=groupby((Country),aggregate(ID with countdistinct as Count))");
+    helper.assertStatus(200);
+    final ArrayNode act = helper.getValues();
+    assertEquals(2, act.size());
+    final Map<String, Integer> counts = new HashMap<>();
+    for (final JsonNode group : act)
+      counts.put(group.get("Country").asText(), group.get("Count").asInt());
+    assertEquals(9, counts.get("USA"));
+    assertEquals(1, counts.get("DEU"));
+  }
+
+  @Test
+  void testFilterWithAggregate() throws IOException, ODataException {
+
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf,
+        "Organizations?$apply=filter(Country eq 'USA')/aggregate(ID with countdistinct as Count)");
+    helper.assertStatus(200);
+    final ArrayNode act = helper.getValues();
+    assertEquals(1, act.size());
+    assertEquals(9, act.get(0).get("Count").asInt());
+  }
+
+  @Test
+  void testGroupByOnly() throws IOException, ODataException {
+
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf,
+        "Organizations?$apply=groupby((Country))");
+    helper.assertStatus(200);
+    assertEquals(2, helper.getValues().size());
+  }
+
+  @Test
+  void testMinMaxOfEnumerationPerGroup() throws IOException, ODataException {
+
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf,
+        "Organizations?$apply=groupby((Country),"
+            + "aggregate(ABCClass with min as MinClass,ABCClass with max as MaxClass))");
+    helper.assertStatus(200);
+    final ArrayNode act = helper.getValues();
+    assertEquals(2, act.size());
+    for (final JsonNode group : act) {
+      if ("USA".equals(group.get("Country").asText())) {
+        assertEquals("A", group.get("MinClass").asText());
+        assertEquals("C", group.get("MaxClass").asText());
+      } else {
+        assertTrue(group.get("MinClass").isNull());
+        assertTrue(group.get("MaxClass").isNull());
+      }
+    }
+  }
+
+  @Test
+  void testMaxOfConvertedProperty() throws IOException, ODataException {
+
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf,
+        "Organizations?$apply=aggregate(CreationDateTime with max as Latest)");
+    helper.assertStatus(200);
+    final ArrayNode act = helper.getValues();
+    assertEquals(1, act.size());
+    assertEquals("2016-01-20T09:21:23Z", act.get(0).get("Latest").asText());
+  }
+
+  @Test
+  void testGroupByGroupedPropertyWithoutGroup() throws IOException, ODataException {
+
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf,
+        "BusinessPartnerWithGroupss?$apply=groupby((Country))");
+    helper.assertStatus(403);
+  }
+
+  @Test
+  void testAggregateGroupedPropertyWithoutGroup() throws IOException, ODataException {
+
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf,
+        "BusinessPartnerWithGroupss?$apply=aggregate(Country with countdistinct as Count)");
+    helper.assertStatus(403);
+  }
+
+  @Test
+  void testGroupByGroupedComplexPropertyWithoutGroup() throws IOException, ODataException {
+
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf,
+        "BusinessPartnerWithGroupss?$apply=groupby((Address/Country))");
+    helper.assertStatus(403);
+  }
+
+  @Test
+  void testFilterOnGroupedPropertyWithoutGroup() throws IOException, ODataException {
+
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf,
+        "BusinessPartnerWithGroupss?$apply=filter(Country eq 'DEU')/aggregate(ID with countdistinct as Count)");
+    helper.assertStatus(403);
+  }
+
+  @Test
+  void testGroupByGroupedPropertyWithGroup() throws IOException, ODataException {
+
+    final JPAODataGroupsProvider groups = new JPAODataGroupsProvider();
+    groups.addGroup("Person");
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf,
+        "BusinessPartnerWithGroupss?$apply=groupby((Country))", groups);
+    helper.assertStatus(200);
+  }
+
+  @Test
+  void testApplyWithOrderByNotImplemented() throws IOException, ODataException {
+
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf,
+        "Organizations?$apply=groupby((Country))&$orderby=Country");
+    helper.assertStatus(501);
+  }
+}
@@ -6,13 +6,24 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 
 import org.apache.olingo.commons.api.ex.ODataException;
 import org.apache.olingo.server.api.ODataApplicationException;
@@ -21,6 +32,9 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.invocation.InvocationOnMock;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -34,6 +48,8 @@ import com.sap.olingo.jpa.processor.core.api.JPAODataGroupsProvider;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPage;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPageExpandInfo;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPagingProvider;
+import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives;
+import com.sap.olingo.jpa.processor.core.api.JPAODataServiceContext;
 import com.sap.olingo.jpa.processor.core.api.JPAODataSkipTokenProvider;
 import com.sap.olingo.jpa.processor.core.util.Assertions;
 import com.sap.olingo.jpa.processor.core.util.IntegrationTestHelper;
@@ -1278,6 +1294,77 @@ class TestJPAProcessorExpand extends TestBase {
 
   }
 
+  static Stream<Arguments> expandWithCount() {
+    return Stream.of(
+        arguments("Organizations?$expand=Roles($count=true)", "ID", "Roles", true),
+        arguments("Organizations?$expand=Roles($count=true;$top=1)", "ID", "Roles", true),
+        arguments("Organizations?$expand=Roles($count=true;$top=2;$skip=1)", "ID", "Roles", false),
+        arguments("Organizations?$expand=Roles($count=true;$skip=1)", "ID", "Roles", false),
+        arguments("Organizations?$expand=Roles($count=true;$top=0)", "ID", "Roles", false),
+        arguments("Organizations?$expand=Roles($count=true;$orderby=RoleCategory desc;$top=1)", "ID", "Roles",
+            false),
+        arguments("AdministrativeDivisions?$filter=CodeID eq 'NUTS1'&$expand=Children($count=true;$top=2)",
+            "DivisionCode", "Children", true),
+        arguments("JoinSources?$expand=OneToMany($count=true;$top=1)", "SourceID", "OneToMany", true));
+  }
+
+  @Tag(Assertions.CB_ONLY_TEST)
+  @ParameterizedTest
+  @MethodSource("expandWithCount")
+  void testExpandWithCountSameWithAndWithoutFusedCount(final String url, final String key, final String navigation,
+      final boolean fusionPossible) throws IOException, ODataException {
+
+    final List<String> unfusedStatements = new ArrayList<>();
+    final List<String> fusedStatements = new ArrayList<>();
+    final Map<String, String> unfused = getExpandCounts(url, key, navigation, false, unfusedStatements);
+    final Map<String, String> fused = getExpandCounts(url, key, navigation, true, fusedStatements);
+    assertFalse(unfused.isEmpty());
+    assertEquals(unfused, fused);
+    assertTrue(unfusedStatements.stream().noneMatch(this::containsRowCount));
+    assertEquals(fusionPossible, fusedStatements.stream().anyMatch(this::containsRowCount));
+    assertEquals(fusionPossible ? unfusedStatements.size() - 1 : unfusedStatements.size(), fusedStatements.size());
+  }
+
+  private boolean containsRowCount(final String statement) {
+    return statement.contains("COUNT(*) OVER( PARTITION BY");
+  }
+
+  private Map<String, String> getExpandCounts(final String url, final String key, final String navigation,
+      final boolean fusedCount, final List<String> statements) throws IOException, ODataException {
+
+    final JPAODataQueryDirectives directives = JPAODataServiceContext.with()
+        .setEntityManagerFactory(emf)
+        .setPUnit(PUNIT_NAME)
+        .useQueryDirectives()
+        .fusedCount(fusedCount)
+        .build()
+        .build()
+        .getQueryDirectives();
+    final IntegrationTestHelper helper = new IntegrationTestHelper(createStatementRecorder(statements), url,
+        directives);
+    helper.assertStatus(200);
+    final Map<String, String> counts = new HashMap<>();
+    for (final JsonNode parent : helper.getValues()) {
+      final JsonNode count = parent.get(navigation + "@odata.count");
+      counts.put(parent.get(key).asText(), (count == null ? "-" : count.asText()) + "/" + parent.get(navigation)
+          .size());
+    }
+    return counts;
+  }
+
+  private EntityManagerFactory createStatementRecorder(final List<String> statements) {
+    final EntityManagerFactory recordingEmf = spy(emf);
+    doAnswer(emfInvocation -> {
+      final EntityManager em = spy((EntityManager) emfInvocation.callRealMethod());
+      doAnswer(emInvocation -> {
+        statements.add(emInvocation.getArgument(0));
+        return emInvocation.callRealMethod();
+      }).when(em).createNativeQuery(anyString());
+      return em;
+    }).when(recordingEmf).createEntityManager();
+    return recordingEmf;
+  }
+
   private JPAODataPagingProvider createPagingProvider() throws ODataApplicationException {
     final JPAODataPagingProvider provider = mock(JPAODataPagingProvider.class);
     final JPAODataSkipTokenProvider skipTokens = mock(JPAODataSkipTokenProvider.class);
@@ -0,0 +1,81 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import static com.sap.olingo.jpa.processor.core.converter.JPAExpandResult.ROOT_RESULT_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+
+import org.apache.olingo.commons.api.ex.ODataException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.processor.core.api.JPAODataDescriptionCache;
+import com.sap.olingo.jpa.processor.core.api.JPAODataSessionContextAccess;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAIllegalAccessException;
+import com.sap.olingo.jpa.processor.core.processor.JPAODataInternalRequestContext;
+import com.sap.olingo.jpa.processor.core.testmodel.Country;
+import com.sap.olingo.jpa.processor.core.util.TestQueryBase;
+
+class TestJPAQueryDescriptionCache extends TestQueryBase {
+  private JPAODataDescriptionCache cache;
+  private JPAJoinQuery cachedQuery;
+
+  @BeforeEach
+  void setupCache() throws ODataException, ODataJPAIllegalAccessException {
+    cache = new JPAODataDescriptionCache(100, Duration.ofHours(1), Country.class);
+    final JPAODataSessionContextAccess cachingContext = spy(context);
+    when(cachingContext.getDescriptionCache()).thenReturn(Optional.of(cache));
+    final var cachingRequestContext = new JPAODataInternalRequestContext(externalContext, cachingContext, odata);
+    cachingRequestContext.setUriInfo(uriInfo);
+    cachedQuery = new JPAJoinQuery(null, cachingRequestContext);
+  }
+
+  @Test
+  void testCachedDescriptionEqualsJoinedDescription() throws ODataException {
+    final var exp = rowsById(((JPAJoinQuery) cut).execute());
+    final var act = rowsById(cachedQuery.execute());
+
+    assertEquals(exp.size(), act.size());
+    assertFalse(act.isEmpty());
+    for (final var row : exp.entrySet()) {
+      assertEquals(row.getValue().get("Address/CountryName"), act.get(row.getKey()).get("Address/CountryName"));
+      assertEquals(row.getValue().get("Address/RegionName"), act.get(row.getKey()).get("Address/RegionName"));
+    }
+  }
+
+  @Test
+  void testCachedDescriptionIsFound() throws ODataException {
+    final var act = rowsById(cachedQuery.execute());
+
+    assertNotNull(act.get("1").get("Address/CountryName"));
+  }
+
+  @Test
+  void testCachedDescriptionHidesJoinColumns() throws ODataException {
+    final var act = rowsById(cachedQuery.execute());
+
+    final var aliases = act.get("1").getElements().stream().map(TupleElement::getAlias).toList();
+    assertTrue(aliases.contains("Address/CountryName"));
+    assertTrue(aliases.stream().noneMatch(alias -> alias.startsWith("Address/CountryName/")));
+  }
+
+  private Map<Object, Tuple> rowsById(final JPAConvertibleResult result) {
+    final List<Tuple> rows = ((JPAExpandQueryResult) result).getResult(ROOT_RESULT_KEY);
+    final Map<Object, Tuple> rowsById = new HashMap<>(rows.size());
+    for (final Tuple row : rows)
+      rowsById.put(row.get("ID"), row);
+    return rowsById;
+  }
+}
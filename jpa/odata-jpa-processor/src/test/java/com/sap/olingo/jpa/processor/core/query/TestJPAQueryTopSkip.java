@@ -2,6 +2,7 @@ package com.sap.olingo.jpa.processor.core.query;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -11,6 +12,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -19,12 +21,16 @@ import org.apache.olingo.server.api.OData;
 import org.apache.olingo.server.api.debug.DefaultDebugSupport;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.sap.olingo.jpa.metadata.api.JPARequestParameterMap;
 import com.sap.olingo.jpa.processor.core.api.JPAODataApiVersionAccess;
+import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContext;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestProcessor;
 import com.sap.olingo.jpa.processor.core.api.JPAODataServiceContext;
@@ -122,6 +128,42 @@ class TestJPAQueryTopSkip extends TestBase {
     assertEquals(5, act.size());
   }
 
+  static Stream<Arguments> countWithTopSkip() {
+    return Stream.of(
+        arguments("Organizations?$count=true&$top=3", 10, 3),
+        arguments("Organizations?$count=true&$skip=8&$top=5", 10, 2),
+        arguments("Organizations?$count=true&$skip=20", 10, 0),
+        arguments("Organizations?$count=true&$filter=Address/Region eq 'US-CA'&$top=1", 3, 1),
+        arguments("Organizations?$count=true&$orderby=Roles/$count desc&$top=2", 10, 2));
+  }
+
+  @Tag(Assertions.CB_ONLY_TEST)
+  @ParameterizedTest
+  @MethodSource("countWithTopSkip")
+  void testCountWithTopSkipSameWithAndWithoutFusedCount(final String url, final int count, final int size)
+      throws IOException, ODataException {
+
+    for (final boolean fused : new boolean[] { true, false }) {
+      final IntegrationTestHelper helper = new IntegrationTestHelper(emf, url, buildDirectives(fused));
+      helper.assertStatus(200);
+      final ObjectNode collection = helper.getValue();
+      assertEquals(count, collection.get("@odata.count").asInt(), "Fused count: " + fused);
+      assertEquals(size, collection.get("value").size(), "Fused count: " + fused);
+    }
+  }
+
+  private JPAODataQueryDirectives buildDirectives(final boolean fusedCount) throws ODataException {
+    return JPAODataServiceContext.with()
+        .setEntityManagerFactory(emf)
+        .setPUnit(PUNIT_NAME)
+        .useQueryDirectives()
+        .maxValuesInInClause(3)
+        .fusedCount(fusedCount)
+        .build()
+        .build()
+        .getQueryDirectives();
+  }
+
   public String getRawResult(final HttpServletResponse response) throws IOException {
     final InputStream in = asInputStream(response);
     final StringBuilder builder = new StringBuilder();
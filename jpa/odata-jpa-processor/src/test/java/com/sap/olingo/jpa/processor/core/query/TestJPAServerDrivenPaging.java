@@ -11,11 +11,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.apache.olingo.commons.api.edm.EdmEntitySet;
@@ -45,6 +48,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.sap.olingo.jpa.processor.core.api.JPAClaimsPair;
 import com.sap.olingo.jpa.processor.core.api.JPAODataClaimsProvider;
+import com.sap.olingo.jpa.processor.core.api.JPAODataKeysetPagingProvider;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPage;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPagingProvider;
 import com.sap.olingo.jpa.processor.core.util.IntegrationTestHelper;
@@ -62,7 +66,7 @@ class TestJPAServerDrivenPaging extends TestBase {
   @Test
   void testReturnsGoneIfPagingProviderReturnsNullForSkipToken() throws IOException, ODataException {
     final JPAODataPagingProvider provider = mock(JPAODataPagingProvider.class);
-    when(provider.getNextPage(eq("xyz"), any(), any(), any(), any())).thenReturn(Optional.empty());
+    when(provider.getNextPage(eq("xyz"), any(), any(), any(), any(), any())).thenReturn(Optional.empty());
     final IntegrationTestHelper helper = new IntegrationTestHelper(emf, "Organizations?$skiptoken=xyz", provider);
     helper.assertStatus(410);
 
@@ -121,7 +125,7 @@ class TestJPAServerDrivenPaging extends TestBase {
     final UriInfo uriInfo = buildUriInfo();
 
     final JPAODataPagingProvider provider = mock(JPAODataPagingProvider.class);
-    when(provider.getNextPage(eq("xyz"), any(), any(), any(), any()))
+    when(provider.getNextPage(eq("xyz"), any(), any(), any(), any(), any()))
         .thenReturn(Optional.of(new JPAODataPage(uriInfo, 5, 5, null)));
 
     final IntegrationTestHelper helper = new IntegrationTestHelper(emf, "Organizations?$skiptoken=xyz", provider);
@@ -265,7 +269,7 @@ class TestJPAServerDrivenPaging extends TestBase {
     when(provider.getFirstPage(any(), any(), any(), any(), any(), any()))
         .thenAnswer(i -> Optional.of(new JPAODataPage((UriInfo) i.getArguments()[2], 0, 5, "Hugo")));
 
-    when(provider.getNextPage(eq("'Hugo'"), any(), any(), any(), any()))
+    when(provider.getNextPage(eq("'Hugo'"), any(), any(), any(), any(), any()))
         .thenReturn(Optional.of(new JPAODataPage(uriInfo, 5, 5, "Willi")));
     final IntegrationTestHelper helper = new IntegrationTestHelper(emf, "Organizations?$orderby=ID desc&$select=ID",
         provider);
@@ -279,6 +283,113 @@ class TestJPAServerDrivenPaging extends TestBase {
 
   }
 
+  @Test
+  void testKeysetPagingReadsAllPages() throws IOException, ODataException {
+    final JPAODataPagingProvider provider = createKeysetProvider(4);
+    final List<String> act = readAllPages("Organizations?$orderby=ID desc", provider);
+
+    final IntegrationTestHelper expected = new IntegrationTestHelper(emf, "Organizations?$orderby=ID desc");
+    expected.assertStatus(200);
+    final List<String> expectedIds = new ArrayList<>();
+    expected.getValues().forEach(organization -> expectedIds.add(organization.get("ID").asText()));
+    assertEquals(expectedIds, act);
+  }
+
+  @Test
+  void testKeysetPagingRespectsTop() throws IOException, ODataException {
+    final JPAODataPagingProvider provider = createKeysetProvider(4);
+    final List<String> act = readAllPages("Organizations?$orderby=ID&$top=6&$skip=1", provider);
+
+    final IntegrationTestHelper expected = new IntegrationTestHelper(emf, "Organizations?$orderby=ID&$top=6&$skip=1");
+    expected.assertStatus(200);
+    final List<String> expectedIds = new ArrayList<>();
+    expected.getValues().forEach(organization -> expectedIds.add(organization.get("ID").asText()));
+    assertEquals(expectedIds, act);
+  }
+
+  @Test
+  void testKeysetPagingFallsBackToSkipForCountOrderBy() throws IOException, ODataException {
+    final JPAODataPagingProvider provider = createKeysetProvider(4);
+    final List<String> act = readAllPages("Organizations?$orderby=Roles/$count desc", provider);
+
+    assertEquals(10, act.size());
+    assertEquals(10, act.stream().distinct().count());
+  }
+
+  @Test
+  void testKeysetPagingFallsBackToSkipForNullableOrderBy() throws IOException, ODataException {
+    // ABCClass is null for seven organizations, which follow the first page in descending order
+    final JPAODataPagingProvider provider = createKeysetProvider(3);
+    final List<String> act = readAllPages("Organizations?$orderby=ABCClass desc,ID", provider);
+
+    final IntegrationTestHelper expected = new IntegrationTestHelper(emf, "Organizations?$orderby=ABCClass desc,ID");
+    expected.assertStatus(200);
+    final List<String> expectedIds = new ArrayList<>();
+    expected.getValues().forEach(organization -> expectedIds.add(organization.get("ID").asText()));
+    assertEquals(10, act.size());
+    assertEquals(expectedIds, act);
+  }
+
+  @Test
+  void testKeysetPagingReturnsGoneForExpiredToken() throws IOException, ODataException {
+    final Map<String, Integer> pageSizes = new HashMap<>();
+    pageSizes.put("Organizations", 4);
+    final JPAODataPagingProvider provider = new JPAODataKeysetPagingProvider(pageSizes, "Secret".getBytes(
+        StandardCharsets.UTF_8), Duration.ZERO);
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf, "Organizations?$orderby=ID", provider);
+    helper.assertStatus(200);
+
+    final IntegrationTestHelper act = new IntegrationTestHelper(emf, helper.getValue().get("@odata.nextLink")
+        .asText(), provider);
+    act.assertStatus(410);
+  }
+
+  @Test
+  void testKeysetPagingReturnsGoneForTokenOfOtherResource() throws IOException, ODataException {
+    final JPAODataPagingProvider provider = createKeysetProvider(4);
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf, "Organizations?$orderby=ID", provider);
+    helper.assertStatus(200);
+    final String nextLink = helper.getValue().get("@odata.nextLink").asText();
+    final String token = nextLink.substring(nextLink.indexOf("=") + 1);
+
+    final IntegrationTestHelper act = new IntegrationTestHelper(emf, "Persons?$skiptoken=" + token, provider);
+    act.assertStatus(410);
+  }
+
+  @Test
+  void testKeysetPagingReturnsGoneForManipulatedToken() throws IOException, ODataException {
+    final JPAODataPagingProvider provider = createKeysetProvider(4);
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf, "Organizations?$orderby=ID", provider);
+    helper.assertStatus(200);
+    final String nextLink = helper.getValue().get("@odata.nextLink").asText();
+    final String token = nextLink.substring(nextLink.indexOf("=") + 1);
+    final String manipulated = (token.charAt(0) == 'A' ? "B" : "A") + token.substring(1);
+
+    final IntegrationTestHelper act = new IntegrationTestHelper(emf, "Organizations?$skiptoken=" + manipulated,
+        createKeysetProvider(4));
+    act.assertStatus(410);
+  }
+
+  private JPAODataPagingProvider createKeysetProvider(final int pageSize) {
+    final Map<String, Integer> pageSizes = new HashMap<>();
+    pageSizes.put("Organizations", pageSize);
+    return new JPAODataKeysetPagingProvider(pageSizes, "Secret".getBytes(StandardCharsets.UTF_8));
+  }
+
+  private List<String> readAllPages(final String firstRequest, final JPAODataPagingProvider provider)
+      throws IOException, ODataException {
+    final List<String> ids = new ArrayList<>();
+    String request = firstRequest;
+    while (request != null) {
+      final IntegrationTestHelper helper = new IntegrationTestHelper(emf, request, provider);
+      helper.assertStatus(200);
+      helper.getValues().forEach(organization -> ids.add(organization.get("ID").asText()));
+      final var nextLink = helper.getValue().get("@odata.nextLink");
+      request = nextLink == null ? null : nextLink.asText();
+    }
+    return ids;
+  }
+
   private UriInfo buildUriInfo() throws EdmPrimitiveTypeException {
     final UriInfo uriInfo = mock(UriInfo.class);
     final UriResourceEntitySet uriEs = mock(UriResourceEntitySet.class);
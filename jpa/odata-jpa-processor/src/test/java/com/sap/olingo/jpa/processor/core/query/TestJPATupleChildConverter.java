@@ -5,13 +5,18 @@ import static java.util.Collections.emptyList;
 import static java.util.Optional.empty;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import jakarta.persistence.Tuple;
@@ -25,6 +30,7 @@ import org.apache.olingo.server.api.ODataApplicationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.sap.olingo.jpa.metadata.core.edm.annotation.EdmTransientPropertyCalculator;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
@@ -264,6 +270,38 @@ class TestJPATupleChildConverter extends TestBase {
     assertEquals("Wichtig, Willi", act.getEntities().get(0).getProperty("FullName").getValue().toString());
   }
 
+  @Test
+  void checkConvertsTransientWithOneBatchCall() throws ODataApplicationException, ODataJPAModelException {
+    final BatchFullNameCalculator calculator = new BatchFullNameCalculator();
+    final JPAODataRequestContextAccess spyContext = spy(requestContext);
+    doReturn(Optional.of(calculator)).when(spyContext).getCalculator(any());
+    cut = new JPATupleChildConverter(helper.sd, uriHelper, new ServiceMetadataDouble(nameBuilder, "Person"),
+        spyContext);
+    final Set<JPAPath> selection = new HashSet<>();
+    final JPAEntityType et = helper.getJPAEntityType("Persons");
+    final Map<String, Object> first = new HashMap<>();
+    first.put("ID", "1");
+    first.put("FirstName", "Willi");
+    first.put("LastName", "Wichtig");
+    jpaQueryResult.add(new TupleDouble(first));
+    final Map<String, Object> second = new HashMap<>();
+    second.put("ID", "2");
+    second.put("FirstName", "Max");
+    second.put("LastName", "Mustermann");
+    jpaQueryResult.add(new TupleDouble(second));
+    selection.add(et.getPath("ID"));
+    selection.add(et.getPath("FullName"));
+    keyPredicates.put("1", "Persons('1')");
+    keyPredicates.put("2", "Persons('2')");
+
+    final EntityCollection act = cut.getResult(new JPAExpandQueryResult(queryResult, null, et, emptyList(), empty()),
+        selection).get(ROOT_RESULT_KEY);
+    assertEquals("Wichtig, Willi", act.getEntities().get(0).getProperty("FullName").getValue().toString());
+    assertEquals(1, calculator.batchCalls);
+    assertEquals(2, calculator.batchRows);
+    assertEquals(0, calculator.singleCalls);
+  }
+
   @Test
   void checkConvertsOneResultComplexIncludingTransient() throws ODataApplicationException,
       ODataJPAModelException {
@@ -336,4 +374,26 @@ class TestJPATupleChildConverter extends TestBase {
     assertEquals("image/svg+xml", act.getEntities().get(0).getMediaContentType());
     assertEquals(2, act.getEntities().get(0).getProperties().size());
   }
+
+  private static class BatchFullNameCalculator implements EdmTransientPropertyCalculator<String> {
+    private int batchCalls;
+    private int batchRows;
+    private int singleCalls;
+
+    @Override
+    public String calculateProperty(final Tuple row) {
+      singleCalls++;
+      return null;
+    }
+
+    @Override
+    public Map<Tuple, String> calculateProperties(final List<Tuple> rows) {
+      batchCalls++;
+      batchRows += rows.size();
+      final Map<Tuple, String> result = new IdentityHashMap<>();
+      for (final Tuple row : rows)
+        result.put(row, row.get("LastName") + ", " + row.get("FirstName"));
+      return result;
+    }
+  }
 }
@@ -49,12 +49,14 @@ import com.sap.olingo.jpa.metadata.api.JPARequestParameterMap;
 import com.sap.olingo.jpa.metadata.core.edm.extension.vocabularies.AnnotationProvider;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAServiceDocument;
 import com.sap.olingo.jpa.processor.cb.ProcessorSqlPatternProvider;
+import com.sap.olingo.jpa.processor.core.api.JPACUDRequestHandler;
 import com.sap.olingo.jpa.processor.core.api.JPAODataApiVersionAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAODataBatchProcessor;
 import com.sap.olingo.jpa.processor.core.api.JPAODataClaimsProvider;
 import com.sap.olingo.jpa.processor.core.api.JPAODataContextAccessDouble;
 import com.sap.olingo.jpa.processor.core.api.JPAODataGroupProvider;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPagingProvider;
+import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContext;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestProcessor;
 import com.sap.olingo.jpa.processor.core.api.JPAODataSessionContextAccess;
@@ -145,11 +147,40 @@ public class IntegrationTestHelper {
     this(localEmf, dataSource, urlPath, requestBody, functionPackage, provider, null, null, null, null, null);
   }
 
+  public IntegrationTestHelper(final EntityManagerFactory localEmf, final String urlPath,
+      final JPAODataQueryDirectives directives) throws IOException, ODataException {
+    this(localEmf, null, urlPath, null, null, null, null, null, null, null, null, directives);
+  }
+
+  public IntegrationTestHelper(final EntityManagerFactory localEmf, final String urlPath,
+      final StringBuffer requestBody, final JPACUDRequestHandler cudHandler) throws IOException, ODataException {
+    this(localEmf, null, urlPath, requestBody, null, null, null, null, null, null, null, null, cudHandler);
+  }
+
   public IntegrationTestHelper(final EntityManagerFactory localEmf, final DataSource dataSource, final String urlPath,
       final StringBuffer requestBody, final String functionPackage, final JPAODataPagingProvider pagingProvider,
       final Map<String, List<String>> headers, final JPAODataClaimsProvider claims, final JPAODataGroupProvider groups,
       final AnnotationProvider annotationsProvider, final ProcessorSqlPatternProvider sqlPattern)
       throws IOException, ODataException {
+    this(localEmf, dataSource, urlPath, requestBody, functionPackage, pagingProvider, headers, claims, groups,
+        annotationsProvider, sqlPattern, null);
+  }
+
+  public IntegrationTestHelper(final EntityManagerFactory localEmf, final DataSource dataSource, final String urlPath,
+      final StringBuffer requestBody, final String functionPackage, final JPAODataPagingProvider pagingProvider,
+      final Map<String, List<String>> headers, final JPAODataClaimsProvider claims, final JPAODataGroupProvider groups,
+      final AnnotationProvider annotationsProvider, final ProcessorSqlPatternProvider sqlPattern,
+      final JPAODataQueryDirectives directives) throws IOException, ODataException {
+    this(localEmf, dataSource, urlPath, requestBody, functionPackage, pagingProvider, headers, claims, groups,
+        annotationsProvider, sqlPattern, directives, null);
+  }
+
+  public IntegrationTestHelper(final EntityManagerFactory localEmf, final DataSource dataSource, final String urlPath,
+      final StringBuffer requestBody, final String functionPackage, final JPAODataPagingProvider pagingProvider,
+      final Map<String, List<String>> headers, final JPAODataClaimsProvider claims, final JPAODataGroupProvider groups,
+      final AnnotationProvider annotationsProvider, final ProcessorSqlPatternProvider sqlPattern,
+      final JPAODataQueryDirectives directives, final JPACUDRequestHandler cudHandler) throws IOException,
+      ODataException {
 
     super();
     final OData odata = OData.newInstance();
@@ -165,15 +196,15 @@ public class IntegrationTestHelper {
 
     final JPAEdmProvider edmProvider = buildEdmProvider(localEmf, annotationsProvider, packages);
     final JPAODataSessionContextAccess sessionContext = new JPAODataContextAccessDouble(edmProvider, localEmf,
-        dataSource, pagingProvider, annotationsProvider, sqlPattern, functionPackage);
+        dataSource, pagingProvider, annotationsProvider, sqlPattern, directives, functionPackage);
 
     final ODataHttpHandler handler = odata.createHandler(odata.createServiceMetadata(sessionContext
         .getApiVersion(JPAODataApiVersionAccess.DEFAULT_VERSION)
         .getEdmProvider(),
         new ArrayList<>()));
 
-    final JPAODataInternalRequestContext requestContext = buildRequestContext(localEmf, claims, groups, edmProvider,
-        sessionContext, odata);
+    final JPAODataInternalRequestContext requestContext = buildRequestContext(localEmf, claims, groups, cudHandler,
+        edmProvider, sessionContext, odata);
 
     handler.register(new JPAODataRequestProcessor(sessionContext, requestContext));
     handler.register(new JPAODataBatchProcessor(sessionContext, requestContext));
@@ -182,8 +213,9 @@ public class IntegrationTestHelper {
   }
 
   public JPAODataInternalRequestContext buildRequestContext(final EntityManagerFactory localEmf,
-      final JPAODataClaimsProvider claims, final JPAODataGroupProvider groups, final JPAEdmProvider edmProvider,
-      final JPAODataSessionContextAccess sessionContext, final OData odata) throws ODataException {
+      final JPAODataClaimsProvider claims, final JPAODataGroupProvider groups, final JPACUDRequestHandler cudHandler,
+      final JPAEdmProvider edmProvider, final JPAODataSessionContextAccess sessionContext, final OData odata)
+      throws ODataException {
 
     final EntityManager em = createEmfWrapper(localEmf, edmProvider,
         sessionContext.getSqlPatternProvider() != null ? sessionContext.getSqlPatternProvider() : null)
@@ -195,6 +227,7 @@ public class IntegrationTestHelper {
     when(externalContext.getGroupsProvider()).thenReturn(Optional.ofNullable(groups));
     when(externalContext.getDebuggerSupport()).thenReturn(new DefaultDebugSupport());
     when(externalContext.getRequestParameter()).thenReturn(mock(JPARequestParameterMap.class));
+    when(externalContext.getCUDRequestHandler()).thenReturn(cudHandler);
     return new JPAODataInternalRequestContext(externalContext, sessionContext, odata);
   }
 